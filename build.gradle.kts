@@ -21,6 +21,9 @@ plugins {
 
     // Code coverage
     jacoco
+
+    // Microbenchmarks
+    id("me.champeau.gradle.jmh") version "0.5.3"
 }
 
 repositories {
@@ -33,6 +36,7 @@ repositories {
 dependencies {
     // This dependency is used by the application.
     implementation("com.google.guava:guava:29.0-jre")
+    implementation("org.roaringbitmap:RoaringBitmap:0.9.0")
 
     implementation(project(":meet-eat-data"))
 
@@ -41,6 +45,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-mongodb")
     implementation("org.springframework.boot:spring-boot-starter-mail")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     implementation("io.projectreactor:reactor-core")
 
@@ -51,6 +56,10 @@ dependencies {
 	}
 }
 
+jmh {
+    jmhVersion = "1.25"
+}
+
 application {
     // Define the main class for the application.
     mainClassName = "meet_eat.server.Application"
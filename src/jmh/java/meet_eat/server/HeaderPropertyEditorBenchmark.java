@@ -0,0 +1,95 @@
+package meet_eat.server;
+
+import meet_eat.data.ObjectJsonParser;
+import meet_eat.data.entity.Token;
+import meet_eat.data.entity.user.Email;
+import meet_eat.data.entity.user.Password;
+import meet_eat.data.entity.user.User;
+import meet_eat.data.location.SphericalLocation;
+import meet_eat.data.location.SphericalPosition;
+import meet_eat.data.predicate.OfferPredicate;
+import meet_eat.data.predicate.numeric.DoubleOperation;
+import meet_eat.data.predicate.numeric.PricePredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the parsing of header elements by a new {@link ObjectJsonParser} per header, as done before, with the
+ * {@link HeaderPropertyEditor} using shared readers and its cache of parsed JSON trees. The distinct variant sends
+ * more distinct headers than the cache holds and therefore measures the cost of the shared readers alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeaderPropertyEditorBenchmark {
+
+    private static final int DISTINCT_HEADER_AMOUNT = 10000;
+
+    @Param({"token", "predicates"})
+    private String header;
+
+    private Class<?> headerClass;
+    private String text;
+    private String[] distinctTexts;
+    private int distinctIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectJsonParser objectJsonParser = new ObjectJsonParser();
+        User user = new User(new Email("benchmark.meet.eat@example.com"),
+                Password.createHashedPassword("AbcdefgTest1234!?"), LocalDate.EPOCH, "Benchmark", "12345",
+                "Description", true, new SphericalLocation(new SphericalPosition(49.01, 8.40)));
+
+        distinctTexts = new String[DISTINCT_HEADER_AMOUNT];
+        for (int i = 0; i < DISTINCT_HEADER_AMOUNT; i++) {
+            Object value;
+            if ("token".equals(header)) {
+                headerClass = Token.class;
+                value = new Token(String.valueOf(i), user, "TokenValue" + i);
+            } else {
+                headerClass = OfferPredicate[].class;
+                value = new OfferPredicate[]{
+                        new PricePredicate(DoubleOperation.LESS, 20d + i),
+                        new PricePredicate(DoubleOperation.GREATER, 5d)};
+            }
+            distinctTexts[i] = objectJsonParser.parseObjectToJsonString(value);
+        }
+        text = distinctTexts[0];
+    }
+
+    @Benchmark
+    public Object objectJsonParser() {
+        return new ObjectJsonParser().parseJsonStringToObject(text, headerClass);
+    }
+
+    @Benchmark
+    public Object headerPropertyEditor() {
+        HeaderPropertyEditor headerPropertyEditor = new HeaderPropertyEditor(headerClass);
+        headerPropertyEditor.setAsText(text);
+        return headerPropertyEditor.getValue();
+    }
+
+    @Benchmark
+    public Object headerPropertyEditorDistinct() {
+        HeaderPropertyEditor headerPropertyEditor = new HeaderPropertyEditor(headerClass);
+        headerPropertyEditor.setAsText(distinctTexts[distinctIndex]);
+        distinctIndex = (distinctIndex + 1) % DISTINCT_HEADER_AMOUNT;
+        return headerPropertyEditor.getValue();
+    }
+}
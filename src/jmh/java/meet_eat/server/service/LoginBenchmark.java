@@ -0,0 +1,124 @@
+package meet_eat.server.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import meet_eat.data.LoginCredential;
+import meet_eat.data.entity.Token;
+import meet_eat.data.entity.user.Email;
+import meet_eat.data.entity.user.Password;
+import meet_eat.data.entity.user.User;
+import meet_eat.data.location.SphericalLocation;
+import meet_eat.data.location.SphericalPosition;
+import meet_eat.server.repository.TokenExpiryListener;
+import meet_eat.server.repository.TokenRepository;
+import meet_eat.server.repository.UserRepository;
+import meet_eat.server.service.security.SecurityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the login throughput of the {@link TokenService}, which is dominated by the derivation of the password on
+ * the {@link PasswordDerivationExecutor}. The former login flow checked the credentials and created the token in two
+ * separate calls, deriving the password twice, whereas the single-pass flow of {@link TokenService#login} derives it
+ * once. The user and token repositories are stubbed in memory, as repository accesses do not occupy the core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(1)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final String PASSWORD_VALUE = "AbcdefgTest1234!?";
+    private static final long TOKEN_TTL_SECONDS = 2592000L;
+
+    private PasswordDerivationExecutor passwordDerivationExecutor;
+    private TokenService tokenService;
+    private LoginCredential loginCredential;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Email email = new Email("benchmark.meet.eat@example.com");
+        Password storedPassword = Password.createHashedPassword(PASSWORD_VALUE)
+                .derive(Password.generateSalt(), SecurityService.PASSWORD_ITERATION_COUNT);
+        User user = new User(email, storedPassword, LocalDate.EPOCH, "Benchmark", "12345", "Description", true,
+                new SphericalLocation(new SphericalPosition(49.01, 8.40)));
+        loginCredential = new LoginCredential(email, Password.createHashedPassword(PASSWORD_VALUE));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordDerivationExecutor = new PasswordDerivationExecutor(meterRegistry, 0, 64);
+        UserService userService = new UserService(createUserRepository(user), null, null, null, null, null, null,
+                null, null, passwordDerivationExecutor);
+        TokenSigner tokenSigner = new TokenSigner(false, "", TOKEN_TTL_SECONDS);
+        tokenService = new TokenService(createTokenRepository(), userService, tokenSigner,
+                new TokenRevocationService(null, tokenSigner, 1, 0L), null,
+                new TokenExpiryListener(TOKEN_TTL_SECONDS), passwordDerivationExecutor, meterRegistry, 1L, 1L,
+                TOKEN_TTL_SECONDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordDerivationExecutor.shutdown();
+    }
+
+    @Benchmark
+    public Token twoPassLogin() {
+        if (!tokenService.isValidLoginCredential(loginCredential)) {
+            throw new IllegalStateException();
+        }
+        return tokenService.createToken(loginCredential);
+    }
+
+    @Benchmark
+    public Token singlePassLogin() {
+        return tokenService.login(loginCredential).orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Creates a user repository stub finding the given user by its email.
+     *
+     * @param user the only user of the repository
+     * @return the user repository stub
+     */
+    private static UserRepository createUserRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findOneByEmail")) {
+                        return Optional.of(user).filter(candidate -> candidate.getEmail().equals(args[0]));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Creates a token repository stub inserting tokens without persisting them.
+     *
+     * @return the token repository stub
+     */
+    private static TokenRepository createTokenRepository() {
+        return (TokenRepository) Proxy.newProxyInstance(TokenRepository.class.getClassLoader(),
+                new Class<?>[]{TokenRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("insert")) {
+                        return args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,123 @@
+package meet_eat.server.service;
+
+import meet_eat.data.comparator.OfferComparableField;
+import meet_eat.data.comparator.OfferComparator;
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.user.Email;
+import meet_eat.data.entity.user.Password;
+import meet_eat.data.entity.user.User;
+import meet_eat.data.location.SphericalLocation;
+import meet_eat.data.location.SphericalPosition;
+import meet_eat.data.predicate.OfferPredicate;
+import meet_eat.data.predicate.numeric.DoubleOperation;
+import meet_eat.data.predicate.numeric.PricePredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Compares the sequential and the parallel evaluation of {@link OfferPredicate predicates} and
+ * {@link OfferComparator comparators} by the {@link OfferEvaluationExecutor} for different numbers of
+ * {@link Offer offers}, in order to determine the size threshold above which the parallel mode pays off. Host
+ * ratings and participation amounts are looked up in concurrent maps of resolved values, like the
+ * {@link OfferService} does for predicates and comparators depending on them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OfferEvaluationBenchmark {
+
+    @Param({"1000", "5000", "10000", "50000", "200000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private OfferEvaluationExecutor executor;
+    private List<Offer> offers;
+    private Predicate<Offer> predicate;
+    private OfferComparator comparator;
+    private Predicate<Offer> participationPredicate;
+    private Comparator<Offer> hostRatingComparator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = new OfferEvaluationExecutor(parallel, 0, 0);
+        SphericalLocation reference = new SphericalLocation(new SphericalPosition(49.01, 8.40));
+        User creator = new User(new Email("benchmark.meet.eat@example.com"),
+                Password.createHashedPassword("AbcdefgTest1234!?"), LocalDate.EPOCH, "Benchmark", "12345",
+                "Description", true, reference);
+
+        Random random = new Random(42L);
+        offers = new ArrayList<>(size);
+        Map<String, Double> hostRatings = new ConcurrentHashMap<>();
+        Map<String, Long> participationAmounts = new ConcurrentHashMap<>();
+        for (int i = 0; i < size; i++) {
+            SphericalLocation location = new SphericalLocation(new SphericalPosition(
+                    47d + 8d * random.nextDouble(), 6d + 9d * random.nextDouble()));
+            Offer offer = new Offer(creator, new HashSet<>(), "Offer " + i, "Spaghetti. Mhmmm.",
+                    30d * random.nextDouble(), 5, LocalDateTime.now().plusDays(1), location);
+            offers.add(offer);
+            hostRatings.put(offer.getName(), Math.round(10d + 40d * random.nextDouble()) / 10d);
+            participationAmounts.put(offer.getName(), (long) random.nextInt(6));
+        }
+
+        List<OfferPredicate> predicates = List.of(
+                new PricePredicate(DoubleOperation.LESS, 20d),
+                new PricePredicate(DoubleOperation.GREATER, 5d));
+        predicate = offer -> predicates.stream().allMatch(offerPredicate -> offerPredicate.test(offer));
+        comparator = new OfferComparator(OfferComparableField.DISTANCE, reference);
+        participationPredicate = offer -> participationAmounts.get(offer.getName()) < offer.getMaxParticipants();
+        hostRatingComparator = Comparator.comparingDouble((Offer offer) -> hostRatings.get(offer.getName())).reversed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public List<Offer> filter() {
+        return executor.filter(offers, predicate);
+    }
+
+    @Benchmark
+    public List<Offer> sort() {
+        return executor.sort(offers, comparator);
+    }
+
+    @Benchmark
+    public List<Offer> filterByParticipationAmount() {
+        return executor.filter(offers, participationPredicate);
+    }
+
+    @Benchmark
+    public List<Offer> sortByHostRating() {
+        return executor.sort(offers, hostRatingComparator);
+    }
+}
@@ -0,0 +1,72 @@
+package meet_eat.server;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a resolver of the address of the client sending a request. Behind a reverse proxy, the remote address of
+ * a request is the proxy's address, so that all clients would share it. Therefore, if the request is received from a
+ * trusted proxy, the client address is taken from the forwarding header instead.
+ * <p>
+ * The forwarding header is read from right to left, skipping the addresses of trusted proxies, so that a client
+ * cannot choose its address by sending a forged header itself. Without trusted proxies, the header is ignored.
+ */
+@Component
+public class ClientAddressResolver {
+
+    private static final String ADDRESS_SEPARATOR = ",";
+
+    private final Set<String> trustedProxies;
+    private final String forwardedHeader;
+
+    /**
+     * Constructs a new instance of {@link ClientAddressResolver}.
+     *
+     * @param trustedProxies  the comma-separated addresses of the proxies whose forwarding headers are trusted
+     * @param forwardedHeader the name of the header containing the forwarded client addresses
+     */
+    @Autowired
+    public ClientAddressResolver(@Value("${meet-eat.client-address.trusted-proxies:}") String trustedProxies,
+                                 @Value("${meet-eat.client-address.forwarded-header:X-Forwarded-For}")
+                                         String forwardedHeader) {
+        this.trustedProxies = Arrays.stream(trustedProxies.split(ADDRESS_SEPARATOR))
+                .map(String::strip)
+                .filter(proxy -> !proxy.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.forwardedHeader = Objects.requireNonNull(forwardedHeader);
+    }
+
+    /**
+     * Resolves the address of the client sending a request.
+     *
+     * @param request the request sent by the client
+     * @return the address of the client
+     */
+    public String resolve(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!trustedProxies.contains(address)) {
+            return address;
+        }
+
+        // Each proxy appends the address it received the request from.
+        String forwardedAddresses = request.getHeader(forwardedHeader);
+        if (Objects.isNull(forwardedAddresses)) {
+            return address;
+        }
+        String[] addresses = forwardedAddresses.split(ADDRESS_SEPARATOR);
+        for (int i = addresses.length - 1; i >= 0 && trustedProxies.contains(address); i--) {
+            String forwardedAddress = addresses[i].strip();
+            if (!forwardedAddress.isEmpty()) {
+                address = forwardedAddress;
+            }
+        }
+        return address;
+    }
+}
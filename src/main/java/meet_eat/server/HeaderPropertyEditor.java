@@ -1,16 +1,42 @@
 package meet_eat.server;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import meet_eat.data.ObjectJsonParser;
 
 import java.beans.PropertyEditorSupport;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a custom data serialization and deserialization class especially for header elements used by
  * {@link meet_eat.server.controller.EntityController controllers} to receive and send messages correctly.
+ * <p>
+ * The {@link ObjectReader readers} of the header classes are built once and shared by all instances. The
+ * {@link JsonNode JSON trees} of header elements are cached by their raw text, so that repeatedly sent identical
+ * headers are not tokenized again. Each request binds a fresh object graph from the cached tree, since header values
+ * such as predicates and comparators are modified while handling the request. The cached trees are never modified.
  */
 public class HeaderPropertyEditor extends PropertyEditorSupport {
 
-    private final Class<?> headerClass;
+    private static final int CACHE_MAXIMUM_SIZE = 1024;
+    private static final int CACHE_MAXIMUM_TEXT_LENGTH = 4096;
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectJsonParser.getDefaultObjectMapper();
+    private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
+    private static final Map<Class<?>, ObjectReader> OBJECT_READERS = new ConcurrentHashMap<>();
+    private static final Cache<String, JsonNode> PARSED_TREES = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_MAXIMUM_SIZE)
+            .build();
+
+    private final ObjectReader objectReader;
 
     /**
      * Constructs a new instance of {@link HeaderPropertyEditor}.
@@ -18,16 +44,34 @@ public class HeaderPropertyEditor extends PropertyEditorSupport {
      * @param headerClass {@link Class class} of the received or sent header element
      */
     public HeaderPropertyEditor(Class<?> headerClass) {
-        this.headerClass = headerClass;
+        this.objectReader = OBJECT_READERS.computeIfAbsent(headerClass, OBJECT_MAPPER::readerFor);
     }
 
     @Override
     public String getAsText() {
-        return new ObjectJsonParser().parseObjectToJsonString(getValue());
+        try {
+            return OBJECT_WRITER.writeValueAsString(getValue());
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
     }
 
     @Override
     public void setAsText(String text) throws IllegalArgumentException {
-        setValue(new ObjectJsonParser().parseJsonStringToObject(text, headerClass));
+        Objects.requireNonNull(text);
+        try {
+            if (text.length() > CACHE_MAXIMUM_TEXT_LENGTH) {
+                setValue(objectReader.readValue(text));
+                return;
+            }
+            JsonNode tree = PARSED_TREES.getIfPresent(text);
+            if (Objects.isNull(tree)) {
+                tree = OBJECT_MAPPER.readTree(text);
+                PARSED_TREES.put(text, tree);
+            }
+            setValue(objectReader.readValue(tree));
+        } catch (IOException exception) {
+            throw new IllegalArgumentException(exception);
+        }
     }
 }
@@ -0,0 +1,185 @@
+package meet_eat.server;
+
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.Token;
+import meet_eat.server.repository.OfferGeoPositionListener;
+import meet_eat.server.repository.OfferPredicateTranslator;
+import meet_eat.server.repository.TokenExpiryListener;
+import meet_eat.server.service.AttemptLimiter;
+import meet_eat.server.service.OfferArchiveService;
+import meet_eat.server.service.TimelineService;
+import meet_eat.server.service.TokenRevocationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeospatialIndex;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.StreamUtils;
+
+import java.util.stream.Stream;
+
+/**
+ * Represents the configuration of MongoDB indexes which cannot be declared on the persisted entity classes. Fields
+ * maintained by listeners on every save are backfilled once on startup for documents persisted before the listeners
+ * existed, so that the indexes on these fields cover all documents.
+ */
+@Configuration
+public class MongoIndexConfiguration {
+
+    private static final String FIELD_DOCUMENT_IDENTIFIER = "_id";
+
+    private final MongoOperations mongoOperations;
+    private final TokenExpiryListener tokenExpiryListener;
+    private final OfferGeoPositionListener offerGeoPositionListener;
+
+    /**
+     * Constructs a new instance of {@link MongoIndexConfiguration}.
+     *
+     * @param mongoOperations          the operations used for index creation and backfilling
+     * @param tokenExpiryListener      the listener determining the expiry of persisted tokens
+     * @param offerGeoPositionListener the listener determining the GeoJSON position of persisted offers
+     */
+    @Autowired
+    public MongoIndexConfiguration(MongoOperations mongoOperations, TokenExpiryListener tokenExpiryListener,
+                                   OfferGeoPositionListener offerGeoPositionListener) {
+        this.mongoOperations = mongoOperations;
+        this.tokenExpiryListener = tokenExpiryListener;
+        this.offerGeoPositionListener = offerGeoPositionListener;
+    }
+
+    /**
+     * Ensures the existence of all indexes as soon as the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        ensureOfferIndexes(mongoOperations.indexOps(Offer.class));
+        ensureTimelineIndexes(mongoOperations.indexOps(TimelineService.COLLECTION_NAME));
+        ensureArchiveIndexes();
+        ensureTokenIndexes(mongoOperations.indexOps(Token.class));
+        ensureTokenRevocationIndexes(mongoOperations.indexOps(TokenRevocationService.COLLECTION_NAME));
+        ensureAttemptWindowIndexes(mongoOperations.indexOps(AttemptLimiter.COLLECTION_NAME));
+    }
+
+    /**
+     * Backfills the fields maintained by listeners for legacy documents as soon as the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLegacyDocuments() {
+        backfillTokenExpiries();
+        backfillOfferGeoPositions();
+    }
+
+    /**
+     * Ensures the existence of the {@link Offer} indexes used for keyset pagination on sortable fields and for
+     * geospatial queries on the offer position.
+     *
+     * @param indexOperations the index operations of the offer collection
+     */
+    private void ensureOfferIndexes(IndexOperations indexOperations) {
+        indexOperations.ensureIndex(new Index()
+                .on(OfferPredicateTranslator.FIELD_PRICE, Sort.Direction.ASC)
+                .on(FIELD_DOCUMENT_IDENTIFIER, Sort.Direction.ASC));
+        indexOperations.ensureIndex(new Index()
+                .on(OfferPredicateTranslator.FIELD_DATE_TIME, Sort.Direction.ASC)
+                .on(FIELD_DOCUMENT_IDENTIFIER, Sort.Direction.ASC));
+        indexOperations.ensureIndex(new GeospatialIndex(OfferPredicateTranslator.FIELD_GEO_POSITION)
+                .typed(GeoSpatialIndexType.GEO_2DSPHERE));
+    }
+
+    /**
+     * Ensures the existence of the timeline indexes used for pruning deleted offers and unsubscribed creators from all
+     * timelines.
+     *
+     * @param indexOperations the index operations of the timeline collection
+     */
+    private void ensureTimelineIndexes(IndexOperations indexOperations) {
+        indexOperations.ensureIndex(new Index()
+                .on(TimelineService.FIELD_ENTRIES + "." + TimelineService.FIELD_OFFER_IDENTIFIER, Sort.Direction.ASC));
+        indexOperations.ensureIndex(new Index()
+                .on(TimelineService.FIELD_ENTRIES + "." + TimelineService.FIELD_CREATOR_IDENTIFIER, Sort.Direction.ASC));
+    }
+
+    /**
+     * Ensures the existence of the archive indexes used for querying archived offers by creator and archived
+     * relations by offer.
+     */
+    private void ensureArchiveIndexes() {
+        mongoOperations.indexOps(OfferArchiveService.COLLECTION_OFFERS).ensureIndex(new Index()
+                .on(OfferArchiveService.FIELD_CREATOR, Sort.Direction.ASC));
+        mongoOperations.indexOps(OfferArchiveService.COLLECTION_PARTICIPATIONS).ensureIndex(new Index()
+                .on(OfferArchiveService.FIELD_TARGET, Sort.Direction.ASC));
+        mongoOperations.indexOps(OfferArchiveService.COLLECTION_BOOKMARKS).ensureIndex(new Index()
+                .on(OfferArchiveService.FIELD_TARGET, Sort.Direction.ASC));
+    }
+
+    /**
+     * Ensures the existence of the {@link Token} index used for purging expired tokens, which also removes expired
+     * tokens by itself if they have not been purged within a grace period.
+     *
+     * @param indexOperations the index operations of the token collection
+     */
+    private void ensureTokenIndexes(IndexOperations indexOperations) {
+        indexOperations.ensureIndex(new Index()
+                .on(TokenExpiryListener.FIELD_EXPIRES_AT, Sort.Direction.ASC)
+                .expire(TokenExpiryListener.TTL_INDEX_GRACE_SECONDS));
+    }
+
+    /**
+     * Sets the GeoJSON position of all spherically located {@link Offer offers} persisted without one, so that they
+     * are found by geospatial queries. The offers are streamed, so that they are not loaded into memory at once.
+     */
+    private void backfillOfferGeoPositions() {
+        Query query = Query.query(Criteria.where(OfferPredicateTranslator.FIELD_GEO_POSITION).exists(false));
+        try (Stream<Offer> offers = StreamUtils.createStreamFromIterator(mongoOperations.stream(query, Offer.class))) {
+            offers.forEach(offer -> offerGeoPositionListener.createGeoPosition(offer).ifPresent(geoPosition ->
+                    mongoOperations.updateFirst(Query.query(Criteria.where(FIELD_DOCUMENT_IDENTIFIER)
+                                    .is(offer.getIdentifier())),
+                            new Update().set(OfferPredicateTranslator.FIELD_GEO_POSITION, geoPosition), Offer.class)));
+        }
+    }
+
+    /**
+     * Sets the expiry of all {@link Token tokens} persisted without one to a full lifetime, so that they are purged
+     * and covered by the TTL index like all other tokens instead of staying valid forever.
+     */
+    private void backfillTokenExpiries() {
+        Query query = Query.query(Criteria.where(TokenExpiryListener.FIELD_EXPIRES_AT).exists(false));
+        Update update = new Update()
+                .set(TokenExpiryListener.FIELD_EXPIRES_AT, tokenExpiryListener.getExpiry(System.currentTimeMillis()));
+        mongoOperations.updateMulti(query, update, Token.class);
+    }
+
+    /**
+     * Ensures the existence of the token revocation indexes used for synchronizing recent revocations and for
+     * removing revocations of expired tokens.
+     *
+     * @param indexOperations the index operations of the token revocation collection
+     */
+    private void ensureTokenRevocationIndexes(IndexOperations indexOperations) {
+        indexOperations.ensureIndex(new Index()
+                .on(TokenRevocationService.FIELD_REVOKED_AT, Sort.Direction.ASC));
+        indexOperations.ensureIndex(new Index()
+                .on(TokenRevocationService.FIELD_EXPIRES_AT, Sort.Direction.ASC)
+                .expire(0L));
+    }
+
+    /**
+     * Ensures the existence of the attempt window index used for removing elapsed windows of the shared attempt
+     * limits.
+     *
+     * @param indexOperations the index operations of the attempt window collection
+     */
+    private void ensureAttemptWindowIndexes(IndexOperations indexOperations) {
+        indexOperations.ensureIndex(new Index()
+                .on(AttemptLimiter.FIELD_EXPIRES_AT, Sort.Direction.ASC)
+                .expire(0L));
+    }
+}
@@ -0,0 +1,13 @@
+package meet_eat.server;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Represents the configuration enabling the execution of scheduled maintenance tasks.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+
+}
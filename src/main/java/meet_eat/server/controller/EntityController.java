@@ -5,9 +5,12 @@ import meet_eat.data.entity.Entity;
 import meet_eat.data.entity.Token;
 import meet_eat.data.predicate.OfferPredicate;
 import meet_eat.server.HeaderPropertyEditor;
+import meet_eat.server.repository.ContinuationToken;
+import meet_eat.server.repository.EntityRepository;
 import meet_eat.server.service.EntityService;
 import meet_eat.server.service.security.SecurityService;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.WebDataBinder;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 import java.io.Serializable;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Represents an abstract controller class handling incoming RESTful CRUD requests by providing specific endpoints.
@@ -26,7 +30,7 @@ import java.util.Optional;
  * @param <K> the type of {@link EntityService} used for manipulating the managed {@link Entity}
  */
 @RestController
-public abstract class EntityController<T extends Entity<U>, U extends Serializable, K extends EntityService<T, U, ? extends MongoRepository<T, U>>> {
+public abstract class EntityController<T extends Entity<U>, U extends Serializable, K extends EntityService<T, U, ? extends EntityRepository<T, U>>> {
 
     /**
      * Represents an URI path variable for an identifier.
@@ -38,6 +42,24 @@ public abstract class EntityController<T extends Entity<U>, U extends Serializab
      */
     protected static final String URI_PATH_SEGMENT_IDENTIFIER = "/{" + PATH_VARIABLE_IDENTIFIER + "}";
 
+    /**
+     * Represents a request parameter descriptor for the maximum number of returned entities.
+     */
+    protected static final String REQUEST_PARAM_LIMIT = "limit";
+
+    /**
+     * Represents a request parameter descriptor for the continuation token of a previous slice.
+     */
+    protected static final String REQUEST_PARAM_CONTINUATION = "continuation";
+
+    /**
+     * Represents a response header field containing the continuation token of the following slice.
+     */
+    protected static final String RESPONSE_HEADER_CONTINUATION = "Continuation-Token";
+
+    private static final String ENTITY_TAG_SEPARATOR = ",";
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+
     private final K entityService;
     private final SecurityService<T> securityService;
 
@@ -60,6 +82,19 @@ public abstract class EntityController<T extends Entity<U>, U extends Serializab
      * @return a {@link ResponseEntity} containing the status of the request and the got entity on success
      */
     protected ResponseEntity<T> handleGet(U identifier, Token token) {
+        return handleGet(identifier, null, token);
+    }
+
+    /**
+     * Handles a conditional incoming GET request at the {@link EntityController} endpoints. If the entity tag of the
+     * current representation matches the {@code If-None-Match} header, the entity is neither read nor serialized.
+     *
+     * @param identifier  the identifier of the entity to be got
+     * @param ifNoneMatch the entity tags of the representations cached by the requester or {@code null}
+     * @param token       the authentication token of the requester
+     * @return a {@link ResponseEntity} containing the status of the request and the got entity on success
+     */
+    protected ResponseEntity<T> handleGet(U identifier, String ifNoneMatch, Token token) {
         if (Objects.isNull(identifier)) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } else if (Objects.isNull(token)) {
@@ -68,11 +103,17 @@ public abstract class EntityController<T extends Entity<U>, U extends Serializab
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         }
 
+        // The tag is determined before reading, so that a concurrent write cannot be hidden behind it.
+        Optional<String> optionalEntityTag = getEntityService().getEntityTag(identifier);
+        if (isNotModified(ifNoneMatch, optionalEntityTag)) {
+            return createNotModifiedResponseEntity(optionalEntityTag.get());
+        }
+
         Optional<T> optionalEntity = getEntityService().get(identifier);
         if (optionalEntity.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        return new ResponseEntity<>(optionalEntity.get(), HttpStatus.OK);
+        return new ResponseEntity<>(optionalEntity.get(), createEntityTagHeaders(optionalEntityTag), HttpStatus.OK);
     }
 
     /**
@@ -82,14 +123,63 @@ public abstract class EntityController<T extends Entity<U>, U extends Serializab
      * @return a {@link ResponseEntity} containing the status of the request and the got entities on success
      */
     protected ResponseEntity<Iterable<T>> handleGetAll(Token token) {
+        return handleGetAll(token, null, null, null);
+    }
+
+    /**
+     * Handles a basic incoming GET(all) request at the {@link EntityController} endpoints using keyset pagination.
+     * If no limit is given, all entities are returned.
+     *
+     * @param token        the authentication token of the requester
+     * @param limit        the maximum number of returned entities
+     * @param continuation the continuation token of the previous slice
+     * @return a {@link ResponseEntity} containing the status of the request and the got entities on success
+     */
+    protected ResponseEntity<Iterable<T>> handleGetAll(Token token, Integer limit, String continuation) {
+        return handleGetAll(token, limit, continuation, null);
+    }
+
+    /**
+     * Handles a conditional incoming GET(all) request at the {@link EntityController} endpoints using keyset
+     * pagination. If no limit is given, all entities are returned. If the entity tag of the current representation
+     * matches the {@code If-None-Match} header, the entities are neither read nor serialized.
+     *
+     * @param token        the authentication token of the requester
+     * @param limit        the maximum number of returned entities
+     * @param continuation the continuation token of the previous slice
+     * @param ifNoneMatch  the entity tags of the representations cached by the requester or {@code null}
+     * @return a {@link ResponseEntity} containing the status of the request and the got entities on success
+     */
+    protected ResponseEntity<Iterable<T>> handleGetAll(Token token, Integer limit, String continuation,
+                                                       String ifNoneMatch) {
         if (Objects.isNull(token)) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         } else if (!getSecurityService().isLegalGet(token)) {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } else if (Objects.nonNull(limit) && limit < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
-        Iterable<T> entities = getEntityService().getAll();
-        return new ResponseEntity<>(entities, HttpStatus.OK);
+        Optional<ContinuationToken> optionalContinuationToken = decodeContinuationToken(continuation);
+        if (Objects.nonNull(limit) && Objects.nonNull(continuation) && optionalContinuationToken.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        // The tag is determined before reading, so that a concurrent write cannot be hidden behind it.
+        Optional<String> optionalEntityTag = Objects.isNull(limit)
+                ? getEntityService().getCollectionTag()
+                : getEntityService().getCollectionTag(limit, continuation);
+        if (isNotModified(ifNoneMatch, optionalEntityTag)) {
+            return createNotModifiedResponseEntity(optionalEntityTag.get());
+        }
+
+        if (Objects.isNull(limit)) {
+            Iterable<T> entities = getEntityService().getAll();
+            return new ResponseEntity<>(entities, createEntityTagHeaders(optionalEntityTag), HttpStatus.OK);
+        }
+        Slice<T> entities = getEntityService().getAll(limit, optionalContinuationToken.orElse(null));
+        return addEntityTag(createSliceResponseEntity(entities,
+                entity -> new ContinuationToken(entity.getIdentifier().toString())), optionalEntityTag);
     }
 
     /**
@@ -182,6 +272,110 @@ public abstract class EntityController<T extends Entity<U>, U extends Serializab
         return handleDelete(optionalEntity.get(), token);
     }
 
+    /**
+     * Creates a {@link ResponseEntity} containing the content of a {@link Slice} and, if a following slice exists, the
+     * {@link ContinuationToken} of its last entity as header.
+     *
+     * @param slice         the slice to be returned
+     * @param tokenFunction the function creating the continuation token of an entity
+     * @return a {@link ResponseEntity} containing the slice's entities
+     */
+    protected ResponseEntity<Iterable<T>> createSliceResponseEntity(Slice<T> slice,
+                                                                    Function<T, ContinuationToken> tokenFunction) {
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.hasNext() && slice.hasContent()) {
+            T lastEntity = slice.getContent().get(slice.getNumberOfElements() - 1);
+            headers.set(RESPONSE_HEADER_CONTINUATION, tokenFunction.apply(lastEntity).encode());
+        }
+        return new ResponseEntity<>(slice.getContent(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * Signalizes whether the representation cached by the requester is still current, i.e. whether one of the
+     * entity tags of the {@code If-None-Match} header matches the entity tag of the current representation. Weak
+     * tags are compared weakly as required for {@code If-None-Match}.
+     *
+     * @param ifNoneMatch       the entity tags of the representations cached by the requester or {@code null}
+     * @param optionalEntityTag the entity tag of the current representation
+     * @return {@code true} if the cached representation is still current, {@code false} otherwise.
+     */
+    protected boolean isNotModified(String ifNoneMatch, Optional<String> optionalEntityTag) {
+        if (Objects.isNull(ifNoneMatch) || optionalEntityTag.isEmpty()) {
+            return false;
+        }
+        for (String entityTag : ifNoneMatch.split(ENTITY_TAG_SEPARATOR)) {
+            String trimmedEntityTag = entityTag.trim();
+            if (trimmedEntityTag.startsWith(WEAK_ENTITY_TAG_PREFIX)) {
+                trimmedEntityTag = trimmedEntityTag.substring(WEAK_ENTITY_TAG_PREFIX.length());
+            }
+            if (trimmedEntityTag.equals(optionalEntityTag.get())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a bodiless {@link ResponseEntity} signalizing that the representation cached by the requester is still
+     * current.
+     *
+     * @param entityTag the entity tag of the current representation
+     * @param <S>       the type of the omitted body
+     * @return a {@link ResponseEntity} with status {@link HttpStatus#NOT_MODIFIED}
+     */
+    protected <S> ResponseEntity<S> createNotModifiedResponseEntity(String entityTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(entityTag);
+        return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+    }
+
+    /**
+     * Adds the entity tag of the returned representation to a successful {@link ResponseEntity}.
+     *
+     * @param responseEntity    the response entity
+     * @param optionalEntityTag the entity tag of the returned representation
+     * @param <S>               the type of the body
+     * @return the response entity including the entity tag
+     */
+    protected <S> ResponseEntity<S> addEntityTag(ResponseEntity<S> responseEntity, Optional<String> optionalEntityTag) {
+        if (optionalEntityTag.isEmpty() || !responseEntity.getStatusCode().equals(HttpStatus.OK)) {
+            return responseEntity;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(responseEntity.getHeaders());
+        headers.setETag(optionalEntityTag.get());
+        return new ResponseEntity<>(responseEntity.getBody(), headers, responseEntity.getStatusCode());
+    }
+
+    /**
+     * Creates the response headers containing the entity tag of the returned representation if present.
+     *
+     * @param optionalEntityTag the entity tag of the returned representation
+     * @return the response headers
+     */
+    private HttpHeaders createEntityTagHeaders(Optional<String> optionalEntityTag) {
+        HttpHeaders headers = new HttpHeaders();
+        optionalEntityTag.ifPresent(headers::setETag);
+        return headers;
+    }
+
+    /**
+     * Decodes a textual {@link ContinuationToken}.
+     *
+     * @param continuation the encoded continuation token
+     * @return the decoded continuation token or {@link Optional#empty()} if none is given or it is malformed
+     */
+    protected Optional<ContinuationToken> decodeContinuationToken(String continuation) {
+        if (Objects.isNull(continuation)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ContinuationToken.decode(continuation));
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Gets the {@link EntityService} of this {@link EntityController} instance.
      *
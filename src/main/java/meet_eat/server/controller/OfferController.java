@@ -1,21 +1,30 @@
 package meet_eat.server.controller;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Streams;
 import meet_eat.data.EndpointPath;
 import meet_eat.data.RequestHeaderField;
 import meet_eat.data.comparator.OfferComparator;
 import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.Tag;
 import meet_eat.data.entity.Token;
+import meet_eat.data.entity.relation.Participation;
 import meet_eat.data.entity.user.User;
+import meet_eat.data.location.SphericalPosition;
 import meet_eat.data.predicate.OfferPredicate;
+import meet_eat.server.repository.ContinuationToken;
 import meet_eat.server.service.EntityService;
+import meet_eat.server.service.OfferEvent;
+import meet_eat.server.service.OfferEventService;
 import meet_eat.server.service.OfferService;
 import meet_eat.server.service.security.OfferSecurityService;
 import meet_eat.server.service.security.SecurityService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,14 +34,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
-import java.util.HashSet;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
 
 /**
  * Represents an concrete controller class handling incoming RESTful CRUD requests by providing specific endpoints
@@ -51,15 +60,119 @@ public class OfferController extends EntityController<Offer, String, OfferServic
      */
     protected static final String REQUEST_PARAM_SUBSCRIBER = "subscriber";
 
+    /**
+     * Represents an URI path segment for map views of {@link Offer offers}.
+     */
+    protected static final String URI_PATH_SEGMENT_MAP = "/map";
+
+    /**
+     * Represents a request parameter descriptor for the southern latitude of a bounding box.
+     */
+    protected static final String REQUEST_PARAM_SOUTH = "south";
+
+    /**
+     * Represents a request parameter descriptor for the western longitude of a bounding box.
+     */
+    protected static final String REQUEST_PARAM_WEST = "west";
+
+    /**
+     * Represents a request parameter descriptor for the northern latitude of a bounding box.
+     */
+    protected static final String REQUEST_PARAM_NORTH = "north";
+
+    /**
+     * Represents a request parameter descriptor for the eastern longitude of a bounding box.
+     */
+    protected static final String REQUEST_PARAM_EAST = "east";
+
+    /**
+     * Represents an URI path segment for {@link Offer offers} near a position.
+     */
+    protected static final String URI_PATH_SEGMENT_NEARBY = "/nearby";
+
+    /**
+     * Represents the maximum number of identifiers of nearby {@link Offer offers} returned by a single request.
+     */
+    protected static final int MAX_NEARBY_LIMIT = 500;
+
+    /**
+     * Represents an URI path segment for the full-text search of {@link Offer offers}.
+     */
+    protected static final String URI_PATH_SEGMENT_SEARCH = "/search";
+
+    /**
+     * Represents a request parameter descriptor for a full-text search query.
+     */
+    protected static final String REQUEST_PARAM_QUERY = "query";
+
+    /**
+     * Represents the maximum number of searched {@link Offer offers} returned if no limit is given.
+     */
+    protected static final int DEFAULT_SEARCH_LIMIT = 50;
+
+    /**
+     * Represents the maximum number of searched {@link Offer offers} returned by a single request.
+     */
+    protected static final int MAX_SEARCH_LIMIT = 200;
+
+    /**
+     * Represents an URI path segment for upcoming {@link Offer offers}.
+     */
+    protected static final String URI_PATH_SEGMENT_UPCOMING = "/upcoming";
+
+    /**
+     * Represents an URI path segment for archived {@link Offer offers}.
+     */
+    protected static final String URI_PATH_SEGMENT_ARCHIVE = "/archive";
+
+    /**
+     * Represents an URI path segment for the event stream of {@link Offer offer} changes.
+     */
+    protected static final String URI_PATH_SEGMENT_EVENTS = "/events";
+
+    /**
+     * Represents a request parameter descriptor for the latitude of a center position.
+     */
+    protected static final String REQUEST_PARAM_LATITUDE = "latitude";
+
+    /**
+     * Represents a request parameter descriptor for the longitude of a center position.
+     */
+    protected static final String REQUEST_PARAM_LONGITUDE = "longitude";
+
+    /**
+     * Represents a request parameter descriptor for a radius in kilometers.
+     */
+    protected static final String REQUEST_PARAM_RADIUS = "radius";
+
+    /**
+     * Represents a request parameter descriptor for the identifiers of {@link Tag tags}.
+     */
+    protected static final String REQUEST_PARAM_TAG = "tag";
+
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final OfferEventService offerEventService;
+    private final Duration heartbeatInterval;
+
     /**
      * Constructs a new instance of {@link OfferController}.
      *
      * @param offerService         the {@link EntityService} used by this controller
      * @param offerSecurityService the {@link SecurityService} used by this controller
+     * @param offerEventService    the service pushing offer changes to subscribed clients
+     * @param heartbeatSeconds     the number of seconds between the heartbeats of an event stream
      */
     @Autowired
-    public OfferController(OfferService offerService, OfferSecurityService offerSecurityService) {
+    public OfferController(OfferService offerService, OfferSecurityService offerSecurityService,
+                           OfferEventService offerEventService,
+                           @Value("${meet-eat.offer-events.heartbeat-seconds:15}") long heartbeatSeconds) {
         super(offerService, offerSecurityService);
+        if (heartbeatSeconds <= 0L) {
+            throw new IllegalArgumentException("The heartbeat interval must be positive.");
+        }
+        this.offerEventService = offerEventService;
+        this.heartbeatInterval = Duration.ofSeconds(heartbeatSeconds);
     }
 
     // GET
@@ -67,14 +180,16 @@ public class OfferController extends EntityController<Offer, String, OfferServic
     /**
      * Gets an specific persistent {@link Offer} from the persistence layer.
      *
-     * @param identifier the identifier of the offer to be got
-     * @param token      the authentication token of the requester
+     * @param identifier  the identifier of the offer to be got
+     * @param ifNoneMatch the entity tags of the offer representations cached by the requester
+     * @param token       the authentication token of the requester
      * @return an specific identified offer entity within a {@link ResponseEntity}
      */
     @GetMapping(EndpointPath.OFFERS + URI_PATH_SEGMENT_IDENTIFIER)
     public ResponseEntity<Offer> getOffer(@PathVariable(value = PATH_VARIABLE_IDENTIFIER) String identifier,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
                                           @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
-        return handleGet(identifier, token);
+        return handleGet(identifier, ifNoneMatch, token);
     }
 
     /**
@@ -82,13 +197,71 @@ public class OfferController extends EntityController<Offer, String, OfferServic
      *
      * @param creatorIdentifier    the identifier of an offer's {@link User creator}
      * @param subscriberIdentifier the identifier of an {@link User user} searching for offers of subscriptions
+     * @param limit                the maximum number of returned offers or {@code null} if not limited
+     * @param continuation         the continuation token of the previous slice of offers
      * @param predicates           the {@link OfferPredicate predicates} used for filtering the returned offers
      * @param comparator           the {@link OfferComparator comparator} used for sorting the returned offers
+     * @param ifNoneMatch          the entity tags of the listings cached by the requester
      * @param token                the authentication token of the requester
      * @return all available offers filtered and sorted within a {@link ResponseEntity}
      */
     @GetMapping(EndpointPath.OFFERS)
     public ResponseEntity<Iterable<Offer>> getAllOffers(
+            @RequestParam(value = REQUEST_PARAM_OWNER, required = false) String creatorIdentifier,
+            @RequestParam(value = REQUEST_PARAM_SUBSCRIBER, required = false) String subscriberIdentifier,
+            @RequestParam(value = REQUEST_PARAM_LIMIT, required = false) Integer limit,
+            @RequestParam(value = REQUEST_PARAM_CONTINUATION, required = false) String continuation,
+            @RequestHeader(value = RequestHeaderField.PREDICATES, required = false) OfferPredicate[] predicates,
+            @RequestHeader(value = RequestHeaderField.COMPARATORS, required = false) OfferComparator comparator,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
+
+        if (Objects.isNull(token)) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        } else if (!getSecurityService().isLegalGet(token)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        // Predicates are passed to the service, which evaluates them within the repository query where possible.
+        OfferPredicate[] offerPredicates = Objects.nonNull(predicates) ? predicates : new OfferPredicate[0];
+
+        // Unchanged listings are neither read nor serialized. The tag is determined before reading.
+        Optional<String> optionalEntityTag = getEntityService().getCollectionTag(creatorIdentifier,
+                subscriberIdentifier, limit, continuation, offerPredicates, comparator);
+        if (isNotModified(ifNoneMatch, optionalEntityTag)) {
+            return createNotModifiedResponseEntity(optionalEntityTag.get());
+        }
+
+        // Get a slice of offers using keyset pagination if a limit is given.
+        if (Objects.nonNull(limit)) {
+            return addEntityTag(getOfferSlice(creatorIdentifier, subscriberIdentifier, limit, continuation,
+                    offerPredicates, comparator), optionalEntityTag);
+        }
+
+        // Get all offers (by certain creator or subscriber if given) sorted by a given comparator.
+        Optional<Iterable<Offer>> optionalOffers = getEntityService()
+                .getListing(creatorIdentifier, subscriberIdentifier, offerPredicates, comparator);
+        if (optionalOffers.isEmpty()) {
+            // Indicating that the given creator or subscriber does not exist in the user repository.
+            // Therefore, no resource could be found.
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return addEntityTag(new ResponseEntity<>(optionalOffers.get(), HttpStatus.OK), optionalEntityTag);
+    }
+
+    /**
+     * Streams all persistent {@link Offer offers} from the persistence layer as newline delimited JSON. In contrast
+     * to {@link #getAllOffers}, the offers are written to the response while they are read from the database.
+     *
+     * @param creatorIdentifier    the identifier of an offer's {@link User creator}
+     * @param subscriberIdentifier the identifier of an {@link User user} searching for offers of subscriptions
+     * @param predicates           the {@link OfferPredicate predicates} used for filtering the returned offers
+     * @param comparator           the {@link OfferComparator comparator} used for sorting the returned offers
+     * @param token                the authentication token of the requester
+     * @return all available offers filtered and sorted as {@link Flux} within a {@link ResponseEntity}
+     */
+    @GetMapping(value = EndpointPath.OFFERS, produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public ResponseEntity<Flux<Offer>> streamAllOffers(
             @RequestParam(value = REQUEST_PARAM_OWNER, required = false) String creatorIdentifier,
             @RequestParam(value = REQUEST_PARAM_SUBSCRIBER, required = false) String subscriberIdentifier,
             @RequestHeader(value = RequestHeaderField.PREDICATES, required = false) OfferPredicate[] predicates,
@@ -101,56 +274,293 @@ public class OfferController extends EntityController<Offer, String, OfferServic
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         }
 
-        // Get all offers (by certain creator if given).
-        Iterable<Offer> offers;
+        // Restrict the creators only if a creator or subscriber is given.
+        Set<User> creators = null;
         if (Objects.nonNull(creatorIdentifier) || Objects.nonNull(subscriberIdentifier)) {
-            // Avoid duplicates for creator and subscriber by using a set.
-            Set<Offer> offerSet = new HashSet<>();
-
-            // Get all offers of a certain identified creator
-            if (Objects.nonNull(creatorIdentifier)) {
-                Optional<Iterable<Offer>> optionalOffers = getEntityService().getByCreatorId(creatorIdentifier);
-                if (optionalOffers.isEmpty()) {
-                    // Indicating that the given creatorId does not exist in the user repository.
-                    // Therefore, no resource could be found.
-                    return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-                }
-                offerSet.addAll(Lists.newLinkedList(optionalOffers.get()));
+            Optional<Set<User>> optionalCreators = getEntityService().getCreators(creatorIdentifier, subscriberIdentifier);
+            if (optionalCreators.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
             }
+            creators = optionalCreators.get();
+        }
 
-            // Get all offers of users subscribed by the identified "subscriber" user
-            if (Objects.nonNull(subscriberIdentifier)) {
-                Optional<Iterable<Offer>> optionalOffers = getEntityService().getBySubscriberIdentifier(subscriberIdentifier);
-                if (optionalOffers.isEmpty()) {
-                    // Analogous to the non-existence of a creator.
-                    return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-                }
-                offerSet.addAll(Lists.newLinkedList(optionalOffers.get()));
-            }
+        OfferPredicate[] offerPredicates = Objects.nonNull(predicates) ? predicates : new OfferPredicate[0];
+        Flux<Offer> offers = getEntityService().stream(creators, offerPredicates, comparator);
+        return new ResponseEntity<>(offers, HttpStatus.OK);
+    }
 
-            // Write offers back to iterable
-            offers = offerSet;
+    /**
+     * Gets the identifiers of all active {@link Offer offers} within a bounding box for map views. The identifiers
+     * are resolved by an in-memory spatial index without accessing the persistence layer.
+     *
+     * @param south the southern latitude of the box
+     * @param west  the western longitude of the box
+     * @param north the northern latitude of the box
+     * @param east  the eastern longitude of the box
+     * @param token the authentication token of the requester
+     * @return the identifiers of the offers within the bounding box within a {@link ResponseEntity}
+     */
+    @GetMapping(EndpointPath.OFFERS + URI_PATH_SEGMENT_MAP)
+    public ResponseEntity<List<String>> getOfferIdentifiersWithinBoundingBox(
+            @RequestParam(value = REQUEST_PARAM_SOUTH, required = false) Double south,
+            @RequestParam(value = REQUEST_PARAM_WEST, required = false) Double west,
+            @RequestParam(value = REQUEST_PARAM_NORTH, required = false) Double north,
+            @RequestParam(value = REQUEST_PARAM_EAST, required = false) Double east,
+            @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
+
+        if (Objects.isNull(token)) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        } else if (!getSecurityService().isLegalGet(token)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } else if (Objects.isNull(south) || Objects.isNull(west) || Objects.isNull(north) || Objects.isNull(east)
+                || south > north) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        List<String> identifiers = getEntityService().getIdentifiersWithinBoundingBox(south, west, north, east);
+        return new ResponseEntity<>(identifiers, HttpStatus.OK);
+    }
+
+    /**
+     * Gets the identifiers of the {@link Offer offers} near a position, sorted nearest-first. If a radius is given,
+     * all offers within the radius are returned, at most as many as the limit permits. Otherwise, the given number of
+     * nearest offers is returned. At most {@link #MAX_NEARBY_LIMIT} identifiers are returned. The offers are resolved
+     * by an in-memory spatial index without accessing the persistence layer.
+     *
+     * @param latitude  the latitude of the position
+     * @param longitude the longitude of the position
+     * @param radius    the maximum distance in kilometers or {@code null} if only the limit applies
+     * @param limit     the maximum number of returned identifiers or {@code null} if only the radius applies
+     * @param token     the authentication token of the requester
+     * @return the identifiers of the offers near the position within a {@link ResponseEntity}
+     */
+    @GetMapping(EndpointPath.OFFERS + URI_PATH_SEGMENT_NEARBY)
+    public ResponseEntity<List<String>> getNearbyOfferIdentifiers(
+            @RequestParam(value = REQUEST_PARAM_LATITUDE, required = false) Double latitude,
+            @RequestParam(value = REQUEST_PARAM_LONGITUDE, required = false) Double longitude,
+            @RequestParam(value = REQUEST_PARAM_RADIUS, required = false) Double radius,
+            @RequestParam(value = REQUEST_PARAM_LIMIT, required = false) Integer limit,
+            @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
+
+        if (Objects.isNull(token)) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        } else if (!getSecurityService().isLegalGet(token)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } else if (Objects.isNull(latitude) || Objects.isNull(longitude) || Math.abs(latitude) > 90d
+                || (Objects.isNull(radius) && Objects.isNull(limit))
+                || (Objects.nonNull(radius) && radius <= 0d)
+                || (Objects.nonNull(limit) && (limit < 1 || limit > MAX_NEARBY_LIMIT))) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        SphericalPosition center = new SphericalPosition(latitude, longitude);
+        int identifierLimit = Objects.nonNull(limit) ? limit : MAX_NEARBY_LIMIT;
+        List<String> identifiers;
+        if (Objects.nonNull(radius)) {
+            identifiers = getEntityService().getIdentifiersWithinRadius(center, radius);
+            if (identifiers.size() > identifierLimit) {
+                identifiers = identifiers.subList(0, identifierLimit);
+            }
         } else {
-            offers = getEntityService().getAll();
+            identifiers = getEntityService().getNearestIdentifiers(center, identifierLimit);
         }
+        return new ResponseEntity<>(identifiers, HttpStatus.OK);
+    }
 
-        // Filter the offers with given predicates.
-        if (Objects.nonNull(predicates)) {
-            offers = filterOffers(offers, predicates);
+    /**
+     * Gets all persistent {@link Offer offers} taking place in the future. Past offers are excluded by the
+     * persistence layer instead of being filtered after reading.
+     *
+     * @param predicates the {@link OfferPredicate predicates} used for filtering the returned offers
+     * @param comparator the {@link OfferComparator comparator} used for sorting the returned offers
+     * @param token      the authentication token of the requester
+     * @return all upcoming offers filtered and sorted within a {@link ResponseEntity}
+     */
+    @GetMapping(EndpointPath.OFFERS + URI_PATH_SEGMENT_UPCOMING)
+    public ResponseEntity<Iterable<Offer>> getUpcomingOffers(
+            @RequestHeader(value = RequestHeaderField.PREDICATES, required = false) OfferPredicate[] predicates,
+            @RequestHeader(value = RequestHeaderField.COMPARATORS, required = false) OfferComparator comparator,
+            @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
+
+        if (Objects.isNull(token)) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        } else if (!getSecurityService().isLegalGet(token)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
         }
 
-        // Sort the offers with a given comparator
+        OfferPredicate[] offerPredicates = Objects.nonNull(predicates) ? predicates : new OfferPredicate[0];
+        Iterable<Offer> offers = getEntityService().getUpcoming(offerPredicates);
         if (Objects.nonNull(comparator)) {
-            comparator.setHostRatingGetter(getEntityService()::getNumericHostRating);
-            comparator.setParticipantAmountGetter(getEntityService()::getParticipationAmount);
-            List<Offer> offerList = Lists.newArrayList(offers);
-            offerList.sort(comparator);
-            offers = offerList;
+            offers = getEntityService().sort(offers, comparator);
+        }
+        return new ResponseEntity<>(offers, HttpStatus.OK);
+    }
+
+    /**
+     * Gets an archived {@link Offer offer}, e.g. the offer of a rating or report which is no longer found among the
+     * current offers.
+     *
+     * @param identifier the identifier of the archived offer
+     * @param token      the authentication token of the requester
+     * @return the archived offer within a {@link ResponseEntity}
+     */
+    @GetMapping(EndpointPath.OFFERS + URI_PATH_SEGMENT_ARCHIVE + URI_PATH_SEGMENT_IDENTIFIER)
+    public ResponseEntity<Offer> getArchivedOffer(
+            @PathVariable(value = PATH_VARIABLE_IDENTIFIER) String identifier,
+            @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
+
+        if (Objects.isNull(token)) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        } else if (!getSecurityService().isLegalGet(token)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        Optional<Offer> optionalOffer = getEntityService().getArchived(identifier);
+        if (optionalOffer.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
+        return new ResponseEntity<>(optionalOffer.get(), HttpStatus.OK);
+    }
 
+    /**
+     * Gets all archived {@link Offer offers} of a {@link User creator}.
+     *
+     * @param creatorIdentifier the identifier of the offers' creator
+     * @param token             the authentication token of the requester
+     * @return the archived offers of the creator within a {@link ResponseEntity}
+     */
+    @GetMapping(EndpointPath.OFFERS + URI_PATH_SEGMENT_ARCHIVE)
+    public ResponseEntity<Iterable<Offer>> getArchivedOffers(
+            @RequestParam(value = REQUEST_PARAM_OWNER, required = false) String creatorIdentifier,
+            @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
+
+        if (Objects.isNull(token)) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        } else if (!getSecurityService().isLegalGet(token)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } else if (Objects.isNull(creatorIdentifier)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Optional<Iterable<Offer>> optionalOffers = getEntityService().getArchivedByCreatorId(creatorIdentifier);
+        if (optionalOffers.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(optionalOffers.get(), HttpStatus.OK);
+    }
+
+    /**
+     * Gets the archived {@link Participation participations} of an archived {@link Offer offer}.
+     *
+     * @param identifier the identifier of the archived offer
+     * @param token      the authentication token of the requester
+     * @return the archived participations of the offer within a {@link ResponseEntity}
+     */
+    @GetMapping(EndpointPath.OFFERS + URI_PATH_SEGMENT_ARCHIVE + URI_PATH_SEGMENT_IDENTIFIER
+            + EndpointPath.PARTICIPATIONS)
+    public ResponseEntity<Iterable<Participation>> getArchivedParticipations(
+            @PathVariable(value = PATH_VARIABLE_IDENTIFIER) String identifier,
+            @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
+
+        if (Objects.isNull(token)) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        } else if (!getSecurityService().isLegalGet(token)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        Optional<Iterable<Participation>> optionalParticipations =
+                getEntityService().getArchivedParticipations(identifier);
+        if (optionalParticipations.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(optionalParticipations.get(), HttpStatus.OK);
+    }
+
+    /**
+     * Searches {@link Offer offers} by their names and descriptions. All terms of the query must be contained, where
+     * a query term also matches the terms it is a prefix of. The offers are ranked by relevance. The search is only
+     * available if the in-memory text index is enabled, which requires a single node.
+     *
+     * @param query      the query to be searched for
+     * @param limit      the maximum number of returned offers or {@code null} for the default limit
+     * @param predicates the {@link OfferPredicate predicates} used for filtering the returned offers
+     * @param token      the authentication token of the requester
+     * @return the matching offers, most relevant first, within a {@link ResponseEntity}
+     */
+    @GetMapping(EndpointPath.OFFERS + URI_PATH_SEGMENT_SEARCH)
+    public ResponseEntity<Iterable<Offer>> searchOffers(
+            @RequestParam(value = REQUEST_PARAM_QUERY, required = false) String query,
+            @RequestParam(value = REQUEST_PARAM_LIMIT, required = false) Integer limit,
+            @RequestHeader(value = RequestHeaderField.PREDICATES, required = false) OfferPredicate[] predicates,
+            @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
+
+        if (Objects.isNull(token)) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        } else if (!getSecurityService().isLegalGet(token)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } else if (!getEntityService().isSearchEnabled()) {
+            return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+        } else if (Objects.isNull(query) || query.isBlank()
+                || (Objects.nonNull(limit) && (limit < 1 || limit > MAX_SEARCH_LIMIT))) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        OfferPredicate[] offerPredicates = Objects.nonNull(predicates) ? predicates : new OfferPredicate[0];
+        int offerLimit = Objects.nonNull(limit) ? limit : DEFAULT_SEARCH_LIMIT;
+        List<Offer> offers = getEntityService().search(query, offerPredicates, offerLimit);
         return new ResponseEntity<>(offers, HttpStatus.OK);
     }
 
+    /**
+     * Streams changes of {@link Offer offers} and their participation amounts as server-sent events. Only changes of
+     * offers matching all given restrictions are pushed. If the client does not keep up, its oldest pending events are
+     * dropped. Heartbeat comments are sent periodically, so that idle connections are kept open by proxies and closed
+     * connections are detected and unsubscribed. Only changes written by this node are pushed, so that the stream is
+     * complete in single-node deployments only.
+     *
+     * @param creatorIdentifier the identifier of the offers' {@link User creator}
+     * @param latitude          the latitude of the center of the area the offers must be located in
+     * @param longitude         the longitude of the center of the area the offers must be located in
+     * @param radius            the radius in kilometers of the area the offers must be located in
+     * @param tagIdentifiers    the identifiers of the {@link Tag tags} of which the offers must have one attached
+     * @param token             the authentication token of the requester
+     * @return the stream of offer changes as {@link Flux} within a {@link ResponseEntity}
+     */
+    @GetMapping(value = EndpointPath.OFFERS + URI_PATH_SEGMENT_EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<OfferEvent>>> streamOfferEvents(
+            @RequestParam(value = REQUEST_PARAM_OWNER, required = false) String creatorIdentifier,
+            @RequestParam(value = REQUEST_PARAM_LATITUDE, required = false) Double latitude,
+            @RequestParam(value = REQUEST_PARAM_LONGITUDE, required = false) Double longitude,
+            @RequestParam(value = REQUEST_PARAM_RADIUS, required = false) Double radius,
+            @RequestParam(value = REQUEST_PARAM_TAG, required = false) List<String> tagIdentifiers,
+            @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
+
+        if (Objects.isNull(token)) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        } else if (!getSecurityService().isLegalGet(token)) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        // The area is either given completely or not at all.
+        boolean isAreaGiven = Objects.nonNull(latitude) || Objects.nonNull(longitude) || Objects.nonNull(radius);
+        if (isAreaGiven && (Objects.isNull(latitude) || Objects.isNull(longitude) || Objects.isNull(radius)
+                || radius <= 0d)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        SphericalPosition center = isAreaGiven ? new SphericalPosition(latitude, longitude) : null;
+        Predicate<OfferEvent> filter = OfferEventService.createFilter(creatorIdentifier, center,
+                isAreaGiven ? radius : 0d, tagIdentifiers);
+        Flux<ServerSentEvent<OfferEvent>> events = offerEventService.subscribe(filter)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType().name())
+                        .id(event.getOfferIdentifier())
+                        .build());
+        Flux<ServerSentEvent<OfferEvent>> heartbeats = Flux.interval(heartbeatInterval)
+                .map(tick -> ServerSentEvent.<OfferEvent>builder().comment(HEARTBEAT_COMMENT).build());
+        return new ResponseEntity<>(Flux.merge(events, heartbeats), HttpStatus.OK);
+    }
+
     // POST
 
     /**
@@ -225,19 +635,41 @@ public class OfferController extends EntityController<Offer, String, OfferServic
     }
 
     /**
-     * Filters a given {@link Iterable} of {@link Offer offers}.
+     * Gets a slice of {@link Offer offers} using keyset pagination.
      *
-     * @param offers     the offers to be filtered
-     * @param predicates the {@link OfferPredicate predicates} used for filtering
-     * @return the filtered offers
+     * @param creatorIdentifier    the identifier of an offer's {@link User creator}
+     * @param subscriberIdentifier the identifier of an {@link User user} searching for offers of subscriptions
+     * @param limit                the maximum number of returned offers
+     * @param continuation         the continuation token of the previous slice of offers
+     * @param predicates           the {@link OfferPredicate predicates} used for filtering the returned offers
+     * @param comparator           the {@link OfferComparator comparator} used for sorting the returned offers
+     * @return a slice of the available offers filtered and sorted within a {@link ResponseEntity}
      */
-    private Iterable<Offer> filterOffers(Iterable<Offer> offers, OfferPredicate... predicates) {
-        Stream<Offer> offerStream = Streams.stream(offers);
-        for (OfferPredicate predicate : predicates) {
-            predicate.setNumericRatingGetter(getEntityService()::getNumericHostRating);
-            predicate.setParticipantAmountGetter(getEntityService()::getParticipationAmount);
-            offerStream = offerStream.filter(predicate);
+    private ResponseEntity<Iterable<Offer>> getOfferSlice(String creatorIdentifier, String subscriberIdentifier,
+                                                          int limit, String continuation,
+                                                          OfferPredicate[] predicates, OfferComparator comparator) {
+        Optional<ContinuationToken> optionalContinuationToken = decodeContinuationToken(continuation);
+        if (limit < 1 || (Objects.nonNull(continuation) && optionalContinuationToken.isEmpty())) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        // Restrict the creators only if a creator or subscriber is given.
+        Set<User> creators = null;
+        if (Objects.nonNull(creatorIdentifier) || Objects.nonNull(subscriberIdentifier)) {
+            Optional<Set<User>> optionalCreators = getEntityService().getCreators(creatorIdentifier, subscriberIdentifier);
+            if (optionalCreators.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            creators = optionalCreators.get();
+        }
+
+        Slice<Offer> offers;
+        try {
+            offers = getEntityService().getAll(creators, predicates, comparator, limit, optionalContinuationToken.orElse(null));
+        } catch (IllegalArgumentException exception) {
+            // Indicates that the continuation token does not fit the requested sort order.
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
-        return offerStream.collect(Collectors.toList());
+        return createSliceResponseEntity(offers, offer -> getEntityService().getContinuationToken(offer, comparator));
     }
 }
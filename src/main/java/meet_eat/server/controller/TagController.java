@@ -9,6 +9,7 @@ import meet_eat.server.service.TagService;
 import meet_eat.server.service.security.SecurityService;
 import meet_eat.server.service.security.TagSecurityService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -42,25 +44,33 @@ public class TagController extends EntityController<Tag, String, TagService> {
     /**
      * Gets all {@link Tag tags} from the persistence layer.
      *
-     * @param token the authentication token of the requester
+     * @param limit        the maximum number of returned tags
+     * @param continuation the continuation token of the previous slice of tags
+     * @param ifNoneMatch  the entity tags of the tag listings cached by the requester
+     * @param token        the authentication token of the requester
      * @return all available tags within a {@link ResponseEntity}
      */
     @GetMapping(EndpointPath.TAGS)
-    public ResponseEntity<Iterable<Tag>> getAllTags(@RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
-        return handleGetAll(token);
+    public ResponseEntity<Iterable<Tag>> getAllTags(@RequestParam(value = REQUEST_PARAM_LIMIT, required = false) Integer limit,
+                                                    @RequestParam(value = REQUEST_PARAM_CONTINUATION, required = false) String continuation,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                    @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
+        return handleGetAll(token, limit, continuation, ifNoneMatch);
     }
 
     /**
      * Gets a {@link Tag tag} identified by its identifier from the persistence layer.
      *
-     * @param identifier the identifier of the tag to be got
-     * @param token      the authentication token of the requester
+     * @param identifier  the identifier of the tag to be got
+     * @param ifNoneMatch the entity tags of the tag representations cached by the requester
+     * @param token       the authentication token of the requester
      * @return the identified tag within a {@link ResponseEntity}
      */
     @GetMapping(EndpointPath.TAGS + URI_PATH_SEGMENT_IDENTIFIER)
     public ResponseEntity<Tag> getTag(@PathVariable(value = PATH_VARIABLE_IDENTIFIER) String identifier,
+                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
                                       @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
-        return handleGet(identifier, token);
+        return handleGet(identifier, ifNoneMatch, token);
     }
 
     // POST
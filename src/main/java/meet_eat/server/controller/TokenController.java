@@ -3,6 +3,8 @@ package meet_eat.server.controller;
 import meet_eat.data.EndpointPath;
 import meet_eat.data.LoginCredential;
 import meet_eat.data.entity.Token;
+import meet_eat.server.ClientAddressResolver;
+import meet_eat.server.service.AttemptLimiter;
 import meet_eat.server.service.EntityService;
 import meet_eat.server.service.TokenService;
 import meet_eat.server.service.security.SecurityService;
@@ -15,6 +17,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
 /**
  * Represents an concrete controller class handling incoming RESTful CRUD requests by providing specific endpoints
  * especially for {@link Token} entities.
@@ -22,15 +29,23 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class TokenController extends EntityController<Token, String, TokenService> {
 
+    private final AttemptLimiter attemptLimiter;
+    private final ClientAddressResolver clientAddressResolver;
+
     /**
      * Constructs a new instance of {@link TokenController}.
      *
-     * @param tokenService         the {@link EntityService} used by this controller
-     * @param tokenSecurityService the {@link SecurityService} used by this controller
+     * @param tokenService          the {@link EntityService} used by this controller
+     * @param tokenSecurityService  the {@link SecurityService} used by this controller
+     * @param attemptLimiter        the limiter of login attempts
+     * @param clientAddressResolver the resolver of the client addresses the attempts are limited by
      */
     @Autowired
-    public TokenController(TokenService tokenService, TokenSecurityService tokenSecurityService) {
+    public TokenController(TokenService tokenService, TokenSecurityService tokenSecurityService,
+                           AttemptLimiter attemptLimiter, ClientAddressResolver clientAddressResolver) {
         super(tokenService, tokenSecurityService);
+        this.attemptLimiter = attemptLimiter;
+        this.clientAddressResolver = clientAddressResolver;
     }
 
     /**
@@ -48,27 +63,36 @@ public class TokenController extends EntityController<Token, String, TokenServic
      * Creates a new persistent {@link Token} that can be used for authentication purposes.
      *
      * @param loginCredential the {@link LoginCredential} to verify the login request
+     * @param request         the request used for identifying the client
      * @return the created token within a {@link ResponseEntity}
      */
     @PostMapping(EndpointPath.LOGIN)
-    public ResponseEntity<Token> login(@RequestBody LoginCredential loginCredential) {
-        if (!getEntityService().isValidLoginCredential(loginCredential)) {
-            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+    public ResponseEntity<Token> login(@RequestBody LoginCredential loginCredential, HttpServletRequest request) {
+        String emailAddress = Objects.isNull(loginCredential) || Objects.isNull(loginCredential.getEmail())
+                ? null
+                : loginCredential.getEmail().toString().toLowerCase(Locale.ROOT);
+        String clientAddress = clientAddressResolver.resolve(request);
+        if (!attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, emailAddress, clientAddress)) {
+            return new ResponseEntity<>(HttpStatus.TOO_MANY_REQUESTS);
         }
 
-        Token token = getEntityService().createToken(loginCredential);
-        return new ResponseEntity<>(token, HttpStatus.CREATED);
+        // The user is resolved and the password derived only once per login.
+        Optional<Token> optionalToken = getEntityService().login(loginCredential);
+        if (optionalToken.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        return new ResponseEntity<>(optionalToken.get(), HttpStatus.CREATED);
     }
 
     /**
-     * Deletes a {@link Token} from the persistence layer.
+     * Deletes a {@link Token} from the persistence layer or revokes it if it is a signed token.
      *
      * @param token the token to be deleted
      * @return a bodiless {@link ResponseEntity}
      */
     @DeleteMapping(EndpointPath.LOGOUT)
     public ResponseEntity<Void> logout(@RequestBody Token token) {
-        if (!getEntityService().exists(token.getIdentifier())) {
+        if (!getEntityService().exists(token)) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
@@ -5,11 +5,14 @@ import meet_eat.data.RequestHeaderField;
 import meet_eat.data.entity.Token;
 import meet_eat.data.entity.user.Email;
 import meet_eat.data.entity.user.User;
+import meet_eat.server.ClientAddressResolver;
+import meet_eat.server.service.AttemptLimiter;
 import meet_eat.server.service.EntityService;
 import meet_eat.server.service.UserService;
 import meet_eat.server.service.security.SecurityService;
 import meet_eat.server.service.security.UserSecurityService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,6 +24,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -34,15 +40,23 @@ public class UserController extends EntityController<User, String, UserService>
     private static final String URI_PATH_SEGMENT_EMAIL = "/{" + PATH_VARIABLE_EMAIL + "}";
     private static final String URI_PATH_SEGMENT_PASSWORD_RESET = "/password/reset";
 
+    private final AttemptLimiter attemptLimiter;
+    private final ClientAddressResolver clientAddressResolver;
+
     /**
      * Constructs a new instance of {@link UserController}.
      *
-     * @param userService         the {@link EntityService} used by this controller
-     * @param userSecurityService the {@link SecurityService} used by this controller
+     * @param userService           the {@link EntityService} used by this controller
+     * @param userSecurityService   the {@link SecurityService} used by this controller
+     * @param attemptLimiter        the limiter of password reset attempts
+     * @param clientAddressResolver the resolver of the client addresses the attempts are limited by
      */
     @Autowired
-    public UserController(UserService userService, UserSecurityService userSecurityService) {
+    public UserController(UserService userService, UserSecurityService userSecurityService,
+                          AttemptLimiter attemptLimiter, ClientAddressResolver clientAddressResolver) {
         super(userService, userSecurityService);
+        this.attemptLimiter = attemptLimiter;
+        this.clientAddressResolver = clientAddressResolver;
     }
 
     // GET
@@ -50,14 +64,16 @@ public class UserController extends EntityController<User, String, UserService>
     /**
      * Gets a {@link User user} identified by its identifier from the persistence layer.
      *
-     * @param identifier the identifier of the tag to be got
-     * @param token      the authentication token of the requester
+     * @param identifier  the identifier of the tag to be got
+     * @param ifNoneMatch the entity tags of the user representations cached by the requester
+     * @param token       the authentication token of the requester
      * @return the identified user within a {@link ResponseEntity}
      */
     @GetMapping(EndpointPath.USERS + URI_PATH_SEGMENT_IDENTIFIER)
     public ResponseEntity<User> getUser(@PathVariable(value = PATH_VARIABLE_IDENTIFIER) String identifier,
+                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
                                         @RequestHeader(value = RequestHeaderField.TOKEN, required = false) Token token) {
-        return handleGet(identifier, token);
+        return handleGet(identifier, ifNoneMatch, token);
     }
 
     // POST
@@ -94,10 +110,18 @@ public class UserController extends EntityController<User, String, UserService>
      * password and sending it to the user's {@link Email email}.
      *
      * @param emailAddress the address for identification and to send the password to
+     * @param request      the request used for identifying the client
      * @return a bodiless {@link ResponseEntity}
      */
     @PostMapping(EndpointPath.USERS + URI_PATH_SEGMENT_EMAIL + URI_PATH_SEGMENT_PASSWORD_RESET)
-    public ResponseEntity<Void> postPasswordReset(@PathVariable(value = PATH_VARIABLE_EMAIL) String emailAddress) {
+    public ResponseEntity<Void> postPasswordReset(@PathVariable(value = PATH_VARIABLE_EMAIL) String emailAddress,
+                                                  HttpServletRequest request) {
+        if (!attemptLimiter.tryAcquire(AttemptLimiter.Scope.PASSWORD_RESET,
+                Objects.isNull(emailAddress) ? null : emailAddress.toLowerCase(Locale.ROOT),
+                clientAddressResolver.resolve(request))) {
+            return new ResponseEntity<>(HttpStatus.TOO_MANY_REQUESTS);
+        }
+
         // No errors are sent to the caller in order to avoid brute force searches identifying valid email addresses.
         if (Email.isLegalEmailAddress(emailAddress)) {
             getEntityService().resetPassword(emailAddress);
@@ -0,0 +1,120 @@
+package meet_eat.server.repository;
+
+import meet_eat.data.entity.Entity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents an opaque continuation token used for keyset pagination. The token encodes the identifier and the
+ * optional sort key of the last {@link Entity entity} of a slice, so that the following slice can be queried without
+ * skipping over previous results.
+ */
+public class ContinuationToken {
+
+    private static final String ERROR_MESSAGE_ILLEGAL_TOKEN = "The given continuation token is malformed.";
+    private static final String SEGMENT_SEPARATOR = ".";
+    private static final String SEGMENT_SEPARATOR_REGEX = "\\.";
+
+    private final String identifier;
+    private final String sortKey;
+
+    /**
+     * Constructs a new instance of {@link ContinuationToken}.
+     *
+     * @param identifier the identifier of the last entity of a slice
+     * @param sortKey    the sort key of the last entity of a slice or {@code null} if sorted by identifier
+     */
+    public ContinuationToken(String identifier, String sortKey) {
+        this.identifier = Objects.requireNonNull(identifier);
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * Constructs a new instance of {@link ContinuationToken} for slices sorted by identifier.
+     *
+     * @param identifier the identifier of the last entity of a slice
+     */
+    public ContinuationToken(String identifier) {
+        this(identifier, null);
+    }
+
+    /**
+     * Decodes a {@link ContinuationToken} from its opaque textual representation.
+     *
+     * @param encodedToken the encoded continuation token
+     * @return the decoded continuation token
+     * @throws IllegalArgumentException if the encoded token is malformed
+     */
+    public static ContinuationToken decode(String encodedToken) {
+        String[] segments = Objects.requireNonNull(encodedToken).split(SEGMENT_SEPARATOR_REGEX, -1);
+        if (segments.length < 1 || segments.length > 2 || segments[0].isEmpty()) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_ILLEGAL_TOKEN);
+        }
+        String identifier = decodeSegment(segments[0]);
+        String sortKey = (segments.length == 2) ? decodeSegment(segments[1]) : null;
+        return new ContinuationToken(identifier, sortKey);
+    }
+
+    /**
+     * Encodes this {@link ContinuationToken} into its opaque textual representation.
+     *
+     * @return the encoded continuation token
+     */
+    public String encode() {
+        String encodedToken = encodeSegment(identifier);
+        if (Objects.nonNull(sortKey)) {
+            encodedToken += SEGMENT_SEPARATOR + encodeSegment(sortKey);
+        }
+        return encodedToken;
+    }
+
+    /**
+     * Gets the identifier of the last entity of a slice.
+     *
+     * @return the identifier
+     */
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * Gets the sort key of the last entity of a slice.
+     *
+     * @return the sort key or {@link Optional#empty()} if the slice was sorted by identifier
+     */
+    public Optional<String> getSortKey() {
+        return Optional.ofNullable(sortKey);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ContinuationToken that = (ContinuationToken) o;
+        return identifier.equals(that.identifier) && Objects.equals(sortKey, that.sortKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(identifier, sortKey);
+    }
+
+    private static String encodeSegment(String segment) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(segment.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeSegment(String segment) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(segment), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_ILLEGAL_TOKEN, exception);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package meet_eat.server.repository;
 
 import meet_eat.data.entity.Entity;
 import meet_eat.data.entity.relation.EntityRelation;
-import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.io.Serializable;
 import java.util.Optional;
@@ -15,7 +14,7 @@ import java.util.Optional;
  * @param <S> the type of the {@link Entity target entity} of the {@link EntityRelation}
  * @param <U> the type of the identifier of the {@link EntityRelation}
  */
-public interface EntityRelationRepository<K extends EntityRelation<T, S, U>, T extends Entity<?>, S extends Entity<?>, U extends Serializable> extends MongoRepository<K, U> {
+public interface EntityRelationRepository<K extends EntityRelation<T, S, U>, T extends Entity<?>, S extends Entity<?>, U extends Serializable> extends EntityRepository<K, U> {
 
     /**
      * Finds and returns all {@link EntityRelation relations} by their {@link Entity source entity}.
@@ -88,8 +87,17 @@ public interface EntityRelationRepository<K extends EntityRelation<T, S, U>, T e
      *
      * @param source the source entity of the relations
      * @param target the target entity of the relations
+     * @return the number of deleted relations
      */
-    public void deleteBySourceAndTarget(T source, S target);
+    public long deleteBySourceAndTarget(T source, S target);
+
+    /**
+     * Deletes a {@link EntityRelation relation} by its identifier.
+     *
+     * @param identifier the identifier of the relation
+     * @return the number of deleted relations, i.e. {@code 0} if the relation has already been deleted concurrently
+     */
+    public long deleteByIdentifier(U identifier);
 
     /**
      * Deletes all {@link EntityRelation relations} by a specific {@link Entity source entity} or a specific
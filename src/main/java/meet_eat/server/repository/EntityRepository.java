@@ -0,0 +1,51 @@
+package meet_eat.server.repository;
+
+import meet_eat.data.entity.Entity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.io.Serializable;
+import java.util.stream.Stream;
+
+/**
+ * Represents a repository managing persistence of {@link Entity} instances.
+ *
+ * @param <T> the type of the {@link Entity} to be managed
+ * @param <U> the type of the identifier of the {@link Entity}
+ */
+@NoRepositoryBean
+public interface EntityRepository<T extends Entity<U>, U extends Serializable> extends MongoRepository<T, U> {
+
+    /**
+     * Represents the property name of an {@link Entity entity's} identifier.
+     */
+    public static final String PROPERTY_IDENTIFIER = "identifier";
+
+    /**
+     * Finds and returns a {@link Slice} of all {@link Entity entities}.
+     *
+     * @param pageable the size and sort order of the slice
+     * @return the first slice of all entities
+     */
+    public Slice<T> findAllBy(Pageable pageable);
+
+    /**
+     * Finds and returns a {@link Slice} of all {@link Entity entities} with an identifier greater than the given one.
+     * Used for keyset pagination, so that every slice costs the same independent of its position.
+     *
+     * @param identifier the identifier after which entities are returned
+     * @param pageable   the size and sort order of the slice
+     * @return the slice of entities following the given identifier
+     */
+    public Slice<T> findByIdentifierGreaterThan(String identifier, Pageable pageable);
+
+    /**
+     * Streams all {@link Entity entities} from a database cursor.
+     * The returned {@link Stream} holds the cursor open and must be closed after consumption.
+     *
+     * @return a cursor backed stream of all entities
+     */
+    public Stream<T> streamAllBy();
+}
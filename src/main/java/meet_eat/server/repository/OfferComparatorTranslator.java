@@ -0,0 +1,102 @@
+package meet_eat.server.repository;
+
+import meet_eat.data.comparator.OfferComparableField;
+import meet_eat.data.comparator.OfferComparator;
+import meet_eat.data.entity.Offer;
+import meet_eat.data.location.SphericalLocation;
+import meet_eat.data.location.SphericalPosition;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a translator converting {@link OfferComparator offer comparators} into sort fields of persisted
+ * {@link Offer} documents. Comparators on fields which are not persisted within the offer document, e.g. the host's
+ * rating or the participant amount, are not translated and have to be evaluated in memory. Comparators on the
+ * distance to a spherical position are translated into a {@code $nearSphere} query instead of a sort field.
+ */
+public class OfferComparatorTranslator {
+
+    private static final String ERROR_MESSAGE_UNKNOWN_SORT_FIELD = "The given sort field is not translatable.";
+
+    /**
+     * Translates an {@link OfferComparator} into the document field offers are sorted by.
+     *
+     * @param comparator the comparator to be translated
+     * @return the translated sort field or {@link Optional#empty()} if the comparator is not translatable
+     */
+    public Optional<String> translateSortField(OfferComparator comparator) {
+        OfferComparableField field = Objects.requireNonNull(comparator).getField();
+        if (Objects.isNull(field)) {
+            return Optional.empty();
+        }
+        switch (field) {
+            case PRICE:
+                return Optional.of(OfferPredicateTranslator.FIELD_PRICE);
+            case TIME:
+                return Optional.of(OfferPredicateTranslator.FIELD_DATE_TIME);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /**
+     * Translates an {@link OfferComparator} on the distance into the reference position offers are sorted by using a
+     * {@code $nearSphere} query.
+     *
+     * @param comparator the comparator to be translated
+     * @return the reference position or {@link Optional#empty()} if the comparator is not translatable
+     */
+    public Optional<SphericalPosition> translateNearPosition(OfferComparator comparator) {
+        Objects.requireNonNull(comparator);
+        if (comparator.getField() != OfferComparableField.DISTANCE
+                || !(comparator.getLocation() instanceof SphericalLocation)) {
+            return Optional.empty();
+        }
+        return Optional.of(((SphericalLocation) comparator.getLocation()).getSphericalPosition());
+    }
+
+    /**
+     * Gets the textual sort key of an {@link Offer offer} for a given sort field.
+     *
+     * @param offer     the offer to get the sort key from
+     * @param sortField the translated sort field
+     * @return the textual sort key
+     */
+    public String getSortKey(Offer offer, String sortField) {
+        Objects.requireNonNull(offer);
+        switch (Objects.requireNonNull(sortField)) {
+            case OfferPredicateTranslator.FIELD_PRICE:
+                return Double.toString(offer.getPrice());
+            case OfferPredicateTranslator.FIELD_DATE_TIME:
+                return offer.getDateTime().toString();
+            default:
+                throw new IllegalArgumentException(ERROR_MESSAGE_UNKNOWN_SORT_FIELD);
+        }
+    }
+
+    /**
+     * Parses a textual sort key into the value type of a given sort field.
+     *
+     * @param sortKey   the textual sort key
+     * @param sortField the translated sort field
+     * @return the parsed sort key
+     * @throws IllegalArgumentException if the sort key cannot be parsed
+     */
+    public Object parseSortKey(String sortKey, String sortField) {
+        Objects.requireNonNull(sortKey);
+        try {
+            switch (Objects.requireNonNull(sortField)) {
+                case OfferPredicateTranslator.FIELD_PRICE:
+                    return Double.valueOf(sortKey);
+                case OfferPredicateTranslator.FIELD_DATE_TIME:
+                    return LocalDateTime.parse(sortKey);
+                default:
+                    throw new IllegalArgumentException(ERROR_MESSAGE_UNKNOWN_SORT_FIELD);
+            }
+        } catch (RuntimeException exception) {
+            throw new IllegalArgumentException(exception.getMessage(), exception);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package meet_eat.server.repository;
+
+import meet_eat.data.entity.Offer;
+import meet_eat.data.location.SphericalLocation;
+import meet_eat.data.location.SphericalPosition;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a listener maintaining the GeoJSON position of persisted {@link Offer} documents. The position is
+ * derived from the {@link SphericalLocation} of an offer on every save, so that it can be covered by a 2dsphere index
+ * used for {@code $geoWithin} and {@code $nearSphere} queries.
+ */
+@Component
+public class OfferGeoPositionListener extends AbstractMongoEventListener<Offer> {
+
+    private static final String GEO_JSON_FIELD_TYPE = "type";
+    private static final String GEO_JSON_FIELD_COORDINATES = "coordinates";
+    private static final String GEO_JSON_TYPE_POINT = "Point";
+
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<Offer> event) {
+        Document document = event.getDocument();
+        if (Objects.isNull(document)) {
+            return;
+        }
+        Optional<Document> optionalGeoPosition = createGeoPosition(event.getSource());
+        if (optionalGeoPosition.isPresent()) {
+            document.put(OfferPredicateTranslator.FIELD_GEO_POSITION, optionalGeoPosition.get());
+        } else {
+            document.remove(OfferPredicateTranslator.FIELD_GEO_POSITION);
+        }
+    }
+
+    /**
+     * Creates the GeoJSON position of an {@link Offer offer}.
+     *
+     * @param offer the offer to be positioned
+     * @return the GeoJSON point of the offer or {@link Optional#empty()} if the offer is not located by a
+     * {@link SphericalLocation}
+     */
+    public Optional<Document> createGeoPosition(Offer offer) {
+        if (!(Objects.requireNonNull(offer).getLocation() instanceof SphericalLocation)) {
+            return Optional.empty();
+        }
+        SphericalPosition position = ((SphericalLocation) offer.getLocation()).getSphericalPosition();
+
+        // GeoJSON coordinates are ordered by longitude first.
+        return Optional.of(new Document()
+                .append(GEO_JSON_FIELD_TYPE, GEO_JSON_TYPE_POINT)
+                .append(GEO_JSON_FIELD_COORDINATES, List.of(position.getLongitude(), position.getLatitude())));
+    }
+}
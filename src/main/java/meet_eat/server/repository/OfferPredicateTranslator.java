@@ -0,0 +1,198 @@
+package meet_eat.server.repository;
+
+import meet_eat.data.entity.Offer;
+import meet_eat.data.location.Localizable;
+import meet_eat.data.location.SphericalLocation;
+import meet_eat.data.location.SphericalPosition;
+import meet_eat.data.predicate.OfferPredicate;
+import meet_eat.data.predicate.TagPredicate;
+import meet_eat.data.predicate.chrono.LocalDateTimePredicate;
+import meet_eat.data.predicate.numeric.DistancePredicate;
+import meet_eat.data.predicate.numeric.DoubleOperation;
+import meet_eat.data.predicate.numeric.PricePredicate;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a translator converting {@link OfferPredicate offer predicates} into MongoDB {@link Criteria criteria}.
+ * Predicates which cannot be expressed as a query on persisted {@link Offer} documents, e.g. predicates on the host's
+ * rating or the participant amount, are not translated and have to be evaluated in memory.
+ */
+public class OfferPredicateTranslator {
+
+    /**
+     * Represents the document field of an {@link Offer offer's} price.
+     */
+    public static final String FIELD_PRICE = "price";
+
+    /**
+     * Represents the document field of an {@link Offer offer's} date and time.
+     */
+    public static final String FIELD_DATE_TIME = "dateTime";
+
+    /**
+     * Represents the document field of an {@link Offer offer's} tags.
+     */
+    public static final String FIELD_TAGS = "tags";
+
+    /**
+     * Represents the document field of an {@link Offer offer's} spherical position.
+     */
+    public static final String FIELD_SPHERICAL_POSITION = "location.sphericalPosition";
+
+    /**
+     * Represents the document field of an {@link Offer offer's} spherical position as GeoJSON point, which is
+     * maintained by the {@link OfferGeoPositionListener} and covered by a 2dsphere index.
+     */
+    public static final String FIELD_GEO_POSITION = "geoPosition";
+
+    private static final double EARTH_RADIUS_KILOMETERS = 6371d;
+
+    /**
+     * Translates the given {@link OfferPredicate predicates} into a single conjunctive {@link Criteria}.
+     * Predicates that cannot be translated are ignored and do not narrow the resulting criteria.
+     *
+     * @param predicates the predicates to be translated
+     * @return the conjunction of all translatable predicates
+     */
+    public Criteria translate(Iterable<OfferPredicate> predicates) {
+        List<Criteria> criteriaList = new LinkedList<>();
+        for (OfferPredicate predicate : Objects.requireNonNull(predicates)) {
+            translate(predicate).ifPresent(criteriaList::add);
+        }
+
+        // An empty $and operator is rejected by MongoDB, therefore an empty criteria is returned in this case.
+        if (criteriaList.isEmpty()) {
+            return new Criteria();
+        }
+        return new Criteria().andOperator(criteriaList.toArray(new Criteria[0]));
+    }
+
+    /**
+     * Translates a single {@link OfferPredicate predicate} into a {@link Criteria}.
+     * The returned criteria is a necessary condition for the predicate, but is only sufficient if the predicate
+     * {@link #isExactlyTranslatable(OfferPredicate) is exactly translatable}.
+     *
+     * @param predicate the predicate to be translated
+     * @return the translated criteria or {@link Optional#empty()} if the predicate is not translatable
+     */
+    public Optional<Criteria> translate(OfferPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        if (predicate instanceof PricePredicate) {
+            PricePredicate pricePredicate = (PricePredicate) predicate;
+            return translateDoubleOperation(FIELD_PRICE, pricePredicate.getOperation(), pricePredicate.getReference());
+        } else if (predicate instanceof LocalDateTimePredicate) {
+            return translateDateTime((LocalDateTimePredicate) predicate);
+        } else if (predicate instanceof TagPredicate) {
+            return Optional.of(Criteria.where(FIELD_TAGS).all(((TagPredicate) predicate).getTags()));
+        } else if (predicate instanceof DistancePredicate) {
+            return translateDistance((DistancePredicate) predicate);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Signalizes whether an {@link OfferPredicate predicate} is completely expressed by its translated
+     * {@link Criteria}, so that it does not need to be evaluated in memory afterwards.
+     *
+     * @param predicate the predicate to be checked
+     * @return {@code true} if the predicate is exactly translatable, {@code false} otherwise.
+     */
+    public boolean isExactlyTranslatable(OfferPredicate predicate) {
+        // Distance predicates are only narrowed, as offers without GeoJSON position are kept for evaluation in memory.
+        return !(predicate instanceof DistancePredicate) && translate(predicate).isPresent();
+    }
+
+    /**
+     * Gets the {@link OfferPredicate predicates} which have to be evaluated in memory after querying the
+     * translated {@link Criteria}.
+     *
+     * @param predicates the predicates to be checked
+     * @return the predicates not exactly translatable into criteria
+     */
+    public List<OfferPredicate> getResidualPredicates(Iterable<OfferPredicate> predicates) {
+        List<OfferPredicate> residualPredicates = new LinkedList<>();
+        for (OfferPredicate predicate : Objects.requireNonNull(predicates)) {
+            if (!isExactlyTranslatable(predicate)) {
+                residualPredicates.add(predicate);
+            }
+        }
+        return residualPredicates;
+    }
+
+    /**
+     * Translates a {@link DoubleOperation} on a numeric document field into a {@link Criteria}.
+     *
+     * @param field     the document field to be compared
+     * @param operation the operation used for comparison
+     * @param reference the reference value of the comparison
+     * @return the translated criteria or {@link Optional#empty()} if the operation is not translatable
+     */
+    private Optional<Criteria> translateDoubleOperation(String field, DoubleOperation operation, Double reference) {
+        if (Objects.isNull(operation) || Objects.isNull(reference)) {
+            return Optional.empty();
+        }
+        switch (operation) {
+            case LESS:
+                return Optional.of(Criteria.where(field).lt(reference));
+            case EQUAL:
+                return Optional.of(Criteria.where(field).is(reference));
+            case GREATER:
+                return Optional.of(Criteria.where(field).gt(reference));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /**
+     * Translates a {@link LocalDateTimePredicate} into a {@link Criteria} on an {@link Offer offer's} date and time.
+     *
+     * @param predicate the predicate to be translated
+     * @return the translated criteria or {@link Optional#empty()} if the operation is not translatable
+     */
+    private Optional<Criteria> translateDateTime(LocalDateTimePredicate predicate) {
+        if (Objects.isNull(predicate.getOperation()) || Objects.isNull(predicate.getReference())) {
+            return Optional.empty();
+        }
+        switch (predicate.getOperation()) {
+            case BEFORE:
+                return Optional.of(Criteria.where(FIELD_DATE_TIME).lt(predicate.getReference()));
+            case EQUAL:
+                return Optional.of(Criteria.where(FIELD_DATE_TIME).is(predicate.getReference()));
+            case AFTER:
+                return Optional.of(Criteria.where(FIELD_DATE_TIME).gt(predicate.getReference()));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /**
+     * Translates a {@link DistancePredicate} into a {@code $geoWithin} {@link Criteria} selecting the offers within a
+     * sphere around its reference location. Offers without a persisted GeoJSON position are kept, because their
+     * distance is only known in memory.
+     *
+     * @param predicate the predicate to be translated
+     * @return the translated criteria or {@link Optional#empty()} if the predicate is not translatable
+     */
+    private Optional<Criteria> translateDistance(DistancePredicate predicate) {
+        Localizable location = predicate.getLocation();
+        if (predicate.getOperation() != DoubleOperation.LESS || Objects.isNull(predicate.getReference())
+                || !(location instanceof SphericalLocation)) {
+            return Optional.empty();
+        }
+
+        // The radius of $centerSphere is expressed in radians.
+        SphericalPosition position = ((SphericalLocation) location).getSphericalPosition();
+        Circle sphere = new Circle(new Point(position.getLongitude(), position.getLatitude()),
+                predicate.getReference() / EARTH_RADIUS_KILOMETERS);
+        return Optional.of(new Criteria().orOperator(
+                Criteria.where(FIELD_GEO_POSITION).withinSphere(sphere),
+                Criteria.where(FIELD_GEO_POSITION).exists(false)));
+    }
+}
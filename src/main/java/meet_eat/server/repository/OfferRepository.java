@@ -2,14 +2,13 @@ package meet_eat.server.repository;
 
 import meet_eat.data.entity.Offer;
 import meet_eat.data.entity.user.User;
-import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 /**
  * Represents a repository managing persistence of {@link Offer} instances.
  */
 @Repository
-public interface OfferRepository extends MongoRepository<Offer, String> {
+public interface OfferRepository extends EntityRepository<Offer, String>, OfferRepositoryCustom {
 
     /**
      * Finds and returns an {@link Offer} containing a given {@link User creator}.
@@ -0,0 +1,129 @@
+package meet_eat.server.repository;
+
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.user.User;
+import meet_eat.data.location.SphericalPosition;
+import meet_eat.data.predicate.OfferPredicate;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * Represents a custom repository fragment of the {@link OfferRepository} providing queries based on
+ * {@link OfferPredicate offer predicates}.
+ */
+public interface OfferRepositoryCustom {
+
+    /**
+     * Finds and returns all {@link Offer offers} matching the translatable {@link OfferPredicate predicates}.
+     * Predicates that cannot be translated into a query do not restrict the returned offers.
+     *
+     * @param predicates the predicates the offers must match
+     * @return all offers matching the translatable predicates
+     * @see OfferPredicateTranslator
+     */
+    public Iterable<Offer> findByPredicates(Iterable<OfferPredicate> predicates);
+
+    /**
+     * Finds and returns all {@link Offer offers} of the given {@link User creators} matching the translatable
+     * {@link OfferPredicate predicates}.
+     * Predicates that cannot be translated into a query do not restrict the returned offers.
+     *
+     * @param creators   the creators of the offers
+     * @param predicates the predicates the offers must match
+     * @return all offers of the creators matching the translatable predicates
+     * @see OfferPredicateTranslator
+     */
+    public Iterable<Offer> findByCreatorsAndPredicates(Collection<User> creators, Iterable<OfferPredicate> predicates);
+
+    /**
+     * Finds and returns all identified {@link Offer offers} of the given {@link User creators} matching the
+     * translatable {@link OfferPredicate predicates}.
+     * Predicates that cannot be translated into a query do not restrict the returned offers.
+     *
+     * @param creators    the creators of the offers or {@code null} if the creator is not restricted
+     * @param identifiers the identifiers of the candidate offers
+     * @param predicates  the predicates the offers must match
+     * @return all identified offers of the creators matching the translatable predicates
+     * @see OfferPredicateTranslator
+     */
+    public Iterable<Offer> findByIdentifiersAndPredicates(Collection<User> creators, Collection<String> identifiers,
+                                                          Iterable<OfferPredicate> predicates);
+
+    /**
+     * Finds and returns a {@link Slice} of {@link Offer offers} matching the translatable
+     * {@link OfferPredicate predicates} using keyset pagination. The offers are sorted by the given sort field and
+     * their identifier, so that every slice costs the same independent of its position.
+     *
+     * @param creators   the creators of the offers or {@code null} if the creator is not restricted
+     * @param predicates the predicates the offers must match
+     * @param sortField  the document field to sort by or {@code null} if sorted by identifier only
+     * @param after      the continuation token of the previous slice or {@code null} for the first slice
+     * @param limit      the maximum number of offers within the slice
+     * @return the slice of offers following the continuation token
+     * @see OfferComparatorTranslator
+     */
+    public Slice<Offer> findByPredicates(Collection<User> creators, Iterable<OfferPredicate> predicates,
+                                         String sortField, ContinuationToken after, int limit);
+
+    /**
+     * Streams all {@link Offer offers} matching the translatable {@link OfferPredicate predicates} from a database
+     * cursor. The returned {@link Stream} holds the cursor open and must be closed after consumption.
+     *
+     * @param creators   the creators of the offers or {@code null} if the creator is not restricted
+     * @param predicates the predicates the offers must match
+     * @param sortField  the document field to sort by or {@code null} if the order is not relevant
+     * @return a cursor backed stream of the offers matching the translatable predicates
+     * @see OfferPredicateTranslator
+     */
+    public Stream<Offer> streamByPredicates(Collection<User> creators, Iterable<OfferPredicate> predicates, String sortField);
+
+    /**
+     * Streams all {@link Offer offers} with a persisted GeoJSON position matching the translatable
+     * {@link OfferPredicate predicates} nearest-first by their distance to a reference position. The returned
+     * {@link Stream} holds the cursor open and must be closed after consumption.
+     *
+     * @param creators   the creators of the offers or {@code null} if the creator is not restricted
+     * @param predicates the predicates the offers must match
+     * @param position   the reference position of the distance
+     * @return a cursor backed stream of the located offers sorted by distance
+     * @see OfferComparatorTranslator
+     */
+    public Stream<Offer> streamNearByPredicates(Collection<User> creators, Iterable<OfferPredicate> predicates,
+                                                SphericalPosition position);
+
+    /**
+     * Streams all {@link Offer offers} without a persisted GeoJSON position matching the translatable
+     * {@link OfferPredicate predicates}. These offers are not contained within the result of
+     * {@link #streamNearByPredicates}. The returned {@link Stream} holds the cursor open and must be closed after
+     * consumption.
+     *
+     * @param creators   the creators of the offers or {@code null} if the creator is not restricted
+     * @param predicates the predicates the offers must match
+     * @return a cursor backed stream of the offers without GeoJSON position
+     */
+    public Stream<Offer> streamUnlocatedByPredicates(Collection<User> creators, Iterable<OfferPredicate> predicates);
+
+    /**
+     * Finds and returns all {@link Offer offers} taking place after a given date and time and matching the
+     * translatable {@link OfferPredicate predicates}.
+     * Predicates that cannot be translated into a query do not restrict the returned offers.
+     *
+     * @param dateTime   the date and time the offers must take place after
+     * @param predicates the predicates the offers must match
+     * @return all upcoming offers matching the translatable predicates
+     * @see OfferPredicateTranslator
+     */
+    public Iterable<Offer> findByDateTimeAfterAndPredicates(LocalDateTime dateTime, Iterable<OfferPredicate> predicates);
+
+    /**
+     * Streams all {@link Offer offers} which took place before a given date and time from a database cursor. The
+     * returned {@link Stream} holds the cursor open and must be closed after consumption.
+     *
+     * @param dateTime the date and time the offers must have taken place before
+     * @return a cursor backed stream of the past offers
+     */
+    public Stream<Offer> streamByDateTimeBefore(LocalDateTime dateTime);
+}
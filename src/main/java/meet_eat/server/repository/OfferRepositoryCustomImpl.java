@@ -0,0 +1,178 @@
+package meet_eat.server.repository;
+
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.user.User;
+import meet_eat.data.location.SphericalPosition;
+import meet_eat.data.predicate.OfferPredicate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.StreamUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Represents the implementation of the {@link OfferRepositoryCustom} repository fragment.
+ */
+public class OfferRepositoryCustomImpl implements OfferRepositoryCustom {
+
+    private static final String FIELD_CREATOR = "creator";
+    private static final int CURSOR_BATCH_SIZE = 100;
+
+    private final MongoOperations mongoOperations;
+    private final OfferPredicateTranslator predicateTranslator;
+    private final OfferComparatorTranslator comparatorTranslator;
+
+    /**
+     * Constructs a new instance of {@link OfferRepositoryCustomImpl}.
+     *
+     * @param mongoOperations the operations used for querying {@link Offer} documents
+     */
+    @Autowired
+    public OfferRepositoryCustomImpl(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+        this.predicateTranslator = new OfferPredicateTranslator();
+        this.comparatorTranslator = new OfferComparatorTranslator();
+    }
+
+    @Override
+    public Iterable<Offer> findByPredicates(Iterable<OfferPredicate> predicates) {
+        Criteria criteria = predicateTranslator.translate(predicates);
+        return mongoOperations.find(new Query(criteria), Offer.class);
+    }
+
+    @Override
+    public Iterable<Offer> findByCreatorsAndPredicates(Collection<User> creators, Iterable<OfferPredicate> predicates) {
+        Criteria creatorCriteria = Criteria.where(FIELD_CREATOR).in(Objects.requireNonNull(creators));
+        Criteria criteria = new Criteria().andOperator(creatorCriteria, predicateTranslator.translate(predicates));
+        return mongoOperations.find(new Query(criteria), Offer.class);
+    }
+
+    @Override
+    public Iterable<Offer> findByIdentifiersAndPredicates(Collection<User> creators, Collection<String> identifiers,
+                                                          Iterable<OfferPredicate> predicates) {
+        Criteria identifierCriteria = Criteria.where(EntityRepository.PROPERTY_IDENTIFIER)
+                .in(Objects.requireNonNull(identifiers));
+        Criteria criteria = new Criteria().andOperator(identifierCriteria, createCriteria(creators, predicates));
+        return mongoOperations.find(new Query(criteria), Offer.class);
+    }
+
+    @Override
+    public Slice<Offer> findByPredicates(Collection<User> creators, Iterable<OfferPredicate> predicates,
+                                         String sortField, ContinuationToken after, int limit) {
+        List<Criteria> criteriaList = new LinkedList<>();
+        criteriaList.add(predicateTranslator.translate(predicates));
+        if (Objects.nonNull(creators)) {
+            criteriaList.add(Criteria.where(FIELD_CREATOR).in(creators));
+        }
+        if (Objects.nonNull(after)) {
+            criteriaList.add(createKeysetCriteria(sortField, after));
+        }
+
+        // Sort by the identifier as tiebreaker in order to get a total order on the offers.
+        Sort sort = Objects.isNull(sortField)
+                ? Sort.by(EntityRepository.PROPERTY_IDENTIFIER)
+                : Sort.by(sortField, EntityRepository.PROPERTY_IDENTIFIER);
+
+        // Query one additional offer to signalize whether a following slice exists.
+        Criteria criteria = new Criteria().andOperator(criteriaList.toArray(new Criteria[0]));
+        Query query = new Query(criteria).with(sort).limit(limit + 1);
+        List<Offer> offers = mongoOperations.find(query, Offer.class);
+        boolean hasNext = offers.size() > limit;
+        List<Offer> sliceContent = hasNext ? offers.subList(0, limit) : offers;
+        return new SliceImpl<>(sliceContent, PageRequest.of(0, limit, sort), hasNext);
+    }
+
+    @Override
+    public Stream<Offer> streamByPredicates(Collection<User> creators, Iterable<OfferPredicate> predicates,
+                                            String sortField) {
+        Query query = new Query(createCriteria(creators, predicates)).cursorBatchSize(CURSOR_BATCH_SIZE);
+        if (Objects.nonNull(sortField)) {
+            query.with(Sort.by(sortField, EntityRepository.PROPERTY_IDENTIFIER));
+        }
+        return StreamUtils.createStreamFromIterator(mongoOperations.stream(query, Offer.class));
+    }
+
+    @Override
+    public Stream<Offer> streamNearByPredicates(Collection<User> creators, Iterable<OfferPredicate> predicates,
+                                                SphericalPosition position) {
+        Objects.requireNonNull(position);
+        GeoJsonPoint point = new GeoJsonPoint(position.getLongitude(), position.getLatitude());
+
+        // $nearSphere must not be nested within logical operators, therefore it is added as top level criteria.
+        Query query = new Query(createCriteria(creators, predicates))
+                .addCriteria(Criteria.where(OfferPredicateTranslator.FIELD_GEO_POSITION).nearSphere(point))
+                .cursorBatchSize(CURSOR_BATCH_SIZE);
+        return StreamUtils.createStreamFromIterator(mongoOperations.stream(query, Offer.class));
+    }
+
+    @Override
+    public Stream<Offer> streamUnlocatedByPredicates(Collection<User> creators, Iterable<OfferPredicate> predicates) {
+        Criteria criteria = new Criteria().andOperator(createCriteria(creators, predicates),
+                Criteria.where(OfferPredicateTranslator.FIELD_GEO_POSITION).exists(false));
+        Query query = new Query(criteria).cursorBatchSize(CURSOR_BATCH_SIZE);
+        return StreamUtils.createStreamFromIterator(mongoOperations.stream(query, Offer.class));
+    }
+
+    @Override
+    public Iterable<Offer> findByDateTimeAfterAndPredicates(LocalDateTime dateTime, Iterable<OfferPredicate> predicates) {
+        Criteria dateTimeCriteria = Criteria.where(OfferPredicateTranslator.FIELD_DATE_TIME)
+                .gt(Objects.requireNonNull(dateTime));
+        Criteria criteria = new Criteria().andOperator(dateTimeCriteria, predicateTranslator.translate(predicates));
+        return mongoOperations.find(new Query(criteria), Offer.class);
+    }
+
+    @Override
+    public Stream<Offer> streamByDateTimeBefore(LocalDateTime dateTime) {
+        Criteria criteria = Criteria.where(OfferPredicateTranslator.FIELD_DATE_TIME).lt(Objects.requireNonNull(dateTime));
+        Query query = new Query(criteria).cursorBatchSize(CURSOR_BATCH_SIZE);
+        return StreamUtils.createStreamFromIterator(mongoOperations.stream(query, Offer.class));
+    }
+
+    /**
+     * Creates the {@link Criteria} selecting all offers of the given creators matching the translatable
+     * {@link OfferPredicate predicates}.
+     *
+     * @param creators   the creators of the offers or {@code null} if the creator is not restricted
+     * @param predicates the predicates the offers must match
+     * @return the criteria selecting the offers
+     */
+    private Criteria createCriteria(Collection<User> creators, Iterable<OfferPredicate> predicates) {
+        Criteria criteria = predicateTranslator.translate(predicates);
+        if (Objects.nonNull(creators)) {
+            criteria = new Criteria().andOperator(Criteria.where(FIELD_CREATOR).in(creators), criteria);
+        }
+        return criteria;
+    }
+
+    /**
+     * Creates the {@link Criteria} selecting all offers following a {@link ContinuationToken} within the sort order.
+     *
+     * @param sortField the document field to sort by or {@code null} if sorted by identifier only
+     * @param after     the continuation token of the previous slice
+     * @return the keyset criteria
+     */
+    private Criteria createKeysetCriteria(String sortField, ContinuationToken after) {
+        Criteria identifierCriteria = Criteria.where(EntityRepository.PROPERTY_IDENTIFIER).gt(after.getIdentifier());
+        if (Objects.isNull(sortField)) {
+            return identifierCriteria;
+        }
+
+        String sortKey = after.getSortKey().orElseThrow(IllegalArgumentException::new);
+        Object parsedSortKey = comparatorTranslator.parseSortKey(sortKey, sortField);
+        return new Criteria().orOperator(
+                Criteria.where(sortField).gt(parsedSortKey),
+                Criteria.where(sortField).is(parsedSortKey).and(EntityRepository.PROPERTY_IDENTIFIER).gt(after.getIdentifier()));
+    }
+}
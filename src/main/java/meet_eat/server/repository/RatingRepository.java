@@ -2,6 +2,7 @@ package meet_eat.server.repository;
 
 import meet_eat.data.entity.Offer;
 import meet_eat.data.entity.relation.rating.Rating;
+import meet_eat.data.entity.relation.rating.RatingBasis;
 import meet_eat.data.entity.user.User;
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +12,23 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface RatingRepository extends EntityRelationRepository<Rating, User, User, String> {
 
+    /**
+     * Finds all {@link Rating ratings} containing a specific {@link Offer offer}.
+     *
+     * @param offer the offer of the ratings to be found
+     * @return all ratings containing a specific offer
+     */
+    public Iterable<Rating> findByOffer(Offer offer);
+
+    /**
+     * Finds all {@link Rating ratings} targeting a specific {@link User user} with a specific {@link RatingBasis}.
+     *
+     * @param target the target user of the ratings to be found
+     * @param basis  the basis of the ratings to be found
+     * @return all ratings targeting a specific user with a specific basis
+     */
+    public Iterable<Rating> findByTargetAndBasis(User target, RatingBasis basis);
+
     /**
      * Deletes all {@link Rating ratings} containing a specific {@link Offer offer}.
      *
@@ -0,0 +1,67 @@
+package meet_eat.server.repository;
+
+import meet_eat.data.entity.Token;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Represents a listener maintaining the expiry of persisted {@link Token} documents. The expiry is set to the
+ * configured lifetime on every save and covered by a TTL index, so that abandoned tokens are removed from the
+ * collection. The expiry is not part of the token itself and is renewed by the
+ * {@link meet_eat.server.service.TokenService TokenService} while the token is in use.
+ */
+@Component
+public class TokenExpiryListener extends AbstractMongoEventListener<Token> {
+
+    /**
+     * Represents the document field of a token's expiry.
+     */
+    public static final String FIELD_EXPIRES_AT = "expiresAt";
+
+    /**
+     * Represents the number of seconds after their expiry the TTL index removes tokens which have not been purged
+     * before.
+     */
+    public static final long TTL_INDEX_GRACE_SECONDS = 3600L;
+
+    private final long ttlMillis;
+
+    /**
+     * Constructs a new instance of {@link TokenExpiryListener}.
+     *
+     * @param ttlSeconds the number of seconds a token is valid after its last renewal
+     */
+    @Autowired
+    public TokenExpiryListener(@Value("${meet-eat.token-expiry.ttl-seconds:2592000}") long ttlSeconds) {
+        if (ttlSeconds <= 0L) {
+            throw new IllegalArgumentException("The token lifetime must be positive.");
+        }
+        this.ttlMillis = ttlSeconds * 1000L;
+    }
+
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<Token> event) {
+        Document document = event.getDocument();
+        if (Objects.isNull(document)) {
+            return;
+        }
+        document.put(FIELD_EXPIRES_AT, getExpiry(System.currentTimeMillis()));
+    }
+
+    /**
+     * Gets the expiry of a token saved or renewed at a given time.
+     *
+     * @param now the time of the save or renewal in milliseconds since the epoch
+     * @return the expiry of the token
+     */
+    public Date getExpiry(long now) {
+        return new Date(now + ttlMillis);
+    }
+}
@@ -2,14 +2,13 @@ package meet_eat.server.repository;
 
 import meet_eat.data.entity.Token;
 import meet_eat.data.entity.user.User;
-import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 /**
  * Represents a repository managing persistence of {@link Token} instances.
  */
 @Repository
-public interface TokenRepository extends MongoRepository<Token, String> {
+public interface TokenRepository extends EntityRepository<Token, String> {
 
     /**
      * Deletes all {@link Token tokens} containing a given {@link User user}.
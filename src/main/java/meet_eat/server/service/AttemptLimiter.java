@@ -0,0 +1,246 @@
+package meet_eat.server.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Striped;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a limiter of expensive unauthenticated attempts, such as logins and password resets, using a token
+ * bucket per key and {@link Scope scope}. Attempts are usually keyed by the targeted email address and the client
+ * address, so that neither a single account nor a single client can exceed the limit. The buckets are kept in memory
+ * and guarded by striped locks, so that checking an attempt neither contends on a global lock nor accesses the
+ * persistence layer.
+ * <p>
+ * In the optional shared mode, attempts passing the local buckets are additionally counted within fixed windows in a
+ * collection shared by all nodes. A window lasts as long as an empty bucket needs to refill, so that the limit holds
+ * across nodes as well.
+ */
+@Component
+public class AttemptLimiter {
+
+    /**
+     * Represents the kind of a limited attempt.
+     */
+    public enum Scope {
+        LOGIN,
+        PASSWORD_RESET
+    }
+
+    /**
+     * Represents the name of the collection containing the shared attempt windows.
+     */
+    public static final String COLLECTION_NAME = "attemptWindows";
+
+    /**
+     * Represents the document field of the time an attempt window may be removed at.
+     */
+    public static final String FIELD_EXPIRES_AT = "expiresAt";
+
+    private static final String FIELD_IDENTIFIER = "_id";
+    private static final String FIELD_COUNT = "count";
+    private static final String KEY_SEPARATOR = "\u0000";
+    private static final String METRIC_REJECTED = "meet_eat.attempts.rejected";
+    private static final String METRIC_TAG_SCOPE = "scope";
+    private static final int LOCK_STRIPES = 64;
+    private static final long BUCKET_IDLE_MINUTES = 60L;
+
+    private final MongoOperations mongoOperations;
+    private final boolean shared;
+    private final Map<Scope, Limit> limits = new EnumMap<>(Scope.class);
+    private final Map<Scope, Counter> rejectedCounters = new EnumMap<>(Scope.class);
+    private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+    private final Cache<String, Bucket> buckets;
+
+    /**
+     * Constructs a new instance of {@link AttemptLimiter}.
+     *
+     * @param mongoOperations              the operations used for the shared attempt windows
+     * @param meterRegistry                the registry the rejection metrics are registered at
+     * @param shared                       whether attempts are additionally limited across all nodes
+     * @param maximumBuckets               the maximum number of buckets kept in memory
+     * @param loginCapacity                the maximum number of consecutive login attempts per key
+     * @param loginRefillPerMinute         the number of login attempts per key regained per minute
+     * @param passwordResetCapacity        the maximum number of consecutive password reset attempts per key
+     * @param passwordResetRefillPerMinute the number of password reset attempts per key regained per minute
+     */
+    @Autowired
+    public AttemptLimiter(MongoOperations mongoOperations, MeterRegistry meterRegistry,
+                          @Value("${meet-eat.attempt-limit.shared:false}") boolean shared,
+                          @Value("${meet-eat.attempt-limit.maximum-buckets:100000}") long maximumBuckets,
+                          @Value("${meet-eat.attempt-limit.login.capacity:20}") int loginCapacity,
+                          @Value("${meet-eat.attempt-limit.login.refill-per-minute:10}")
+                                  double loginRefillPerMinute,
+                          @Value("${meet-eat.attempt-limit.password-reset.capacity:5}") int passwordResetCapacity,
+                          @Value("${meet-eat.attempt-limit.password-reset.refill-per-minute:1}")
+                                  double passwordResetRefillPerMinute) {
+        this.mongoOperations = mongoOperations;
+        this.shared = shared;
+        this.limits.put(Scope.LOGIN, new Limit(loginCapacity, loginRefillPerMinute));
+        this.limits.put(Scope.PASSWORD_RESET, new Limit(passwordResetCapacity, passwordResetRefillPerMinute));
+        for (Scope scope : Scope.values()) {
+            rejectedCounters.put(scope, Counter.builder(METRIC_REJECTED)
+                    .tag(METRIC_TAG_SCOPE, scope.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.buckets = CacheBuilder.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(BUCKET_IDLE_MINUTES, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Tries to acquire an attempt from the buckets of all given keys. The attempt is only taken from the buckets if
+     * each of them permits it.
+     *
+     * @param scope the kind of the attempt
+     * @param keys  the keys of the attempt, e.g. the email address and the client address; {@code null} keys are
+     *              ignored
+     * @return {@code true} if the attempt is permitted, {@code false} if it must be rejected
+     */
+    public boolean tryAcquire(Scope scope, String... keys) {
+        Objects.requireNonNull(scope);
+        Limit limit = limits.get(scope);
+        List<String> bucketKeys = Lists.newArrayList(keys).stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(key -> scope.name() + KEY_SEPARATOR + key)
+                .collect(Collectors.toList());
+        boolean isPermitted = tryAcquireLocally(bucketKeys, limit) && (!shared || tryAcquireShared(bucketKeys, limit));
+        if (!isPermitted) {
+            rejectedCounters.get(scope).increment();
+        }
+        return isPermitted;
+    }
+
+    /**
+     * Tries to acquire an attempt from the local buckets of the given keys. The locks of the keys are acquired in
+     * stripe order, so that concurrent attempts on overlapping keys cannot deadlock.
+     *
+     * @param bucketKeys the keys of the buckets
+     * @param limit      the limit of the buckets
+     * @return {@code true} if each bucket permits the attempt, {@code false} otherwise.
+     */
+    private boolean tryAcquireLocally(List<String> bucketKeys, Limit limit) {
+        Iterable<Lock> bucketLocks = locks.bulkGet(bucketKeys);
+        bucketLocks.forEach(Lock::lock);
+        try {
+            long now = System.nanoTime();
+            List<Bucket> keyBuckets = Lists.newArrayListWithCapacity(bucketKeys.size());
+            for (String bucketKey : bucketKeys) {
+                Bucket bucket = buckets.get(bucketKey, () -> new Bucket(limit.capacity, now));
+                bucket.refill(limit, now);
+                if (bucket.tokens < 1d) {
+                    return false;
+                }
+                keyBuckets.add(bucket);
+            }
+            keyBuckets.forEach(bucket -> bucket.tokens--);
+            return true;
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException(exception.getCause());
+        } finally {
+            Lists.reverse(Lists.newArrayList(bucketLocks)).forEach(Lock::unlock);
+        }
+    }
+
+    /**
+     * Tries to acquire an attempt within the current shared windows of the given keys.
+     *
+     * @param bucketKeys the keys of the buckets
+     * @param limit      the limit of the buckets
+     * @return {@code true} if no window exceeds the capacity, {@code false} otherwise.
+     */
+    private boolean tryAcquireShared(List<String> bucketKeys, Limit limit) {
+        long now = System.currentTimeMillis();
+        long window = now / limit.windowMillis;
+        Date expiresAt = new Date((window + 1L) * limit.windowMillis);
+        boolean isPermitted = true;
+        for (String bucketKey : bucketKeys) {
+            Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(bucketKey + KEY_SEPARATOR + window));
+            Update update = new Update().inc(FIELD_COUNT, 1).setOnInsert(FIELD_EXPIRES_AT, expiresAt);
+            Document document = mongoOperations.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), Document.class, COLLECTION_NAME);
+            isPermitted &= Objects.nonNull(document) && document.getInteger(FIELD_COUNT, 0) <= limit.capacity;
+        }
+        return isPermitted;
+    }
+
+    /**
+     * Represents the capacity and refill rate of the buckets of a {@link Scope scope}.
+     */
+    private static class Limit {
+
+        private final int capacity;
+        private final double refillPerNano;
+        private final long windowMillis;
+
+        /**
+         * Constructs a new instance of {@link Limit}.
+         *
+         * @param capacity        the maximum number of consecutive attempts
+         * @param refillPerMinute the number of attempts regained per minute
+         */
+        private Limit(int capacity, double refillPerMinute) {
+            if (capacity <= 0 || refillPerMinute <= 0d) {
+                throw new IllegalArgumentException("The capacity and the refill rate must be positive.");
+            }
+            this.capacity = capacity;
+            this.refillPerNano = refillPerMinute / TimeUnit.MINUTES.toNanos(1L);
+            this.windowMillis = Math.max(1L, (long) (capacity / refillPerMinute * TimeUnit.MINUTES.toMillis(1L)));
+        }
+    }
+
+    /**
+     * Represents the token bucket of a key. Buckets must only be accessed while holding the lock of their key.
+     */
+    private static class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        /**
+         * Constructs a new instance of {@link Bucket}.
+         *
+         * @param tokens     the initial number of tokens
+         * @param refilledAt the time of the initial fill in nanoseconds
+         */
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        /**
+         * Adds the tokens regained since the last refill.
+         *
+         * @param limit the limit of the bucket
+         * @param now   the current time in nanoseconds
+         */
+        private void refill(Limit limit, long now) {
+            tokens = Math.min(limit.capacity, tokens + (now - refilledAt) * limit.refillPerNano);
+            refilledAt = now;
+        }
+    }
+}
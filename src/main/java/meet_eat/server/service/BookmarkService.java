@@ -17,17 +17,22 @@ import java.util.Optional;
 @Service
 public class BookmarkService extends EntityRelationService<Bookmark, User, Offer, String, BookmarkRepository> {
 
+    private static final String COUNTER_NAME = "bookmarks";
+
     private final UserService userService;
 
     /**
      * Constructs a new instance of {@link BookmarkService}.
      *
-     * @param repository the repository used for persistence operations
+     * @param repository             the repository used for persistence operations
+     * @param userService            the service used for operations on and with {@link User} entities
+     * @param relationCounterService the service used for maintaining the bookmark counters per target
      */
     @Lazy
     @Autowired
-    public BookmarkService(BookmarkRepository repository, UserService userService) {
-        super(repository);
+    public BookmarkService(BookmarkRepository repository, UserService userService,
+                           RelationCounterService relationCounterService) {
+        super(repository, relationCounterService, COUNTER_NAME);
         this.userService = userService;
     }
 
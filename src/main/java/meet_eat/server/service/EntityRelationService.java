@@ -1,11 +1,21 @@
 package meet_eat.server.service;
 
+import com.google.common.collect.Iterables;
 import meet_eat.data.entity.Entity;
 import meet_eat.data.entity.relation.EntityRelation;
 import meet_eat.server.repository.EntityRelationRepository;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents a service class providing functionality to manage {@link EntityRelation entity relations} and their state
@@ -21,13 +31,90 @@ public abstract class EntityRelationService<K extends EntityRelation<T, S, U>, T
         S extends Entity<?>, U extends Serializable, R extends EntityRelationRepository<K, T, S, U>>
         extends EntityService<K, U, R> {
 
+    private final RelationCounterService relationCounterService;
+    private final String targetCounterName;
+
     /**
      * Constructs a new instance of {@link EntityRelationService}.
      *
      * @param repository the repository used for persistence operations
      */
     protected EntityRelationService(R repository) {
+        this(repository, null, null);
+    }
+
+    /**
+     * Constructs a new instance of {@link EntityRelationService} maintaining a denormalized counter of the
+     * {@link EntityRelation relations} per {@link Entity target entity}.
+     *
+     * @param repository             the repository used for persistence operations
+     * @param relationCounterService the service used for counter persistence or {@code null} if not counting
+     * @param targetCounterName      the name of the relation counter or {@code null} if not counting
+     */
+    protected EntityRelationService(R repository, RelationCounterService relationCounterService,
+                                    String targetCounterName) {
         super(repository);
+        this.relationCounterService = relationCounterService;
+        this.targetCounterName = targetCounterName;
+    }
+
+    @Override
+    public K post(K entity) {
+        K postedEntity = super.post(entity);
+        incrementTargetCounter(postedEntity.getTarget(), 1L);
+        onRelationsModified();
+        return postedEntity;
+    }
+
+    @Override
+    public K put(K entity) {
+        if (!isCountingTargets()) {
+            K puttedEntity = super.put(entity);
+            onRelationsModified();
+            return puttedEntity;
+        }
+
+        // Move the counted relation if its target has been modified.
+        Optional<K> optionalPersistentEntity = Objects.isNull(entity.getIdentifier())
+                ? Optional.empty()
+                : getRepository().findById(entity.getIdentifier());
+        K puttedEntity = super.put(entity);
+        S previousTarget = optionalPersistentEntity.map(EntityRelation::getTarget).orElse(null);
+        if (!Objects.equals(previousTarget, puttedEntity.getTarget())) {
+            incrementTargetCounter(previousTarget, -1L);
+            incrementTargetCounter(puttedEntity.getTarget(), 1L);
+        }
+        onRelationsModified();
+        return puttedEntity;
+    }
+
+    @Override
+    public void delete(K entity) {
+        Objects.requireNonNull(entity);
+        if (!isTrackingRemovals()) {
+            super.delete(entity);
+            onRelationsModified();
+            return;
+        }
+
+        if (Objects.isNull(entity.getIdentifier())) {
+            super.delete(entity);
+            onRelationsModified();
+            return;
+        }
+        deleteTracked(entity.getIdentifier());
+    }
+
+    @Override
+    public void delete(U identifier) {
+        Objects.requireNonNull(identifier);
+        if (!isTrackingRemovals()) {
+            super.delete(identifier);
+            onRelationsModified();
+            return;
+        }
+
+        deleteTracked(identifier);
     }
 
     /**
@@ -67,7 +154,35 @@ public abstract class EntityRelationService<K extends EntityRelation<T, S, U>, T
      * @return the number of relations containing a specific target entity
      */
     public long countByTarget(S target) {
-        return getRepository().countByTarget(Objects.requireNonNull(target));
+        Objects.requireNonNull(target);
+        if (isCountingTargets()) {
+            return relationCounterService.find(targetCounterName, target).orElseGet(() -> seedTargetCounter(target));
+        }
+        return getRepository().countByTarget(target);
+    }
+
+    /**
+     * Gets the numbers of {@link EntityRelation relations} containing specific {@link Entity target entities}.
+     * If this service counts relations, all existing counters are read within a single query.
+     *
+     * @param targets the target entities of the relations to be counted
+     * @return the numbers of relations by target identifier
+     */
+    public Map<String, Long> countByTargets(Collection<S> targets) {
+        Map<String, Long> counts = new HashMap<>();
+        if (!isCountingTargets()) {
+            for (S target : Objects.requireNonNull(targets)) {
+                counts.put(target.getIdentifier().toString(), getRepository().countByTarget(target));
+            }
+            return counts;
+        }
+        Map<String, S> targetsByIdentifier = targets.stream()
+                .collect(Collectors.toMap(target -> target.getIdentifier().toString(), target -> target,
+                        (target, duplicate) -> target));
+        counts.putAll(relationCounterService.getAll(targetCounterName, targetsByIdentifier.keySet()));
+        targetsByIdentifier.forEach((targetIdentifier, target) ->
+                counts.computeIfAbsent(targetIdentifier, missingIdentifier -> seedTargetCounter(target)));
+        return counts;
     }
 
     /**
@@ -76,7 +191,15 @@ public abstract class EntityRelationService<K extends EntityRelation<T, S, U>, T
      * @param source the source entity of the relations to be deleted
      */
     public void deleteBySource(T source) {
-        getRepository().deleteBySource(Objects.requireNonNull(source));
+        Objects.requireNonNull(source);
+        if (isTrackingRemovals()) {
+            deleteEach(getBySource(source));
+        }
+
+        // Relations posted concurrently are removed as well and left to the repair of the counters.
+        getRepository().deleteBySource(source);
+        incrementAllVersions();
+        onRelationsModified();
     }
 
     /**
@@ -86,6 +209,11 @@ public abstract class EntityRelationService<K extends EntityRelation<T, S, U>, T
      */
     public void deleteByTarget(S target) {
         getRepository().deleteByTarget(Objects.requireNonNull(target));
+        if (isCountingTargets()) {
+            relationCounterService.reset(targetCounterName, target);
+        }
+        incrementAllVersions();
+        onRelationsModified();
     }
 
     /**
@@ -96,7 +224,15 @@ public abstract class EntityRelationService<K extends EntityRelation<T, S, U>, T
      * @param target the target entity of the relation to be deleted
      */
     public void deleteBySourceAndTarget(T source, S target) {
-        getRepository().deleteBySourceAndTarget(Objects.requireNonNull(source), Objects.requireNonNull(target));
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(target);
+        // Only relations actually removed by this call may be decremented, concurrent calls remove each at most once.
+        long deletedRelations = getRepository().deleteBySourceAndTarget(source, target);
+        if (deletedRelations > 0L) {
+            incrementTargetCounter(target, -deletedRelations);
+        }
+        incrementAllVersions();
+        onRelationsModified();
     }
 
     /**
@@ -107,7 +243,19 @@ public abstract class EntityRelationService<K extends EntityRelation<T, S, U>, T
      * @param target the target entity of the relation to be deleted
      */
     public void deleteBySourceOrTarget(T source, S target) {
-        getRepository().deleteBySourceOrTarget(Objects.requireNonNull(source), Objects.requireNonNull(target));
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(target);
+
+        // Relations containing the target are covered by resetting the target's counter.
+        if (isTrackingRemovals()) {
+            deleteEach(Iterables.filter(getBySource(source), relation -> !target.equals(relation.getTarget())));
+        }
+        getRepository().deleteBySourceOrTarget(source, target);
+        if (isCountingTargets()) {
+            relationCounterService.reset(targetCounterName, target);
+        }
+        incrementAllVersions();
+        onRelationsModified();
     }
 
     /**
@@ -121,4 +269,122 @@ public abstract class EntityRelationService<K extends EntityRelation<T, S, U>, T
     public boolean existsBySourceAndTarget(T source, S target) {
         return getRepository().existsBySourceAndTarget(Objects.requireNonNull(source), Objects.requireNonNull(target));
     }
+
+    /**
+     * Recomputes the denormalized counters of all {@link Entity target entities} from the persisted
+     * {@link EntityRelation relations}. Repairs counters diverged by e.g. failed or concurrent write operations.
+     * Each counter is counted right before it is written, so that a write operation concurrent to the repair is only
+     * overwritten within this short window instead of during the whole repair. Counters of targets without relations
+     * are swept afterwards.
+     */
+    public void repairTargetCounters() {
+        if (isCountingTargets()) {
+            String repairRun = UUID.randomUUID().toString();
+            Set<String> repairedTargets = new HashSet<>();
+            try (Stream<K> relations = getRepository().streamAllBy()) {
+                relations.map(EntityRelation::getTarget)
+                        .filter(Objects::nonNull)
+                        .filter(target -> repairedTargets.add(target.getIdentifier().toString()))
+                        .forEach(target -> relationCounterService.repair(targetCounterName, target,
+                                getRepository().countByTarget(target), repairRun));
+            }
+            relationCounterService.removeUnrepaired(targetCounterName, repairRun);
+        }
+        onRelationsModified();
+    }
+
+    /**
+     * Signalizes whether this service maintains a denormalized counter of {@link EntityRelation relations} per
+     * {@link Entity target entity}.
+     *
+     * @return {@code true} if the relations are counted per target, {@code false} otherwise.
+     */
+    protected boolean isCountingTargets() {
+        return Objects.nonNull(relationCounterService) && Objects.nonNull(targetCounterName);
+    }
+
+    /**
+     * Signalizes whether each {@link EntityRelation relation} removed by this service must be passed to
+     * {@link #onRelationRemoved(EntityRelation)}. If so, relations are deleted one by one, so that only relations
+     * actually removed by a call are passed and concurrent deletions of the same relation pass it once.
+     *
+     * @return {@code true} if removed relations are tracked, {@code false} otherwise.
+     */
+    protected boolean isTrackingRemovals() {
+        return isCountingTargets();
+    }
+
+    /**
+     * Is called for each {@link EntityRelation relation} removed by this service if removals are tracked. Decrements
+     * the counter of the relation's {@link Entity target entity} by default.
+     *
+     * @param relation the removed relation
+     */
+    protected void onRelationRemoved(K relation) {
+        incrementTargetCounter(relation.getTarget(), -1L);
+    }
+
+    /**
+     * Deletes the given {@link EntityRelation relations} one by one. Only the relations actually removed by this
+     * call are passed to {@link #onRelationRemoved(EntityRelation)}.
+     *
+     * @param relations the relations to be deleted
+     */
+    protected void deleteEach(Iterable<K> relations) {
+        for (K relation : relations) {
+            if (getRepository().deleteByIdentifier(relation.getIdentifier()) == 1L) {
+                onRelationRemoved(relation);
+            }
+            removeVersion(relation.getIdentifier());
+        }
+    }
+
+    /**
+     * Is called after every write operation modifying the persisted {@link EntityRelation relations} of this service.
+     * Allows subclasses to invalidate state derived from the relations. Does nothing by default.
+     */
+    protected void onRelationsModified() {
+        // Nothing to invalidate by default.
+    }
+
+    /**
+     * Deletes a tracked {@link EntityRelation relation} by its identifier. The relation is only passed to
+     * {@link #onRelationRemoved(EntityRelation)} if it has actually been removed by this call, so that concurrent
+     * deletions of the same relation pass it once.
+     *
+     * @param identifier the identifier of the relation to be deleted
+     */
+    private void deleteTracked(U identifier) {
+        Optional<K> optionalPersistentEntity = getRepository().findById(identifier);
+        if (getRepository().deleteByIdentifier(identifier) == 1L) {
+            optionalPersistentEntity.ifPresent(this::onRelationRemoved);
+        }
+        removeVersion(identifier);
+        onRelationsModified();
+    }
+
+    /**
+     * Adds a delta to the counter of a {@link Entity target entity} if this service counts relations. A missing
+     * counter is seeded from the persisted relations, which already include the counted write operation.
+     *
+     * @param target the target entity of the counted relations
+     * @param delta  the delta to be added
+     */
+    private void incrementTargetCounter(S target, long delta) {
+        if (isCountingTargets() && Objects.nonNull(target)
+                && relationCounterService.incrementIfPresent(targetCounterName, target, delta).isEmpty()) {
+            seedTargetCounter(target);
+        }
+    }
+
+    /**
+     * Seeds the missing counter of a {@link Entity target entity} with the number of its persisted
+     * {@link EntityRelation relations}, e.g. for relations persisted before they have been counted.
+     *
+     * @param target the target entity of the counted relations
+     * @return the value of the counter after seeding
+     */
+    private long seedTargetCounter(S target) {
+        return relationCounterService.seed(targetCounterName, target, getRepository().countByTarget(target));
+    }
 }
@@ -1,10 +1,20 @@
 package meet_eat.server.service;
 
 import meet_eat.data.entity.Entity;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import meet_eat.server.repository.ContinuationToken;
+import meet_eat.server.repository.EntityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -16,9 +26,11 @@ import java.util.Optional;
  * @param <K> the repository type to manage entity persistence
  */
 @Service
-public abstract class EntityService<T extends Entity<U>, U extends Serializable, K extends MongoRepository<T, U>> {
+public abstract class EntityService<T extends Entity<U>, U extends Serializable, K extends EntityRepository<T, U>> {
 
     private final K repository;
+    private final Class<?> entityClass;
+    private EntityVersionService versionService;
 
     /**
      * Constructs a new instance of {@link EntityService}.
@@ -27,6 +39,20 @@ public abstract class EntityService<T extends Entity<U>, U extends Serializable,
      */
     protected EntityService(K repository) {
         this.repository = repository;
+        Class<?>[] typeArguments = GenericTypeResolver
+                .resolveTypeArguments(ClassUtils.getUserClass(getClass()), EntityService.class);
+        this.entityClass = Objects.isNull(typeArguments) ? Entity.class : typeArguments[0];
+    }
+
+    /**
+     * Sets the service used for tracking the versions of the managed {@link Entity entities}. The service is injected
+     * by setter, so that the constructors of all entity services remain unchanged.
+     *
+     * @param versionService the service used for tracking entity versions
+     */
+    @Autowired
+    public void setVersionService(EntityVersionService versionService) {
+        this.versionService = versionService;
     }
 
     /**
@@ -48,6 +74,21 @@ public abstract class EntityService<T extends Entity<U>, U extends Serializable,
         return repository.findAll();
     }
 
+    /**
+     * Gets a {@link Slice} of {@link Entity entities} ordered by their identifier using keyset pagination.
+     *
+     * @param limit the maximum number of entities within the slice
+     * @param after the continuation token of the previous slice or {@code null} for the first slice
+     * @return the slice of entities following the continuation token.
+     */
+    public Slice<T> getAll(int limit, ContinuationToken after) {
+        Pageable pageable = PageRequest.of(0, limit, Sort.by(EntityRepository.PROPERTY_IDENTIFIER));
+        if (Objects.isNull(after)) {
+            return repository.findAllBy(pageable);
+        }
+        return repository.findByIdentifierGreaterThan(after.getIdentifier(), pageable);
+    }
+
     /**
      * Gets a specific {@link Entity} identified by the identifier.
      *
@@ -69,7 +110,9 @@ public abstract class EntityService<T extends Entity<U>, U extends Serializable,
         if (existsPostConflict(entity)) {
             throw new EntityConflictException();
         }
-        return repository.insert(entity);
+        T postedEntity = repository.insert(entity);
+        incrementVersion(postedEntity.getIdentifier());
+        return postedEntity;
     }
 
     /**
@@ -83,7 +126,9 @@ public abstract class EntityService<T extends Entity<U>, U extends Serializable,
         if (existsPutConflict(entity)) {
             throw new EntityConflictException();
         }
-        return repository.save(entity);
+        T puttedEntity = repository.save(entity);
+        incrementVersion(puttedEntity.getIdentifier());
+        return puttedEntity;
     }
 
     /**
@@ -93,6 +138,7 @@ public abstract class EntityService<T extends Entity<U>, U extends Serializable,
      */
     public void delete(T entity) {
         repository.delete(Objects.requireNonNull(entity));
+        removeVersion(entity.getIdentifier());
     }
 
     /**
@@ -102,6 +148,55 @@ public abstract class EntityService<T extends Entity<U>, U extends Serializable,
      */
     public void delete(U identifier) {
         repository.deleteById(Objects.requireNonNull(identifier));
+        removeVersion(identifier);
+    }
+
+    /**
+     * Gets the strong entity tag of the current representation of an {@link Entity} identified by the identifier.
+     * The tag is determined without accessing the repository and must be determined before the entity is read.
+     *
+     * @param identifier the identifier of the entity
+     * @return the quoted entity tag or {@link Optional#empty()} if versions are not tracked
+     */
+    public Optional<String> getEntityTag(U identifier) {
+        Objects.requireNonNull(identifier);
+        return Optional.ofNullable(versionService)
+                .filter(EntityVersionService::isEnabled)
+                .map(service -> service.getEntityTag(entityClass, identifier, getVersionDependencies()));
+    }
+
+    /**
+     * Gets the strong entity tag of the current representation of a listing of {@link Entity entities}. The tag is
+     * determined without accessing the repository and must be determined before the entities are read.
+     *
+     * @param parameters the parameters determining the listing
+     * @return the quoted entity tag or {@link Optional#empty()} if versions are not tracked or the parameters cannot
+     * be fingerprinted
+     */
+    public Optional<String> getCollectionTag(Object... parameters) {
+        return Optional.ofNullable(versionService)
+                .filter(EntityVersionService::isEnabled)
+                .flatMap(service -> service.getCollectionTag(getVersionDependencies(), parameters));
+    }
+
+    /**
+     * Gets the classes of all {@link Entity entities} whose writes may change the representation of the entities
+     * managed by this service, including the managed entity class itself.
+     *
+     * @return the classes of the entities the representations depend on
+     */
+    protected Collection<Class<?>> getVersionDependencies() {
+        return List.of(entityClass);
+    }
+
+    /**
+     * Records a bulk write of {@link Entity entities} bypassing the single entity write operations of this service,
+     * so that the entity tags of all managed entities change.
+     */
+    protected void incrementAllVersions() {
+        if (Objects.nonNull(versionService)) {
+            versionService.incrementAll(entityClass);
+        }
     }
 
     /**
@@ -132,4 +227,26 @@ public abstract class EntityService<T extends Entity<U>, U extends Serializable,
     public boolean existsPutConflict(T entity) {
         return false;
     }
+
+    /**
+     * Records the write of an {@link Entity} if versions are tracked.
+     *
+     * @param identifier the identifier of the written entity or {@code null} if not identified
+     */
+    private void incrementVersion(U identifier) {
+        if (Objects.nonNull(versionService) && Objects.nonNull(identifier)) {
+            versionService.increment(entityClass, identifier);
+        }
+    }
+
+    /**
+     * Records the deletion of an {@link Entity} if versions are tracked.
+     *
+     * @param identifier the identifier of the deleted entity or {@code null} if not identified
+     */
+    protected void removeVersion(U identifier) {
+        if (Objects.nonNull(versionService) && Objects.nonNull(identifier)) {
+            versionService.remove(entityClass, identifier);
+        }
+    }
 }
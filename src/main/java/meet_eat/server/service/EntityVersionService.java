@@ -0,0 +1,219 @@
+package meet_eat.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import meet_eat.data.entity.Entity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a service keeping track of the versions of {@link Entity entities} and their collections in order to
+ * derive strong entity tags for conditional requests. Every write operation advances a logical clock and records
+ * its value as version of the written entity and of its collection. Bulk operations, whose written entities are not
+ * known individually, record the value as bulk version of the collection, which is part of every entity tag of the
+ * collection.
+ * <p>
+ * The number of tracked entity versions is bounded. Entities whose version is evicted or deleted fall back to the
+ * removal floor of their collection, which is raised to the removed version, so that their previous tags never match
+ * again.
+ * <p>
+ * Versions are kept in memory and entity tags contain an epoch chosen on startup, so that tags of a previous run or
+ * of another instance never match. Since only writes of this node are recorded, entity tags are only supported for a
+ * single node. Therefore, they are disabled by default and must only be enabled if a single node writes the
+ * collections.
+ */
+@Component
+public class EntityVersionService {
+
+    private static final String EPOCH_SEPARATOR = "-";
+    private static final String KEY_SEPARATOR = "#";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String epoch = UUID.randomUUID().toString().replace(EPOCH_SEPARATOR, "");
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<Class<?>, Long> collectionVersions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Long> bulkVersions = new ConcurrentHashMap<>();
+    private final Map<String, Long> removalFloors = new ConcurrentHashMap<>();
+    private final Cache<String, Long> entityVersions;
+
+    /**
+     * Constructs a new instance of {@link EntityVersionService}.
+     *
+     * @param objectMapper          the mapper used for fingerprinting request parameters
+     * @param enabled               whether entity tags are derived, which requires a single node
+     * @param maximumEntityVersions the maximum number of tracked entity versions
+     */
+    @Autowired
+    public EntityVersionService(ObjectMapper objectMapper,
+                                @Value("${meet-eat.entity-tags.enabled:false}") boolean enabled,
+                                @Value("${meet-eat.entity-tags.maximum-entity-versions:100000}")
+                                        long maximumEntityVersions) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.entityVersions = CacheBuilder.newBuilder()
+                .maximumSize(maximumEntityVersions)
+                .removalListener(this::onEntityVersionRemoved)
+                .build();
+    }
+
+    /**
+     * Signalizes whether entity tags are derived.
+     *
+     * @return {@code true} if entity tags are enabled, {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records the write of an {@link Entity entity}. Must be called after the write has been persisted.
+     *
+     * @param entityClass the class of the written entity
+     * @param identifier  the identifier of the written entity
+     */
+    public void increment(Class<?> entityClass, Object identifier) {
+        Objects.requireNonNull(entityClass);
+        Objects.requireNonNull(identifier);
+        if (!enabled) {
+            return;
+        }
+        long version = clock.incrementAndGet();
+        entityVersions.asMap().merge(createEntityKey(entityClass, identifier), version, Math::max);
+        collectionVersions.merge(entityClass, version, Math::max);
+    }
+
+    /**
+     * Records the deletion of an {@link Entity entity}, which stops tracking its version. Must be called after the
+     * deletion has been persisted.
+     *
+     * @param entityClass the class of the deleted entity
+     * @param identifier  the identifier of the deleted entity
+     */
+    public void remove(Class<?> entityClass, Object identifier) {
+        Objects.requireNonNull(entityClass);
+        Objects.requireNonNull(identifier);
+        if (!enabled) {
+            return;
+        }
+        long version = clock.incrementAndGet();
+        removalFloors.merge(entityClass.getName(), version, Math::max);
+        entityVersions.invalidate(createEntityKey(entityClass, identifier));
+        collectionVersions.merge(entityClass, version, Math::max);
+    }
+
+    /**
+     * Records a bulk write of {@link Entity entities} of a collection, which changes the tags of all entities of the
+     * collection. Must be called after the write has been persisted.
+     *
+     * @param entityClass the class of the written entities
+     */
+    public void incrementAll(Class<?> entityClass) {
+        Objects.requireNonNull(entityClass);
+        if (!enabled) {
+            return;
+        }
+        long version = clock.incrementAndGet();
+        bulkVersions.merge(entityClass, version, Math::max);
+        collectionVersions.merge(entityClass, version, Math::max);
+    }
+
+    /**
+     * Gets the strong entity tag of an {@link Entity entity}. The tag must be determined before the entity is read,
+     * so that a concurrent write cannot be hidden behind it.
+     *
+     * @param entityClass  the class of the entity
+     * @param identifier   the identifier of the entity
+     * @param dependencies the classes of further entities contained within the representation of the entity
+     * @return the quoted entity tag
+     */
+    public String getEntityTag(Class<?> entityClass, Object identifier, Collection<Class<?>> dependencies) {
+        Long entityVersion = entityVersions.getIfPresent(createEntityKey(entityClass, identifier));
+        Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putString(entityClass.getName(), StandardCharsets.UTF_8)
+                .putString(identifier.toString(), StandardCharsets.UTF_8)
+                .putLong(Objects.nonNull(entityVersion)
+                        ? entityVersion
+                        : removalFloors.getOrDefault(entityClass.getName(), 0L))
+                .putLong(bulkVersions.getOrDefault(entityClass, 0L));
+        for (Class<?> dependency : dependencies) {
+            if (!dependency.equals(entityClass)) {
+                hasher.putLong(collectionVersions.getOrDefault(dependency, 0L));
+            }
+        }
+        return quote(hasher.hash().toString());
+    }
+
+    /**
+     * Gets the strong entity tag of a listing of {@link Entity entities}. The tag must be determined before the
+     * entities are read, so that a concurrent write cannot be hidden behind it.
+     *
+     * @param collections the classes of the entities contained within the listing
+     * @param parameters  the parameters determining the listing
+     * @return the quoted entity tag or {@link Optional#empty()} if the parameters cannot be fingerprinted
+     */
+    public Optional<String> getCollectionTag(Collection<Class<?>> collections, Object... parameters) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (Class<?> collection : collections) {
+            hasher.putString(collection.getName(), StandardCharsets.UTF_8)
+                    .putLong(collectionVersions.getOrDefault(collection, 0L));
+        }
+        try {
+            hasher.putString(objectMapper.writeValueAsString(Arrays.asList(parameters)), StandardCharsets.UTF_8);
+        } catch (JsonProcessingException exception) {
+            return Optional.empty();
+        }
+        return Optional.of(quote(hasher.hash().toString()));
+    }
+
+    /**
+     * Creates the key of an {@link Entity entity's} version.
+     *
+     * @param entityClass the class of the entity
+     * @param identifier  the identifier of the entity
+     * @return the key of the entity's version
+     */
+    private String createEntityKey(Class<?> entityClass, Object identifier) {
+        return entityClass.getName() + KEY_SEPARATOR + identifier;
+    }
+
+    /**
+     * Raises the removal floor of a collection to the version of an evicted {@link Entity entity}, so that the
+     * entity's tag does not fall back to a version it had before.
+     *
+     * @param notification the notification of the removed entity version
+     */
+    private void onEntityVersionRemoved(RemovalNotification<String, Long> notification) {
+        if (notification.wasEvicted() && Objects.nonNull(notification.getKey())
+                && Objects.nonNull(notification.getValue())) {
+            String className = notification.getKey().substring(0, notification.getKey().indexOf(KEY_SEPARATOR));
+            removalFloors.merge(className, notification.getValue(), Math::max);
+        }
+    }
+
+    /**
+     * Prefixes a hash with the epoch and quotes it as required for entity tags.
+     *
+     * @param hash the hash of the versions
+     * @return the quoted entity tag
+     */
+    private String quote(String hash) {
+        return "\"" + epoch + EPOCH_SEPARATOR + hash + "\"";
+    }
+}
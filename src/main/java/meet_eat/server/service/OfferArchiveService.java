@@ -0,0 +1,129 @@
+package meet_eat.server.service;
+
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.relation.Bookmark;
+import meet_eat.data.entity.relation.Participation;
+import meet_eat.data.entity.user.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a service class providing functionality to manage archived {@link Offer offers}. Past offers are moved
+ * into separate archive collections together with their {@link Participation participations} and
+ * {@link Bookmark bookmarks}, so that the collections of current offers and their indexes stay small while the
+ * history remains queryable.
+ */
+@Service
+public class OfferArchiveService {
+
+    /**
+     * Represents the name of the collection containing the archived offers.
+     */
+    public static final String COLLECTION_OFFERS = "offerArchive";
+
+    /**
+     * Represents the name of the collection containing the participations of archived offers.
+     */
+    public static final String COLLECTION_PARTICIPATIONS = "participationArchive";
+
+    /**
+     * Represents the name of the collection containing the bookmarks of archived offers.
+     */
+    public static final String COLLECTION_BOOKMARKS = "bookmarkArchive";
+
+    /**
+     * Represents the document field of an archived offer's creator.
+     */
+    public static final String FIELD_CREATOR = "creator";
+
+    /**
+     * Represents the document field of an archived relation's target.
+     */
+    public static final String FIELD_TARGET = "target";
+
+    private final MongoOperations mongoOperations;
+
+    /**
+     * Constructs a new instance of {@link OfferArchiveService}.
+     *
+     * @param mongoOperations the operations used for archive persistence
+     */
+    @Autowired
+    public OfferArchiveService(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    /**
+     * Archives an {@link Offer offer} together with its relations. Archiving is idempotent, so that an interrupted
+     * archiving can be repeated.
+     *
+     * @param offer          the offer to be archived
+     * @param participations the participations of the offer
+     * @param bookmarks      the bookmarks of the offer
+     */
+    public void archive(Offer offer, Iterable<Participation> participations, Iterable<Bookmark> bookmarks) {
+        Objects.requireNonNull(offer);
+        for (Participation participation : Objects.requireNonNull(participations)) {
+            mongoOperations.save(participation, COLLECTION_PARTICIPATIONS);
+        }
+        for (Bookmark bookmark : Objects.requireNonNull(bookmarks)) {
+            mongoOperations.save(bookmark, COLLECTION_BOOKMARKS);
+        }
+        mongoOperations.save(offer, COLLECTION_OFFERS);
+    }
+
+    /**
+     * Gets an archived {@link Offer offer} by its identifier.
+     *
+     * @param identifier the identifier of the offer
+     * @return the archived offer or {@link Optional#empty()} if there is no such archived offer
+     */
+    public Optional<Offer> get(String identifier) {
+        Objects.requireNonNull(identifier);
+        return Optional.ofNullable(mongoOperations.findById(identifier, Offer.class, COLLECTION_OFFERS));
+    }
+
+    /**
+     * Gets all archived {@link Offer offers} of a {@link User creator}.
+     *
+     * @param creator the creator of the offers
+     * @return the archived offers of the creator
+     */
+    public Iterable<Offer> getByCreator(User creator) {
+        Objects.requireNonNull(creator);
+        return mongoOperations.find(Query.query(Criteria.where(FIELD_CREATOR).is(creator)), Offer.class,
+                COLLECTION_OFFERS);
+    }
+
+    /**
+     * Gets all archived {@link Participation participations} of an archived {@link Offer offer}.
+     *
+     * @param offer the archived offer
+     * @return the archived participations of the offer
+     */
+    public Iterable<Participation> getParticipations(Offer offer) {
+        Objects.requireNonNull(offer);
+        return mongoOperations.find(Query.query(Criteria.where(FIELD_TARGET).is(offer)), Participation.class,
+                COLLECTION_PARTICIPATIONS);
+    }
+
+    /**
+     * Deletes all archived {@link Offer offers} of a {@link User creator} together with their archived relations.
+     *
+     * @param creator the creator of the offers
+     */
+    public void deleteByCreator(User creator) {
+        for (Offer offer : getByCreator(creator)) {
+            Query relationQuery = Query.query(Criteria.where(FIELD_TARGET).is(offer));
+            mongoOperations.remove(relationQuery, Participation.class, COLLECTION_PARTICIPATIONS);
+            mongoOperations.remove(relationQuery, Bookmark.class, COLLECTION_BOOKMARKS);
+        }
+        mongoOperations.remove(Query.query(Criteria.where(FIELD_CREATOR).is(creator)), Offer.class, COLLECTION_OFFERS);
+    }
+}
@@ -0,0 +1,46 @@
+package meet_eat.server.service;
+
+import meet_eat.data.entity.Offer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a scheduled task moving {@link Offer offers} older than a configurable horizon into the archive
+ * maintained by the {@link OfferArchiveService}.
+ */
+@Component
+public class OfferArchiveTask {
+
+    private final OfferService offerService;
+    private final long horizonDays;
+
+    /**
+     * Constructs a new instance of {@link OfferArchiveTask}.
+     *
+     * @param offerService the service archiving the offers
+     * @param horizonDays  the number of days after which past offers are archived
+     */
+    @Lazy
+    @Autowired
+    public OfferArchiveTask(OfferService offerService,
+                            @Value("${meet-eat.offer-archive.horizon-days:30}") long horizonDays) {
+        if (horizonDays < 0L) {
+            throw new IllegalArgumentException("The archive horizon must not be negative.");
+        }
+        this.offerService = offerService;
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * Archives all offers which took place before the horizon.
+     */
+    @Scheduled(cron = "${meet-eat.offer-archive.cron:0 30 4 * * *}")
+    public void archivePastOffers() {
+        offerService.archiveBefore(LocalDateTime.now().minusDays(horizonDays));
+    }
+}
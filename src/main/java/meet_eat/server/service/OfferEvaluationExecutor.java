@@ -0,0 +1,117 @@
+package meet_eat.server.service;
+
+import meet_eat.data.comparator.OfferComparator;
+import meet_eat.data.entity.Offer;
+import meet_eat.data.predicate.OfferPredicate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Represents an executor evaluating {@link OfferPredicate predicates} and {@link OfferComparator comparators} on
+ * lists of {@link Offer offers}. If the parallel mode is enabled, lists above a configurable size are filtered and
+ * sorted in parallel on a dedicated {@link ForkJoinPool}, so that request handling does not compete with other
+ * users of the common pool. Smaller lists are evaluated sequentially, as the parallel overhead exceeds the gain.
+ */
+@Component
+public class OfferEvaluationExecutor {
+
+    private final boolean parallel;
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new instance of {@link OfferEvaluationExecutor}.
+     *
+     * @param parallel    whether lists above the threshold are evaluated in parallel
+     * @param threshold   the minimum size of lists evaluated in parallel
+     * @param parallelism the parallelism of the dedicated pool or {@code 0} for the number of available processors
+     */
+    @Autowired
+    public OfferEvaluationExecutor(@Value("${meet-eat.offer-evaluation.parallel:false}") boolean parallel,
+                                   @Value("${meet-eat.offer-evaluation.threshold:10000}") int threshold,
+                                   @Value("${meet-eat.offer-evaluation.parallelism:0}") int parallelism) {
+        if (threshold < 0 || parallelism < 0) {
+            throw new IllegalArgumentException("The threshold and the parallelism must not be negative.");
+        }
+        this.parallel = parallel;
+        this.threshold = threshold;
+        this.pool = parallel
+                ? new ForkJoinPool(parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism)
+                : null;
+    }
+
+    /**
+     * Filters elements by a predicate preserving their order.
+     *
+     * @param elements  the elements to be filtered
+     * @param predicate the predicate the elements must match
+     * @param <T>       the type of the elements
+     * @return the elements matching the predicate
+     */
+    public <T> List<T> filter(List<T> elements, Predicate<? super T> predicate) {
+        Objects.requireNonNull(elements);
+        Objects.requireNonNull(predicate);
+        if (isParallel(elements.size())) {
+            return pool.submit(() -> elements.parallelStream()
+                    .filter(predicate)
+                    .collect(Collectors.<T>toList())).join();
+        }
+        return elements.stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sorts elements by a comparator. The sort is stable.
+     *
+     * @param elements   the elements to be sorted
+     * @param comparator the comparator used for sorting
+     * @param <T>        the type of the elements
+     * @return the sorted elements
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> sort(List<T> elements, Comparator<? super T> comparator) {
+        Objects.requireNonNull(elements);
+        Objects.requireNonNull(comparator);
+        if (isParallel(elements.size())) {
+            // Forks of the parallel sort are executed within the pool of the invoking worker thread.
+            T[] array = (T[]) elements.toArray();
+            pool.submit(() -> Arrays.parallelSort(array, comparator)).join();
+            return new ArrayList<>(Arrays.asList(array));
+        }
+        List<T> sortedElements = new ArrayList<>(elements);
+        sortedElements.sort(comparator);
+        return sortedElements;
+    }
+
+    /**
+     * Signalizes whether a list of a given size is evaluated in parallel.
+     *
+     * @param size the size of the list
+     * @return {@code true} if the list is evaluated in parallel, {@code false} otherwise.
+     */
+    public boolean isParallel(int size) {
+        return parallel && size >= threshold;
+    }
+
+    /**
+     * Shuts down the dedicated pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (Objects.nonNull(pool)) {
+            pool.shutdown();
+        }
+    }
+}
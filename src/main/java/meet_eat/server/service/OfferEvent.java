@@ -0,0 +1,131 @@
+package meet_eat.server.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.relation.Participation;
+
+import java.util.Objects;
+
+/**
+ * Represents a change of an {@link Offer offer} pushed to the subscribers of the {@link OfferEventService}. Events of
+ * created and updated offers contain the offer, events of deleted offers only the offer's identifier and events of
+ * changed {@link Participation participations} the current participation amount of the offer.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OfferEvent {
+
+    /**
+     * Represents the kind of change of an {@link Offer offer}.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        PARTICIPATION_AMOUNT
+    }
+
+    private final Type type;
+    private final Offer subject;
+    private final Integer participationAmount;
+
+    /**
+     * Constructs a new instance of {@link OfferEvent}.
+     *
+     * @param type                the kind of change
+     * @param subject             the changed offer
+     * @param participationAmount the participation amount of the offer or {@code null} if not changed
+     */
+    private OfferEvent(Type type, Offer subject, Integer participationAmount) {
+        this.type = Objects.requireNonNull(type);
+        this.subject = Objects.requireNonNull(subject);
+        this.participationAmount = participationAmount;
+    }
+
+    /**
+     * Creates an event of a created {@link Offer offer}.
+     *
+     * @param offer the created offer
+     * @return the event of the created offer
+     */
+    public static OfferEvent created(Offer offer) {
+        return new OfferEvent(Type.CREATED, offer, null);
+    }
+
+    /**
+     * Creates an event of an updated {@link Offer offer}.
+     *
+     * @param offer the updated offer
+     * @return the event of the updated offer
+     */
+    public static OfferEvent updated(Offer offer) {
+        return new OfferEvent(Type.UPDATED, offer, null);
+    }
+
+    /**
+     * Creates an event of a deleted {@link Offer offer}.
+     *
+     * @param offer the deleted offer
+     * @return the event of the deleted offer
+     */
+    public static OfferEvent deleted(Offer offer) {
+        return new OfferEvent(Type.DELETED, offer, null);
+    }
+
+    /**
+     * Creates an event of a changed participation amount of an {@link Offer offer}.
+     *
+     * @param offer               the offer
+     * @param participationAmount the current participation amount of the offer
+     * @return the event of the changed participation amount
+     */
+    public static OfferEvent participationAmount(Offer offer, int participationAmount) {
+        return new OfferEvent(Type.PARTICIPATION_AMOUNT, offer, participationAmount);
+    }
+
+    /**
+     * Gets the kind of change.
+     *
+     * @return the kind of change
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the identifier of the changed {@link Offer offer}.
+     *
+     * @return the identifier of the changed offer
+     */
+    public String getOfferIdentifier() {
+        return subject.getIdentifier();
+    }
+
+    /**
+     * Gets the created or updated {@link Offer offer}.
+     *
+     * @return the created or updated offer or {@code null} if the offer has been deleted or its participations changed
+     */
+    public Offer getOffer() {
+        return type == Type.CREATED || type == Type.UPDATED ? subject : null;
+    }
+
+    /**
+     * Gets the current participation amount of the {@link Offer offer}.
+     *
+     * @return the participation amount or {@code null} if the participations did not change
+     */
+    public Integer getParticipationAmount() {
+        return participationAmount;
+    }
+
+    /**
+     * Gets the changed {@link Offer offer} used for evaluating the filters of the subscribers.
+     *
+     * @return the changed offer
+     */
+    @JsonIgnore
+    public Offer getSubject() {
+        return subject;
+    }
+}
@@ -0,0 +1,135 @@
+package meet_eat.server.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.Tag;
+import meet_eat.data.entity.relation.Participation;
+import meet_eat.data.location.SphericalLocation;
+import meet_eat.data.location.SphericalPosition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Represents a service pushing {@link OfferEvent changes} of {@link Offer offers} and their
+ * {@link Participation participations} to subscribed clients instead of letting them poll. Events are filtered per
+ * subscriber and buffered per subscriber with a bounded buffer. If a subscriber does not keep up, its oldest
+ * buffered events are dropped, so that slow connections neither block the writing requests nor exhaust the heap.
+ * <p>
+ * Events are published by the services of this node only, so that subscribers are not notified of changes written
+ * by other nodes. Therefore, the events are complete in single-node deployments only.
+ */
+@Component
+public class OfferEventService {
+
+    private static final String METRIC_SUBSCRIBERS = "meet_eat.offers.events.subscribers";
+    private static final String METRIC_PUBLISHED = "meet_eat.offers.events.published";
+    private static final String METRIC_DROPPED = "meet_eat.offers.events.dropped";
+
+    private final int bufferSize;
+    private final Set<FluxSink<OfferEvent>> sinks = ConcurrentHashMap.newKeySet();
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+
+    /**
+     * Constructs a new instance of {@link OfferEventService}.
+     *
+     * @param meterRegistry the registry the event metrics are registered at
+     * @param bufferSize    the maximum number of buffered events per subscriber
+     */
+    @Autowired
+    public OfferEventService(MeterRegistry meterRegistry,
+                             @Value("${meet-eat.offer-events.buffer-size:256}") int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The buffer size must be positive.");
+        }
+        this.bufferSize = bufferSize;
+        this.publishedCounter = Counter.builder(METRIC_PUBLISHED).register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_DROPPED).register(meterRegistry);
+        Gauge.builder(METRIC_SUBSCRIBERS, sinks, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to the {@link OfferEvent events} matching a filter. The subscription ends when the returned
+     * {@link Flux} is cancelled.
+     *
+     * @param filter the filter the events must match
+     * @return a {@link Flux} emitting the matching events
+     */
+    public Flux<OfferEvent> subscribe(Predicate<OfferEvent> filter) {
+        Objects.requireNonNull(filter);
+        return Flux.<OfferEvent>create(sink -> {
+            sinks.add(sink);
+            sink.onDispose(() -> sinks.remove(sink));
+        }, FluxSink.OverflowStrategy.IGNORE)
+                .filter(filter)
+                .onBackpressureBuffer(bufferSize, droppedEvent -> droppedCounter.increment(),
+                        BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    /**
+     * Publishes an {@link OfferEvent event} to all subscribers.
+     *
+     * @param event the event to be published
+     */
+    public void publish(OfferEvent event) {
+        Objects.requireNonNull(event);
+        for (FluxSink<OfferEvent> sink : sinks) {
+            sink.next(event);
+        }
+        publishedCounter.increment();
+    }
+
+    /**
+     * Signalizes whether there are subscribers, so that publishers can skip computing events nobody receives.
+     *
+     * @return {@code true} if there are subscribers, {@code false} otherwise.
+     */
+    public boolean hasSubscribers() {
+        return !sinks.isEmpty();
+    }
+
+    /**
+     * Creates a filter of {@link OfferEvent events} by the changed {@link Offer offer}. Each given restriction must be
+     * matched by the offer.
+     *
+     * @param creatorIdentifier  the identifier of the offers' creator or {@code null} if not restricted
+     * @param center             the center of the area the offers must be located in or {@code null} if not restricted
+     * @param radiusInKilometers the radius of the area the offers must be located in
+     * @param tagIdentifiers     the identifiers of the tags of which the offers must have at least one attached or
+     *                           {@code null} if not restricted
+     * @return the filter of events
+     */
+    public static Predicate<OfferEvent> createFilter(String creatorIdentifier, SphericalPosition center,
+                                                     double radiusInKilometers, Collection<String> tagIdentifiers) {
+        Predicate<OfferEvent> filter = event -> true;
+        if (Objects.nonNull(creatorIdentifier)) {
+            filter = filter.and(event -> Objects.nonNull(event.getSubject().getCreator())
+                    && creatorIdentifier.equals(event.getSubject().getCreator().getIdentifier()));
+        }
+        if (Objects.nonNull(center)) {
+            filter = filter.and(event -> event.getSubject().getLocation() instanceof SphericalLocation
+                    && OfferSpatialIndex.getDistance(center, ((SphericalLocation) event.getSubject().getLocation())
+                    .getSphericalPosition()) <= radiusInKilometers);
+        }
+        if (Objects.nonNull(tagIdentifiers) && !tagIdentifiers.isEmpty()) {
+            Set<String> tagIdentifierSet = Set.copyOf(tagIdentifiers);
+            filter = filter.and(event -> Objects.nonNull(event.getSubject().getTags())
+                    && event.getSubject().getTags().stream()
+                    .map(Tag::getIdentifier)
+                    .anyMatch(tagIdentifierSet::contains));
+        }
+        return filter;
+    }
+}
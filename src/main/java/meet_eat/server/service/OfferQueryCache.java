@@ -0,0 +1,223 @@
+package meet_eat.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import meet_eat.data.comparator.OfferComparator;
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.relation.Participation;
+import meet_eat.data.entity.relation.Subscription;
+import meet_eat.data.entity.relation.rating.Rating;
+import meet_eat.data.predicate.OfferPredicate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Represents a cache of {@link Offer offer} listing results. The cache stores the identifiers of the listed offers
+ * keyed by the normalized {@link OfferPredicate predicates}, {@link OfferComparator comparator}, creator and
+ * subscriber of a listing. Entries are invalidated selectively by writes which may affect their result: offer
+ * writes invalidate the entries which may contain the written offer, {@link Participation participation} and
+ * {@link Rating rating} writes invalidate the entries depending on participation amounts or host ratings and
+ * {@link Subscription subscription} writes invalidate the entries of subscribers.
+ * <p>
+ * The cache is local to this node and is invalidated by the writes of this node only. In deployments with multiple
+ * nodes, a listing may therefore miss the writes of other nodes until it expires after the configured lifetime.
+ */
+@Component
+public class OfferQueryCache {
+
+    private static final String METRIC_NAME = "meet_eat.offers.query_cache";
+    private static final String METRIC_INVALIDATIONS = METRIC_NAME + ".invalidations";
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedListing> cache;
+    private final Counter invalidationCounter;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructs a new instance of {@link OfferQueryCache}.
+     *
+     * @param objectMapper  the mapper used for normalizing predicates and comparators
+     * @param meterRegistry the registry the cache metrics are registered at
+     * @param maximumSize   the maximum number of cached listings
+     * @param ttlSeconds    the number of seconds a listing is cached at most
+     */
+    @Autowired
+    public OfferQueryCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           @Value("${meet-eat.offer-query-cache.maximum-size:1000}") long maximumSize,
+                           @Value("${meet-eat.offer-query-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        this.invalidationCounter = Counter.builder(METRIC_INVALIDATIONS).register(meterRegistry);
+        GuavaCacheMetrics.monitor(meterRegistry, cache, METRIC_NAME);
+    }
+
+    /**
+     * Creates the normalized key of a listing. The order of the predicates does not affect the key.
+     *
+     * @param creatorIdentifier    the identifier of the offers' creator or {@code null}
+     * @param subscriberIdentifier the identifier of the subscriber or {@code null}
+     * @param predicates           the predicates of the listing
+     * @param comparator           the comparator of the listing or {@code null}
+     * @return the key of the listing or {@link Optional#empty()} if the listing cannot be normalized
+     */
+    public Optional<String> createKey(String creatorIdentifier, String subscriberIdentifier,
+                                      OfferPredicate[] predicates, OfferComparator comparator) {
+        Objects.requireNonNull(predicates);
+        try {
+            List<String> normalizedPredicates = new ArrayList<>(predicates.length);
+            for (OfferPredicate predicate : predicates) {
+                normalizedPredicates.add(objectMapper.writeValueAsString(predicate));
+            }
+            normalizedPredicates.sort(String::compareTo);
+            return Optional.of(String.join(KEY_SEPARATOR, Objects.toString(creatorIdentifier),
+                    Objects.toString(subscriberIdentifier), String.join(KEY_SEPARATOR, normalizedPredicates),
+                    objectMapper.writeValueAsString(comparator)));
+        } catch (JsonProcessingException exception) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Gets the current generation of the cache, which is incremented by every invalidation. A listing computed
+     * while the generation changed must not be cached.
+     *
+     * @return the current generation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Gets the identifiers of the offers of a cached listing.
+     *
+     * @param key the key of the listing
+     * @return the offer identifiers in listing order or {@link Optional#empty()} if the listing is not cached
+     */
+    public Optional<List<String>> get(String key) {
+        return Optional.ofNullable(cache.getIfPresent(Objects.requireNonNull(key)))
+                .map(listing -> listing.offerIdentifiers);
+    }
+
+    /**
+     * Caches a listing unless the cache has been invalidated since the listing was computed.
+     *
+     * @param key                   the key of the listing
+     * @param generation            the generation of the cache before the listing was computed
+     * @param offerIdentifiers      the identifiers of the listed offers in listing order
+     * @param creatorIdentifiers    the identifiers of the creators the listing is restricted to or {@code null} if
+     *                              the listing may contain offers of any creator
+     * @param isSubscriberListing   whether the listing depends on subscriptions
+     * @param isRelationDependent   whether the listing depends on participation amounts or host ratings
+     */
+    public void put(String key, long generation, List<String> offerIdentifiers, Set<String> creatorIdentifiers,
+                    boolean isSubscriberListing, boolean isRelationDependent) {
+        Objects.requireNonNull(key);
+        if (generation != this.generation.get()) {
+            return;
+        }
+        cache.put(key, new CachedListing(List.copyOf(offerIdentifiers),
+                Objects.isNull(creatorIdentifiers) ? null : Set.copyOf(creatorIdentifiers),
+                isSubscriberListing, isRelationDependent));
+
+        // An invalidation between the check above and the insertion must not be missed.
+        if (generation != this.generation.get()) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidates all listings which may contain a written {@link Offer offer}.
+     *
+     * @param offer the posted, modified or deleted offer
+     */
+    public void invalidateOffer(Offer offer) {
+        Objects.requireNonNull(offer);
+        String creatorIdentifier = Objects.isNull(offer.getCreator()) ? null : offer.getCreator().getIdentifier();
+        invalidateIf(listing -> Objects.isNull(listing.creatorIdentifiers)
+                || listing.creatorIdentifiers.contains(creatorIdentifier)
+                || listing.offerIdentifierSet.contains(offer.getIdentifier()));
+    }
+
+    /**
+     * Invalidates all listings depending on participation amounts or host ratings.
+     */
+    public void invalidateRelationDependent() {
+        invalidateIf(listing -> listing.isRelationDependent);
+    }
+
+    /**
+     * Invalidates all listings depending on subscriptions.
+     */
+    public void invalidateSubscriberListings() {
+        invalidateIf(listing -> listing.isSubscriberListing);
+    }
+
+    /**
+     * Invalidates all listings, e.g. after the offers have been modified bypassing the {@link OfferService}.
+     */
+    public void invalidateAll() {
+        invalidateIf(listing -> true);
+    }
+
+    /**
+     * Removes all listings matching a condition and increments the generation of the cache.
+     *
+     * @param condition the condition of the listings to be removed
+     */
+    private void invalidateIf(Predicate<CachedListing> condition) {
+        generation.incrementAndGet();
+        long sizeBefore = cache.size();
+        cache.asMap().values().removeIf(condition);
+        invalidationCounter.increment(Math.max(0L, sizeBefore - cache.size()));
+    }
+
+    /**
+     * Represents a cached listing together with the properties its invalidation depends on.
+     */
+    private static class CachedListing {
+
+        private final List<String> offerIdentifiers;
+        private final Set<String> offerIdentifierSet;
+        private final Set<String> creatorIdentifiers;
+        private final boolean isSubscriberListing;
+        private final boolean isRelationDependent;
+
+        /**
+         * Constructs a new instance of {@link CachedListing}.
+         *
+         * @param offerIdentifiers    the identifiers of the listed offers in listing order
+         * @param creatorIdentifiers  the identifiers of the creators the listing is restricted to or {@code null}
+         * @param isSubscriberListing whether the listing depends on subscriptions
+         * @param isRelationDependent whether the listing depends on participation amounts or host ratings
+         */
+        private CachedListing(List<String> offerIdentifiers, Set<String> creatorIdentifiers,
+                              boolean isSubscriberListing, boolean isRelationDependent) {
+            this.offerIdentifiers = offerIdentifiers;
+            // The listed offers are looked up by every offer write, which must not scan the listing order.
+            this.offerIdentifierSet = Set.copyOf(offerIdentifiers);
+            this.creatorIdentifiers = creatorIdentifiers;
+            this.isSubscriberListing = isSubscriberListing;
+            this.isRelationDependent = isRelationDependent;
+        }
+    }
+}
@@ -1,23 +1,53 @@
 package meet_eat.server.service;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
+import meet_eat.data.comparator.OfferComparator;
 import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.Tag;
+import meet_eat.data.entity.relation.Bookmark;
 import meet_eat.data.entity.relation.Participation;
 import meet_eat.data.entity.relation.Subscription;
 import meet_eat.data.entity.relation.rating.Rating;
 import meet_eat.data.entity.relation.rating.RatingBasis;
 import meet_eat.data.entity.user.User;
+import meet_eat.data.location.SphericalPosition;
+import meet_eat.data.predicate.OfferPredicate;
+import meet_eat.data.predicate.TagPredicate;
+import meet_eat.server.repository.ContinuationToken;
+import meet_eat.server.repository.OfferComparatorTranslator;
+import meet_eat.server.repository.OfferPredicateTranslator;
 import meet_eat.server.repository.OfferRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents a service class providing functionality to manage {@link Offer offers} and their state persistence.
@@ -25,12 +55,27 @@ import java.util.stream.Collectors;
 @Service
 public class OfferService extends EntityService<Offer, String, OfferRepository> {
 
+    private static final int STREAM_PREFETCH = 64;
+    private static final int MAX_SEARCH_BATCH_SIZE = 256;
+    private static final int MAX_TAG_CANDIDATES = 1000;
+    private static final double UNRATED_HOST_RATING = 0d;
+
     private final UserService userService;
     private final SubscriptionService subscriptionService;
     private final BookmarkService bookmarkService;
     private final ParticipationService participationService;
     private final ReportService reportService;
     private final RatingService ratingService;
+    private final OfferSpatialIndex spatialIndex;
+    private final OfferTextIndex textIndex;
+    private final OfferTagIndex tagIndex;
+    private final TimelineService timelineService;
+    private final OfferArchiveService archiveService;
+    private final OfferEvaluationExecutor evaluationExecutor;
+    private final OfferQueryCache queryCache;
+    private final OfferEventService eventService;
+    private final OfferPredicateTranslator predicateTranslator;
+    private final OfferComparatorTranslator comparatorTranslator;
 
     /**
      * Constructs a new instance of {@link OfferService}.
@@ -38,12 +83,23 @@ public class OfferService extends EntityService<Offer, String, OfferRepository>
      * @param offerRepository     the repository used for persistence operations
      * @param userService         the service used for operations on and with {@link User} entities
      * @param subscriptionService the service used for operations on and with {@link Subscription} entities
+     * @param spatialIndex        the in-memory spatial index of active offers kept current by this service
+     * @param textIndex           the in-memory inverted index of offer texts kept current by this service
+     * @param tagIndex            the in-memory bitmap index of offer tags kept current by this service
+     * @param timelineService     the service used for maintaining the timelines of subscribers
+     * @param archiveService      the service used for archiving past offers
+     * @param evaluationExecutor  the executor used for filtering and sorting offers in memory
+     * @param queryCache          the cache of offer listings invalidated by this service
+     * @param eventService        the service pushing offer changes to subscribed clients
      */
     @Lazy
     @Autowired
     public OfferService(OfferRepository offerRepository, UserService userService, SubscriptionService subscriptionService,
                         BookmarkService bookmarkService, ParticipationService participationService,
-                        ReportService reportService, RatingService ratingService) {
+                        ReportService reportService, RatingService ratingService, OfferSpatialIndex spatialIndex,
+                        OfferTextIndex textIndex, OfferTagIndex tagIndex, TimelineService timelineService,
+                        OfferArchiveService archiveService, OfferEvaluationExecutor evaluationExecutor,
+                        OfferQueryCache queryCache, OfferEventService eventService) {
         super(offerRepository);
         this.userService = userService;
         this.subscriptionService = subscriptionService;
@@ -51,6 +107,298 @@ public class OfferService extends EntityService<Offer, String, OfferRepository>
         this.participationService = participationService;
         this.reportService = reportService;
         this.ratingService = ratingService;
+        this.spatialIndex = spatialIndex;
+        this.textIndex = textIndex;
+        this.tagIndex = tagIndex;
+        this.timelineService = timelineService;
+        this.archiveService = archiveService;
+        this.evaluationExecutor = evaluationExecutor;
+        this.queryCache = queryCache;
+        this.eventService = eventService;
+        this.predicateTranslator = new OfferPredicateTranslator();
+        this.comparatorTranslator = new OfferComparatorTranslator();
+    }
+
+    /**
+     * Gets all {@link Offer offers} matching the given {@link OfferPredicate predicates}.
+     * Translatable predicates are evaluated by the repository, the remaining ones in memory on the reduced set.
+     *
+     * @param predicates the predicates the offers must match
+     * @return all offers matching the predicates
+     */
+    public Iterable<Offer> getAll(OfferPredicate[] predicates) {
+        List<OfferPredicate> predicateList = Arrays.asList(Objects.requireNonNull(predicates));
+        Iterable<Offer> offers = findByPredicates(null, predicateList);
+        return filter(offers, predicateTranslator.getResidualPredicates(predicateList));
+    }
+
+    /**
+     * Gets all {@link Offer offers} of the given {@link User creators} matching the given
+     * {@link OfferPredicate predicates} within a single query.
+     *
+     * @param creators   the creators of the offers
+     * @param predicates the predicates the offers must match
+     * @return all offers of the creators matching the predicates
+     */
+    public Iterable<Offer> getAll(Collection<User> creators, OfferPredicate[] predicates) {
+        Objects.requireNonNull(creators);
+        List<OfferPredicate> predicateList = Arrays.asList(Objects.requireNonNull(predicates));
+        if (creators.isEmpty()) {
+            return new LinkedList<>();
+        }
+        Iterable<Offer> offers = findByPredicates(creators, predicateList);
+        return filter(offers, predicateTranslator.getResidualPredicates(predicateList));
+    }
+
+    /**
+     * Gets the listing of all {@link Offer offers} of a creator and/or the subscribed users of a subscriber matching
+     * the given {@link OfferPredicate predicates} sorted by an {@link OfferComparator}. Listings are served from the
+     * {@link OfferQueryCache} if cached, so that repeated listings only read the listed offers by identifier.
+     * If an identified user cannot be found, an empty {@link Optional} is returned.
+     *
+     * @param creatorIdentifier    the identifier of an offer's creator or {@code null}
+     * @param subscriberIdentifier the identifier of a subscribing user or {@code null}
+     * @param predicates           the predicates the offers must match
+     * @param comparator           the comparator used for sorting or {@code null} if the order is not relevant
+     * @return the listed offers
+     */
+    public Optional<Iterable<Offer>> getListing(String creatorIdentifier, String subscriberIdentifier,
+                                                OfferPredicate[] predicates, OfferComparator comparator) {
+        Objects.requireNonNull(predicates);
+        Optional<String> optionalKey = queryCache.createKey(creatorIdentifier, subscriberIdentifier, predicates,
+                comparator);
+        Optional<List<String>> optionalIdentifiers = optionalKey.flatMap(queryCache::get);
+        if (optionalIdentifiers.isPresent()) {
+            return Optional.of(getAllInOrder(optionalIdentifiers.get()));
+        }
+
+        long generation = queryCache.getGeneration();
+        Optional<Iterable<Offer>> optionalOffers;
+        if (Objects.isNull(creatorIdentifier) && Objects.nonNull(subscriberIdentifier)) {
+            // The subscriber feed is read from the subscriber's timeline if timelines are enabled.
+            optionalOffers = getBySubscriberIdentifier(subscriberIdentifier, predicates);
+        } else if (Objects.nonNull(creatorIdentifier) || Objects.nonNull(subscriberIdentifier)) {
+            optionalOffers = getCreators(creatorIdentifier, subscriberIdentifier)
+                    .map(creators -> getAll(creators, predicates));
+        } else {
+            optionalOffers = Optional.of(getAll(predicates));
+        }
+        if (optionalOffers.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Offer> offers = Objects.isNull(comparator)
+                ? Lists.newArrayList(optionalOffers.get())
+                : sort(optionalOffers.get(), comparator);
+
+        // Participation amounts and host ratings are only read by residual predicates and untranslatable comparators.
+        if (optionalKey.isPresent()) {
+            boolean isRelationDependent = !predicateTranslator.getResidualPredicates(Arrays.asList(predicates)).isEmpty()
+                    || (Objects.nonNull(comparator) && comparatorTranslator.translateSortField(comparator).isEmpty());
+            Set<String> creatorIdentifiers = Objects.isNull(subscriberIdentifier) && Objects.nonNull(creatorIdentifier)
+                    ? Set.of(creatorIdentifier)
+                    : null;
+            List<String> offerIdentifiers = offers.stream()
+                    .map(Offer::getIdentifier)
+                    .collect(Collectors.toList());
+            queryCache.put(optionalKey.get(), generation, offerIdentifiers, creatorIdentifiers,
+                    Objects.nonNull(subscriberIdentifier), isRelationDependent);
+        }
+        return Optional.of(offers);
+    }
+
+    /**
+     * Gets a {@link Slice} of {@link Offer offers} matching the given {@link OfferPredicate predicates} using keyset
+     * pagination. If the {@link OfferComparator} can be translated into a sort field, sorting and pagination are
+     * done by the repository. Otherwise the first matching offers are selected in memory.
+     *
+     * @param creators   the creators of the offers or {@code null} if the creator is not restricted
+     * @param predicates the predicates the offers must match
+     * @param comparator the comparator used for sorting or {@code null} if sorted by identifier
+     * @param limit      the maximum number of offers within the slice
+     * @param after      the continuation token of the previous slice or {@code null} for the first slice
+     * @return the slice of offers following the continuation token
+     * @throws IllegalArgumentException if the continuation token does not fit the comparator
+     */
+    public Slice<Offer> getAll(Collection<User> creators, OfferPredicate[] predicates, OfferComparator comparator,
+                               int limit, ContinuationToken after) {
+        List<OfferPredicate> predicateList = Arrays.asList(Objects.requireNonNull(predicates));
+        Optional<String> optionalSortField = Objects.isNull(comparator)
+                ? Optional.empty()
+                : comparatorTranslator.translateSortField(comparator);
+        if (Objects.nonNull(comparator) && optionalSortField.isEmpty()) {
+            return getAllSortedInMemory(creators, predicateList, comparator, limit, after);
+        }
+
+        String sortField = optionalSortField.orElse(null);
+        List<OfferPredicate> residualPredicates = predicateTranslator.getResidualPredicates(predicateList);
+
+        // Query further slices until the limit is reached, as residual predicates may reduce a queried slice.
+        List<Offer> offers = new LinkedList<>();
+        ContinuationToken position = after;
+        boolean hasNext = true;
+        while (offers.size() < limit && hasNext) {
+            Slice<Offer> slice = getRepository().findByPredicates(creators, predicateList, sortField, position, limit);
+            prepareGetters(slice.getContent(), residualPredicates, null);
+            Iterator<Offer> offerIterator = slice.iterator();
+            while (offerIterator.hasNext() && offers.size() < limit) {
+                Offer offer = offerIterator.next();
+                position = createContinuationToken(offer, sortField);
+                if (residualPredicates.stream().allMatch(predicate -> predicate.test(offer))) {
+                    offers.add(offer);
+                }
+            }
+            hasNext = offerIterator.hasNext() || slice.hasNext();
+        }
+        return new SliceImpl<>(offers, PageRequest.of(0, limit), hasNext);
+    }
+
+    /**
+     * Streams all {@link Offer offers} matching the given {@link OfferPredicate predicates} from a database cursor
+     * with bounded buffering. Unsorted streams and streams sorted by a translatable {@link OfferComparator} are
+     * emitted as soon as the corresponding documents are read, so that the heap usage is independent of the
+     * number of offers. Streams sorted by the distance to a spherical position are read nearest-first from the
+     * database, only offers without persisted position are collected and merged into the stream. Other comparators
+     * require all offers to be collected before sorting.
+     *
+     * @param creators   the creators of the offers or {@code null} if the creator is not restricted
+     * @param predicates the predicates the offers must match
+     * @param comparator the comparator used for sorting or {@code null} if the order is not relevant
+     * @return a {@link Flux} emitting the matching offers
+     */
+    public Flux<Offer> stream(Collection<User> creators, OfferPredicate[] predicates, OfferComparator comparator) {
+        List<OfferPredicate> predicateList = Arrays.asList(Objects.requireNonNull(predicates));
+        List<OfferPredicate> residualPredicates = predicateTranslator.getResidualPredicates(predicateList);
+        Optional<String> optionalSortField = Objects.isNull(comparator)
+                ? Optional.empty()
+                : comparatorTranslator.translateSortField(comparator);
+        Optional<SphericalPosition> optionalNearPosition = Objects.isNull(comparator) || optionalSortField.isPresent()
+                ? Optional.empty()
+                : comparatorTranslator.translateNearPosition(comparator);
+
+        // Located offers are sorted by the database, the remaining ones are sorted in memory and merged.
+        if (optionalNearPosition.isPresent()) {
+            Flux<Offer> nearOffers = stream(() -> getRepository()
+                    .streamNearByPredicates(creators, predicateList, optionalNearPosition.get()), residualPredicates);
+            Flux<Offer> unlocatedOffers = stream(() -> getRepository()
+                    .streamUnlocatedByPredicates(creators, predicateList), residualPredicates)
+                    .collectList()
+                    .flatMapIterable(offerList -> sort(offerList, comparator));
+            return Flux.mergeOrdered(comparator, nearOffers, unlocatedOffers);
+        }
+
+        Flux<Offer> offers = stream(() -> getRepository()
+                .streamByPredicates(creators, predicateList, optionalSortField.orElse(null)), residualPredicates);
+        if (Objects.nonNull(comparator) && optionalSortField.isEmpty()) {
+            offers = offers.collectList().flatMapIterable(offerList -> sort(offerList, comparator));
+        }
+        return offers;
+    }
+
+    /**
+     * Sorts {@link Offer offers} in memory by an {@link OfferComparator}. The values not persisted within the offers
+     * are resolved for all offers before sorting instead of once per comparison.
+     *
+     * @param offers     the offers to be sorted
+     * @param comparator the comparator used for sorting
+     * @return the sorted offers
+     */
+    public List<Offer> sort(Iterable<Offer> offers, OfferComparator comparator) {
+        Objects.requireNonNull(comparator);
+        List<Offer> offerList = Lists.newArrayList(Objects.requireNonNull(offers));
+        prepareGetters(offerList, List.of(), comparator);
+        return evaluationExecutor.sort(offerList, comparator);
+    }
+
+    /**
+     * Signalizes whether {@link Offer offers} can be searched by their names and descriptions, which requires the
+     * in-memory text index to be enabled.
+     *
+     * @return {@code true} if full-text search is enabled, {@code false} otherwise.
+     */
+    public boolean isSearchEnabled() {
+        return textIndex.isEnabled();
+    }
+
+    /**
+     * Searches {@link Offer offers} whose names or descriptions contain all terms of a query, where a query term also
+     * matches the terms it is a prefix of. The offers are ranked by relevance and the given
+     * {@link OfferPredicate predicates} are evaluated in memory on batches of the ranked offers until the limit is
+     * reached. If full-text search is disabled, no offers are found.
+     *
+     * @param query      the query to be searched for
+     * @param predicates the predicates the offers must match
+     * @param limit      the maximum number of offers
+     * @return the matching offers, most relevant first
+     */
+    public List<Offer> search(String query, OfferPredicate[] predicates, int limit) {
+        Objects.requireNonNull(query);
+        List<OfferPredicate> predicateList = Arrays.asList(Objects.requireNonNull(predicates));
+        if (limit < 1) {
+            throw new IllegalArgumentException("The limit must be positive.");
+        }
+
+        List<Offer> offers = new LinkedList<>();
+        Iterator<List<String>> batchIterator = Iterables.partition(textIndex.search(query),
+                Math.min(Math.max(STREAM_PREFETCH, limit), MAX_SEARCH_BATCH_SIZE)).iterator();
+        while (offers.size() < limit && batchIterator.hasNext()) {
+            List<String> identifiers = batchIterator.next();
+            Map<String, Offer> offersByIdentifier = Streams.stream(getRepository().findAllById(identifiers))
+                    .collect(Collectors.toMap(Offer::getIdentifier, Function.identity()));
+
+            // The batch is restored in the order of relevance, as the repository does not preserve it.
+            List<Offer> batch = identifiers.stream()
+                    .map(offersByIdentifier::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            Iterator<Offer> offerIterator = filter(batch, predicateList).iterator();
+            while (offerIterator.hasNext() && offers.size() < limit) {
+                offers.add(offerIterator.next());
+            }
+        }
+        return offers;
+    }
+
+    /**
+     * Gets the {@link ContinuationToken} pointing behind a given {@link Offer offer} in the sort order of an
+     * {@link OfferComparator}.
+     *
+     * @param offer      the last offer of a slice
+     * @param comparator the comparator used for sorting or {@code null} if sorted by identifier
+     * @return the continuation token of the offer
+     */
+    public ContinuationToken getContinuationToken(Offer offer, OfferComparator comparator) {
+        String sortField = Objects.isNull(comparator)
+                ? null
+                : comparatorTranslator.translateSortField(comparator).orElse(null);
+        return createContinuationToken(offer, sortField);
+    }
+
+    /**
+     * Gets the {@link User creators} whose {@link Offer offers} are requested by a creator's identifier and/or a
+     * subscriber's identifier. The subscriber contributes all of its subscribed users.
+     * If an identified user cannot be found, an empty {@link Optional} is returned.
+     *
+     * @param creatorIdentifier    the identifier of an offer's creator or {@code null}
+     * @param subscriberIdentifier the identifier of a subscribing user or {@code null}
+     * @return the requested creators
+     */
+    public Optional<Set<User>> getCreators(String creatorIdentifier, String subscriberIdentifier) {
+        Set<User> creators = new HashSet<>();
+        if (Objects.nonNull(creatorIdentifier)) {
+            Optional<User> optionalCreator = userService.get(creatorIdentifier);
+            if (optionalCreator.isEmpty()) {
+                return Optional.empty();
+            }
+            creators.add(optionalCreator.get());
+        }
+        if (Objects.nonNull(subscriberIdentifier)) {
+            Optional<User> optionalSubscriber = userService.get(subscriberIdentifier);
+            if (optionalSubscriber.isEmpty()) {
+                return Optional.empty();
+            }
+            creators.addAll(subscriptionService.getSubscribedUsers(optionalSubscriber.get()));
+        }
+        return Optional.of(creators);
     }
 
     /**
@@ -74,6 +422,34 @@ public class OfferService extends EntityService<Offer, String, OfferRepository>
         return optionalCreator.map(this::getByCreator);
     }
 
+    @Override
+    public Offer post(Offer entity) {
+        Offer postedEntity = super.post(entity);
+        queryCache.invalidateOffer(postedEntity);
+        spatialIndex.put(postedEntity);
+        textIndex.put(postedEntity);
+        tagIndex.put(postedEntity);
+        if (timelineService.isEnabled() && Objects.nonNull(postedEntity.getCreator())) {
+            List<User> subscribers = Streams.stream(subscriptionService.getByTarget(postedEntity.getCreator()))
+                    .map(Subscription::getSource)
+                    .collect(Collectors.toList());
+            timelineService.append(postedEntity, subscribers);
+        }
+        eventService.publish(OfferEvent.created(postedEntity));
+        return postedEntity;
+    }
+
+    @Override
+    public Offer put(Offer entity) {
+        Offer puttedEntity = super.put(entity);
+        queryCache.invalidateOffer(puttedEntity);
+        spatialIndex.put(puttedEntity);
+        textIndex.put(puttedEntity);
+        tagIndex.put(puttedEntity);
+        eventService.publish(OfferEvent.updated(puttedEntity));
+        return puttedEntity;
+    }
+
     @Override
     public void delete(Offer entity) {
         Objects.requireNonNull(entity);
@@ -85,6 +461,11 @@ public class OfferService extends EntityService<Offer, String, OfferRepository>
         ratingService.deleteByOffer(entity);
 
         super.delete(entity);
+        queryCache.invalidateOffer(entity);
+        if (Objects.nonNull(entity.getIdentifier())) {
+            removeFromIndexes(entity.getIdentifier());
+            eventService.publish(OfferEvent.deleted(entity));
+        }
     }
 
     @Override
@@ -99,6 +480,127 @@ public class OfferService extends EntityService<Offer, String, OfferRepository>
         optionalOffer.ifPresent(ratingService::deleteByOffer);
 
         super.delete(identifier);
+        optionalOffer.ifPresent(queryCache::invalidateOffer);
+        removeFromIndexes(identifier);
+        optionalOffer.ifPresent(offer -> eventService.publish(OfferEvent.deleted(offer)));
+    }
+
+    /**
+     * Gets all {@link Offer offers} taking place in the future and matching the given
+     * {@link OfferPredicate predicates}. The date and time restriction is evaluated by the repository using the
+     * date and time index, so that past offers are not read.
+     *
+     * @param predicates the predicates the offers must match
+     * @return all upcoming offers matching the predicates
+     */
+    public Iterable<Offer> getUpcoming(OfferPredicate[] predicates) {
+        List<OfferPredicate> predicateList = Arrays.asList(Objects.requireNonNull(predicates));
+        Iterable<Offer> offers = getRepository().findByDateTimeAfterAndPredicates(LocalDateTime.now(), predicateList);
+        return filter(offers, predicateTranslator.getResidualPredicates(predicateList));
+    }
+
+    /**
+     * Moves all {@link Offer offers} which took place before a given date and time into the archive together with
+     * their {@link Participation participations} and {@link Bookmark bookmarks}. Reports and
+     * {@link Rating ratings} are kept, as the ratings make up the reputation of the offers' creators. The offers they
+     * refer to remain readable from the archive and are deleted together with the archived offers.
+     *
+     * @param dateTime the date and time the offers must have taken place before
+     * @return the number of archived offers
+     */
+    public int archiveBefore(LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime);
+        int archivedOffers = 0;
+        try (Stream<Offer> pastOffers = getRepository().streamByDateTimeBefore(dateTime)) {
+            Iterator<Offer> offerIterator = pastOffers.iterator();
+            while (offerIterator.hasNext()) {
+                Offer offer = offerIterator.next();
+
+                // The offer is copied before it is deleted, so that an interrupted archiving can be repeated.
+                archiveService.archive(offer, participationService.getByTarget(offer), bookmarkService.getByTarget(offer));
+                bookmarkService.deleteByTarget(offer);
+                participationService.deleteByTarget(offer);
+                super.delete(offer);
+                queryCache.invalidateOffer(offer);
+                removeFromIndexes(offer.getIdentifier());
+                eventService.publish(OfferEvent.deleted(offer));
+                archivedOffers++;
+            }
+        }
+        return archivedOffers;
+    }
+
+    /**
+     * Gets an archived {@link Offer offer} by its identifier.
+     *
+     * @param identifier the identifier of the archived offer
+     * @return the archived offer or {@link Optional#empty()} if there is no such archived offer
+     */
+    public Optional<Offer> getArchived(String identifier) {
+        return archiveService.get(identifier);
+    }
+
+    /**
+     * Gets all archived {@link Offer offers} of a {@link User creator} identified by its identifier.
+     *
+     * @param creatorId the identifier of the offers' creator
+     * @return the archived offers of the identified creator or {@link Optional#empty()} if there is no such creator
+     */
+    public Optional<Iterable<Offer>> getArchivedByCreatorId(String creatorId) {
+        Optional<User> optionalCreator = userService.get(creatorId);
+        return optionalCreator.map(archiveService::getByCreator);
+    }
+
+    /**
+     * Gets the archived {@link Participation participations} of an archived {@link Offer offer}.
+     *
+     * @param identifier the identifier of the archived offer
+     * @return the archived participations of the offer or {@link Optional#empty()} if there is no such archived
+     * offer
+     */
+    public Optional<Iterable<Participation>> getArchivedParticipations(String identifier) {
+        return archiveService.get(identifier).map(archiveService::getParticipations);
+    }
+
+    /**
+     * Gets the identifiers of all active {@link Offer offers} within a bounding box from the in-memory spatial index
+     * without accessing the persistence layer.
+     *
+     * @param south the southern latitude of the box
+     * @param west  the western longitude of the box
+     * @param north the northern latitude of the box
+     * @param east  the eastern longitude of the box
+     * @return the identifiers of the offers within the bounding box
+     * @see OfferSpatialIndex#getWithinBoundingBox
+     */
+    public List<String> getIdentifiersWithinBoundingBox(double south, double west, double north, double east) {
+        return spatialIndex.getWithinBoundingBox(south, west, north, east);
+    }
+
+    /**
+     * Gets the identifiers of all active {@link Offer offers} within a radius around a position from the in-memory
+     * spatial index without accessing the persistence layer.
+     *
+     * @param center             the reference position
+     * @param radiusInKilometers the maximum distance in kilometers
+     * @return the identifiers of the offers within the radius sorted nearest-first
+     * @see OfferSpatialIndex#getWithinRadius
+     */
+    public List<String> getIdentifiersWithinRadius(SphericalPosition center, double radiusInKilometers) {
+        return spatialIndex.getWithinRadius(center, radiusInKilometers);
+    }
+
+    /**
+     * Gets the identifiers of the active {@link Offer offers} nearest to a position from the in-memory spatial index
+     * without accessing the persistence layer.
+     *
+     * @param center the reference position
+     * @param amount the maximum number of offers
+     * @return the identifiers of the nearest offers sorted nearest-first
+     * @see OfferSpatialIndex#getNearest
+     */
+    public List<String> getNearestIdentifiers(SphericalPosition center, int amount) {
+        return spatialIndex.getNearest(center, amount);
     }
 
     /**
@@ -109,6 +611,13 @@ public class OfferService extends EntityService<Offer, String, OfferRepository>
     public void deleteByCreator(User creator) {
         Iterable<Offer> offers = getByCreator(creator);
         offers.forEach(this::delete);
+
+        // Reports and ratings of archived offers are kept by the archiving and therefore deleted here.
+        for (Offer archivedOffer : archiveService.getByCreator(creator)) {
+            reportService.deleteByTarget(archivedOffer);
+            ratingService.deleteByOffer(archivedOffer);
+        }
+        archiveService.deleteByCreator(creator);
     }
 
     /**
@@ -128,29 +637,32 @@ public class OfferService extends EntityService<Offer, String, OfferRepository>
      * @return offers of the subscribed users of an identified subscriber
      */
     public Optional<Iterable<Offer>> getBySubscriberIdentifier(String subscriberIdentifier) {
-        // Get "subscriber" user or return empty if not present.
-        Optional<User> optionalSubscriber = userService.get(subscriberIdentifier);
-        if (optionalSubscriber.isPresent()) {
-            Iterable<Offer> offers = new LinkedList<>();
-
-            // Get the subscription for every subscribed user.
-            Iterable<Subscription> subscriptions = subscriptionService.getBySource(optionalSubscriber.get());
+        return getBySubscriberIdentifier(subscriberIdentifier, new OfferPredicate[0]);
+    }
 
-            // Stream the subscribed users
-            List<User> subscribedUsers = Streams.stream(subscriptions)
-                    .map(Subscription::getTarget)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+    /**
+     * Gets {@link Offer offers} which were created by subscribed {@link User users} of a given user and match the
+     * given {@link OfferPredicate predicates}. If timelines are enabled, the offers are read from the subscriber's
+     * timeline, which only contains the latest offers of the subscribed users and is backfilled if missing.
+     *
+     * @param subscriberIdentifier the identifier of the subscriber
+     * @param predicates           the predicates the offers must match
+     * @return offers of the subscribed users of an identified subscriber matching the predicates
+     */
+    public Optional<Iterable<Offer>> getBySubscriberIdentifier(String subscriberIdentifier, OfferPredicate[] predicates) {
+        Objects.requireNonNull(subscriberIdentifier);
+        Objects.requireNonNull(predicates);
 
-            // Get the offers of the subscribed users
-            for (User subscribedUser : subscribedUsers) {
-                // Get offers of subscribed user and concat them.
-                Iterable<Offer> offersBySubscribed = getByCreator(subscribedUser);
-                offers = Iterables.concat(offers, offersBySubscribed);
-            }
-            return Optional.of(offers);
+        if (timelineService.isEnabled()) {
+            List<OfferPredicate> predicateList = Arrays.asList(predicates);
+            return userService.get(subscriberIdentifier)
+                    .map(subscriber -> timelineService.getOfferIdentifiers(subscriber,
+                            () -> subscriptionService.getSubscribedUsers(subscriber)))
+                    .map(offerIdentifiers -> filter(getRepository().findAllById(offerIdentifiers), predicateList));
         }
-        return Optional.empty();
+
+        // The offers of all subscribed users are queried at once instead of once per subscribed user.
+        return getCreators(null, subscriberIdentifier).map(creators -> getAll(creators, predicates));
     }
 
     /**
@@ -178,4 +690,282 @@ public class OfferService extends EntityService<Offer, String, OfferRepository>
     public boolean existsPutConflict(Offer entity) {
         return entity.getMaxParticipants() < getParticipationAmount(entity);
     }
+
+    /**
+     * Gets the classes of all entities whose writes may change the representation of {@link Offer offers} or
+     * listings of them. Offers contain their {@link User creators} and {@link Tag tags}, and listings are filtered and
+     * sorted by {@link Participation participations}, {@link Rating ratings} and {@link Subscription subscriptions}.
+     *
+     * @return the classes of the entities the representations depend on
+     */
+    @Override
+    protected Collection<Class<?>> getVersionDependencies() {
+        return List.of(Offer.class, User.class, Tag.class, Participation.class, Rating.class, Subscription.class);
+    }
+
+    /**
+     * Removes an {@link Offer offer} from all in-memory indexes and timelines after its deletion.
+     *
+     * @param identifier the identifier of the deleted offer
+     */
+    private void removeFromIndexes(String identifier) {
+        spatialIndex.remove(identifier);
+        textIndex.remove(identifier);
+        tagIndex.remove(identifier);
+        timelineService.remove(identifier);
+    }
+
+    /**
+     * Gets the {@link Offer offers} of a cached listing in the cached order. Offers deleted in the meantime are
+     * skipped.
+     *
+     * @param offerIdentifiers the identifiers of the listed offers in listing order
+     * @return the listed offers in listing order
+     */
+    private List<Offer> getAllInOrder(List<String> offerIdentifiers) {
+        Map<String, Offer> offersByIdentifier = Streams.stream(getRepository().findAllById(offerIdentifiers))
+                .collect(Collectors.toMap(Offer::getIdentifier, Function.identity()));
+        return offerIdentifiers.stream()
+                .map(offersByIdentifier::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds all {@link Offer offers} of the given {@link User creators} matching the translatable
+     * {@link OfferPredicate predicates}. If the predicates contain {@link TagPredicate tag predicates} and the
+     * {@link OfferTagIndex} is authoritative, the candidate offers are resolved as intersection of the tag bitmaps
+     * first, so that no query is necessary if no offer has all tags attached and the query is restricted to the
+     * candidates if only few offers have all tags attached. Otherwise, the index may miss offers, e.g. written by
+     * other nodes, and the tags are matched by the query.
+     *
+     * @param creators   the creators of the offers or {@code null} if the creator is not restricted
+     * @param predicates the predicates the offers must match
+     * @return all offers of the creators matching the translatable predicates
+     */
+    private Iterable<Offer> findByPredicates(Collection<User> creators, List<OfferPredicate> predicates) {
+        Set<Tag> tags = predicates.stream()
+                .filter(predicate -> predicate instanceof TagPredicate)
+                .flatMap(predicate -> ((TagPredicate) predicate).getTags().stream())
+                .collect(Collectors.toSet());
+        Optional<List<String>> optionalCandidates = tagIndex.isAuthoritative()
+                ? tagIndex.getMatchingAll(tags)
+                : Optional.empty();
+        if (optionalCandidates.isPresent() && optionalCandidates.get().isEmpty()) {
+            return new LinkedList<>();
+        } else if (optionalCandidates.isPresent() && optionalCandidates.get().size() <= MAX_TAG_CANDIDATES) {
+            return getRepository().findByIdentifiersAndPredicates(creators, optionalCandidates.get(), predicates);
+        }
+        return Objects.isNull(creators)
+                ? getRepository().findByPredicates(predicates)
+                : getRepository().findByCreatorsAndPredicates(creators, predicates);
+    }
+
+    /**
+     * Filters {@link Offer offers} in memory by the given {@link OfferPredicate predicates}.
+     *
+     * @param offers     the offers to be filtered
+     * @param predicates the predicates used for filtering
+     * @return the filtered offers
+     */
+    private Iterable<Offer> filter(Iterable<Offer> offers, List<OfferPredicate> predicates) {
+        if (predicates.isEmpty()) {
+            return offers;
+        }
+        List<Offer> offerList = Lists.newArrayList(offers);
+        prepareGetters(offerList, predicates, null);
+        return evaluationExecutor.filter(offerList,
+                offer -> predicates.stream().allMatch(predicate -> predicate.test(offer)));
+    }
+
+    /**
+     * Creates a {@link Flux} emitting the {@link Offer offers} of a cursor backed {@link Stream} matching the given
+     * residual {@link OfferPredicate predicates}. The cursor is opened on subscription and closed on completion,
+     * error or cancellation. Residual predicates are evaluated per batch, so that their inputs are resolved once per
+     * batch.
+     *
+     * @param offerStreamSupplier the supplier opening the cursor backed stream
+     * @param residualPredicates  the predicates to be evaluated in memory
+     * @return a {@link Flux} emitting the matching offers
+     */
+    private Flux<Offer> stream(Callable<Stream<Offer>> offerStreamSupplier, List<OfferPredicate> residualPredicates) {
+        return Flux.using(offerStreamSupplier, Flux::fromStream, Stream::close)
+                .buffer(STREAM_PREFETCH)
+                .concatMapIterable(batch -> filter(batch, residualPredicates))
+                .subscribeOn(Schedulers.boundedElastic())
+                .limitRate(STREAM_PREFETCH);
+    }
+
+    /**
+     * Sets the getters of values not persisted within {@link Offer offers} for the given
+     * {@link OfferPredicate predicates} and {@link OfferComparator comparator}. The values of the given offers are
+     * resolved in advance with a constant number of queries, other offers are resolved on demand.
+     *
+     * @param offers     the offers the predicates and the comparator are applied to
+     * @param predicates the predicates to be prepared
+     * @param comparator the comparator to be prepared or {@code null} if there is none
+     */
+    private void prepareGetters(Collection<Offer> offers, List<OfferPredicate> predicates, OfferComparator comparator) {
+        if (predicates.isEmpty() && Objects.isNull(comparator)) {
+            return;
+        }
+        ResolvedOfferValues values = new ResolvedOfferValues(offers);
+        for (OfferPredicate predicate : predicates) {
+            predicate.setNumericRatingGetter(values::getNumericHostRating);
+            predicate.setParticipantAmountGetter(values::getParticipationAmount);
+        }
+        if (Objects.nonNull(comparator)) {
+            comparator.setHostRatingGetter(values::getNumericHostRating);
+            comparator.setParticipantAmountGetter(values::getParticipationAmount);
+        }
+    }
+
+    /**
+     * Gets a {@link Slice} of {@link Offer offers} sorted in memory by an {@link OfferComparator} that cannot be
+     * translated into a sort field. The offers are read from a database cursor in batches and only the first offers
+     * in sort order are kept within a max-heap bounded by the limit, so that a slice is selected in O(n log k) time
+     * with memory bounded by the limit instead of sorting all offers. The identifier of the offer referenced by the
+     * {@link ContinuationToken} is used to determine the position of the slice within the sort order.
+     *
+     * @param creators   the creators of the offers or {@code null} if the creator is not restricted
+     * @param predicates the predicates the offers must match
+     * @param comparator the comparator used for sorting
+     * @param limit      the maximum number of offers within the slice
+     * @param after      the continuation token of the previous slice or {@code null} for the first slice
+     * @return the slice of offers following the continuation token
+     */
+    private Slice<Offer> getAllSortedInMemory(Collection<User> creators, List<OfferPredicate> predicates,
+                                              OfferComparator comparator, int limit, ContinuationToken after) {
+        Comparator<Offer> totalOrder = comparator.thenComparing(Offer::getIdentifier);
+        List<OfferPredicate> residualPredicates = predicateTranslator.getResidualPredicates(predicates);
+        Optional<Offer> optionalLastOffer = Objects.isNull(after)
+                ? Optional.empty()
+                : Optional.of(get(after.getIdentifier()).orElseThrow(IllegalArgumentException::new));
+
+        // Keep one additional offer to signalize whether a following slice exists.
+        int capacity = limit + 1;
+        PriorityQueue<Offer> firstOffers = new PriorityQueue<>(capacity + 1, totalOrder.reversed());
+        try (Stream<Offer> offerStream = getRepository().streamByPredicates(creators, predicates, null)) {
+            // Batches are at least as large as the heap, as the values of the kept offers are resolved again per batch.
+            Iterator<List<Offer>> batchIterator = Iterators.partition(offerStream.iterator(),
+                    Math.max(STREAM_PREFETCH, capacity));
+            while (batchIterator.hasNext()) {
+                List<Offer> batch = batchIterator.next();
+                List<Offer> preparedOffers = new ArrayList<>(batch);
+                preparedOffers.addAll(firstOffers);
+                optionalLastOffer.ifPresent(preparedOffers::add);
+                prepareGetters(preparedOffers, residualPredicates, comparator);
+                for (Offer offer : batch) {
+                    if (residualPredicates.stream().allMatch(predicate -> predicate.test(offer))
+                            && optionalLastOffer.map(lastOffer -> totalOrder.compare(offer, lastOffer) > 0).orElse(true)) {
+                        offerBounded(firstOffers, offer, capacity, totalOrder);
+                    }
+                }
+            }
+        }
+
+        List<Offer> offers = new ArrayList<>(firstOffers);
+        offers.sort(totalOrder);
+        boolean hasNext = offers.size() > limit;
+        return new SliceImpl<>(hasNext ? offers.subList(0, limit) : offers, PageRequest.of(0, limit), hasNext);
+    }
+
+    /**
+     * Adds an {@link Offer offer} to a max-heap of the first offers in sort order bounded by a given size. The offer
+     * is only added if the heap is not full or if it precedes the last offer within the heap.
+     *
+     * @param firstOffers the max-heap of the first offers
+     * @param offer       the offer to be added
+     * @param capacity    the maximum size of the heap
+     * @param totalOrder  the order of the offers
+     */
+    private void offerBounded(PriorityQueue<Offer> firstOffers, Offer offer, int capacity,
+                              Comparator<Offer> totalOrder) {
+        if (firstOffers.size() < capacity) {
+            firstOffers.add(offer);
+        } else if (totalOrder.compare(offer, firstOffers.peek()) < 0) {
+            firstOffers.poll();
+            firstOffers.add(offer);
+        }
+    }
+
+    /**
+     * Creates the {@link ContinuationToken} of an {@link Offer offer} for a given sort field.
+     *
+     * @param offer     the offer to create the token for
+     * @param sortField the translated sort field or {@code null} if sorted by identifier or in memory
+     * @return the continuation token of the offer
+     */
+    private ContinuationToken createContinuationToken(Offer offer, String sortField) {
+        String sortKey = Objects.isNull(sortField) ? null : comparatorTranslator.getSortKey(offer, sortField);
+        return new ContinuationToken(offer.getIdentifier(), sortKey);
+    }
+
+    /**
+     * Represents the values not persisted within {@link Offer offers}, i.e. the {@link RatingBasis#HOST host}
+     * {@link Rating rating} of their creators and their amount of {@link Participation participations}, resolved for
+     * a set of offers in advance. Values of other offers are resolved and memoized on demand. The values are safe to
+     * be read by multiple threads, as offers may be filtered and sorted in parallel.
+     */
+    private class ResolvedOfferValues {
+
+        private final Map<String, Double> hostRatings;
+        private final Map<String, Long> participationAmounts;
+
+        /**
+         * Constructs a new instance of {@link ResolvedOfferValues} resolving the values of the given offers with a
+         * single query each.
+         *
+         * @param offers the offers to resolve the values of
+         */
+        private ResolvedOfferValues(Collection<Offer> offers) {
+            Set<User> creators = offers.stream()
+                    .map(Offer::getCreator)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            this.hostRatings = new ConcurrentHashMap<>(ratingService.getRatingValues(creators, RatingBasis.HOST));
+            this.participationAmounts = new ConcurrentHashMap<>(participationService.countByTargets(offers));
+        }
+
+        /**
+         * Gets the numeric host rating value of the creator of an {@link Offer offer}.
+         *
+         * @param offer the offer to get the creator's rating from
+         * @return the numeric host rating value of the creator of an offer
+         */
+        private double getNumericHostRating(Offer offer) {
+            if (Objects.isNull(offer.getCreator()) || Objects.isNull(offer.getCreator().getIdentifier())) {
+                return UNRATED_HOST_RATING;
+            }
+            String creatorIdentifier = offer.getCreator().getIdentifier();
+            Double hostRating = hostRatings.get(creatorIdentifier);
+            if (Objects.isNull(hostRating)) {
+                // Missing values are resolved outside of the map, so that the query does not block other evaluations.
+                hostRating = OfferService.this.getNumericHostRating(offer);
+                hostRating = Objects.requireNonNullElse(hostRatings.putIfAbsent(creatorIdentifier, hostRating),
+                        hostRating);
+            }
+            return hostRating;
+        }
+
+        /**
+         * Gets the amount of participations of an {@link Offer offer}.
+         *
+         * @param offer the offer to get the participation amount from
+         * @return the amount of participations of an offer
+         */
+        private int getParticipationAmount(Offer offer) {
+            if (Objects.isNull(offer.getIdentifier())) {
+                return 0;
+            }
+            Long participationAmount = participationAmounts.get(offer.getIdentifier());
+            if (Objects.isNull(participationAmount)) {
+                participationAmount = participationService.countByTarget(offer);
+                participationAmount = Objects.requireNonNullElse(
+                        participationAmounts.putIfAbsent(offer.getIdentifier(), participationAmount),
+                        participationAmount);
+            }
+            return participationAmount.intValue();
+        }
+    }
 }
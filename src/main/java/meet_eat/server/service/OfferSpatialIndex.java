@@ -0,0 +1,580 @@
+package meet_eat.server.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import meet_eat.data.entity.Offer;
+import meet_eat.data.location.SphericalLocation;
+import meet_eat.data.location.SphericalPosition;
+import meet_eat.server.repository.OfferRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Represents an in-memory spatial index of active {@link Offer offers} located by a {@link SphericalLocation}.
+ * The offers are assigned to the cells of a grid over latitude and longitude, so that radius, bounding box and
+ * nearest neighbour lookups only visit the cells around the requested area instead of all offers. Offers are
+ * active as long as their date and time has not passed.
+ * <p>
+ * The index only reflects the writes of this node. Therefore, it is rebuilt periodically, so that offers written by
+ * other nodes are indexed after at most one rebuild delay.
+ */
+@Component
+public class OfferSpatialIndex {
+
+    private static final String METRIC_SIZE = "meet_eat.offers.spatial_index.size";
+    private static final String METRIC_QUERY = "meet_eat.offers.spatial_index.query";
+    private static final String METRIC_TAG_TYPE = "type";
+    private static final double EARTH_RADIUS_KILOMETERS = 6371d;
+    private static final double MAX_LATITUDE = 90d;
+    private static final double MAX_LONGITUDE = 180d;
+
+    private final OfferRepository offerRepository;
+    private final double cellDegrees;
+    private final int rowCount;
+    private final int columnCount;
+    private final Map<String, IndexedOffer> indexedOffers = new HashMap<>();
+    private final Map<Long, Set<String>> cells = new HashMap<>();
+    private final Map<String, IndexedOffer> modifiedDuringRebuild = new HashMap<>();
+    private final Set<String> removedDuringRebuild = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Timer radiusTimer;
+    private final Timer boundingBoxTimer;
+    private final Timer nearestTimer;
+    private boolean rebuilding;
+
+    /**
+     * Constructs a new instance of {@link OfferSpatialIndex}.
+     *
+     * @param offerRepository the repository used to load the active offers
+     * @param meterRegistry   the registry the index metrics are registered at
+     * @param cellDegrees     the edge length of a grid cell in degrees
+     */
+    @Lazy
+    @Autowired
+    public OfferSpatialIndex(OfferRepository offerRepository, MeterRegistry meterRegistry,
+                             @Value("${meet-eat.spatial-index.cell-degrees:0.1}") double cellDegrees) {
+        if (cellDegrees <= 0d || cellDegrees > MAX_LATITUDE) {
+            throw new IllegalArgumentException("The cell size must be within (0, 90] degrees.");
+        }
+        this.offerRepository = offerRepository;
+        this.cellDegrees = cellDegrees;
+        this.rowCount = (int) Math.ceil(2d * MAX_LATITUDE / cellDegrees);
+        this.columnCount = (int) Math.ceil(2d * MAX_LONGITUDE / cellDegrees);
+        Gauge.builder(METRIC_SIZE, this, OfferSpatialIndex::size).register(meterRegistry);
+        this.radiusTimer = Timer.builder(METRIC_QUERY).tag(METRIC_TAG_TYPE, "radius").register(meterRegistry);
+        this.boundingBoxTimer = Timer.builder(METRIC_QUERY).tag(METRIC_TAG_TYPE, "boundingBox").register(meterRegistry);
+        this.nearestTimer = Timer.builder(METRIC_QUERY).tag(METRIC_TAG_TYPE, "nearest").register(meterRegistry);
+    }
+
+    /**
+     * Loads all active {@link Offer offers} from the persistence layer as soon as the application is ready.
+     * Offers written while loading are recorded and applied on top of the loaded offers, so that they are not lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            modifiedDuringRebuild.clear();
+            removedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Map<String, IndexedOffer> loadedOffers = new HashMap<>();
+        try (Stream<Offer> offers = offerRepository.streamAllBy()) {
+            offers.map(this::toIndexedOffer)
+                    .filter(Objects::nonNull)
+                    .forEach(indexedOffer -> loadedOffers.put(indexedOffer.identifier, indexedOffer));
+        }
+        lock.writeLock().lock();
+        try {
+            indexedOffers.clear();
+            cells.clear();
+            removedDuringRebuild.forEach(loadedOffers::remove);
+            loadedOffers.putAll(modifiedDuringRebuild);
+            loadedOffers.values().forEach(this::insert);
+            modifiedDuringRebuild.clear();
+            removedDuringRebuild.clear();
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Periodically reloads all active {@link Offer offers} from the persistence layer, so that offers written by
+     * other nodes are indexed as well.
+     */
+    @Scheduled(fixedDelayString = "${meet-eat.spatial-index.rebuild-delay:300000}",
+            initialDelayString = "${meet-eat.spatial-index.rebuild-delay:300000}")
+    public void resynchronize() {
+        rebuild();
+    }
+
+    /**
+     * Removes all {@link Offer offers} whose date and time has passed.
+     */
+    @Scheduled(fixedDelayString = "${meet-eat.spatial-index.prune-delay:600000}")
+    public void pruneInactive() {
+        LocalDateTime now = LocalDateTime.now();
+        lock.writeLock().lock();
+        try {
+            List<String> inactiveIdentifiers = indexedOffers.values().stream()
+                    .filter(indexedOffer -> indexedOffer.dateTime.isBefore(now))
+                    .map(indexedOffer -> indexedOffer.identifier)
+                    .collect(Collectors.toList());
+            inactiveIdentifiers.forEach(this::evict);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts or updates an {@link Offer offer} within the index. Offers which are not active or not located by a
+     * {@link SphericalLocation} are removed from the index.
+     *
+     * @param offer the offer to be indexed
+     */
+    public void put(Offer offer) {
+        Objects.requireNonNull(offer);
+        IndexedOffer indexedOffer = toIndexedOffer(offer);
+        lock.writeLock().lock();
+        try {
+            evict(offer.getIdentifier());
+            if (Objects.nonNull(indexedOffer)) {
+                insert(indexedOffer);
+            }
+            if (rebuilding) {
+                recordModification(offer.getIdentifier(), indexedOffer);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an {@link Offer offer} from the index.
+     *
+     * @param identifier the identifier of the offer to be removed
+     */
+    public void remove(String identifier) {
+        Objects.requireNonNull(identifier);
+        lock.writeLock().lock();
+        try {
+            evict(identifier);
+            if (rebuilding) {
+                recordModification(identifier, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed {@link Offer offers}.
+     *
+     * @return the number of indexed offers
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return indexedOffers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the identifiers of all indexed {@link Offer offers} within a given distance of a reference position,
+     * sorted nearest-first.
+     *
+     * @param center             the reference position
+     * @param radiusInKilometers the maximum distance in kilometers
+     * @return the identifiers of the offers within the radius
+     */
+    public List<String> getWithinRadius(SphericalPosition center, double radiusInKilometers) {
+        Objects.requireNonNull(center);
+        if (radiusInKilometers < 0d) {
+            throw new IllegalArgumentException("The radius must not be negative.");
+        }
+        return radiusTimer.record(() -> {
+            double latitudeDelta = Math.toDegrees(radiusInKilometers / EARTH_RADIUS_KILOMETERS);
+            double south = center.getLatitude() - latitudeDelta;
+            double north = center.getLatitude() + latitudeDelta;
+            double west = -MAX_LONGITUDE;
+            double east = MAX_LONGITUDE;
+
+            // The longitude is only restricted if the circle does not contain a pole.
+            if (Math.abs(center.getLatitude()) + latitudeDelta < MAX_LATITUDE) {
+                double longitudeDelta = Math.toDegrees(radiusInKilometers / EARTH_RADIUS_KILOMETERS
+                        / Math.cos(Math.toRadians(center.getLatitude())));
+                if (longitudeDelta < MAX_LONGITUDE) {
+                    west = normalizeLongitude(center.getLongitude() - longitudeDelta);
+                    east = normalizeLongitude(center.getLongitude() + longitudeDelta);
+                }
+            }
+
+            lock.readLock().lock();
+            try {
+                return collect(south, west, north, east,
+                        indexedOffer -> getDistance(center, indexedOffer.position) <= radiusInKilometers).stream()
+                        .sorted(Comparator.comparingDouble(indexedOffer -> getDistance(center, indexedOffer.position)))
+                        .map(indexedOffer -> indexedOffer.identifier)
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Gets the identifiers of all indexed {@link Offer offers} within a bounding box. A box whose western longitude
+     * is greater than its eastern longitude crosses the antimeridian.
+     *
+     * @param south the southern latitude of the box
+     * @param west  the western longitude of the box
+     * @param north the northern latitude of the box
+     * @param east  the eastern longitude of the box
+     * @return the identifiers of the offers within the bounding box
+     */
+    public List<String> getWithinBoundingBox(double south, double west, double north, double east) {
+        if (south > north) {
+            throw new IllegalArgumentException("The southern latitude must not be greater than the northern latitude.");
+        }
+        return boundingBoxTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return collect(south, west, north, east, indexedOffer -> true).stream()
+                        .map(indexedOffer -> indexedOffer.identifier)
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Gets the identifiers of the indexed {@link Offer offers} nearest to a reference position, sorted nearest-first.
+     * The grid is searched in rings of cells around the reference position until no unvisited cell can contain a
+     * nearer offer.
+     *
+     * @param center the reference position
+     * @param amount the maximum number of offers
+     * @return the identifiers of the nearest offers
+     */
+    public List<String> getNearest(SphericalPosition center, int amount) {
+        Objects.requireNonNull(center);
+        if (amount < 0) {
+            throw new IllegalArgumentException("The amount must not be negative.");
+        }
+        return nearestTimer.record(() -> {
+            Comparator<IndexedOffer> byDistance = Comparator
+                    .comparingDouble(indexedOffer -> getDistance(center, indexedOffer.position));
+            lock.readLock().lock();
+            try {
+                // Keep the nearest offers found so far within a max-heap of the requested amount.
+                PriorityQueue<IndexedOffer> nearestOffers = new PriorityQueue<>(byDistance.reversed());
+                int centerRow = getRow(center.getLatitude());
+                int centerColumn = getColumn(center.getLongitude());
+                int maxRing = Math.max(rowCount, columnCount / 2);
+                for (int ring = 0; ring <= maxRing && amount > 0; ring++) {
+                    if (8L * ring > indexedOffers.size()) {
+                        // Visiting the remaining cells is more expensive than scanning all offers.
+                        nearestOffers.clear();
+                        indexedOffers.values().forEach(indexedOffer -> offerBounded(nearestOffers, indexedOffer, amount));
+                        break;
+                    }
+                    for (long cellKey : getRingCellKeys(centerRow, centerColumn, ring)) {
+                        for (String identifier : cells.getOrDefault(cellKey, Set.of())) {
+                            offerBounded(nearestOffers, indexedOffers.get(identifier), amount);
+                        }
+                    }
+                    if (nearestOffers.size() == amount && getDistance(center, nearestOffers.peek().position)
+                            <= getMinDistanceOutsideRing(center, ring)) {
+                        break;
+                    }
+                }
+                List<IndexedOffer> sortedOffers = new ArrayList<>(nearestOffers);
+                sortedOffers.sort(byDistance);
+                return sortedOffers.stream()
+                        .map(indexedOffer -> indexedOffer.identifier)
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Gets the great-circle distance between two positions in kilometers.
+     *
+     * @param from the first position
+     * @param to   the second position
+     * @return the distance in kilometers
+     */
+    static double getDistance(SphericalPosition from, SphericalPosition to) {
+        double latitudeFrom = Math.toRadians(from.getLatitude());
+        double latitudeTo = Math.toRadians(to.getLatitude());
+        double sinLatitude = Math.sin((latitudeTo - latitudeFrom) / 2d);
+        double sinLongitude = Math.sin(Math.toRadians(to.getLongitude() - from.getLongitude()) / 2d);
+        double haversine = sinLatitude * sinLatitude
+                + Math.cos(latitudeFrom) * Math.cos(latitudeTo) * sinLongitude * sinLongitude;
+        return 2d * EARTH_RADIUS_KILOMETERS * Math.asin(Math.min(1d, Math.sqrt(haversine)));
+    }
+
+    /**
+     * Converts an {@link Offer offer} into its indexed representation.
+     *
+     * @param offer the offer to be converted
+     * @return the indexed representation or {@code null} if the offer is not active or not spherically located
+     */
+    private IndexedOffer toIndexedOffer(Offer offer) {
+        if (Objects.isNull(offer.getIdentifier()) || !(offer.getLocation() instanceof SphericalLocation)
+                || Objects.isNull(offer.getDateTime()) || offer.getDateTime().isBefore(LocalDateTime.now())) {
+            return null;
+        }
+        SphericalPosition position = ((SphericalLocation) offer.getLocation()).getSphericalPosition();
+        return new IndexedOffer(offer.getIdentifier(), position, offer.getDateTime(),
+                getCellKey(getRow(position.getLatitude()), getColumn(position.getLongitude())));
+    }
+
+    /**
+     * Inserts an indexed offer. The write lock must be held by the caller.
+     *
+     * @param indexedOffer the offer to be inserted
+     */
+    private void insert(IndexedOffer indexedOffer) {
+        indexedOffers.put(indexedOffer.identifier, indexedOffer);
+        cells.computeIfAbsent(indexedOffer.cellKey, cellKey -> new HashSet<>()).add(indexedOffer.identifier);
+    }
+
+    /**
+     * Records an offer written while the index is rebuilt. The write lock must be held by the caller.
+     *
+     * @param identifier   the identifier of the written offer
+     * @param indexedOffer the indexed offer or {@code null} if the offer has been removed from the index
+     */
+    private void recordModification(String identifier, IndexedOffer indexedOffer) {
+        if (Objects.isNull(indexedOffer)) {
+            modifiedDuringRebuild.remove(identifier);
+            removedDuringRebuild.add(identifier);
+        } else {
+            removedDuringRebuild.remove(identifier);
+            modifiedDuringRebuild.put(identifier, indexedOffer);
+        }
+    }
+
+    /**
+     * Removes an indexed offer if present. The write lock must be held by the caller.
+     *
+     * @param identifier the identifier of the offer to be removed
+     */
+    private void evict(String identifier) {
+        IndexedOffer indexedOffer = indexedOffers.remove(identifier);
+        if (Objects.nonNull(indexedOffer)) {
+            Set<String> cell = cells.get(indexedOffer.cellKey);
+            cell.remove(identifier);
+            if (cell.isEmpty()) {
+                cells.remove(indexedOffer.cellKey);
+            }
+        }
+    }
+
+    /**
+     * Collects the indexed offers within a bounding box matching a filter. The read lock must be held by the caller.
+     *
+     * @param south  the southern latitude of the box
+     * @param west   the western longitude of the box
+     * @param north  the northern latitude of the box
+     * @param east   the eastern longitude of the box
+     * @param filter the filter the collected offers must match
+     * @return the collected offers
+     */
+    private List<IndexedOffer> collect(double south, double west, double north, double east,
+                                       Predicate<IndexedOffer> filter) {
+        Predicate<IndexedOffer> boxFilter = indexedOffer -> isWithin(indexedOffer.position, south, west, north, east);
+        int southRow = getRow(south);
+        int northRow = getRow(north);
+        boolean isFullLongitude = east - west >= 2d * MAX_LONGITUDE;
+        int westColumn = isFullLongitude ? 0 : getColumn(west);
+        int eastColumn = isFullLongitude ? columnCount - 1 : getColumn(east);
+        int columns = (eastColumn >= westColumn ? eastColumn - westColumn : eastColumn + columnCount - westColumn) + 1;
+        long cellAmount = (long) (northRow - southRow + 1) * columns;
+
+        // Scan all offers if the box covers more cells than offers.
+        if (cellAmount > indexedOffers.size()) {
+            return indexedOffers.values().stream()
+                    .filter(boxFilter.and(filter))
+                    .collect(Collectors.toList());
+        }
+        List<IndexedOffer> collectedOffers = new ArrayList<>();
+        for (int row = southRow; row <= northRow; row++) {
+            for (int offset = 0; offset < columns; offset++) {
+                long cellKey = getCellKey(row, (westColumn + offset) % columnCount);
+                for (String identifier : cells.getOrDefault(cellKey, Set.of())) {
+                    IndexedOffer indexedOffer = indexedOffers.get(identifier);
+                    if (boxFilter.and(filter).test(indexedOffer)) {
+                        collectedOffers.add(indexedOffer);
+                    }
+                }
+            }
+        }
+        return collectedOffers;
+    }
+
+    /**
+     * Adds an indexed offer to a max-heap of nearest offers bounded by a given size.
+     *
+     * @param nearestOffers the max-heap of nearest offers
+     * @param indexedOffer  the offer to be added
+     * @param amount        the maximum size of the heap
+     */
+    private void offerBounded(PriorityQueue<IndexedOffer> nearestOffers, IndexedOffer indexedOffer, int amount) {
+        nearestOffers.add(indexedOffer);
+        if (nearestOffers.size() > amount) {
+            nearestOffers.poll();
+        }
+    }
+
+    /**
+     * Gets the keys of all cells within a square ring around a center cell.
+     *
+     * @param centerRow    the row of the center cell
+     * @param centerColumn the column of the center cell
+     * @param ring         the distance of the ring to the center cell in cells
+     * @return the keys of the cells within the ring
+     */
+    private Set<Long> getRingCellKeys(int centerRow, int centerColumn, int ring) {
+        Set<Long> cellKeys = new HashSet<>();
+        for (int rowOffset = -ring; rowOffset <= ring; rowOffset++) {
+            int row = centerRow + rowOffset;
+            if (row < 0 || row >= rowCount) {
+                continue;
+            }
+            boolean isBorderRow = Math.abs(rowOffset) == ring;
+            for (int columnOffset = -ring; columnOffset <= ring; columnOffset += isBorderRow ? 1 : 2 * Math.max(ring, 1)) {
+                int column = Math.floorMod(centerColumn + columnOffset, columnCount);
+                cellKeys.add(getCellKey(row, column));
+            }
+        }
+        return cellKeys;
+    }
+
+    /**
+     * Gets a lower bound of the distance between a position and any position outside of a ring of cells around it.
+     *
+     * @param center the position in the center cell
+     * @param ring   the distance of the ring to the center cell in cells
+     * @return the lower bound of the distance in kilometers
+     */
+    private double getMinDistanceOutsideRing(SphericalPosition center, int ring) {
+        // A cell row spans a constant distance, whereas a cell column shrinks towards the poles.
+        double ringDegrees = ring * cellDegrees;
+        double maxLatitude = Math.min(MAX_LATITUDE, Math.abs(center.getLatitude()) + ringDegrees + cellDegrees);
+        double latitudeBound = Math.toRadians(ringDegrees) * EARTH_RADIUS_KILOMETERS;
+        double longitudeBound = 2d * EARTH_RADIUS_KILOMETERS * Math.asin(Math.min(1d,
+                Math.cos(Math.toRadians(maxLatitude)) * Math.sin(Math.toRadians(Math.min(ringDegrees, MAX_LONGITUDE)) / 2d)));
+        return Math.min(latitudeBound, longitudeBound);
+    }
+
+    /**
+     * Signalizes whether a position is within a bounding box.
+     *
+     * @param position the position to be checked
+     * @param south    the southern latitude of the box
+     * @param west     the western longitude of the box
+     * @param north    the northern latitude of the box
+     * @param east     the eastern longitude of the box
+     * @return {@code true} if the position is within the box, {@code false} otherwise.
+     */
+    private boolean isWithin(SphericalPosition position, double south, double west, double north, double east) {
+        boolean isWithinLatitude = position.getLatitude() >= south && position.getLatitude() <= north;
+        boolean isWithinLongitude = west <= east
+                ? position.getLongitude() >= west && position.getLongitude() <= east
+                : position.getLongitude() >= west || position.getLongitude() <= east;
+        return isWithinLatitude && isWithinLongitude;
+    }
+
+    /**
+     * Gets the grid row of a latitude.
+     *
+     * @param latitude the latitude
+     * @return the grid row
+     */
+    private int getRow(double latitude) {
+        int row = (int) Math.floor((latitude + MAX_LATITUDE) / cellDegrees);
+        return Math.max(0, Math.min(rowCount - 1, row));
+    }
+
+    /**
+     * Gets the grid column of a longitude.
+     *
+     * @param longitude the longitude
+     * @return the grid column
+     */
+    private int getColumn(double longitude) {
+        return Math.floorMod((int) Math.floor((normalizeLongitude(longitude) + MAX_LONGITUDE) / cellDegrees), columnCount);
+    }
+
+    /**
+     * Gets the key of a grid cell.
+     *
+     * @param row    the grid row of the cell
+     * @param column the grid column of the cell
+     * @return the key of the cell
+     */
+    private long getCellKey(int row, int column) {
+        return (long) row * columnCount + column;
+    }
+
+    /**
+     * Normalizes a longitude into the range [-180, 180).
+     *
+     * @param longitude the longitude to be normalized
+     * @return the normalized longitude
+     */
+    private double normalizeLongitude(double longitude) {
+        double normalizedLongitude = (longitude + MAX_LONGITUDE) % (2d * MAX_LONGITUDE);
+        return (normalizedLongitude < 0d ? normalizedLongitude + 2d * MAX_LONGITUDE : normalizedLongitude) - MAX_LONGITUDE;
+    }
+
+    /**
+     * Represents the indexed attributes of an {@link Offer offer}.
+     */
+    private static class IndexedOffer {
+
+        private final String identifier;
+        private final SphericalPosition position;
+        private final LocalDateTime dateTime;
+        private final long cellKey;
+
+        private IndexedOffer(String identifier, SphericalPosition position, LocalDateTime dateTime, long cellKey) {
+            this.identifier = identifier;
+            this.position = position;
+            this.dateTime = dateTime;
+            this.cellKey = cellKey;
+        }
+    }
+}
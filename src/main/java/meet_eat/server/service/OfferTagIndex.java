@@ -0,0 +1,305 @@
+package meet_eat.server.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.Tag;
+import meet_eat.server.repository.OfferRepository;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Represents an in-memory inverted index from {@link Tag tags} to the {@link Offer offers} they are attached to.
+ * Every indexed offer is assigned a dense ordinal and the offers of a tag are kept within a compressed
+ * {@link RoaringBitmap}, so that conjunctions and disjunctions of tags are evaluated as bitmap intersections and
+ * unions. Ordinals of removed offers are reused by subsequently indexed offers.
+ * <p>
+ * The index only reflects the writes of this node. It is therefore only {@link #isAuthoritative() authoritative},
+ * i.e. a verifiably complete view of all persisted offers, if it is configured for a single node and has completed
+ * its rebuild. Otherwise, its results must only be used as a hint.
+ */
+@Component
+public class OfferTagIndex {
+
+    private static final String METRIC_SIZE = "meet_eat.offers.tag_index.size";
+
+    private final OfferRepository offerRepository;
+    private final boolean singleNode;
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> identifiers = new ArrayList<>();
+    private final RoaringBitmap freeOrdinals = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> tagBitmaps = new HashMap<>();
+    private final Map<String, Set<String>> offerTags = new HashMap<>();
+    private final Map<String, Set<String>> modifiedDuringRebuild = new HashMap<>();
+    private final Set<String> tagsRemovedDuringRebuild = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean rebuilding;
+    private boolean complete;
+
+    /**
+     * Constructs a new instance of {@link OfferTagIndex}.
+     *
+     * @param offerRepository the repository used to load the offers
+     * @param meterRegistry   the registry the index metrics are registered at
+     * @param singleNode      whether this node is the only one writing offers, so that the index may become
+     *                        authoritative
+     */
+    @Lazy
+    @Autowired
+    public OfferTagIndex(OfferRepository offerRepository, MeterRegistry meterRegistry,
+                         @Value("${meet-eat.offers.tag-index.single-node:false}") boolean singleNode) {
+        this.offerRepository = offerRepository;
+        this.singleNode = singleNode;
+        Gauge.builder(METRIC_SIZE, this, OfferTagIndex::size).register(meterRegistry);
+    }
+
+    /**
+     * Loads the tags of all {@link Offer offers} from the persistence layer as soon as the application is ready.
+     * Offers written while loading are recorded and applied on top of the loaded offers, so that they are not lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            complete = false;
+            modifiedDuringRebuild.clear();
+            tagsRemovedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Map<String, Set<String>> loadedOfferTags = new HashMap<>();
+        try (Stream<Offer> offers = offerRepository.streamAllBy()) {
+            offers.filter(offer -> Objects.nonNull(offer.getIdentifier()))
+                    .forEach(offer -> loadedOfferTags.put(offer.getIdentifier(), getTagIdentifiers(offer)));
+        }
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            identifiers.clear();
+            freeOrdinals.clear();
+            tagBitmaps.clear();
+            offerTags.clear();
+            loadedOfferTags.putAll(modifiedDuringRebuild);
+            loadedOfferTags.forEach((identifier, tagIdentifiers) -> {
+                if (Objects.nonNull(tagIdentifiers)) {
+                    tagIdentifiers.removeAll(tagsRemovedDuringRebuild);
+                    insert(identifier, tagIdentifiers);
+                }
+            });
+            modifiedDuringRebuild.clear();
+            tagsRemovedDuringRebuild.clear();
+            rebuilding = false;
+            complete = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Signalizes whether the index is a verifiably complete view of all persisted {@link Offer offers}, so that its
+     * results may replace a query of the persistence layer.
+     *
+     * @return {@code true} if the index is authoritative, {@code false} if its results are only a hint
+     */
+    public boolean isAuthoritative() {
+        lock.readLock().lock();
+        try {
+            return singleNode && complete;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts or updates the {@link Tag tags} of an {@link Offer offer} within the index.
+     *
+     * @param offer the offer to be indexed
+     */
+    public void put(Offer offer) {
+        Objects.requireNonNull(offer);
+        String identifier = Objects.requireNonNull(offer.getIdentifier());
+        Set<String> tagIdentifiers = getTagIdentifiers(offer);
+        lock.writeLock().lock();
+        try {
+            evict(identifier);
+            insert(identifier, tagIdentifiers);
+            if (rebuilding) {
+                modifiedDuringRebuild.put(identifier, tagIdentifiers);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an {@link Offer offer} from the index.
+     *
+     * @param identifier the identifier of the offer to be removed
+     */
+    public void remove(String identifier) {
+        Objects.requireNonNull(identifier);
+        lock.writeLock().lock();
+        try {
+            evict(identifier);
+            if (rebuilding) {
+                modifiedDuringRebuild.put(identifier, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a {@link Tag tag} from the index, so that it is no longer attached to any offer.
+     *
+     * @param tagIdentifier the identifier of the tag to be removed
+     */
+    public void removeTag(String tagIdentifier) {
+        Objects.requireNonNull(tagIdentifier);
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap bitmap = tagBitmaps.remove(tagIdentifier);
+            if (Objects.nonNull(bitmap)) {
+                bitmap.forEach((int ordinal) -> offerTags.get(identifiers.get(ordinal)).remove(tagIdentifier));
+            }
+            if (rebuilding) {
+                tagsRemovedDuringRebuild.add(tagIdentifier);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed {@link Offer offers}.
+     *
+     * @return the number of indexed offers
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the identifiers of all indexed {@link Offer offers} having all of the given {@link Tag tags} attached.
+     *
+     * @param tags the tags the offers must have attached
+     * @return the identifiers of the matching offers or {@link Optional#empty()} if the tags do not restrict the
+     * offers or are not resolvable by the index, i.e. are empty or not persisted
+     */
+    public Optional<List<String>> getMatchingAll(Collection<Tag> tags) {
+        Objects.requireNonNull(tags);
+        if (tags.isEmpty() || tags.stream().anyMatch(tag -> Objects.isNull(tag.getIdentifier()))) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = null;
+            for (Tag tag : tags) {
+                RoaringBitmap bitmap = tagBitmaps.getOrDefault(tag.getIdentifier(), new RoaringBitmap());
+                result = Objects.isNull(result) ? bitmap.clone() : RoaringBitmap.and(result, bitmap);
+            }
+            return Optional.of(toIdentifiers(result));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds an {@link Offer offer} to the bitmaps of its tags. Must be called while holding the write lock.
+     *
+     * @param identifier     the identifier of the offer
+     * @param tagIdentifiers the identifiers of the offer's tags
+     */
+    private void insert(String identifier, Set<String> tagIdentifiers) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = identifiers.size();
+            identifiers.add(identifier);
+        } else {
+            ordinal = freeOrdinals.first();
+            freeOrdinals.remove(ordinal);
+            identifiers.set(ordinal, identifier);
+        }
+        ordinals.put(identifier, ordinal);
+        offerTags.put(identifier, tagIdentifiers);
+        for (String tagIdentifier : tagIdentifiers) {
+            tagBitmaps.computeIfAbsent(tagIdentifier, key -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    /**
+     * Removes an {@link Offer offer} from the bitmaps of its tags if present and releases its ordinal. Must be called
+     * while holding the write lock.
+     *
+     * @param identifier the identifier of the offer
+     */
+    private void evict(String identifier) {
+        Integer ordinal = ordinals.remove(identifier);
+        if (Objects.isNull(ordinal)) {
+            return;
+        }
+        for (String tagIdentifier : offerTags.remove(identifier)) {
+            RoaringBitmap bitmap = tagBitmaps.get(tagIdentifier);
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                tagBitmaps.remove(tagIdentifier);
+            }
+        }
+        identifiers.set(ordinal, null);
+        freeOrdinals.add(ordinal);
+    }
+
+    /**
+     * Converts a bitmap of ordinals into the identifiers of the corresponding offers. Must be called while holding
+     * the read lock.
+     *
+     * @param bitmap the bitmap of ordinals
+     * @return the identifiers of the offers
+     */
+    private List<String> toIdentifiers(RoaringBitmap bitmap) {
+        List<String> offerIdentifiers = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach((int ordinal) -> offerIdentifiers.add(identifiers.get(ordinal)));
+        return offerIdentifiers;
+    }
+
+    /**
+     * Gets the identifiers of the persisted {@link Tag tags} attached to an {@link Offer offer}.
+     *
+     * @param offer the offer to get the tags from
+     * @return the identifiers of the offer's tags
+     */
+    private Set<String> getTagIdentifiers(Offer offer) {
+        Set<String> tagIdentifiers = new HashSet<>();
+        if (Objects.nonNull(offer.getTags())) {
+            offer.getTags().stream()
+                    .map(Tag::getIdentifier)
+                    .filter(Objects::nonNull)
+                    .forEach(tagIdentifiers::add);
+        }
+        return tagIdentifiers;
+    }
+}
@@ -0,0 +1,323 @@
+package meet_eat.server.service;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import meet_eat.data.entity.Offer;
+import meet_eat.server.repository.OfferRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Represents an in-memory inverted index over the names and descriptions of all {@link Offer offers}. The terms of
+ * the index are kept in lexicographical order, so that a query term matches all indexed terms it is a prefix of.
+ * Matching offers are ranked by the BM25 relevance of the matched terms, where exactly matched terms outweigh
+ * terms which are only matched by prefix.
+ * <p>
+ * The index only reflects the writes of this node, so that offers written by other nodes would never be found.
+ * Therefore, the index is disabled by default and must only be enabled if a single node writes the offers.
+ */
+@Component
+public class OfferTextIndex {
+
+    private static final String METRIC_SIZE = "meet_eat.offers.text_index.size";
+    private static final String METRIC_QUERY = "meet_eat.offers.text_index.query";
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final double BM25_K1 = 1.2d;
+    private static final double BM25_B = 0.75d;
+    private static final double PREFIX_MATCH_WEIGHT = 0.5d;
+
+    private final OfferRepository offerRepository;
+    private final boolean enabled;
+    private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+    private final Map<String, Multiset<String>> documents = new HashMap<>();
+    private final Map<String, Multiset<String>> modifiedDuringRebuild = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Timer queryTimer;
+    private long totalTermCount = 0L;
+    private boolean rebuilding;
+
+    /**
+     * Constructs a new instance of {@link OfferTextIndex}.
+     *
+     * @param offerRepository the repository used to load the offers
+     * @param meterRegistry   the registry the index metrics are registered at
+     * @param enabled         whether offers are indexed and searched, which requires a single node
+     */
+    @Lazy
+    @Autowired
+    public OfferTextIndex(OfferRepository offerRepository, MeterRegistry meterRegistry,
+                          @Value("${meet-eat.offers.text-index.enabled:false}") boolean enabled) {
+        this.offerRepository = offerRepository;
+        this.enabled = enabled;
+        Gauge.builder(METRIC_SIZE, this, OfferTextIndex::size).register(meterRegistry);
+        this.queryTimer = Timer.builder(METRIC_QUERY).register(meterRegistry);
+    }
+
+    /**
+     * Loads all {@link Offer offers} from the persistence layer as soon as the application is ready.
+     * Offers written while loading are recorded and applied on top of the loaded offers, so that they are not lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            modifiedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Map<String, Multiset<String>> loadedDocuments = new HashMap<>();
+        try (Stream<Offer> offers = offerRepository.streamAllBy()) {
+            offers.filter(offer -> Objects.nonNull(offer.getIdentifier()))
+                    .forEach(offer -> loadedDocuments.put(offer.getIdentifier(), toDocument(offer)));
+        }
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalTermCount = 0L;
+            loadedDocuments.putAll(modifiedDuringRebuild);
+            loadedDocuments.forEach((identifier, document) -> {
+                if (Objects.nonNull(document)) {
+                    insert(identifier, document);
+                }
+            });
+            modifiedDuringRebuild.clear();
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Signalizes whether {@link Offer offers} are indexed and searched by this index.
+     *
+     * @return {@code true} if the index is enabled, {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Inserts or updates an {@link Offer offer} within the index.
+     *
+     * @param offer the offer to be indexed
+     */
+    public void put(Offer offer) {
+        Objects.requireNonNull(offer);
+        String identifier = Objects.requireNonNull(offer.getIdentifier());
+        if (!enabled) {
+            return;
+        }
+        Multiset<String> document = toDocument(offer);
+        lock.writeLock().lock();
+        try {
+            evict(identifier);
+            insert(identifier, document);
+            if (rebuilding) {
+                modifiedDuringRebuild.put(identifier, document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an {@link Offer offer} from the index.
+     *
+     * @param identifier the identifier of the offer to be removed
+     */
+    public void remove(String identifier) {
+        Objects.requireNonNull(identifier);
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            evict(identifier);
+            if (rebuilding) {
+                modifiedDuringRebuild.put(identifier, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed {@link Offer offers}.
+     *
+     * @return the number of indexed offers
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the identifiers of all indexed {@link Offer offers} matching every term of a query, ranked by relevance.
+     * A query term matches all indexed terms it is a prefix of.
+     *
+     * @param query the query to be searched for
+     * @return the identifiers of the matching offers, most relevant first
+     */
+    public List<String> search(String query) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(Objects.requireNonNull(query)));
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        return queryTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                Map<String, Double> scores = null;
+                for (String queryTerm : queryTerms) {
+                    Map<String, Double> termScores = score(queryTerm);
+
+                    // Only offers matching all query terms are kept.
+                    if (Objects.isNull(scores)) {
+                        scores = termScores;
+                    } else {
+                        Map<String, Double> previousScores = scores;
+                        scores = termScores.entrySet().stream()
+                                .filter(entry -> previousScores.containsKey(entry.getKey()))
+                                .collect(Collectors.toMap(Map.Entry::getKey,
+                                        entry -> entry.getValue() + previousScores.get(entry.getKey())));
+                    }
+                    if (scores.isEmpty()) {
+                        return List.of();
+                    }
+                }
+                Comparator<Map.Entry<String, Double>> byScore = Map.Entry.comparingByValue(Comparator.reverseOrder());
+                return scores.entrySet().stream()
+                        .sorted(byScore.thenComparing(Map.Entry.comparingByKey()))
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Scores all indexed {@link Offer offers} containing a term the given query term is a prefix of. If multiple
+     * terms of an offer match, the best scored term is taken. Must be called while holding the read lock.
+     *
+     * @param queryTerm the query term to be matched
+     * @return the scores of the matching offers by identifier
+     */
+    private Map<String, Double> score(String queryTerm) {
+        Map<String, Double> scores = new HashMap<>();
+        double averageLength = documents.isEmpty() ? 0d : (double) totalTermCount / documents.size();
+        NavigableMap<String, Map<String, Integer>> matchingPostings =
+                postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false);
+        for (Map.Entry<String, Map<String, Integer>> posting : matchingPostings.entrySet()) {
+            double weight = posting.getKey().equals(queryTerm) ? 1d : PREFIX_MATCH_WEIGHT;
+            double documentFrequency = posting.getValue().size();
+            double inverseDocumentFrequency = Math.log(1d
+                    + (documents.size() - documentFrequency + 0.5d) / (documentFrequency + 0.5d));
+            for (Map.Entry<String, Integer> occurrence : posting.getValue().entrySet()) {
+                double termFrequency = occurrence.getValue();
+                double lengthNormalization = 1d - BM25_B
+                        + BM25_B * documents.get(occurrence.getKey()).size() / averageLength;
+                double score = weight * inverseDocumentFrequency * termFrequency * (BM25_K1 + 1d)
+                        / (termFrequency + BM25_K1 * lengthNormalization);
+                scores.merge(occurrence.getKey(), score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Adds the terms of an {@link Offer offer} to the index. Must be called while holding the write lock.
+     *
+     * @param identifier the identifier of the offer
+     * @param document   the terms of the offer
+     */
+    private void insert(String identifier, Multiset<String> document) {
+        documents.put(identifier, document);
+        totalTermCount += document.size();
+        for (Multiset.Entry<String> term : document.entrySet()) {
+            postings.computeIfAbsent(term.getElement(), key -> new HashMap<>()).put(identifier, term.getCount());
+        }
+    }
+
+    /**
+     * Removes the terms of an {@link Offer offer} from the index if present. Must be called while holding the write
+     * lock.
+     *
+     * @param identifier the identifier of the offer
+     */
+    private void evict(String identifier) {
+        Multiset<String> document = documents.remove(identifier);
+        if (Objects.isNull(document)) {
+            return;
+        }
+        totalTermCount -= document.size();
+        for (String term : document.elementSet()) {
+            Map<String, Integer> occurrences = postings.get(term);
+            occurrences.remove(identifier);
+            if (occurrences.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Converts the name and the description of an {@link Offer offer} into its indexed terms.
+     *
+     * @param offer the offer to be converted
+     * @return the terms of the offer with their frequencies
+     */
+    private Multiset<String> toDocument(Offer offer) {
+        Multiset<String> document = HashMultiset.create();
+        document.addAll(tokenize(Objects.toString(offer.getName(), "")));
+        document.addAll(tokenize(Objects.toString(offer.getDescription(), "")));
+        return document;
+    }
+
+    /**
+     * Splits a text into lower case terms without diacritics.
+     *
+     * @param text the text to be split
+     * @return the terms of the text in order of occurrence
+     */
+    private static List<String> tokenize(String text) {
+        String normalizedText = DIACRITICS.matcher(Normalizer.normalize(text.toLowerCase(Locale.ROOT),
+                Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(TERM_SEPARATOR.split(normalizedText))
+                .filter(term -> !term.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,8 @@
 package meet_eat.server.service;
 
+import com.google.common.collect.Streams;
 import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.relation.EntityRelation;
 import meet_eat.data.entity.relation.Participation;
 import meet_eat.data.entity.user.User;
 import meet_eat.server.repository.OfferRepository;
@@ -9,7 +11,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Represents a service class providing functionality to manage {@link Participation participations} and their state
@@ -18,18 +25,90 @@ import java.util.Optional;
 @Service
 public class ParticipationService extends EntityRelationService<Participation, User, Offer, String, ParticipationRepository> {
 
+    private static final String COUNTER_NAME = "participations";
+
     private final OfferService offerService;
+    private final OfferQueryCache offerQueryCache;
+    private final OfferEventService offerEventService;
 
     /**
      * Constructs a new instance of {@link ParticipationService}.
      *
-     * @param repository the repository used for persistence operations
+     * @param repository             the repository used for persistence operations
+     * @param offerService           the service used for operations on and with {@link Offer} entities
+     * @param relationCounterService the service used for maintaining the participation counters per target
+     * @param offerQueryCache        the cache of offer listings depending on participation amounts
+     * @param offerEventService      the service pushing changed participation amounts to subscribed clients
      */
     @Lazy
     @Autowired
-    public ParticipationService(ParticipationRepository repository, OfferService offerService) {
-        super(repository);
+    public ParticipationService(ParticipationRepository repository, OfferService offerService,
+                                RelationCounterService relationCounterService, OfferQueryCache offerQueryCache,
+                                OfferEventService offerEventService) {
+        super(repository, relationCounterService, COUNTER_NAME);
         this.offerService = offerService;
+        this.offerQueryCache = offerQueryCache;
+        this.offerEventService = offerEventService;
+    }
+
+    @Override
+    public Participation post(Participation entity) {
+        Participation postedEntity = super.post(entity);
+        publishParticipationAmounts(Collections.singleton(postedEntity.getTarget()));
+        return postedEntity;
+    }
+
+    @Override
+    public Participation put(Participation entity) {
+        Optional<Offer> optionalPreviousTarget = Objects.isNull(entity.getIdentifier())
+                || !offerEventService.hasSubscribers()
+                ? Optional.empty()
+                : getRepository().findById(entity.getIdentifier()).map(EntityRelation::getTarget);
+        Participation puttedEntity = super.put(entity);
+        Set<Offer> targets = new LinkedHashSet<>();
+        optionalPreviousTarget.ifPresent(targets::add);
+        targets.add(puttedEntity.getTarget());
+        publishParticipationAmounts(targets);
+        return puttedEntity;
+    }
+
+    @Override
+    public void delete(Participation entity) {
+        Optional<Participation> optionalPersistentEntity = Objects.isNull(Objects.requireNonNull(entity).getIdentifier())
+                ? Optional.empty()
+                : getRepository().findById(entity.getIdentifier());
+        super.delete(entity);
+        optionalPersistentEntity.ifPresent(persistentEntity ->
+                publishParticipationAmounts(Collections.singleton(persistentEntity.getTarget())));
+    }
+
+    @Override
+    public void delete(String identifier) {
+        Optional<Participation> optionalPersistentEntity = getRepository().findById(Objects.requireNonNull(identifier));
+        super.delete(identifier);
+        optionalPersistentEntity.ifPresent(persistentEntity ->
+                publishParticipationAmounts(Collections.singleton(persistentEntity.getTarget())));
+    }
+
+    @Override
+    public void deleteBySource(User source) {
+        Set<Offer> targets = getTargetsBySource(source);
+        super.deleteBySource(source);
+        publishParticipationAmounts(targets);
+    }
+
+    @Override
+    public void deleteBySourceOrTarget(User source, Offer target) {
+        Set<Offer> targets = new LinkedHashSet<>(getTargetsBySource(source));
+        targets.add(Objects.requireNonNull(target));
+        super.deleteBySourceOrTarget(source, target);
+        publishParticipationAmounts(targets);
+    }
+
+    @Override
+    public void deleteBySourceAndTarget(User source, Offer target) {
+        super.deleteBySourceAndTarget(source, target);
+        publishParticipationAmounts(Collections.singleton(target));
     }
 
     /**
@@ -58,7 +137,7 @@ public class ParticipationService extends EntityRelationService<Participation, U
         Optional<Offer> optionalOffer = offerService.get(offerIdentifier);
         if (optionalOffer.isPresent()) {
             Offer offer = optionalOffer.get();
-            long participantAmount = getRepository().countByTarget(offer);
+            long participantAmount = countByTarget(offer);
             return Optional.of(participantAmount < offer.getMaxParticipants());
         }
         return Optional.empty();
@@ -69,4 +148,42 @@ public class ParticipationService extends EntityRelationService<Participation, U
         return getRepository().existsBySourceAndTarget(entity.getSource(), entity.getTarget())
                 || super.existsPostConflict(entity);
     }
+
+    @Override
+    protected void onRelationsModified() {
+        offerQueryCache.invalidateRelationDependent();
+    }
+
+    /**
+     * Gets the {@link Offer offers} participated at by a {@link User user} if participation amounts are pushed to
+     * subscribed clients.
+     *
+     * @param source the participating user
+     * @return the participated offers or an empty set if there are no subscribed clients
+     */
+    private Set<Offer> getTargetsBySource(User source) {
+        if (!offerEventService.hasSubscribers()) {
+            return Set.of();
+        }
+        return Streams.stream(getBySource(Objects.requireNonNull(source)))
+                .map(EntityRelation::getTarget)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Pushes the current participation amounts of {@link Offer offers} to subscribed clients.
+     *
+     * @param offers the offers whose participation amounts changed
+     */
+    private void publishParticipationAmounts(Set<Offer> offers) {
+        if (!offerEventService.hasSubscribers()) {
+            return;
+        }
+        for (Offer offer : offers) {
+            if (Objects.nonNull(offer)) {
+                offerEventService.publish(OfferEvent.participationAmount(offer, (int) countByTarget(offer)));
+            }
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package meet_eat.server.service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import meet_eat.data.entity.user.Password;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Represents an executor running the derivations of {@link Password passwords} on a dedicated pool of bounded size
+ * with a bounded queue, so that bursts of logins and registrations cannot occupy the threads serving other requests.
+ * Derivations exceeding the queue are rejected immediately with a {@link PasswordDerivationRejectedException}
+ * instead of waiting.
+ */
+@Component
+public class PasswordDerivationExecutor {
+
+    private static final String ERROR_MESSAGE_REJECTED = "The password derivation is overloaded.";
+    private static final String THREAD_NAME_FORMAT = "password-derivation-%d";
+    private static final String METRIC_QUEUE_WAIT = "meet_eat.passwords.derivation.queue_wait";
+    private static final String METRIC_DURATION = "meet_eat.passwords.derivation.duration";
+    private static final String METRIC_REJECTED = "meet_eat.passwords.derivation.rejected";
+    private static final String METRIC_QUEUED = "meet_eat.passwords.derivation.queued";
+
+    private final ThreadPoolExecutor pool;
+    private final Timer queueWaitTimer;
+    private final Timer durationTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * Constructs a new instance of {@link PasswordDerivationExecutor}.
+     *
+     * @param meterRegistry the registry the derivation metrics are registered at
+     * @param poolSize      the number of threads deriving passwords or {@code 0} for the number of available processors
+     * @param queueCapacity the maximum number of derivations waiting for a thread
+     */
+    @Autowired
+    public PasswordDerivationExecutor(MeterRegistry meterRegistry,
+                                      @Value("${meet-eat.password-derivation.pool-size:0}") int poolSize,
+                                      @Value("${meet-eat.password-derivation.queue-capacity:64}") int queueCapacity) {
+        if (poolSize < 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("The pool size must not be negative and the queue capacity must be "
+                    + "positive.");
+        }
+        int threadCount = poolSize == 0 ? Runtime.getRuntime().availableProcessors() : poolSize;
+        this.pool = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat(THREAD_NAME_FORMAT).setDaemon(true).build(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.queueWaitTimer = Timer.builder(METRIC_QUEUE_WAIT).register(meterRegistry);
+        this.durationTimer = Timer.builder(METRIC_DURATION).register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_REJECTED).register(meterRegistry);
+        Gauge.builder(METRIC_QUEUED, pool, executor -> executor.getQueue().size()).register(meterRegistry);
+    }
+
+    /**
+     * Runs a password derivation on the dedicated pool and waits for its result.
+     *
+     * @param derivation the derivation to be run
+     * @param <T>        the type of the derivation's result
+     * @return the result of the derivation
+     * @throws PasswordDerivationRejectedException if the queue of the pool is full
+     */
+    public <T> T execute(Supplier<T> derivation) throws PasswordDerivationRejectedException {
+        Objects.requireNonNull(derivation);
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = pool.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return durationTimer.record(derivation);
+            });
+        } catch (RejectedExecutionException exception) {
+            rejectedCounter.increment();
+            throw new PasswordDerivationRejectedException(ERROR_MESSAGE_REJECTED);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordDerivationRejectedException(ERROR_MESSAGE_REJECTED);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    /**
+     * Shuts down the dedicated pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
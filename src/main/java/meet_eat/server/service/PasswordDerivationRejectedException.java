@@ -0,0 +1,24 @@
+package meet_eat.server.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Represents an exception indicating that a password derivation has been rejected by the
+ * {@link PasswordDerivationExecutor} because it is overloaded. Requests failing with this exception are answered with
+ * {@link HttpStatus#SERVICE_UNAVAILABLE}.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordDerivationRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 2385215237040151287L;
+
+    /**
+     * Constructs a new instance of {@link PasswordDerivationRejectedException} with a given message.
+     *
+     * @param message the message of the exception
+     */
+    public PasswordDerivationRejectedException(String message) {
+        super(message);
+    }
+}
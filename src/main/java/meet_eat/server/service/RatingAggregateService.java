@@ -0,0 +1,270 @@
+package meet_eat.server.service;
+
+import meet_eat.data.entity.relation.rating.Rating;
+import meet_eat.data.entity.relation.rating.RatingBasis;
+import meet_eat.data.entity.user.User;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a service class providing functionality to manage denormalized aggregates of {@link Rating ratings} per
+ * {@link User target user} and {@link RatingBasis}. Each aggregate is a single document containing the amount and the
+ * sum of the rating values, which is updated atomically by {@code $inc} operations. Aggregates which do not exist yet
+ * are seeded from the persisted ratings by the {@link RatingService}, so that ratings persisted before aggregating
+ * was enabled are aggregated as well.
+ */
+@Service
+public class RatingAggregateService {
+
+    /**
+     * Represents the name of the collection containing the aggregate documents.
+     */
+    public static final String COLLECTION_NAME = "ratingAggregates";
+
+    private static final String FIELD_IDENTIFIER = "_id";
+    private static final String FIELD_USER_IDENTIFIER = "userIdentifier";
+    private static final String FIELD_BASIS = "basis";
+    private static final String FIELD_COUNT = "count";
+    private static final String FIELD_SUM = "sum";
+    private static final String FIELD_REPAIR_RUN = "repairRun";
+    private static final String IDENTIFIER_SEPARATOR = ":";
+
+    private final MongoOperations mongoOperations;
+
+    /**
+     * Constructs a new instance of {@link RatingAggregateService}.
+     *
+     * @param mongoOperations the operations used for aggregate persistence
+     */
+    @Autowired
+    public RatingAggregateService(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    /**
+     * Finds the aggregate of the {@link Rating ratings} targeting a {@link User user} with a given
+     * {@link RatingBasis}.
+     *
+     * @param user        the target user of the ratings
+     * @param ratingBasis the basis of the ratings
+     * @return the aggregate of the ratings or {@link Optional#empty()} if the aggregate does not exist yet
+     */
+    public Optional<RatingAggregate> find(User user, RatingBasis ratingBasis) {
+        Objects.requireNonNull(user);
+        Objects.requireNonNull(ratingBasis);
+        Document aggregate = mongoOperations.findById(createIdentifier(user.getIdentifier(), ratingBasis),
+                Document.class, COLLECTION_NAME);
+        return Optional.ofNullable(aggregate).map(this::toRatingAggregate);
+    }
+
+    /**
+     * Gets the aggregates of the {@link Rating ratings} targeting multiple {@link User users} with a given
+     * {@link RatingBasis} within a single query.
+     *
+     * @param userIdentifiers the identifiers of the target users of the ratings
+     * @param ratingBasis     the basis of the ratings
+     * @return the aggregates of the ratings by user identifier, aggregates of missing users do not exist yet
+     */
+    public Map<String, RatingAggregate> getAll(Collection<String> userIdentifiers, RatingBasis ratingBasis) {
+        Objects.requireNonNull(userIdentifiers);
+        Map<String, RatingAggregate> aggregates = new HashMap<>();
+        if (Objects.isNull(ratingBasis) || userIdentifiers.isEmpty()) {
+            return aggregates;
+        }
+        Query query = Query.query(Criteria.where(FIELD_USER_IDENTIFIER).in(userIdentifiers)
+                .and(FIELD_BASIS).is(ratingBasis.name()));
+        for (Document aggregate : mongoOperations.find(query, Document.class, COLLECTION_NAME)) {
+            aggregates.put(aggregate.getString(FIELD_USER_IDENTIFIER), toRatingAggregate(aggregate));
+        }
+        return aggregates;
+    }
+
+    /**
+     * Atomically adds a {@link Rating} to or removes it from the aggregate of its target {@link User user} and
+     * {@link RatingBasis} if the aggregate exists.
+     *
+     * @param rating the rating to be added or removed
+     * @param sign   {@code 1} to add the rating, {@code -1} to remove it
+     * @return {@code true} if the aggregate exists or the rating is not aggregated, {@code false} if the aggregate
+     * does not exist yet
+     */
+    public boolean incrementIfPresent(Rating rating, int sign) {
+        Objects.requireNonNull(rating);
+        if (Objects.isNull(rating.getTarget()) || Objects.isNull(rating.getBasis()) || Objects.isNull(rating.getValue())) {
+            return true;
+        }
+        String userIdentifier = Objects.requireNonNull(rating.getTarget().getIdentifier());
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER)
+                .is(createIdentifier(userIdentifier, rating.getBasis())));
+        Update update = new Update()
+                .inc(FIELD_COUNT, (long) sign)
+                .inc(FIELD_SUM, (long) sign * rating.getValue().getIntegerValue());
+        return mongoOperations.updateFirst(query, update, COLLECTION_NAME).getMatchedCount() > 0L;
+    }
+
+    /**
+     * Creates the aggregate of the {@link Rating ratings} targeting a {@link User user} with a given
+     * {@link RatingBasis} unless the aggregate already exists, e.g. because it has been seeded concurrently.
+     *
+     * @param user        the target user of the ratings
+     * @param ratingBasis the basis of the ratings
+     * @param ratings     all persisted ratings targeting the user with the given basis
+     * @return the aggregate of the ratings after seeding
+     */
+    public RatingAggregate seed(User user, RatingBasis ratingBasis, Iterable<Rating> ratings) {
+        String userIdentifier = Objects.requireNonNull(Objects.requireNonNull(user).getIdentifier());
+        RatingAggregate seededAggregate = aggregate(ratings);
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(createIdentifier(userIdentifier, ratingBasis)));
+        Update update = new Update()
+                .setOnInsert(FIELD_COUNT, seededAggregate.getCount())
+                .setOnInsert(FIELD_SUM, seededAggregate.getSum())
+                .setOnInsert(FIELD_USER_IDENTIFIER, userIdentifier)
+                .setOnInsert(FIELD_BASIS, ratingBasis.name());
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        Document aggregate = mongoOperations.findAndModify(query, update, options, Document.class, COLLECTION_NAME);
+        return Objects.isNull(aggregate) ? seededAggregate : toRatingAggregate(aggregate);
+    }
+
+    /**
+     * Removes all aggregates of the {@link Rating ratings} targeting a {@link User user}.
+     *
+     * @param user the target user of the ratings
+     */
+    public void reset(User user) {
+        Objects.requireNonNull(user);
+        Query query = Query.query(Criteria.where(FIELD_USER_IDENTIFIER).is(Objects.requireNonNull(user.getIdentifier())));
+        mongoOperations.remove(query, COLLECTION_NAME);
+    }
+
+    /**
+     * Overwrites the aggregate of the {@link Rating ratings} targeting a {@link User user} with a given
+     * {@link RatingBasis} and marks it as repaired by a repair run.
+     *
+     * @param user        the target user of the ratings
+     * @param ratingBasis the basis of the ratings
+     * @param ratings     all persisted ratings targeting the user with the given basis
+     * @param repairRun   the identifier of the repair run
+     */
+    public void repair(User user, RatingBasis ratingBasis, Iterable<Rating> ratings, String repairRun) {
+        String userIdentifier = Objects.requireNonNull(Objects.requireNonNull(user).getIdentifier());
+        RatingAggregate aggregate = aggregate(ratings);
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(createIdentifier(userIdentifier, ratingBasis)));
+        Update update = new Update()
+                .set(FIELD_COUNT, aggregate.getCount())
+                .set(FIELD_SUM, aggregate.getSum())
+                .set(FIELD_USER_IDENTIFIER, userIdentifier)
+                .set(FIELD_BASIS, ratingBasis.name())
+                .set(FIELD_REPAIR_RUN, Objects.requireNonNull(repairRun));
+        mongoOperations.upsert(query, update, COLLECTION_NAME);
+    }
+
+    /**
+     * Removes all aggregates which have not been repaired by a repair run, i.e. the aggregates of users no longer
+     * targeted by any rating.
+     *
+     * @param repairRun the identifier of the repair run
+     */
+    public void removeUnrepaired(String repairRun) {
+        Query query = Query.query(Criteria.where(FIELD_REPAIR_RUN).ne(Objects.requireNonNull(repairRun)));
+        mongoOperations.remove(query, COLLECTION_NAME);
+    }
+
+    /**
+     * Computes the aggregate of the given {@link Rating ratings}. Ratings without a value are not aggregated.
+     *
+     * @param ratings the ratings to be aggregated
+     * @return the aggregate of the ratings
+     */
+    private RatingAggregate aggregate(Iterable<Rating> ratings) {
+        long count = 0L;
+        long sum = 0L;
+        for (Rating rating : Objects.requireNonNull(ratings)) {
+            if (Objects.nonNull(rating.getValue())) {
+                count++;
+                sum += rating.getValue().getIntegerValue();
+            }
+        }
+        return new RatingAggregate(count, sum);
+    }
+
+    /**
+     * Converts an aggregate document into a {@link RatingAggregate}.
+     *
+     * @param aggregate the document to be converted or {@code null}
+     * @return the converted aggregate, which is empty if the document is {@code null}
+     */
+    private RatingAggregate toRatingAggregate(Document aggregate) {
+        if (Objects.isNull(aggregate)) {
+            return RatingAggregate.EMPTY;
+        }
+        return new RatingAggregate(((Number) aggregate.get(FIELD_COUNT)).longValue(),
+                ((Number) aggregate.get(FIELD_SUM)).longValue());
+    }
+
+    /**
+     * Creates the document identifier of an aggregate.
+     *
+     * @param userIdentifier the identifier of the target user of the ratings
+     * @param ratingBasis    the basis of the ratings
+     * @return the document identifier of the aggregate
+     */
+    private String createIdentifier(String userIdentifier, RatingBasis ratingBasis) {
+        return Objects.requireNonNull(userIdentifier) + IDENTIFIER_SEPARATOR + ratingBasis.name();
+    }
+
+    /**
+     * Represents the amount and the sum of the values of the {@link Rating ratings} targeting a {@link User user}
+     * with a specific {@link RatingBasis}.
+     */
+    public static class RatingAggregate {
+
+        /**
+         * Represents the aggregate of no ratings.
+         */
+        public static final RatingAggregate EMPTY = new RatingAggregate(0L, 0L);
+
+        private final long count;
+        private final long sum;
+
+        /**
+         * Constructs a new instance of {@link RatingAggregate}.
+         *
+         * @param count the amount of ratings
+         * @param sum   the sum of the rating values
+         */
+        public RatingAggregate(long count, long sum) {
+            this.count = count;
+            this.sum = sum;
+        }
+
+        /**
+         * Gets the amount of ratings.
+         *
+         * @return the amount of ratings
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the sum of the rating values.
+         *
+         * @return the sum of the rating values
+         */
+        public long getSum() {
+            return sum;
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package meet_eat.server.service;
 
-import com.google.common.collect.Streams;
+import com.google.common.collect.Iterables;
 import meet_eat.data.entity.Offer;
 import meet_eat.data.entity.relation.rating.Rating;
 import meet_eat.data.entity.relation.rating.RatingBasis;
 import meet_eat.data.entity.user.User;
 import meet_eat.server.repository.RatingRepository;
+import meet_eat.server.service.RatingAggregateService.RatingAggregate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents a service class providing functionality to manage {@link Rating ratings} and their state
@@ -23,19 +31,73 @@ public class RatingService extends EntityRelationService<Rating, User, User, Str
     private static final int MIN_AMOUNT_RATINGS = 5;
     private static final double DEFAULT_NOT_ENOUGH_RATINGS = 0d;
     private static final int ROUNDING_FACTOR = 10;
+    private static final String AGGREGATE_KEY_SEPARATOR = ":";
 
     private final UserService userService;
+    private final RatingAggregateService ratingAggregateService;
+    private final OfferQueryCache offerQueryCache;
 
     /**
      * Constructs a new instance of {@link RatingService}.
      *
-     * @param repository the repository used for persistence operations
+     * @param repository             the repository used for persistence operations
+     * @param userService            the service used to resolve users by identifier
+     * @param ratingAggregateService the service used for rating aggregate persistence
+     * @param offerQueryCache        the cache of offer listings depending on host ratings
      */
     @Lazy
     @Autowired
-    public RatingService(RatingRepository repository, UserService userService) {
+    public RatingService(RatingRepository repository, UserService userService,
+                         RatingAggregateService ratingAggregateService, OfferQueryCache offerQueryCache) {
         super(repository);
         this.userService = userService;
+        this.ratingAggregateService = ratingAggregateService;
+        this.offerQueryCache = offerQueryCache;
+    }
+
+    @Override
+    public Rating post(Rating entity) {
+        Rating postedEntity = super.post(entity);
+        incrementAggregate(postedEntity, 1);
+        return postedEntity;
+    }
+
+    @Override
+    public Rating put(Rating entity) {
+        Optional<Rating> optionalPersistentEntity = Objects.isNull(entity.getIdentifier())
+                ? Optional.empty()
+                : getRepository().findById(entity.getIdentifier());
+        Rating puttedEntity = super.put(entity);
+        if (optionalPersistentEntity.isPresent()) {
+            Rating persistentEntity = optionalPersistentEntity.get();
+
+            // A seeded aggregate already contains the putted rating instead of the persisted one.
+            if (!incrementAggregate(persistentEntity, -1) && isSameAggregate(persistentEntity, puttedEntity)) {
+                return puttedEntity;
+            }
+        }
+        incrementAggregate(puttedEntity, 1);
+        return puttedEntity;
+    }
+
+    @Override
+    public void deleteByTarget(User target) {
+        super.deleteByTarget(target);
+        ratingAggregateService.reset(target);
+    }
+
+    @Override
+    public void deleteBySourceAndTarget(User source, User target) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(target);
+        deleteEach(Iterables.filter(getBySource(source), rating -> target.equals(rating.getTarget())));
+        super.deleteBySourceAndTarget(source, target);
+    }
+
+    @Override
+    public void deleteBySourceOrTarget(User source, User target) {
+        super.deleteBySourceOrTarget(source, target);
+        ratingAggregateService.reset(target);
     }
 
     /**
@@ -44,7 +106,49 @@ public class RatingService extends EntityRelationService<Rating, User, User, Str
      * @param offer the offer of the ratings to be deleted
      */
     public void deleteByOffer(Offer offer) {
-        getRepository().deleteByOffer(Objects.requireNonNull(offer));
+        deleteEach(getRepository().findByOffer(Objects.requireNonNull(offer)));
+
+        // Ratings posted concurrently are removed as well and left to the repair of the aggregates.
+        getRepository().deleteByOffer(offer);
+        incrementAllVersions();
+        onRelationsModified();
+    }
+
+    /**
+     * Recomputes the denormalized rating aggregates of all {@link User users} from the persisted
+     * {@link Rating ratings}. Repairs aggregates diverged by e.g. failed or concurrent write operations. Each
+     * aggregate is computed right before it is written, so that a write operation concurrent to the repair is only
+     * overwritten within this short window instead of during the whole repair. Aggregates of users without ratings
+     * are swept afterwards.
+     */
+    public void repairRatingAggregates() {
+        String repairRun = UUID.randomUUID().toString();
+        Set<String> repairedAggregates = new HashSet<>();
+        try (Stream<Rating> ratings = getRepository().streamAllBy()) {
+            ratings.filter(rating -> Objects.nonNull(rating.getTarget()) && Objects.nonNull(rating.getBasis()))
+                    .filter(rating -> repairedAggregates.add(rating.getTarget().getIdentifier()
+                            + AGGREGATE_KEY_SEPARATOR + rating.getBasis().name()))
+                    .forEach(rating -> ratingAggregateService.repair(rating.getTarget(), rating.getBasis(),
+                            getRepository().findByTargetAndBasis(rating.getTarget(), rating.getBasis()),
+                            repairRun));
+        }
+        ratingAggregateService.removeUnrepaired(repairRun);
+        onRelationsModified();
+    }
+
+    @Override
+    protected boolean isTrackingRemovals() {
+        return true;
+    }
+
+    @Override
+    protected void onRelationRemoved(Rating rating) {
+        incrementAggregate(rating, -1);
+    }
+
+    @Override
+    protected void onRelationsModified() {
+        offerQueryCache.invalidateRelationDependent();
     }
 
     /**
@@ -56,10 +160,12 @@ public class RatingService extends EntityRelationService<Rating, User, User, Str
      * @return the averaged rating of a user
      */
     public double getRatingValue(User user, RatingBasis ratingBasis) {
-        Iterable<Rating> ratings = getByTarget(user);
-        long ratingCount = countRatings(ratings, ratingBasis);
-        double roundedRatingAverage = roundToFirstDecimal(averageRatings(ratings, ratingBasis));
-        return (ratingCount >= MIN_AMOUNT_RATINGS) ? roundedRatingAverage : DEFAULT_NOT_ENOUGH_RATINGS;
+        Objects.requireNonNull(user);
+        if (Objects.isNull(ratingBasis)) {
+            return getRatingValue(RatingAggregate.EMPTY);
+        }
+        return getRatingValue(ratingAggregateService.find(user, ratingBasis)
+                .orElseGet(() -> seedAggregate(user, ratingBasis)));
     }
 
     /**
@@ -76,39 +182,77 @@ public class RatingService extends EntityRelationService<Rating, User, User, Str
     }
 
     /**
-     * Counts the amount of {@link Rating ratings} based on a given {@link RatingBasis}.
+     * Gets the averaged values of the {@link Rating ratings} of multiple {@link User users} filtered by the
+     * {@link RatingBasis basis} of the ratings within a single query.
+     *
+     * @param users       the target users of the ratings to be used
+     * @param ratingBasis the basis of the ratings to be used
+     * @return the averaged ratings by user identifier
+     */
+    public Map<String, Double> getRatingValues(Collection<User> users, RatingBasis ratingBasis) {
+        Map<String, User> usersByIdentifier = users.stream()
+                .collect(Collectors.toMap(User::getIdentifier, user -> user, (user, duplicate) -> user));
+        Map<String, RatingAggregate> aggregates = ratingAggregateService.getAll(usersByIdentifier.keySet(), ratingBasis);
+        return usersByIdentifier.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                entry -> Objects.isNull(ratingBasis)
+                        ? getRatingValue(RatingAggregate.EMPTY)
+                        : getRatingValue(aggregates.computeIfAbsent(entry.getKey(),
+                        missingIdentifier -> seedAggregate(entry.getValue(), ratingBasis)))));
+    }
+
+    /**
+     * Adds a {@link Rating} to or removes it from the aggregate of its target {@link User user} and
+     * {@link RatingBasis}. A missing aggregate is seeded from the persisted ratings, which already include the
+     * aggregated write operation.
+     *
+     * @param rating the rating to be added or removed
+     * @param sign   {@code 1} to add the rating, {@code -1} to remove it
+     * @return {@code true} if the aggregate has been incremented, {@code false} if it has been seeded instead
+     */
+    private boolean incrementAggregate(Rating rating, int sign) {
+        if (ratingAggregateService.incrementIfPresent(rating, sign)) {
+            return true;
+        }
+        seedAggregate(rating.getTarget(), rating.getBasis());
+        return false;
+    }
+
+    /**
+     * Signalizes whether two {@link Rating ratings} are aggregated by the same aggregate.
      *
-     * @param ratings     the ratings to be filtered by {@link RatingBasis} and counted
-     * @param ratingBasis the rating basis of the ratings to be counted
-     * @return the amount of specific ratings
+     * @param rating      the first rating
+     * @param otherRating the second rating
+     * @return {@code true} if both ratings have the same target {@link User user} and {@link RatingBasis},
+     * {@code false} otherwise.
      */
-    private long countRatings(Iterable<Rating> ratings, RatingBasis ratingBasis) {
-        return Streams.stream(ratings).filter(x -> x.getBasis().equals(ratingBasis)).count();
+    private boolean isSameAggregate(Rating rating, Rating otherRating) {
+        return Objects.equals(rating.getTarget(), otherRating.getTarget())
+                && Objects.equals(rating.getBasis(), otherRating.getBasis());
     }
 
     /**
-     * Sums up the values of {@link Rating ratings} based on a given {@link RatingBasis}.
+     * Seeds the missing aggregate of a {@link User user} and {@link RatingBasis} with its persisted
+     * {@link Rating ratings}, e.g. for ratings persisted before they have been aggregated.
      *
-     * @param ratings     the ratings to be filtered by {@link RatingBasis} and summed up
-     * @param ratingBasis the rating basis of the ratings to be summed up
-     * @return the sum of specific ratings
+     * @param user        the target user of the ratings
+     * @param ratingBasis the basis of the ratings
+     * @return the aggregate of the ratings after seeding
      */
-    private int sumRatings(Iterable<Rating> ratings, RatingBasis ratingBasis) {
-        return Streams.stream(ratings)
-                .filter(x -> x.getBasis().equals(ratingBasis))
-                .mapToInt(x -> x.getValue().getIntegerValue())
-                .sum();
+    private RatingAggregate seedAggregate(User user, RatingBasis ratingBasis) {
+        return ratingAggregateService.seed(user, ratingBasis, getRepository().findByTargetAndBasis(user, ratingBasis));
     }
 
     /**
-     * Averages the values of {@link Rating ratings} based on a given {@link RatingBasis}.
+     * Gets the averaged value of a {@link RatingAggregate}.
      *
-     * @param ratings     the ratings to be filtered by {@link RatingBasis} and averaged
-     * @param ratingBasis the rating basis of the ratings to be averaged
-     * @return the average of specific ratings
+     * @param aggregate the aggregate of the ratings to be used
+     * @return the averaged rating or the default value if there are not enough ratings
      */
-    private double averageRatings(Iterable<Rating> ratings, RatingBasis ratingBasis) {
-        return (double) sumRatings(ratings, ratingBasis) / (double) countRatings(ratings, ratingBasis);
+    private double getRatingValue(RatingAggregate aggregate) {
+        if (aggregate.getCount() < MIN_AMOUNT_RATINGS) {
+            return DEFAULT_NOT_ENOUGH_RATINGS;
+        }
+        return roundToFirstDecimal((double) aggregate.getSum() / (double) aggregate.getCount());
     }
 
     /**
@@ -0,0 +1,93 @@
+package meet_eat.server.service;
+
+import meet_eat.data.entity.relation.Bookmark;
+import meet_eat.data.entity.relation.Participation;
+import meet_eat.data.entity.relation.Subscription;
+import meet_eat.data.entity.relation.rating.Rating;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Represents a scheduled task recomputing the denormalized relation counters maintained by the
+ * {@link RelationCounterService} and the rating aggregates maintained by the {@link RatingAggregateService}. The
+ * counters and aggregates can additionally be backfilled on startup, e.g. for relations persisted before they have
+ * been counted. Until then, missing counters and aggregates are seeded on demand by their services.
+ * <p>
+ * The repair is locked by the {@link TaskLockService}, so that it runs on a single node even if all nodes are
+ * scheduled or started at the same time.
+ */
+@Component
+public class RelationCounterRepairTask {
+
+    private static final String TASK_NAME = "relationCounterRepair";
+
+    private final ParticipationService participationService;
+    private final BookmarkService bookmarkService;
+    private final SubscriptionService subscriptionService;
+    private final RatingService ratingService;
+    private final TaskLockService taskLockService;
+    private final boolean repairOnStartup;
+    private final Duration lockLease;
+
+    /**
+     * Constructs a new instance of {@link RelationCounterRepairTask}.
+     *
+     * @param participationService the service maintaining the {@link Participation} counters
+     * @param bookmarkService      the service maintaining the {@link Bookmark} counters
+     * @param subscriptionService  the service maintaining the {@link Subscription} counters
+     * @param ratingService        the service maintaining the {@link Rating} aggregates
+     * @param taskLockService      the service locking the repair to a single node
+     * @param repairOnStartup      whether the counters and aggregates are recomputed as soon as the application is
+     *                             ready
+     * @param lockLeaseMinutes     the number of minutes the repair is locked for once a node has started it
+     */
+    @Lazy
+    @Autowired
+    public RelationCounterRepairTask(ParticipationService participationService, BookmarkService bookmarkService,
+                                     SubscriptionService subscriptionService, RatingService ratingService,
+                                     TaskLockService taskLockService,
+                                     @Value("${meet-eat.relation-counter.repair-on-startup:false}")
+                                             boolean repairOnStartup,
+                                     @Value("${meet-eat.relation-counter.repair-lock-minutes:60}")
+                                             long lockLeaseMinutes) {
+        this.participationService = participationService;
+        this.bookmarkService = bookmarkService;
+        this.subscriptionService = subscriptionService;
+        this.ratingService = ratingService;
+        this.taskLockService = taskLockService;
+        this.repairOnStartup = repairOnStartup;
+        this.lockLease = Duration.ofMinutes(lockLeaseMinutes);
+    }
+
+    /**
+     * Backfills all relation counters and rating aggregates as soon as the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairCountersOnStartup() {
+        if (repairOnStartup) {
+            repairCounters();
+        }
+    }
+
+    /**
+     * Recomputes all relation counters and rating aggregates from the persisted relations unless another node is
+     * already repairing them.
+     */
+    @Scheduled(cron = "${meet-eat.relation-counter.repair-cron:0 0 4 * * *}")
+    public void repairCounters() {
+        if (!taskLockService.tryLock(TASK_NAME, lockLease)) {
+            return;
+        }
+        participationService.repairTargetCounters();
+        bookmarkService.repairTargetCounters();
+        subscriptionService.repairTargetCounters();
+        ratingService.repairRatingAggregates();
+    }
+}
@@ -0,0 +1,214 @@
+package meet_eat.server.service;
+
+import meet_eat.data.entity.Entity;
+import meet_eat.data.entity.relation.EntityRelation;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a service class providing functionality to manage denormalized counters of
+ * {@link EntityRelation entity relations} per {@link Entity target entity}. Each counter is a single document which is
+ * updated atomically by {@code $inc} operations, so that counting relations is a single point read. Counters which
+ * do not exist yet are seeded from the persisted relations by their users, so that relations persisted before counting
+ * was enabled are counted as well.
+ */
+@Service
+public class RelationCounterService {
+
+    /**
+     * Represents the name of the collection containing the counter documents.
+     */
+    public static final String COLLECTION_NAME = "relationCounters";
+
+    private static final String FIELD_IDENTIFIER = "_id";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_TARGET_IDENTIFIER = "targetIdentifier";
+    private static final String FIELD_COUNT = "count";
+    private static final String FIELD_REPAIR_RUN = "repairRun";
+    private static final String IDENTIFIER_SEPARATOR = ":";
+
+    private final MongoOperations mongoOperations;
+
+    /**
+     * Constructs a new instance of {@link RelationCounterService}.
+     *
+     * @param mongoOperations the operations used for counter persistence
+     */
+    @Autowired
+    public RelationCounterService(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    /**
+     * Gets the value of a named counter of a {@link Entity target entity}.
+     *
+     * @param name   the name of the counter
+     * @param target the target entity of the counted relations
+     * @return the value of the counter or {@code 0} if the counter does not exist
+     */
+    public long get(String name, Entity<?> target) {
+        Document counter = mongoOperations.findById(createIdentifier(name, target), Document.class, COLLECTION_NAME);
+        return Objects.isNull(counter) ? 0L : ((Number) counter.get(FIELD_COUNT)).longValue();
+    }
+
+    /**
+     * Finds the value of a named counter of a {@link Entity target entity}.
+     *
+     * @param name   the name of the counter
+     * @param target the target entity of the counted relations
+     * @return the value of the counter or {@link Optional#empty()} if the counter does not exist yet
+     */
+    public Optional<Long> find(String name, Entity<?> target) {
+        Document counter = mongoOperations.findById(createIdentifier(name, target), Document.class, COLLECTION_NAME);
+        return Optional.ofNullable(counter).map(document -> ((Number) document.get(FIELD_COUNT)).longValue());
+    }
+
+    /**
+     * Gets the values of a named counter of multiple {@link Entity target entities} within a single query.
+     *
+     * @param name              the name of the counter
+     * @param targetIdentifiers the identifiers of the target entities of the counted relations
+     * @return the values of the counters by target identifier, missing targets have the value {@code 0}
+     */
+    public Map<String, Long> getAll(String name, Collection<String> targetIdentifiers) {
+        Objects.requireNonNull(name);
+        Map<String, Long> counts = new HashMap<>();
+        if (Objects.requireNonNull(targetIdentifiers).isEmpty()) {
+            return counts;
+        }
+        Query query = Query.query(Criteria.where(FIELD_NAME).is(name)
+                .and(FIELD_TARGET_IDENTIFIER).in(targetIdentifiers));
+        for (Document counter : mongoOperations.find(query, Document.class, COLLECTION_NAME)) {
+            counts.put(counter.getString(FIELD_TARGET_IDENTIFIER), ((Number) counter.get(FIELD_COUNT)).longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * Atomically adds a delta to a named counter of a {@link Entity target entity}.
+     * The counter is created if it does not exist yet.
+     *
+     * @param name   the name of the counter
+     * @param target the target entity of the counted relations
+     * @param delta  the delta to be added
+     * @return the value of the counter after the modification
+     */
+    public long increment(String name, Entity<?> target, long delta) {
+        String targetIdentifier = Objects.requireNonNull(target.getIdentifier()).toString();
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(createIdentifier(name, target)));
+        Update update = new Update()
+                .inc(FIELD_COUNT, delta)
+                .setOnInsert(FIELD_NAME, name)
+                .setOnInsert(FIELD_TARGET_IDENTIFIER, targetIdentifier);
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        Document counter = mongoOperations.findAndModify(query, update, options, Document.class, COLLECTION_NAME);
+        return Objects.isNull(counter) ? delta : ((Number) counter.get(FIELD_COUNT)).longValue();
+    }
+
+    /**
+     * Atomically adds a delta to a named counter of a {@link Entity target entity} if the counter exists.
+     *
+     * @param name   the name of the counter
+     * @param target the target entity of the counted relations
+     * @param delta  the delta to be added
+     * @return the value of the counter after the modification or {@link Optional#empty()} if the counter does not
+     * exist yet
+     */
+    public Optional<Long> incrementIfPresent(String name, Entity<?> target, long delta) {
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(createIdentifier(name, target)));
+        Update update = new Update().inc(FIELD_COUNT, delta);
+        FindAndModifyOptions options = FindAndModifyOptions.options().returnNew(true);
+        Document counter = mongoOperations.findAndModify(query, update, options, Document.class, COLLECTION_NAME);
+        return Optional.ofNullable(counter).map(document -> ((Number) document.get(FIELD_COUNT)).longValue());
+    }
+
+    /**
+     * Creates a named counter of a {@link Entity target entity} with an initial value unless the counter already
+     * exists, e.g. because it has been seeded concurrently.
+     *
+     * @param name   the name of the counter
+     * @param target the target entity of the counted relations
+     * @param count  the initial value of the counter
+     * @return the value of the counter after seeding
+     */
+    public long seed(String name, Entity<?> target, long count) {
+        String targetIdentifier = Objects.requireNonNull(target.getIdentifier()).toString();
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(createIdentifier(name, target)));
+        Update update = new Update()
+                .setOnInsert(FIELD_COUNT, count)
+                .setOnInsert(FIELD_NAME, name)
+                .setOnInsert(FIELD_TARGET_IDENTIFIER, targetIdentifier);
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        Document counter = mongoOperations.findAndModify(query, update, options, Document.class, COLLECTION_NAME);
+        return Objects.isNull(counter) ? count : ((Number) counter.get(FIELD_COUNT)).longValue();
+    }
+
+    /**
+     * Removes a named counter of a {@link Entity target entity}, so that its value is {@code 0} afterwards.
+     *
+     * @param name   the name of the counter
+     * @param target the target entity of the counted relations
+     */
+    public void reset(String name, Entity<?> target) {
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(createIdentifier(name, target)));
+        mongoOperations.remove(query, COLLECTION_NAME);
+    }
+
+    /**
+     * Sets a named counter of a {@link Entity target entity} to a recomputed value and marks it as repaired by a
+     * repair run.
+     *
+     * @param name      the name of the counter
+     * @param target    the target entity of the counted relations
+     * @param count     the recomputed value of the counter
+     * @param repairRun the identifier of the repair run
+     */
+    public void repair(String name, Entity<?> target, long count, String repairRun) {
+        String targetIdentifier = Objects.requireNonNull(target.getIdentifier()).toString();
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(createIdentifier(name, target)));
+        Update update = new Update()
+                .set(FIELD_COUNT, count)
+                .set(FIELD_NAME, name)
+                .set(FIELD_TARGET_IDENTIFIER, targetIdentifier)
+                .set(FIELD_REPAIR_RUN, Objects.requireNonNull(repairRun));
+        mongoOperations.upsert(query, update, COLLECTION_NAME);
+    }
+
+    /**
+     * Removes all counters of a given name which have not been marked as repaired by a repair run, i.e. the counters
+     * of targets without relations. Counters created concurrently to the repair run are removed as well and seeded
+     * again on demand.
+     *
+     * @param name      the name of the counters
+     * @param repairRun the identifier of the repair run
+     */
+    public void removeUnrepaired(String name, String repairRun) {
+        Query query = Query.query(Criteria.where(FIELD_NAME).is(Objects.requireNonNull(name))
+                .and(FIELD_REPAIR_RUN).ne(Objects.requireNonNull(repairRun)));
+        mongoOperations.remove(query, COLLECTION_NAME);
+    }
+
+    /**
+     * Creates the document identifier of a named counter of a {@link Entity target entity}.
+     *
+     * @param name   the name of the counter
+     * @param target the target entity of the counted relations
+     * @return the document identifier of the counter
+     */
+    private String createIdentifier(String name, Entity<?> target) {
+        return Objects.requireNonNull(name) + IDENTIFIER_SEPARATOR
+                + Objects.requireNonNull(Objects.requireNonNull(target).getIdentifier());
+    }
+}
@@ -1,5 +1,6 @@
 package meet_eat.server.service;
 
+import com.google.common.collect.Streams;
 import meet_eat.data.entity.relation.Subscription;
 import meet_eat.data.entity.user.User;
 import meet_eat.server.repository.SubscriptionRepository;
@@ -7,7 +8,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Represents a service class providing functionality to manage {@link Subscription subscriptions} and their state
@@ -16,19 +20,78 @@ import java.util.Optional;
 @Service
 public class SubscriptionService extends EntityRelationService<Subscription, User, User, String, SubscriptionRepository> {
 
+    private static final String COUNTER_NAME = "subscriptions";
+
     private final UserService userService;
+    private final TimelineService timelineService;
+    private final OfferQueryCache offerQueryCache;
 
     /**
      * Constructs a new instance of {@link SubscriptionService}.
      *
-     * @param repository  the repository used for persistence operations
-     * @param userService the service used for operations on and with {@link User} entities
+     * @param repository             the repository used for persistence operations
+     * @param userService            the service used for operations on and with {@link User} entities
+     * @param relationCounterService the service used for maintaining the subscription counters per target
+     * @param timelineService        the service used for maintaining the timelines of subscribers
+     * @param offerQueryCache        the cache of offer listings depending on subscriptions
      */
     @Lazy
     @Autowired
-    public SubscriptionService(SubscriptionRepository repository, UserService userService) {
-        super(repository);
+    public SubscriptionService(SubscriptionRepository repository, UserService userService,
+                               RelationCounterService relationCounterService, TimelineService timelineService,
+                               OfferQueryCache offerQueryCache) {
+        super(repository, relationCounterService, COUNTER_NAME);
         this.userService = userService;
+        this.timelineService = timelineService;
+        this.offerQueryCache = offerQueryCache;
+    }
+
+    @Override
+    public Subscription post(Subscription entity) {
+        Subscription postedEntity = super.post(entity);
+        timelineService.subscribe(postedEntity, () -> getSubscribedUsers(postedEntity.getSource()));
+        return postedEntity;
+    }
+
+    @Override
+    public void delete(Subscription entity) {
+        Optional<Subscription> optionalPersistentEntity = Objects.isNull(Objects.requireNonNull(entity).getIdentifier())
+                ? Optional.empty()
+                : getRepository().findById(entity.getIdentifier());
+        super.delete(entity);
+        optionalPersistentEntity.ifPresent(timelineService::unsubscribe);
+    }
+
+    @Override
+    public void delete(String identifier) {
+        Optional<Subscription> optionalPersistentEntity = getRepository().findById(Objects.requireNonNull(identifier));
+        super.delete(identifier);
+        optionalPersistentEntity.ifPresent(timelineService::unsubscribe);
+    }
+
+    @Override
+    public void deleteBySource(User source) {
+        super.deleteBySource(source);
+        timelineService.removeTimeline(source);
+    }
+
+    @Override
+    public void deleteByTarget(User target) {
+        super.deleteByTarget(target);
+        timelineService.removeCreator(target);
+    }
+
+    @Override
+    public void deleteBySourceAndTarget(User source, User target) {
+        super.deleteBySourceAndTarget(source, target);
+        timelineService.unsubscribe(new Subscription(source, target));
+    }
+
+    @Override
+    public void deleteBySourceOrTarget(User source, User target) {
+        super.deleteBySourceOrTarget(source, target);
+        timelineService.removeTimeline(source);
+        timelineService.removeCreator(target);
     }
 
     /**
@@ -43,8 +106,26 @@ public class SubscriptionService extends EntityRelationService<Subscription, Use
         return optionalUser.map(this::getBySource);
     }
 
+    /**
+     * Gets all {@link User users} subscribed by a specific {@link User subscriber}.
+     *
+     * @param subscriber the subscriber
+     * @return the subscribed users
+     */
+    public Set<User> getSubscribedUsers(User subscriber) {
+        return Streams.stream(getBySource(Objects.requireNonNull(subscriber)))
+                .map(Subscription::getTarget)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public boolean existsPostConflict(Subscription entity) {
         return existsBySourceAndTarget(entity.getSource(), entity.getTarget()) || super.existsPostConflict(entity);
     }
+
+    @Override
+    protected void onRelationsModified() {
+        offerQueryCache.invalidateSubscriberListings();
+    }
 }
@@ -6,20 +6,40 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+
 /**
  * Represents a service class providing functionality to manage {@link Tag tags} and their state persistence.
  */
 @Service
 public class TagService extends EntityService<Tag, String, TagRepository> {
 
+    private final OfferTagIndex offerTagIndex;
+
     /**
      * Constructs a new instance of {@link TagService}.
      *
      * @param tagRepository the repository used for persistence operations
+     * @param offerTagIndex the in-memory bitmap index of offer tags kept current by this service
      */
     @Lazy
     @Autowired
-    public TagService(TagRepository tagRepository) {
+    public TagService(TagRepository tagRepository, OfferTagIndex offerTagIndex) {
         super(tagRepository);
+        this.offerTagIndex = offerTagIndex;
+    }
+
+    @Override
+    public void delete(Tag entity) {
+        super.delete(entity);
+        if (Objects.nonNull(entity.getIdentifier())) {
+            offerTagIndex.removeTag(entity.getIdentifier());
+        }
+    }
+
+    @Override
+    public void delete(String identifier) {
+        super.delete(identifier);
+        offerTagIndex.removeTag(identifier);
     }
 }
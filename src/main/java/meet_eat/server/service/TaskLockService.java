@@ -0,0 +1,71 @@
+package meet_eat.server.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Represents a service class providing functionality to run a maintenance task on a single node at a time. A task is
+ * locked by a lease document in a collection shared by all nodes, which is acquired atomically by the first node and
+ * expires after the lease duration. The lease is not released early, so that the nodes scheduled at the same time do
+ * not run the task one after another.
+ */
+@Service
+public class TaskLockService {
+
+    /**
+     * Represents the name of the collection containing the lease documents.
+     */
+    public static final String COLLECTION_NAME = "taskLocks";
+
+    private static final String FIELD_IDENTIFIER = "_id";
+    private static final String FIELD_LOCKED_UNTIL = "lockedUntil";
+    private static final String FIELD_LOCKED_BY = "lockedBy";
+
+    private final MongoOperations mongoOperations;
+    private final String nodeIdentifier = UUID.randomUUID().toString();
+
+    /**
+     * Constructs a new instance of {@link TaskLockService}.
+     *
+     * @param mongoOperations the operations used for lease persistence
+     */
+    @Autowired
+    public TaskLockService(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    /**
+     * Tries to acquire the lease of a task.
+     *
+     * @param taskName the name of the task
+     * @param lease    the duration the task is locked for
+     * @return {@code true} if the lease has been acquired by this node, {@code false} if the task is locked by
+     * another node or by this node
+     */
+    public boolean tryLock(String taskName, Duration lease) {
+        Objects.requireNonNull(taskName);
+        long now = System.currentTimeMillis();
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(taskName)
+                .and(FIELD_LOCKED_UNTIL).lte(new Date(now)));
+        Update update = new Update()
+                .set(FIELD_LOCKED_UNTIL, new Date(now + lease.toMillis()))
+                .set(FIELD_LOCKED_BY, nodeIdentifier);
+        try {
+            // A locked lease does not match, so that the upsert collides with the existing lease document.
+            mongoOperations.upsert(query, update, COLLECTION_NAME);
+            return true;
+        } catch (DuplicateKeyException exception) {
+            return false;
+        }
+    }
+}
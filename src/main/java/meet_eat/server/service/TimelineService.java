@@ -0,0 +1,325 @@
+package meet_eat.server.service;
+
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.relation.Subscription;
+import meet_eat.data.entity.user.User;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a service class providing functionality to manage the timelines of subscribers. A timeline is a single
+ * document per subscriber containing the identifiers of the latest {@link Offer offers} of all subscribed
+ * {@link User users}, which is written on offer creation (fan-out on write), so that the subscriber feed is a single
+ * document read. Timelines are bounded to a configurable capacity and only maintained if enabled.
+ * <p>
+ * Offers are only appended to existing timelines. A missing timeline, e.g. of a subscriber whose subscriptions
+ * existed before timelines have been enabled, is backfilled from all of its subscribed users on the first subscription
+ * or read. Entries are pushed conditionally on their absence, so that concurrent appends and backfills never
+ * duplicate an entry.
+ */
+@Service
+public class TimelineService {
+
+    /**
+     * Represents the name of the collection containing the timeline documents.
+     */
+    public static final String COLLECTION_NAME = "timelines";
+
+    /**
+     * Represents the document field of the timeline entries.
+     */
+    public static final String FIELD_ENTRIES = "entries";
+
+    /**
+     * Represents the document field of an entry's offer identifier.
+     */
+    public static final String FIELD_OFFER_IDENTIFIER = "offerIdentifier";
+
+    /**
+     * Represents the document field of an entry's creator identifier.
+     */
+    public static final String FIELD_CREATOR_IDENTIFIER = "creatorIdentifier";
+
+    private static final String FIELD_IDENTIFIER = "_id";
+    private static final String FIELD_OFFER_CREATOR = "creator";
+
+    private final MongoOperations mongoOperations;
+    private final boolean enabled;
+    private final int capacity;
+
+    /**
+     * Constructs a new instance of {@link TimelineService}.
+     *
+     * @param mongoOperations the operations used for timeline persistence
+     * @param enabled         whether timelines are maintained and used for subscriber feeds
+     * @param capacity        the maximum number of offers per timeline
+     */
+    @Autowired
+    public TimelineService(MongoOperations mongoOperations,
+                           @Value("${meet-eat.timeline.enabled:false}") boolean enabled,
+                           @Value("${meet-eat.timeline.capacity:500}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The timeline capacity must be positive.");
+        }
+        this.mongoOperations = mongoOperations;
+        this.enabled = enabled;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Signalizes whether timelines are maintained and used for subscriber feeds.
+     *
+     * @return {@code true} if timelines are enabled, {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the identifiers of the {@link Offer offers} within the timeline of a subscriber, oldest first. A missing
+     * timeline is backfilled first.
+     *
+     * @param subscriber the subscriber of the timeline
+     * @param creators   the supplier of all users subscribed by the subscriber
+     * @return the offer identifiers of the timeline
+     */
+    public List<String> getOfferIdentifiers(User subscriber, Supplier<Collection<User>> creators) {
+        Objects.requireNonNull(subscriber);
+        Objects.requireNonNull(creators);
+        if (!exists(subscriber)) {
+            backfill(subscriber, creators);
+        }
+        return getOfferIdentifiers(subscriber);
+    }
+
+    /**
+     * Gets the identifiers of the {@link Offer offers} within the timeline of a subscriber, oldest first.
+     *
+     * @param subscriber the subscriber of the timeline
+     * @return the offer identifiers of the timeline or an empty list if the timeline does not exist
+     */
+    public List<String> getOfferIdentifiers(User subscriber) {
+        Objects.requireNonNull(subscriber);
+        Document timeline = mongoOperations.findById(Objects.requireNonNull(subscriber.getIdentifier()),
+                Document.class, COLLECTION_NAME);
+        if (Objects.isNull(timeline)) {
+            return new LinkedList<>();
+        }
+        return timeline.getList(FIELD_ENTRIES, Document.class).stream()
+                .map(entry -> entry.getString(FIELD_OFFER_IDENTIFIER))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Appends an {@link Offer offer} to the existing timelines of the given subscribers of its creator using a single
+     * bulk operation.
+     *
+     * @param offer       the offer to be appended
+     * @param subscribers the subscribers of the offer's creator
+     */
+    public void append(Offer offer, Collection<User> subscribers) {
+        Objects.requireNonNull(offer);
+        Objects.requireNonNull(subscribers);
+        if (!enabled || subscribers.isEmpty()) {
+            return;
+        }
+        Document entry = createEntry(offer);
+        BulkOperations bulkOperations = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION_NAME);
+        for (User subscriber : subscribers) {
+            bulkOperations.updateOne(createAbsentEntryQuery(subscriber.getIdentifier(), entry), createPushUpdate(entry));
+        }
+        bulkOperations.execute();
+    }
+
+    /**
+     * Removes an {@link Offer offer} from all timelines.
+     *
+     * @param offerIdentifier the identifier of the offer to be removed
+     */
+    public void remove(String offerIdentifier) {
+        Objects.requireNonNull(offerIdentifier);
+        if (!enabled) {
+            return;
+        }
+        Query query = Query.query(Criteria.where(FIELD_ENTRIES + "." + FIELD_OFFER_IDENTIFIER).is(offerIdentifier));
+        Update update = new Update().pull(FIELD_ENTRIES, new Document(FIELD_OFFER_IDENTIFIER, offerIdentifier));
+        mongoOperations.updateMulti(query, update, COLLECTION_NAME);
+    }
+
+    /**
+     * Backfills the timeline of a subscriber with the latest {@link Offer offers} of a newly subscribed
+     * {@link User creator}. A missing timeline is backfilled from all subscribed users instead.
+     *
+     * @param subscription the new subscription, which must already be persisted
+     * @param creators     the supplier of all users subscribed by the subscriber
+     */
+    public void subscribe(Subscription subscription, Supplier<Collection<User>> creators) {
+        Objects.requireNonNull(subscription);
+        Objects.requireNonNull(creators);
+        if (!enabled || Objects.isNull(subscription.getSource()) || Objects.isNull(subscription.getTarget())) {
+            return;
+        }
+        if (exists(subscription.getSource())) {
+            pushLatestOffers(subscription.getSource(), List.of(subscription.getTarget()));
+        } else {
+            backfill(subscription.getSource(), creators);
+        }
+    }
+
+    /**
+     * Prunes the {@link Offer offers} of a no longer subscribed {@link User creator} from the timeline of a
+     * subscriber.
+     *
+     * @param subscription the removed subscription
+     */
+    public void unsubscribe(Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (!enabled || Objects.isNull(subscription.getSource()) || Objects.isNull(subscription.getTarget())) {
+            return;
+        }
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(subscription.getSource().getIdentifier()));
+        Update update = new Update().pull(FIELD_ENTRIES,
+                new Document(FIELD_CREATOR_IDENTIFIER, subscription.getTarget().getIdentifier()));
+        mongoOperations.updateFirst(query, update, COLLECTION_NAME);
+    }
+
+    /**
+     * Removes the timeline of a subscriber.
+     *
+     * @param subscriber the subscriber of the timeline
+     */
+    public void removeTimeline(User subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!enabled) {
+            return;
+        }
+        mongoOperations.remove(Query.query(Criteria.where(FIELD_IDENTIFIER).is(subscriber.getIdentifier())),
+                COLLECTION_NAME);
+    }
+
+    /**
+     * Prunes the {@link Offer offers} of a {@link User creator} from all timelines.
+     *
+     * @param creator the creator of the offers to be pruned
+     */
+    public void removeCreator(User creator) {
+        Objects.requireNonNull(creator);
+        if (!enabled) {
+            return;
+        }
+        Query query = Query.query(Criteria.where(FIELD_ENTRIES + "." + FIELD_CREATOR_IDENTIFIER)
+                .is(creator.getIdentifier()));
+        Update update = new Update().pull(FIELD_ENTRIES, new Document(FIELD_CREATOR_IDENTIFIER, creator.getIdentifier()));
+        mongoOperations.updateMulti(query, update, COLLECTION_NAME);
+    }
+
+    /**
+     * Signalizes whether the timeline of a subscriber exists.
+     *
+     * @param subscriber the subscriber of the timeline
+     * @return {@code true} if the timeline exists, {@code false} otherwise.
+     */
+    private boolean exists(User subscriber) {
+        return mongoOperations.exists(Query.query(Criteria.where(FIELD_IDENTIFIER)
+                .is(Objects.requireNonNull(subscriber.getIdentifier()))), COLLECTION_NAME);
+    }
+
+    /**
+     * Creates the timeline of a subscriber and fills it with the latest {@link Offer offers} of all subscribed
+     * {@link User users}. The timeline is created before the subscribed users are resolved, so that offers and
+     * subscriptions created concurrently are either appended to it or resolved by the backfill.
+     *
+     * @param subscriber the subscriber of the timeline
+     * @param creators   the supplier of all users subscribed by the subscriber
+     */
+    private void backfill(User subscriber, Supplier<Collection<User>> creators) {
+        if (!enabled) {
+            return;
+        }
+        Query query = Query.query(Criteria.where(FIELD_IDENTIFIER).is(subscriber.getIdentifier()));
+        mongoOperations.upsert(query, new Update().setOnInsert(FIELD_ENTRIES, List.of()), COLLECTION_NAME);
+        pushLatestOffers(subscriber, creators.get());
+    }
+
+    /**
+     * Pushes the latest {@link Offer offers} of the given {@link User creators} into the existing timeline of a
+     * subscriber. Entries already contained within the timeline are skipped.
+     *
+     * @param subscriber the subscriber of the timeline
+     * @param creators   the creators of the offers to be pushed
+     */
+    private void pushLatestOffers(User subscriber, Collection<User> creators) {
+        if (creators.isEmpty()) {
+            return;
+        }
+        Query offerQuery = Query.query(Criteria.where(FIELD_OFFER_CREATOR).in(creators))
+                .with(Sort.by(Sort.Direction.DESC, FIELD_IDENTIFIER))
+                .limit(capacity);
+        List<Document> entries = mongoOperations.find(offerQuery, Offer.class).stream()
+                .map(this::createEntry)
+                .collect(Collectors.toList());
+        if (entries.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION_NAME);
+        for (Document entry : entries) {
+            bulkOperations.updateOne(createAbsentEntryQuery(subscriber.getIdentifier(), entry), createPushUpdate(entry));
+        }
+        bulkOperations.execute();
+    }
+
+    /**
+     * Creates the query matching the timeline of a subscriber only if it does not contain an entry yet, so that
+     * pushing the entry is idempotent.
+     *
+     * @param subscriberIdentifier the identifier of the subscriber of the timeline
+     * @param entry                the entry to be pushed
+     * @return the query matching the timeline without the entry
+     */
+    private Query createAbsentEntryQuery(String subscriberIdentifier, Document entry) {
+        return Query.query(Criteria.where(FIELD_IDENTIFIER).is(subscriberIdentifier)
+                .and(FIELD_ENTRIES + "." + FIELD_OFFER_IDENTIFIER).ne(entry.getString(FIELD_OFFER_IDENTIFIER)));
+    }
+
+    /**
+     * Creates the timeline entry of an {@link Offer offer}.
+     *
+     * @param offer the offer of the entry
+     * @return the timeline entry
+     */
+    private Document createEntry(Offer offer) {
+        return new Document(FIELD_OFFER_IDENTIFIER, Objects.requireNonNull(offer.getIdentifier()))
+                .append(FIELD_CREATOR_IDENTIFIER, offer.getCreator().getIdentifier());
+    }
+
+    /**
+     * Creates the {@link Update} pushing an entry into a timeline. The entries are kept sorted by offer identifier,
+     * which reflects the order of creation, and the oldest entries are dropped if the capacity is exceeded.
+     *
+     * @param entry the entry to be pushed
+     * @return the update pushing the entry
+     */
+    private Update createPushUpdate(Document entry) {
+        Update update = new Update();
+        update.push(FIELD_ENTRIES)
+                .sort(Sort.by(FIELD_OFFER_IDENTIFIER))
+                .slice(-capacity)
+                .each(entry);
+        return update;
+    }
+}
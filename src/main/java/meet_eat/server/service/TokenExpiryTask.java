@@ -0,0 +1,36 @@
+package meet_eat.server.service;
+
+import meet_eat.data.entity.Token;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Represents a scheduled task purging expired {@link Token tokens} through the {@link TokenService}, which also
+ * samples the number of live tokens.
+ */
+@Component
+public class TokenExpiryTask {
+
+    private final TokenService tokenService;
+
+    /**
+     * Constructs a new instance of {@link TokenExpiryTask}.
+     *
+     * @param tokenService the service purging the tokens
+     */
+    @Lazy
+    @Autowired
+    public TokenExpiryTask(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Purges all expired tokens.
+     */
+    @Scheduled(fixedDelayString = "${meet-eat.token-expiry.purge-delay-millis:60000}")
+    public void purgeExpiredTokens() {
+        tokenService.purgeExpired();
+    }
+}
@@ -0,0 +1,211 @@
+package meet_eat.server.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import meet_eat.data.entity.Token;
+import meet_eat.data.entity.user.User;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a service class providing functionality to revoke signed {@link Token tokens} before they expire.
+ * Revocations are kept in memory, so that checking a token does not access the persistence layer: revoked token
+ * identifiers are looked up in a {@link BloomFilter Bloom filter} first and only on a possible match in the exact
+ * set of revoked identifiers. Revocations of all tokens of a {@link User user} are kept as the time of revocation.
+ * <p>
+ * Revocations are shared with the other nodes through a collection, which every node synchronizes periodically.
+ * Revocation documents expire together with the tokens they revoke.
+ */
+@Service
+public class TokenRevocationService {
+
+    /**
+     * Represents the name of the collection containing the revocation documents.
+     */
+    public static final String COLLECTION_NAME = "tokenRevocations";
+
+    /**
+     * Represents the document field of a revocation's time.
+     */
+    public static final String FIELD_REVOKED_AT = "revokedAt";
+
+    /**
+     * Represents the document field of the time a revocation document may be removed at.
+     */
+    public static final String FIELD_EXPIRES_AT = "expiresAt";
+
+    private static final String FIELD_IDENTIFIER = "_id";
+    private static final String FIELD_TOKEN_IDENTIFIER = "tokenIdentifier";
+    private static final String FIELD_USER_IDENTIFIER = "userIdentifier";
+    private static final String DOCUMENT_PREFIX_TOKEN = "token:";
+    private static final String DOCUMENT_PREFIX_USER = "user:";
+    private static final double BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01d;
+
+    private final MongoOperations mongoOperations;
+    private final TokenSigner tokenSigner;
+    private final int expectedRevocations;
+    private final long synchronizationOverlapMillis;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedUsers = new ConcurrentHashMap<>();
+    private volatile BloomFilter<CharSequence> revokedTokenFilter;
+    private volatile long synchronizedUntil;
+
+    /**
+     * Constructs a new instance of {@link TokenRevocationService}.
+     *
+     * @param mongoOperations              the operations used for revocation persistence
+     * @param tokenSigner                  the signer of the revocable tokens
+     * @param expectedRevocations          the number of concurrently revoked tokens the Bloom filter is sized for
+     * @param synchronizationOverlapMillis the number of milliseconds each synchronization reaches back, in order to
+     *                                     tolerate clock skew between the nodes
+     */
+    @Autowired
+    public TokenRevocationService(MongoOperations mongoOperations, TokenSigner tokenSigner,
+                                  @Value("${meet-eat.signed-tokens.expected-revocations:100000}")
+                                          int expectedRevocations,
+                                  @Value("${meet-eat.signed-tokens.synchronization-overlap-millis:10000}")
+                                          long synchronizationOverlapMillis) {
+        if (expectedRevocations <= 0) {
+            throw new IllegalArgumentException("The number of expected revocations must be positive.");
+        }
+        this.mongoOperations = mongoOperations;
+        this.tokenSigner = tokenSigner;
+        this.expectedRevocations = expectedRevocations;
+        this.synchronizationOverlapMillis = synchronizationOverlapMillis;
+        this.revokedTokenFilter = createFilter();
+    }
+
+    /**
+     * Signalizes whether a signed {@link Token token} has been revoked. Does not access the persistence layer.
+     *
+     * @param tokenIdentifier the identifier of the token
+     * @param userIdentifier  the identifier of the token's user
+     * @param issuedAt        the time the token has been issued at in milliseconds since the epoch
+     * @return {@code true} if the token has been revoked, {@code false} otherwise.
+     */
+    public boolean isRevoked(String tokenIdentifier, String userIdentifier, long issuedAt) {
+        Long userRevokedAt = revokedUsers.get(userIdentifier);
+        if (Objects.nonNull(userRevokedAt) && issuedAt <= userRevokedAt) {
+            return true;
+        }
+        return revokedTokenFilter.mightContain(tokenIdentifier) && revokedTokens.containsKey(tokenIdentifier);
+    }
+
+    /**
+     * Revokes a single signed {@link Token token}.
+     *
+     * @param tokenIdentifier the identifier of the token
+     * @param expiresAt       the time the token expires at in milliseconds since the epoch
+     */
+    public void revokeToken(String tokenIdentifier, long expiresAt) {
+        Objects.requireNonNull(tokenIdentifier);
+        addRevokedToken(tokenIdentifier, expiresAt);
+        Update update = new Update()
+                .set(FIELD_TOKEN_IDENTIFIER, tokenIdentifier)
+                .set(FIELD_REVOKED_AT, new Date())
+                .set(FIELD_EXPIRES_AT, new Date(expiresAt));
+        mongoOperations.upsert(createDocumentQuery(DOCUMENT_PREFIX_TOKEN + tokenIdentifier), update,
+                COLLECTION_NAME);
+    }
+
+    /**
+     * Revokes all signed {@link Token tokens} of a {@link User user} issued until a given time.
+     *
+     * @param userIdentifier the identifier of the user
+     * @param revokedAt      the time until which the issued tokens are revoked in milliseconds since the epoch
+     */
+    public void revokeUser(String userIdentifier, long revokedAt) {
+        Objects.requireNonNull(userIdentifier);
+        revokedUsers.merge(userIdentifier, revokedAt, Math::max);
+        Update update = new Update()
+                .set(FIELD_USER_IDENTIFIER, userIdentifier)
+                .max(FIELD_REVOKED_AT, new Date(revokedAt))
+                .max(FIELD_EXPIRES_AT, new Date(revokedAt + tokenSigner.getTtlMillis()));
+        mongoOperations.upsert(createDocumentQuery(DOCUMENT_PREFIX_USER + userIdentifier), update, COLLECTION_NAME);
+    }
+
+    /**
+     * Synchronizes the revocations of all nodes made since the last synchronization and discards the revocations of
+     * expired tokens.
+     */
+    public void synchronize() {
+        if (!tokenSigner.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Query query = Query.query(Criteria.where(FIELD_REVOKED_AT)
+                .gte(new Date(Math.max(0L, synchronizedUntil - synchronizationOverlapMillis))));
+        for (Document revocation : mongoOperations.find(query, Document.class, COLLECTION_NAME)) {
+            String tokenIdentifier = revocation.getString(FIELD_TOKEN_IDENTIFIER);
+            if (Objects.nonNull(tokenIdentifier)) {
+                addRevokedToken(tokenIdentifier, revocation.getDate(FIELD_EXPIRES_AT).getTime());
+            } else {
+                revokedUsers.merge(revocation.getString(FIELD_USER_IDENTIFIER),
+                        revocation.getDate(FIELD_REVOKED_AT).getTime(), Math::max);
+            }
+        }
+        synchronizedUntil = now;
+        discardExpired(now);
+    }
+
+    /**
+     * Adds a revoked token to the in-memory revocations.
+     *
+     * @param tokenIdentifier the identifier of the token
+     * @param expiresAt       the time the token expires at in milliseconds since the epoch
+     */
+    private void addRevokedToken(String tokenIdentifier, long expiresAt) {
+        revokedTokens.merge(tokenIdentifier, expiresAt, Math::max);
+        revokedTokenFilter.put(tokenIdentifier);
+    }
+
+    /**
+     * Discards the in-memory revocations of expired tokens and rebuilds the Bloom filter if any revoked token has
+     * been discarded, so that its false positive rate does not grow with the number of past revocations.
+     *
+     * @param now the current time in milliseconds since the epoch
+     */
+    private void discardExpired(long now) {
+        revokedUsers.values().removeIf(revokedAt -> revokedAt + tokenSigner.getTtlMillis() < now);
+        if (revokedTokens.values().removeIf(expiresAt -> expiresAt < now)) {
+            BloomFilter<CharSequence> filter = createFilter();
+            revokedTokens.keySet().forEach(filter::put);
+            revokedTokenFilter = filter;
+
+            // A token revoked while the filter was rebuilt must not be missed.
+            revokedTokens.keySet().forEach(filter::put);
+        }
+    }
+
+    /**
+     * Creates an empty Bloom filter of revoked token identifiers.
+     *
+     * @return the empty Bloom filter
+     */
+    private BloomFilter<CharSequence> createFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedRevocations,
+                BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY);
+    }
+
+    /**
+     * Creates a query matching a revocation document.
+     *
+     * @param documentIdentifier the identifier of the revocation document
+     * @return the query matching the document
+     */
+    private Query createDocumentQuery(String documentIdentifier) {
+        return Query.query(Criteria.where(FIELD_IDENTIFIER).is(documentIdentifier));
+    }
+}
@@ -0,0 +1,34 @@
+package meet_eat.server.service;
+
+import meet_eat.data.entity.Token;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Represents a scheduled task synchronizing the revocations of signed {@link Token tokens} made by all nodes into
+ * the memory of this node, as maintained by the {@link TokenRevocationService}.
+ */
+@Component
+public class TokenRevocationTask {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * Constructs a new instance of {@link TokenRevocationTask}.
+     *
+     * @param tokenRevocationService the service synchronizing the revocations
+     */
+    @Autowired
+    public TokenRevocationTask(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    /**
+     * Synchronizes the revocations made since the last synchronization.
+     */
+    @Scheduled(fixedDelayString = "${meet-eat.signed-tokens.synchronization-delay-millis:5000}")
+    public void synchronizeRevocations() {
+        tokenRevocationService.synchronize();
+    }
+}
@@ -1,69 +1,141 @@
 package meet_eat.server.service;
 
 import com.google.common.base.Charsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import meet_eat.data.LoginCredential;
 import meet_eat.data.entity.Token;
+import meet_eat.data.entity.user.Email;
 import meet_eat.data.entity.user.Password;
 import meet_eat.data.entity.user.User;
+import meet_eat.server.repository.TokenExpiryListener;
 import meet_eat.server.repository.TokenRepository;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a service class providing functionality to manage {@link Token tokens} and their state persistence.
+ * Validated tokens are cached per node for a bounded time, so that the validation of subsequent requests does not
+ * access the persistence layer. Tokens deleted through this service are evicted from the cache immediately, tokens
+ * deleted on other nodes remain valid on this node until their cache entry expires.
+ * <p>
+ * Persisted tokens expire after a configurable lifetime. The expiry is renewed lazily on validation, only if the
+ * remaining lifetime dropped below a threshold, so that tokens in use do not cause a write per request. Expired
+ * tokens are purged periodically.
+ * <p>
+ * If enabled, tokens are issued as short-lived tokens signed by the {@link TokenSigner}, which are neither persisted
+ * nor cached but verified by their signature and revoked through the {@link TokenRevocationService}.
  */
 @Service
 public class TokenService extends EntityService<Token, String, TokenRepository> {
 
     private static final String ERROR_MESSAGE_INVALID_LOGIN_CREDENTIALS = "Given login credentials must be valid.";
+    private static final String METRIC_NAME = "meet_eat.tokens.validation_cache";
+    private static final String METRIC_LIVE = "meet_eat.tokens.live";
+    private static final String METRIC_PURGED = "meet_eat.tokens.purged";
+    private static final String METRIC_RENEWED = "meet_eat.tokens.renewed";
+    private static final String FIELD_IDENTIFIER = "_id";
 
     private final UserService userService;
+    private final TokenSigner tokenSigner;
+    private final TokenRevocationService tokenRevocationService;
+    private final MongoOperations mongoOperations;
+    private final TokenExpiryListener tokenExpiryListener;
+    private final PasswordDerivationExecutor passwordDerivationExecutor;
+    private final long renewalThresholdMillis;
+    private final Cache<String, ValidatedToken> validatedTokens;
+    private final AtomicLong evictionGeneration = new AtomicLong();
+    private final AtomicLong liveTokenCount = new AtomicLong();
+    private final Counter purgedCounter;
+    private final Counter renewedCounter;
 
     /**
      * Constructs a new instance of {@link TokenService}.
      *
-     * @param tokenRepository the repository used for persistence operations
-     * @param userService     the service used for operations on and with {@link User} entities
+     * @param tokenRepository            the repository used for persistence operations
+     * @param userService                the service used for operations on and with {@link User} entities
+     * @param tokenSigner                the signer of stateless tokens
+     * @param tokenRevocationService     the service used for revoking stateless tokens
+     * @param mongoOperations            the operations used for reading, renewing and purging token expiries
+     * @param tokenExpiryListener        the listener determining the expiry of persisted tokens
+     * @param passwordDerivationExecutor the executor used for deriving passwords of login credentials
+     * @param meterRegistry              the registry the token metrics are registered at
+     * @param maximumSize                the maximum number of cached validated tokens
+     * @param ttlSeconds                 the number of seconds a validated token is cached at most
+     * @param renewalThresholdSeconds    the remaining lifetime in seconds below which a token's expiry is renewed
      */
     @Lazy
     @Autowired
-    public TokenService(TokenRepository tokenRepository, UserService userService) {
+    public TokenService(TokenRepository tokenRepository, UserService userService, TokenSigner tokenSigner,
+                        TokenRevocationService tokenRevocationService, MongoOperations mongoOperations,
+                        TokenExpiryListener tokenExpiryListener,
+                        PasswordDerivationExecutor passwordDerivationExecutor, MeterRegistry meterRegistry,
+                        @Value("${meet-eat.token-cache.maximum-size:10000}") long maximumSize,
+                        @Value("${meet-eat.token-cache.ttl-seconds:60}") long ttlSeconds,
+                        @Value("${meet-eat.token-expiry.renewal-threshold-seconds:86400}")
+                                long renewalThresholdSeconds) {
         super(tokenRepository);
         this.userService = userService;
+        this.tokenSigner = tokenSigner;
+        this.tokenRevocationService = tokenRevocationService;
+        this.mongoOperations = mongoOperations;
+        this.tokenExpiryListener = tokenExpiryListener;
+        this.passwordDerivationExecutor = passwordDerivationExecutor;
+        this.renewalThresholdMillis = renewalThresholdSeconds * 1000L;
+        this.validatedTokens = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, validatedTokens, METRIC_NAME);
+        Gauge.builder(METRIC_LIVE, liveTokenCount, AtomicLong::get).register(meterRegistry);
+        this.purgedCounter = Counter.builder(METRIC_PURGED).register(meterRegistry);
+        this.renewedCounter = Counter.builder(METRIC_RENEWED).register(meterRegistry);
     }
 
     /**
-     * Creates and returns a new persistent and distinct {@link Token} instance.
+     * Creates and returns a new persistent and distinct {@link Token} instance. If signed tokens are enabled, the
+     * token is signed instead of persisted.
      *
      * @param loginCredential the {@link LoginCredential} on which the token is based
-     * @return a new persistent {@link Token}
+     * @return a new persistent or signed {@link Token}
      */
     public Token createToken(LoginCredential loginCredential) {
-        // Check whether the user exists and login credentials are valid.
         Objects.requireNonNull(loginCredential);
-        Optional<User> optionalUser = userService.getByEmail(loginCredential.getEmail());
-        if (optionalUser.isEmpty() || !isValidLoginCredential(loginCredential)) {
-            throw new IllegalArgumentException(ERROR_MESSAGE_INVALID_LOGIN_CREDENTIALS);
-        }
-
-        // Generate a random salt for the token hash value
-        String salt = Password.generateSalt();
-
-        // Concat the salt's bytes, email and current time to get a string with "high entropy", randomness respectively.
-        StringBuilder stringBuilder = new StringBuilder();
-        stringBuilder.append(salt);
-        stringBuilder.append(loginCredential.getEmail());
-        stringBuilder.append(LocalDateTime.now());
+        return login(loginCredential).orElseThrow(() ->
+                new IllegalArgumentException(ERROR_MESSAGE_INVALID_LOGIN_CREDENTIALS));
+    }
 
-        // Hash the generated string, create the token and insert it into the repository.
-        String tokenValue = Hashing.sha256().hashString(stringBuilder, Charsets.UTF_16).toString();
-        return post(new Token(optionalUser.get(), tokenValue));
+    /**
+     * Logs in with given {@link LoginCredential login credentials} in a single pass: the {@link User user} is looked
+     * up once, the password is derived once and the token is created right away.
+     *
+     * @param loginCredential the {@link LoginCredential} on which the token is based
+     * @return a new persistent or signed {@link Token} or {@link Optional#empty()} if the login credentials are
+     * invalid
+     */
+    public Optional<Token> login(LoginCredential loginCredential) {
+        return getAuthenticatedUser(loginCredential).map(user -> issueToken(user, loginCredential.getEmail()));
     }
 
     /**
@@ -73,15 +145,7 @@ public class TokenService extends EntityService<Token, String, TokenRepository>
      * @return True if the {@link LoginCredential} instance is valid, false otherwise
      */
     public boolean isValidLoginCredential(LoginCredential loginCredential) {
-        if (Objects.isNull(loginCredential)) {
-            return false;
-        }
-        Optional<User> optionalUser = userService.getByEmail(loginCredential.getEmail());
-        if (optionalUser.isPresent()) {
-            User user = optionalUser.get();
-            return loginCredential.getPassword().matches(user.getPassword());
-        }
-        return false;
+        return getAuthenticatedUser(loginCredential).isPresent();
     }
 
     /**
@@ -94,10 +158,82 @@ public class TokenService extends EntityService<Token, String, TokenRepository>
         if (Objects.isNull(token) || Objects.isNull(token.getIdentifier())) {
             return false;
         }
-        Optional<Token> repoToken = getRepository().findById(token.getIdentifier());
-        return repoToken.isPresent()
-                && token.getValue().equals(repoToken.get().getValue())
-                && token.getUser().getIdentifier().equals(repoToken.get().getUser().getIdentifier());
+        if (tokenSigner.isSigned(token)) {
+            return isValidSignedToken(token);
+        }
+
+        // Only valid tokens are cached, so that a miss is always checked against the repository.
+        long now = System.currentTimeMillis();
+        ValidatedToken cachedToken = validatedTokens.getIfPresent(token.getIdentifier());
+        if (Objects.nonNull(cachedToken) && cachedToken.expiresAt > now) {
+            return matches(token, cachedToken.token);
+        }
+        long generation = evictionGeneration.get();
+        Document document = mongoOperations.findById(token.getIdentifier(), Document.class,
+                mongoOperations.getCollectionName(Token.class));
+        if (Objects.isNull(document)) {
+            return false;
+        }
+        Token repoToken = mongoOperations.getConverter().read(Token.class, document);
+        Date expiresAt = document.getDate(TokenExpiryListener.FIELD_EXPIRES_AT);
+        if (Objects.nonNull(expiresAt) && expiresAt.getTime() <= now) {
+            return false;
+        }
+        if (matches(token, repoToken)) {
+            expiresAt = renewIfNecessary(repoToken.getIdentifier(), expiresAt, now);
+            validatedTokens.put(token.getIdentifier(), new ValidatedToken(repoToken, expiresAt.getTime()));
+
+            // An eviction concurrent to the lookup must not be overwritten by the stale token.
+            if (generation != evictionGeneration.get()) {
+                validatedTokens.invalidate(token.getIdentifier());
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Token put(Token entity) {
+        Token puttedEntity = super.put(entity);
+        evict(puttedEntity.getIdentifier());
+        return puttedEntity;
+    }
+
+    /**
+     * Signalizes whether a given token exists, i.e. is persisted or is a valid signed token.
+     *
+     * @param token the token to be checked for existence
+     * @return {@code true} if the token exists, {@code false} otherwise.
+     */
+    public boolean exists(Token token) {
+        if (tokenSigner.isSigned(token)) {
+            return isValidSignedToken(token);
+        }
+        return Objects.nonNull(token) && Objects.nonNull(token.getIdentifier()) && exists(token.getIdentifier());
+    }
+
+    /**
+     * Deletes a {@link Token token}. Valid signed tokens are revoked instead.
+     *
+     * @param entity the token to be deleted or revoked
+     */
+    @Override
+    public void delete(Token entity) {
+        if (tokenSigner.isSigned(entity)) {
+            tokenSigner.verify(entity, System.currentTimeMillis()).ifPresent(claims ->
+                    tokenRevocationService.revokeToken(entity.getIdentifier(), claims.getExpiresAt()));
+            return;
+        }
+        super.delete(entity);
+        if (Objects.nonNull(entity.getIdentifier())) {
+            evict(entity.getIdentifier());
+        }
+    }
+
+    @Override
+    public void delete(String identifier) {
+        super.delete(identifier);
+        evict(identifier);
     }
 
     /**
@@ -107,6 +243,13 @@ public class TokenService extends EntityService<Token, String, TokenRepository>
      */
     public void deleteByUser(User user) {
         getRepository().deleteByUser(Objects.requireNonNull(user));
+        incrementAllVersions();
+        if (tokenSigner.isEnabled()) {
+            tokenRevocationService.revokeUser(user.getIdentifier(), System.currentTimeMillis());
+        }
+        evictionGeneration.incrementAndGet();
+        validatedTokens.asMap().values().removeIf(validatedToken -> Objects.nonNull(validatedToken.token.getUser())
+                && Objects.equals(user.getIdentifier(), validatedToken.token.getUser().getIdentifier()));
     }
 
     /**
@@ -118,4 +261,149 @@ public class TokenService extends EntityService<Token, String, TokenRepository>
         Optional<User> optionalUser = userService.get(userId);
         optionalUser.ifPresent(this::deleteByUser);
     }
+
+    /**
+     * Deletes all expired {@link Token tokens} and updates the metrics of live and purged tokens.
+     *
+     * @return the number of deleted tokens
+     */
+    public long purgeExpired() {
+        Query expiredQuery = Query.query(Criteria.where(TokenExpiryListener.FIELD_EXPIRES_AT)
+                .lte(new Date(System.currentTimeMillis())));
+        long purgedCount = mongoOperations.remove(expiredQuery, Token.class).getDeletedCount();
+        if (purgedCount > 0L) {
+            incrementAllVersions();
+            purgedCounter.increment(purgedCount);
+        }
+        liveTokenCount.set(getRepository().count());
+        return purgedCount;
+    }
+
+    /**
+     * Renews the expiry of a persisted {@link Token token} if its remaining lifetime dropped below the renewal
+     * threshold. Tokens persisted without expiry are renewed as well.
+     *
+     * @param identifier the identifier of the token
+     * @param expiresAt  the current expiry of the token or {@code null} if the token has no expiry
+     * @param now        the current time in milliseconds since the epoch
+     * @return the expiry of the token after the renewal
+     */
+    private Date renewIfNecessary(String identifier, Date expiresAt, long now) {
+        if (Objects.nonNull(expiresAt) && expiresAt.getTime() - now >= renewalThresholdMillis) {
+            return expiresAt;
+        }
+        Date renewedExpiresAt = tokenExpiryListener.getExpiry(now);
+
+        // Concurrent renewals of the same token must not shorten its lifetime.
+        mongoOperations.updateFirst(Query.query(Criteria.where(FIELD_IDENTIFIER).is(identifier)),
+                new Update().max(TokenExpiryListener.FIELD_EXPIRES_AT, renewedExpiresAt), Token.class);
+        renewedCounter.increment();
+        return renewedExpiresAt;
+    }
+
+    /**
+     * Gets the {@link User user} identified by given {@link LoginCredential login credentials} if the password
+     * matches.
+     *
+     * @param loginCredential the login credentials to be verified
+     * @return the authenticated user or {@link Optional#empty()} if the login credentials are invalid
+     */
+    private Optional<User> getAuthenticatedUser(LoginCredential loginCredential) {
+        if (Objects.isNull(loginCredential) || Objects.isNull(loginCredential.getEmail())) {
+            return Optional.empty();
+        }
+        return userService.getByEmail(loginCredential.getEmail())
+                .filter(user -> passwordDerivationExecutor.execute(() ->
+                        loginCredential.getPassword().matches(user.getPassword())));
+    }
+
+    /**
+     * Issues a new {@link Token token} for an authenticated {@link User user}.
+     *
+     * @param user  the authenticated user
+     * @param email the email the user logged in with
+     * @return a new persistent or signed token
+     */
+    private Token issueToken(User user, Email email) {
+        if (tokenSigner.isEnabled()) {
+            return tokenSigner.sign(UUID.randomUUID().toString(), user, System.currentTimeMillis());
+        }
+        return post(new Token(user, createTokenValue(email)));
+    }
+
+    /**
+     * Creates the random value of a persistent {@link Token token}.
+     *
+     * @param email the email the token's user logged in with
+     * @return the value of the token
+     */
+    static String createTokenValue(Email email) {
+        // Generate a random salt for the token hash value
+        String salt = Password.generateSalt();
+
+        // Concat the salt's bytes, email and current time to get a string with "high entropy", randomness respectively.
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append(salt);
+        stringBuilder.append(email);
+        stringBuilder.append(LocalDateTime.now());
+
+        // Hash the generated string.
+        return Hashing.sha256().hashString(stringBuilder, Charsets.UTF_16).toString();
+    }
+
+    /**
+     * Signalizes whether a signed {@link Token token} is authentic, unexpired and not revoked. Does not access the
+     * persistence layer.
+     *
+     * @param token the signed token to be checked
+     * @return {@code true} if the signed token is valid, {@code false} otherwise.
+     */
+    private boolean isValidSignedToken(Token token) {
+        Optional<TokenSigner.Claims> claims = tokenSigner.verify(token, System.currentTimeMillis());
+        return claims.isPresent() && !tokenRevocationService.isRevoked(token.getIdentifier(),
+                token.getUser().getIdentifier(), claims.get().getIssuedAt());
+    }
+
+    /**
+     * Evicts a {@link Token token} from the cache of validated tokens.
+     *
+     * @param identifier the identifier of the token to be evicted
+     */
+    private void evict(String identifier) {
+        evictionGeneration.incrementAndGet();
+        validatedTokens.invalidate(identifier);
+    }
+
+    /**
+     * Signalizes whether a given token matches a persisted token.
+     *
+     * @param token          the token to be checked
+     * @param persistedToken the persisted token with the same identifier
+     * @return {@code true} if the value and the user of the tokens match, {@code false} otherwise.
+     */
+    private boolean matches(Token token, Token persistedToken) {
+        return Objects.nonNull(token.getValue()) && Objects.nonNull(token.getUser())
+                && token.getValue().equals(persistedToken.getValue())
+                && token.getUser().getIdentifier().equals(persistedToken.getUser().getIdentifier());
+    }
+
+    /**
+     * Represents a validated {@link Token token} together with its expiry at the time of validation.
+     */
+    private static class ValidatedToken {
+
+        private final Token token;
+        private final long expiresAt;
+
+        /**
+         * Constructs a new instance of {@link ValidatedToken}.
+         *
+         * @param token     the validated token
+         * @param expiresAt the expiry of the token in milliseconds since the epoch
+         */
+        private ValidatedToken(Token token, long expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
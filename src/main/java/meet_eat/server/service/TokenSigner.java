@@ -0,0 +1,228 @@
+package meet_eat.server.service;
+
+import meet_eat.data.entity.Token;
+import meet_eat.data.entity.user.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a signer of stateless {@link Token tokens}. The value of a signed token contains its issue and expiry
+ * time together with an HMAC over these times, the token identifier and the identifier of the token's
+ * {@link User user}, so that any node sharing the secret can verify the token without reading the persistence
+ * layer.
+ * <p>
+ * Signed tokens require a secret shared by all nodes, so that enabling them without a configured secret fails on
+ * startup. While signed tokens are disabled, a random secret is generated instead.
+ */
+@Component
+public class TokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VALUE_PREFIX = "s1.";
+    private static final String VALUE_SEPARATOR = ".";
+    private static final String MESSAGE_SEPARATOR = "\u0000";
+    private static final int GENERATED_SECRET_LENGTH = 32;
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * Constructs a new instance of {@link TokenSigner}.
+     *
+     * @param enabled    whether signed tokens are issued and accepted
+     * @param secret     the secret shared by all nodes, which may only be empty if signed tokens are disabled
+     * @param ttlSeconds the number of seconds a signed token is valid
+     */
+    @Autowired
+    public TokenSigner(@Value("${meet-eat.signed-tokens.enabled:false}") boolean enabled,
+                       @Value("${meet-eat.signed-tokens.secret:}") String secret,
+                       @Value("${meet-eat.signed-tokens.ttl-seconds:900}") long ttlSeconds) {
+        if (ttlSeconds <= 0L) {
+            throw new IllegalArgumentException("The token lifetime must be positive.");
+        }
+        if (enabled && (Objects.isNull(secret) || secret.isEmpty())) {
+            throw new IllegalArgumentException("The secret must be configured if signed tokens are enabled.");
+        }
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.key = new SecretKeySpec(createSecret(secret), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::createMac);
+    }
+
+    /**
+     * Signalizes whether signed tokens are issued and accepted.
+     *
+     * @return {@code true} if signed tokens are enabled, {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the number of milliseconds a signed token is valid.
+     *
+     * @return the lifetime of signed tokens in milliseconds
+     */
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    /**
+     * Signalizes whether a {@link Token token} has the format of a signed token, regardless of its validity.
+     *
+     * @param token the token to be checked
+     * @return {@code true} if the token's value has the format of a signed token, {@code false} otherwise.
+     */
+    public boolean isSigned(Token token) {
+        return Objects.nonNull(token) && Objects.nonNull(token.getValue()) && token.getValue().startsWith(VALUE_PREFIX);
+    }
+
+    /**
+     * Creates a signed {@link Token token}.
+     *
+     * @param identifier the identifier of the token
+     * @param user       the user of the token
+     * @param issuedAt   the time the token is issued at in milliseconds since the epoch
+     * @return the signed token
+     */
+    public Token sign(String identifier, User user, long issuedAt) {
+        Objects.requireNonNull(identifier);
+        Objects.requireNonNull(user);
+        long expiresAt = issuedAt + ttlMillis;
+        String value = VALUE_PREFIX + issuedAt + VALUE_SEPARATOR + expiresAt + VALUE_SEPARATOR
+                + createSignature(identifier, user.getIdentifier(), issuedAt, expiresAt);
+        return new Token(identifier, user, value);
+    }
+
+    /**
+     * Verifies a signed {@link Token token}.
+     *
+     * @param token the token to be verified
+     * @param now   the current time in milliseconds since the epoch
+     * @return the claims of the token or {@link Optional#empty()} if signed tokens are disabled or the token is
+     * malformed, forged or expired
+     */
+    public Optional<Claims> verify(Token token, long now) {
+        if (!enabled || !isSigned(token) || Objects.isNull(token.getIdentifier()) || Objects.isNull(token.getUser())
+                || Objects.isNull(token.getUser().getIdentifier())) {
+            return Optional.empty();
+        }
+        String[] parts = token.getValue().substring(VALUE_PREFIX.length()).split("\\" + VALUE_SEPARATOR, -1);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        long issuedAt;
+        long expiresAt;
+        try {
+            issuedAt = Long.parseLong(parts[0]);
+            expiresAt = Long.parseLong(parts[1]);
+        } catch (NumberFormatException exception) {
+            return Optional.empty();
+        }
+        String signature = createSignature(token.getIdentifier(), token.getUser().getIdentifier(), issuedAt,
+                expiresAt);
+        if (!MessageDigest.isEqual(signature.getBytes(StandardCharsets.US_ASCII),
+                parts[2].getBytes(StandardCharsets.US_ASCII)) || expiresAt <= now) {
+            return Optional.empty();
+        }
+        return Optional.of(new Claims(issuedAt, expiresAt));
+    }
+
+    /**
+     * Creates the URL-safe Base64 encoded HMAC of the signed parts of a token.
+     *
+     * @param identifier     the identifier of the token
+     * @param userIdentifier the identifier of the token's user
+     * @param issuedAt       the time the token is issued at in milliseconds since the epoch
+     * @param expiresAt      the time the token expires at in milliseconds since the epoch
+     * @return the encoded signature
+     */
+    private String createSignature(String identifier, String userIdentifier, long issuedAt, long expiresAt) {
+        String message = String.join(MESSAGE_SEPARATOR, identifier, Objects.toString(userIdentifier),
+                Long.toString(issuedAt), Long.toString(expiresAt));
+        byte[] signature = macs.get().doFinal(message.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    /**
+     * Creates a {@link Mac} initialized with the secret key. Instances are not thread-safe and therefore kept per
+     * thread.
+     *
+     * @return the initialized MAC
+     */
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Creates the bytes of the secret key.
+     *
+     * @param secret the configured secret or an empty string if a random secret should be generated
+     * @return the bytes of the secret key
+     */
+    private static byte[] createSecret(String secret) {
+        if (Objects.nonNull(secret) && !secret.isEmpty()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] generatedSecret = new byte[GENERATED_SECRET_LENGTH];
+        new SecureRandom().nextBytes(generatedSecret);
+        return generatedSecret;
+    }
+
+    /**
+     * Represents the verified claims of a signed {@link Token token}.
+     */
+    public static class Claims {
+
+        private final long issuedAt;
+        private final long expiresAt;
+
+        /**
+         * Constructs a new instance of {@link Claims}.
+         *
+         * @param issuedAt  the time the token is issued at in milliseconds since the epoch
+         * @param expiresAt the time the token expires at in milliseconds since the epoch
+         */
+        private Claims(long issuedAt, long expiresAt) {
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Gets the time the token is issued at.
+         *
+         * @return the time in milliseconds since the epoch
+         */
+        public long getIssuedAt() {
+            return issuedAt;
+        }
+
+        /**
+         * Gets the time the token expires at.
+         *
+         * @return the time in milliseconds since the epoch
+         */
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
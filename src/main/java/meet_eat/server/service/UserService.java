@@ -36,22 +36,25 @@ public class UserService extends EntityService<User, String, UserRepository> {
     private final ReportService reportService;
     private final RatingService ratingService;
     private final BookmarkService bookmarkService;
+    private final PasswordDerivationExecutor passwordDerivationExecutor;
 
     /**
      * Constructs a new instance of {@link UserService}.
      *
-     * @param userRepository      the repository used for persistence operations
-     * @param offerService        the service used for operations on and with {@link Offer} entities
-     * @param tokenService        the service used for operations on and with {@link Token} entities
-     * @param emailService        the service used for sending messages via {@link Email}
-     * @param subscriptionService the service used for operations on and with {@link Subscription} entities
+     * @param userRepository             the repository used for persistence operations
+     * @param offerService               the service used for operations on and with {@link Offer} entities
+     * @param tokenService               the service used for operations on and with {@link Token} entities
+     * @param emailService               the service used for sending messages via {@link Email}
+     * @param subscriptionService        the service used for operations on and with {@link Subscription} entities
+     * @param passwordDerivationExecutor the executor used for deriving passwords
      */
     @Lazy
     @Autowired
     public UserService(UserRepository userRepository, OfferService offerService, TokenService tokenService,
                        EmailService emailService, SubscriptionService subscriptionService,
                        ParticipationService participationService, ReportService reportService,
-                       RatingService ratingService, BookmarkService bookmarkService) {
+                       RatingService ratingService, BookmarkService bookmarkService,
+                       PasswordDerivationExecutor passwordDerivationExecutor) {
         super(userRepository);
         this.offerService = offerService;
         this.tokenService = tokenService;
@@ -61,6 +64,7 @@ public class UserService extends EntityService<User, String, UserRepository> {
         this.reportService = reportService;
         this.ratingService = ratingService;
         this.bookmarkService = bookmarkService;
+        this.passwordDerivationExecutor = passwordDerivationExecutor;
     }
 
     /**
@@ -101,7 +105,9 @@ public class UserService extends EntityService<User, String, UserRepository> {
 
     @Override
     public User post(User entity) {
-        Password derivedPassword = entity.getPassword().derive(Password.generateSalt(), SecurityService.PASSWORD_ITERATION_COUNT);
+        Password password = entity.getPassword();
+        Password derivedPassword = passwordDerivationExecutor.execute(() ->
+                password.derive(Password.generateSalt(), SecurityService.PASSWORD_ITERATION_COUNT));
         entity.setPassword(derivedPassword);
         return super.post(entity);
     }
@@ -109,7 +115,9 @@ public class UserService extends EntityService<User, String, UserRepository> {
     @Override
     public User put(User entity) {
         if (hasModifiedPassword(entity)) {
-            Password derivedPassword = entity.getPassword().derive(entity.getIdentifier(), SecurityService.PASSWORD_ITERATION_COUNT);
+            Password password = entity.getPassword();
+            Password derivedPassword = passwordDerivationExecutor.execute(() ->
+                    password.derive(entity.getIdentifier(), SecurityService.PASSWORD_ITERATION_COUNT));
             entity.setPassword(derivedPassword);
         }
         return super.put(entity);
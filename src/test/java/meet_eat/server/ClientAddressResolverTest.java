@@ -0,0 +1,61 @@
+package meet_eat.server;
+
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.Assert.assertEquals;
+
+public class ClientAddressResolverTest {
+
+    private static final String FORWARDED_HEADER = "X-Forwarded-For";
+    private static final String PROXY_ADDRESS = "10.0.0.1";
+    private static final String CLIENT_ADDRESS = "203.0.113.7";
+
+    @Test
+    public void testResolveWithoutTrustedProxies() {
+        // Test data
+        ClientAddressResolver clientAddressResolver = new ClientAddressResolver("", FORWARDED_HEADER);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(CLIENT_ADDRESS);
+        request.addHeader(FORWARDED_HEADER, "198.51.100.1");
+
+        // Assertions
+        assertEquals(CLIENT_ADDRESS, clientAddressResolver.resolve(request));
+    }
+
+    @Test
+    public void testResolveFromTrustedProxy() {
+        // Test data
+        ClientAddressResolver clientAddressResolver = new ClientAddressResolver(PROXY_ADDRESS, FORWARDED_HEADER);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(PROXY_ADDRESS);
+        request.addHeader(FORWARDED_HEADER, CLIENT_ADDRESS);
+
+        // Assertions
+        assertEquals(CLIENT_ADDRESS, clientAddressResolver.resolve(request));
+    }
+
+    @Test
+    public void testResolveForgedHeader() {
+        // Test data
+        ClientAddressResolver clientAddressResolver = new ClientAddressResolver(PROXY_ADDRESS + ", 10.0.0.2",
+                FORWARDED_HEADER);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(PROXY_ADDRESS);
+        request.addHeader(FORWARDED_HEADER, "198.51.100.1, " + CLIENT_ADDRESS + ", 10.0.0.2");
+
+        // Assertions
+        assertEquals(CLIENT_ADDRESS, clientAddressResolver.resolve(request));
+    }
+
+    @Test
+    public void testResolveFromTrustedProxyWithoutHeader() {
+        // Test data
+        ClientAddressResolver clientAddressResolver = new ClientAddressResolver(PROXY_ADDRESS, FORWARDED_HEADER);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(PROXY_ADDRESS);
+
+        // Assertions
+        assertEquals(PROXY_ADDRESS, clientAddressResolver.resolve(request));
+    }
+}
@@ -3,8 +3,13 @@ package meet_eat.server;
 import meet_eat.data.ObjectJsonParser;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 
 public class HeaderPropertyEditorTest {
 
@@ -31,6 +36,71 @@ public class HeaderPropertyEditorTest {
         assertEquals(string, headerPropertyEditor.getValue());
     }
 
+    @Test
+    public void testSetAsTextRepeated() {
+        // Test data
+        HeaderPropertyEditor headerPropertyEditorFst = new HeaderPropertyEditor(String.class);
+        HeaderPropertyEditor headerPropertyEditorSnd = new HeaderPropertyEditor(String.class);
+        String string = "TestStringRepeated";
+        String text = new ObjectJsonParser().parseObjectToJsonString(string);
+
+        // Execution
+        headerPropertyEditorFst.setAsText(text);
+        headerPropertyEditorSnd.setAsText(text);
+
+        // Assertions
+        assertEquals(string, headerPropertyEditorFst.getValue());
+        assertEquals(string, headerPropertyEditorSnd.getValue());
+    }
+
+    @Test
+    public void testSetAsTextArrayCopied() {
+        // Test data
+        HeaderPropertyEditor headerPropertyEditor = new HeaderPropertyEditor(String[].class);
+        String[] strings = new String[]{"TestStringFst", "TestStringSnd"};
+        String text = new ObjectJsonParser().parseObjectToJsonString(strings);
+
+        // Execution
+        headerPropertyEditor.setAsText(text);
+        String[] valueFst = (String[]) headerPropertyEditor.getValue();
+        valueFst[0] = "TestStringModified";
+        headerPropertyEditor.setAsText(text);
+        String[] valueSnd = (String[]) headerPropertyEditor.getValue();
+
+        // Assertions
+        assertNotSame(valueFst, valueSnd);
+        assertArrayEquals(strings, valueSnd);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSetAsTextFreshValue() {
+        // Test data
+        HeaderPropertyEditor headerPropertyEditor = new HeaderPropertyEditor(ArrayList.class);
+        List<String> strings = List.of("TestStringFst", "TestStringSnd");
+        String text = new ObjectJsonParser().parseObjectToJsonString(strings);
+
+        // Execution
+        headerPropertyEditor.setAsText(text);
+        List<String> valueFst = (List<String>) headerPropertyEditor.getValue();
+        valueFst.set(0, "TestStringModified");
+        headerPropertyEditor.setAsText(text);
+        List<String> valueSnd = (List<String>) headerPropertyEditor.getValue();
+
+        // Assertions
+        assertNotSame(valueFst, valueSnd);
+        assertEquals(strings, valueSnd);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetAsTextMalformed() {
+        // Test data
+        HeaderPropertyEditor headerPropertyEditor = new HeaderPropertyEditor(String[].class);
+
+        // Execution
+        headerPropertyEditor.setAsText("#malformed#");
+    }
+
     @Test
     public void testGetAsText() {
         // Test data
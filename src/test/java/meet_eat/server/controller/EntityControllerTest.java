@@ -14,6 +14,7 @@ import meet_eat.data.location.CityLocation;
 import meet_eat.data.location.Localizable;
 import meet_eat.data.location.SphericalLocation;
 import meet_eat.data.location.SphericalPosition;
+import meet_eat.server.service.OfferQueryCache;
 import meet_eat.server.service.OfferService;
 import meet_eat.server.service.TagService;
 import meet_eat.server.service.TokenService;
@@ -47,7 +48,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(SpringRunner.class)
-@SpringBootTest
+@SpringBootTest(properties = {
+        "meet-eat.entity-tags.enabled=true",
+        "meet-eat.offers.text-index.enabled=true"
+})
 public abstract class EntityControllerTest<C extends EntityController<T, U, ?>, T extends Entity<U>, U extends Serializable> {
 
     protected static final String PASSWORD_VALID_VALUE = "AbcdefgTest1234!?";
@@ -65,6 +69,8 @@ public abstract class EntityControllerTest<C extends EntityController<T, U, ?>,
     @Autowired
     private TokenService tokenService;
     @Autowired
+    private OfferQueryCache offerQueryCache;
+    @Autowired
     private C entityController;
 
     @Before
@@ -78,6 +84,7 @@ public abstract class EntityControllerTest<C extends EntityController<T, U, ?>,
         offerService.getRepository().deleteAll();
         tagService.getRepository().deleteAll();
         tokenService.getRepository().deleteAll();
+        offerQueryCache.invalidateAll();
     }
 
     //#region @Test handleGet
@@ -5,6 +5,7 @@ import meet_eat.data.comparator.OfferComparableField;
 import meet_eat.data.comparator.OfferComparator;
 import meet_eat.data.entity.Offer;
 import meet_eat.data.entity.Token;
+import meet_eat.data.entity.relation.Participation;
 import meet_eat.data.entity.relation.Subscription;
 import meet_eat.data.entity.user.Role;
 import meet_eat.data.entity.user.User;
@@ -13,25 +14,40 @@ import meet_eat.data.location.SphericalPosition;
 import meet_eat.data.predicate.OfferPredicate;
 import meet_eat.data.predicate.numeric.DoubleOperation;
 import meet_eat.data.predicate.numeric.PricePredicate;
+import meet_eat.server.service.OfferEvent;
+import meet_eat.server.service.OfferEventService;
 import meet_eat.server.service.SubscriptionService;
+import meet_eat.server.service.security.OfferSecurityService;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class OfferControllerTest extends EntityControllerTest<OfferController, Offer, String> {
 
     @Autowired
     private SubscriptionService subscriptionService;
+    @Autowired
+    private OfferSecurityService offerSecurityService;
+    @Autowired
+    private OfferEventService offerEventService;
 
     @Before
     public void prepareSubscriptionRepository() {
@@ -43,7 +59,7 @@ public class OfferControllerTest extends EntityControllerTest<OfferController, O
     @Test
     public void testGetAllOffersNullToken() {
         // Execution
-        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, null, null, null, null);
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, null, null, null, null, null, null, null);
 
         // Assertions
         assertEquals(HttpStatus.UNAUTHORIZED, responseEntity.getStatusCode());
@@ -55,7 +71,7 @@ public class OfferControllerTest extends EntityControllerTest<OfferController, O
         Token token = getTokenInvalid(getUserPersistent(Role.USER));
 
         // Execution
-        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, null, null, null, token);
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, null, null, null, null, null, null, token);
 
         // Assertions
         assertEquals(HttpStatus.FORBIDDEN, responseEntity.getStatusCode());
@@ -70,7 +86,7 @@ public class OfferControllerTest extends EntityControllerTest<OfferController, O
         repeat(entityAmount, i -> offers.add(i, getOfferPersistent(token.getUser())));
 
         // Execution
-        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(token.getUser().getIdentifier(), null, null, null, token);
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(token.getUser().getIdentifier(), null, null, null, null, null, null, token);
 
         // Assertions
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -84,7 +100,7 @@ public class OfferControllerTest extends EntityControllerTest<OfferController, O
         Token token = getTokenPersistent(getUserPersistent(Role.USER));
 
         // Execution
-        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers("INVALID_IDENTIFIER", null, null, null, token);
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers("INVALID_IDENTIFIER", null, null, null, null, null, null, token);
 
         // Assertions
         assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
@@ -101,7 +117,7 @@ public class OfferControllerTest extends EntityControllerTest<OfferController, O
         repeat(entityAmount, i -> offers.add(i, getOfferPersistent(subscribedUser)));
 
         // Execution
-        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, token.getUser().getIdentifier(), null, null, token);
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, token.getUser().getIdentifier(), null, null, null, null, null, token);
 
         // Assertions
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -109,13 +125,35 @@ public class OfferControllerTest extends EntityControllerTest<OfferController, O
         repeat(entityAmount, i -> assertTrue(Iterables.contains(responseEntity.getBody(), offers.get(i))));
     }
 
+    @Test
+    public void testGetAllOffersByCreatorAndSubscriberIdentifier() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        User subscribedUser = getUserPersistent(Role.USER);
+        subscriptionService.post(new Subscription(token.getUser(), subscribedUser));
+        Offer ownOffer = getOfferPersistent(token.getUser());
+        Offer subscribedOffer = getOfferPersistent(subscribedUser);
+        Offer foreignOffer = getOfferPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(token.getUser().getIdentifier(), token.getUser().getIdentifier(), null, null, null, null, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertEquals(2, Iterables.size(responseEntity.getBody()));
+        assertTrue(Iterables.contains(responseEntity.getBody(), ownOffer));
+        assertTrue(Iterables.contains(responseEntity.getBody(), subscribedOffer));
+        assertFalse(Iterables.contains(responseEntity.getBody(), foreignOffer));
+    }
+
     @Test
     public void testGetAllOffersByUnknownSubscriberIdentifier() {
         // Test data
         Token token = getTokenPersistent(getUserPersistent(Role.USER));
 
         // Execution
-        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, "INVALID_IDENTIFIER", null, null, token);
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, "INVALID_IDENTIFIER", null, null, null, null, null, token);
 
         // Assertions
         assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
@@ -131,7 +169,7 @@ public class OfferControllerTest extends EntityControllerTest<OfferController, O
         repeat(entityAmount, i -> offers.add(i, getTestEntityPersistent()));
 
         // Execution
-        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, null, null, offerComparator, token);
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, null, null, null, null, offerComparator, null, token);
 
         // Assertions
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -150,7 +188,7 @@ public class OfferControllerTest extends EntityControllerTest<OfferController, O
         repeat(entityAmount, i -> offers.add(i, getTestEntityPersistent()));
 
         // Execution
-        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, null, new OfferPredicate[]{predicate}, null, token);
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, null, null, null, new OfferPredicate[]{predicate}, null, null, token);
 
         // Assertions
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -158,9 +196,333 @@ public class OfferControllerTest extends EntityControllerTest<OfferController, O
         assertTrue(Iterables.elementsEqual(responseEntity.getBody(), offers.stream().filter(predicate).collect(Collectors.toList())));
     }
 
+    @Test
+    public void testGetAllOffersWithLimit() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        OfferComparator offerComparator = new OfferComparator(OfferComparableField.PRICE, new SphericalLocation(new SphericalPosition(0, 0)));
+        List<Offer> offers = new LinkedList<>();
+        int entityAmount = 5;
+        repeat(entityAmount, i -> offers.add(i, getTestEntityPersistent()));
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseFst = getEntityController().getAllOffers(null, null, 3, null, null, offerComparator, null, token);
+        String continuation = responseFst.getHeaders().getFirst(RESPONSE_HEADER_CONTINUATION);
+        ResponseEntity<Iterable<Offer>> responseSnd = getEntityController().getAllOffers(null, null, 3, continuation, null, offerComparator, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseFst.getStatusCode());
+        assertEquals(HttpStatus.OK, responseSnd.getStatusCode());
+        assertNotNull(continuation);
+        assertNotNull(responseFst.getBody());
+        assertNotNull(responseSnd.getBody());
+        assertNull(responseSnd.getHeaders().getFirst(RESPONSE_HEADER_CONTINUATION));
+        offers.sort(offerComparator.thenComparing(Offer::getIdentifier));
+        assertTrue(Iterables.elementsEqual(Iterables.concat(responseFst.getBody(), responseSnd.getBody()), offers));
+    }
+
+    @Test
+    public void testGetAllOffersIllegalLimit() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getAllOffers(null, null, 0, null, null, null, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testStreamAllOffersNullToken() {
+        // Execution
+        ResponseEntity<Flux<Offer>> responseEntity = getEntityController().streamAllOffers(null, null, null, null, null);
+
+        // Assertions
+        assertEquals(HttpStatus.UNAUTHORIZED, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testStreamAllOffersByUnknownCreatorIdentifier() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<Flux<Offer>> responseEntity = getEntityController().streamAllOffers("INVALID_IDENTIFIER", null, null, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testStreamAllOffersWithComparator() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        OfferComparator offerComparator = new OfferComparator(OfferComparableField.PRICE, new SphericalLocation(new SphericalPosition(0, 0)));
+        List<Offer> offers = new LinkedList<>();
+        int entityAmount = 5;
+        repeat(entityAmount, i -> offers.add(i, getTestEntityPersistent()));
+
+        // Execution
+        ResponseEntity<Flux<Offer>> responseEntity = getEntityController().streamAllOffers(null, null, null, offerComparator, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        offers.sort(offerComparator.thenComparing(Offer::getIdentifier));
+        assertEquals(offers, responseEntity.getBody().collectList().block());
+    }
+
+    @Test
+    public void testGetOfferIdentifiersWithinBoundingBoxNullToken() {
+        // Execution
+        ResponseEntity<List<String>> responseEntity = getEntityController()
+                .getOfferIdentifiersWithinBoundingBox(48d, 8d, 49d, 9d, null);
+
+        // Assertions
+        assertEquals(HttpStatus.UNAUTHORIZED, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetOfferIdentifiersWithinBoundingBoxMissingBound() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<List<String>> responseEntity = getEntityController()
+                .getOfferIdentifiersWithinBoundingBox(48d, 8d, null, 9d, token);
+
+        // Assertions
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetOfferIdentifiersWithinBoundingBox() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<List<String>> responseEntity = getEntityController()
+                .getOfferIdentifiersWithinBoundingBox(48d, 8d, 49d, 9d, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+    }
+
+    @Test
+    public void testGetNearbyOfferIdentifiersNullToken() {
+        // Execution
+        ResponseEntity<List<String>> responseEntity = getEntityController()
+                .getNearbyOfferIdentifiers(49d, 8d, 10d, null, null);
+
+        // Assertions
+        assertEquals(HttpStatus.UNAUTHORIZED, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetNearbyOfferIdentifiersWithoutRadiusAndLimit() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<List<String>> responseEntity = getEntityController()
+                .getNearbyOfferIdentifiers(49d, 8d, null, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetNearbyOfferIdentifiersLimitExceeded() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<List<String>> responseEntity = getEntityController()
+                .getNearbyOfferIdentifiers(49d, 8d, 10d, OfferController.MAX_NEARBY_LIMIT + 1, token);
+
+        // Assertions
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetNearbyOfferIdentifiersWithinRadius() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<List<String>> responseEntity = getEntityController()
+                .getNearbyOfferIdentifiers(49d, 8d, 10d, 5, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertTrue(responseEntity.getBody().size() <= 5);
+    }
+
+    @Test
+    public void testGetNearbyOfferIdentifiersNearest() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<List<String>> responseEntity = getEntityController()
+                .getNearbyOfferIdentifiers(49d, 8d, null, 3, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertTrue(responseEntity.getBody().size() <= 3);
+    }
+
+    @Test
+    public void testGetUpcomingOffersNullToken() {
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getUpcomingOffers(null, null, null);
+
+        // Assertions
+        assertEquals(HttpStatus.UNAUTHORIZED, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetUpcomingOffers() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        Offer pastOffer = getOfferPersistent(token.getUser());
+        Offer transientOffer = getOfferTransient(token.getUser());
+        transientOffer.setDateTime(LocalDateTime.now().plusDays(1));
+        Offer upcomingOffer = getEntityController().getEntityService().post(transientOffer);
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getUpcomingOffers(null, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertTrue(Iterables.contains(responseEntity.getBody(), upcomingOffer));
+        assertFalse(Iterables.contains(responseEntity.getBody(), pastOffer));
+    }
+
+    @Test
+    public void testGetArchivedOfferNullToken() {
+        // Execution
+        ResponseEntity<Offer> responseEntity = getEntityController().getArchivedOffer("identifier", null);
+
+        // Assertions
+        assertEquals(HttpStatus.UNAUTHORIZED, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetArchivedOffer() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        Offer pastOffer = getOfferPersistent(token.getUser());
+        getEntityController().getEntityService().archiveBefore(LocalDateTime.now());
+
+        // Execution
+        ResponseEntity<Offer> responseEntity = getEntityController().getArchivedOffer(pastOffer.getIdentifier(), token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(pastOffer, responseEntity.getBody());
+    }
+
+    @Test
+    public void testGetArchivedOfferNonExisting() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        Offer offer = getOfferPersistent(token.getUser());
+
+        // Execution
+        ResponseEntity<Offer> responseEntity = getEntityController().getArchivedOffer(offer.getIdentifier(), token);
+
+        // Assertions
+        assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetArchivedOffersMissingOwner() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().getArchivedOffers(null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetArchivedParticipations() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        Offer pastOffer = getOfferPersistent(token.getUser());
+        getEntityController().getEntityService().archiveBefore(LocalDateTime.now());
+
+        // Execution
+        ResponseEntity<Iterable<Participation>> responseEntity = getEntityController()
+                .getArchivedParticipations(pastOffer.getIdentifier(), token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertTrue(Iterables.isEmpty(responseEntity.getBody()));
+    }
+
+    @Test
+    public void testSearchOffersNullToken() {
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().searchOffers("pizza", null, null, null);
+
+        // Assertions
+        assertEquals(HttpStatus.UNAUTHORIZED, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testSearchOffersBlankQuery() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController().searchOffers(" ", null, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testSearchOffersLimitExceeded() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController()
+                .searchOffers("pizza", OfferController.MAX_SEARCH_LIMIT + 1, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testSearchOffers() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        Offer offer = getOfferPersistent(token.getUser());
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController()
+                .searchOffers(offer.getName(), null, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertTrue(Iterables.contains(responseEntity.getBody(), offer));
+    }
+
     @Test
     public void testGetOffer() {
-        createHandleGetEndpointTest(getEntityController()::getOffer);
+        createHandleGetEndpointTest((i, t) -> getEntityController().getOffer(i, null, t));
     }
 
     @Test
@@ -242,6 +604,152 @@ public class OfferControllerTest extends EntityControllerTest<OfferController, O
 
     //#endregion
 
+    //#region @Test conditional GET
+
+    @Test
+    public void testGetAllOffersNotModified() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        getOfferPersistent(token.getUser());
+        String creatorIdentifier = token.getUser().getIdentifier();
+        String entityTag = getEntityController()
+                .getAllOffers(creatorIdentifier, null, null, null, null, null, null, token).getHeaders().getETag();
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController()
+                .getAllOffers(creatorIdentifier, null, null, null, null, null, entityTag, token);
+
+        // Assertions
+        assertNotNull(entityTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, responseEntity.getStatusCode());
+        assertNull(responseEntity.getBody());
+    }
+
+    @Test
+    public void testGetAllOffersModifiedAfterSubscription() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        User subscribedUser = getUserPersistent(Role.USER);
+        Offer offer = getOfferPersistent(subscribedUser);
+        String subscriberIdentifier = token.getUser().getIdentifier();
+        String entityTag = getEntityController()
+                .getAllOffers(null, subscriberIdentifier, null, null, null, null, null, token).getHeaders().getETag();
+        subscriptionService.post(new Subscription(token.getUser(), subscribedUser));
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController()
+                .getAllOffers(null, subscriberIdentifier, null, null, null, null, entityTag, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertTrue(Iterables.contains(responseEntity.getBody(), offer));
+    }
+
+    @Test
+    public void testGetAllOffersDifferentPredicates() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        getOfferPersistent(token.getUser());
+        String entityTag = getEntityController()
+                .getAllOffers(null, null, null, null, null, null, null, token).getHeaders().getETag();
+        OfferPredicate[] predicates = {new PricePredicate(DoubleOperation.LESS, 1d)};
+
+        // Execution
+        ResponseEntity<Iterable<Offer>> responseEntity = getEntityController()
+                .getAllOffers(null, null, null, null, predicates, null, entityTag, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetOfferModifiedAfterUserPost() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        Offer offer = getOfferPersistent(token.getUser());
+        String entityTag = getEntityController().getOffer(offer.getIdentifier(), null, token).getHeaders().getETag();
+        getUserPersistent(Role.USER);
+
+        // Execution
+        ResponseEntity<Offer> responseEntity = getEntityController().getOffer(offer.getIdentifier(), entityTag, token);
+
+        // Assertions
+        assertNotNull(entityTag);
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(offer, responseEntity.getBody());
+    }
+
+    //#endregion
+
+    //#region @Test streamOfferEvents
+
+    @Test
+    public void testStreamOfferEventsNullToken() {
+        // Execution
+        ResponseEntity<Flux<ServerSentEvent<OfferEvent>>> responseEntity = getEntityController()
+                .streamOfferEvents(null, null, null, null, null, null);
+
+        // Assertions
+        assertEquals(HttpStatus.UNAUTHORIZED, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testStreamOfferEventsIncompleteArea() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<Flux<ServerSentEvent<OfferEvent>>> responseEntity = getEntityController()
+                .streamOfferEvents(null, 49.01, 8.40, null, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testStreamOfferEvents() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        List<ServerSentEvent<OfferEvent>> events = new CopyOnWriteArrayList<>();
+        ResponseEntity<Flux<ServerSentEvent<OfferEvent>>> responseEntity = getEntityController()
+                .streamOfferEvents(token.getUser().getIdentifier(), null, null, null, null, token);
+        assertNotNull(responseEntity.getBody());
+        Disposable subscription = responseEntity.getBody().subscribe(events::add);
+
+        // Execution
+        Offer offer = getOfferPersistent(token.getUser());
+        subscription.dispose();
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(1, events.size());
+        assertEquals(OfferEvent.Type.CREATED.name(), events.get(0).event());
+        assertNotNull(events.get(0).data());
+        assertEquals(offer.getIdentifier(), events.get(0).data().getOfferIdentifier());
+    }
+
+    @Test
+    public void testStreamOfferEventsHeartbeat() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        OfferController offerController = new OfferController(getEntityController().getEntityService(),
+                offerSecurityService, offerEventService, 1L);
+
+        // Execution
+        ResponseEntity<Flux<ServerSentEvent<OfferEvent>>> responseEntity = offerController
+                .streamOfferEvents(null, null, null, null, null, token);
+        assertNotNull(responseEntity.getBody());
+        ServerSentEvent<OfferEvent> heartbeat = responseEntity.getBody().blockFirst(Duration.ofSeconds(5));
+
+        // Assertions
+        assertNotNull(heartbeat);
+        assertNotNull(heartbeat.comment());
+        assertNull(heartbeat.data());
+    }
+
+    //#endregion
+
     @Override
     protected Offer getTestEntityTransient() {
         return getOfferTransient(getUserPersistent(Role.USER));
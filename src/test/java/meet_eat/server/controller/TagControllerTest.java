@@ -1,7 +1,21 @@
 package meet_eat.server.controller;
 
+import com.google.common.collect.Iterables;
 import meet_eat.data.entity.Tag;
+import meet_eat.data.entity.Token;
+import meet_eat.data.entity.user.Role;
 import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class TagControllerTest extends EntityControllerTest<TagController, Tag, String> {
 
@@ -9,12 +23,12 @@ public class TagControllerTest extends EntityControllerTest<TagController, Tag,
 
     @Test
     public void testGetTag() {
-        createHandleGetEndpointTest(getEntityController()::getTag);
+        createHandleGetEndpointTest((i, t) -> getEntityController().getTag(i, null, t));
     }
 
     @Test
     public void testGetAllTags() {
-        createHandleGetAllEndpointTest(getEntityController()::getAllTags);
+        createHandleGetAllEndpointTest(t -> getEntityController().getAllTags(null, null, null, t));
     }
 
     @Test
@@ -44,6 +58,145 @@ public class TagControllerTest extends EntityControllerTest<TagController, Tag,
 
     //#endregion
 
+    //#region @Test handleGetAll with limit
+
+    @Test
+    public void testGetAllTagsIllegalLimit() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<Iterable<Tag>> responseEntity = getEntityController().getAllTags(0, null, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetAllTagsMalformedContinuation() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+
+        // Execution
+        ResponseEntity<Iterable<Tag>> responseEntity = getEntityController().getAllTags(2, "#malformed#", null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetAllTagsSlices() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        List<Tag> tags = new LinkedList<>();
+        int entityAmount = 5;
+        repeat(entityAmount, i -> tags.add(getTagPersistent()));
+
+        // Execution
+        ResponseEntity<Iterable<Tag>> responseFst = getEntityController().getAllTags(3, null, null, token);
+        String continuation = responseFst.getHeaders().getFirst(RESPONSE_HEADER_CONTINUATION);
+        ResponseEntity<Iterable<Tag>> responseSnd = getEntityController().getAllTags(3, continuation, null, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseFst.getStatusCode());
+        assertEquals(HttpStatus.OK, responseSnd.getStatusCode());
+        assertNotNull(responseFst.getBody());
+        assertNotNull(responseSnd.getBody());
+        assertNotNull(continuation);
+        assertNull(responseSnd.getHeaders().getFirst(RESPONSE_HEADER_CONTINUATION));
+        assertEquals(3, Iterables.size(responseFst.getBody()));
+        assertEquals(2, Iterables.size(responseSnd.getBody()));
+        for (Tag tag : tags) {
+            assertTrue(Iterables.contains(responseFst.getBody(), tag) ^ Iterables.contains(responseSnd.getBody(), tag));
+        }
+    }
+
+    //#endregion
+
+    //#region @Test conditional GET
+
+    @Test
+    public void testGetTagNotModified() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        Tag tag = getTagPersistent();
+        String entityTag = getEntityController().getTag(tag.getIdentifier(), null, token).getHeaders().getETag();
+
+        // Execution
+        ResponseEntity<Tag> responseEntity = getEntityController().getTag(tag.getIdentifier(), entityTag, token);
+
+        // Assertions
+        assertNotNull(entityTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, responseEntity.getStatusCode());
+        assertEquals(entityTag, responseEntity.getHeaders().getETag());
+        assertNull(responseEntity.getBody());
+    }
+
+    @Test
+    public void testGetTagDeletedAfterTagging() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        Tag tag = getTagPersistent();
+        String entityTag = getEntityController().getTag(tag.getIdentifier(), null, token).getHeaders().getETag();
+        getEntityController().getEntityService().delete(tag.getIdentifier());
+
+        // Execution
+        ResponseEntity<Tag> responseEntity = getEntityController().getTag(tag.getIdentifier(), entityTag, token);
+
+        // Assertions
+        assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    }
+
+    @Test
+    public void testGetAllTagsNotModified() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        getTagPersistent();
+        String entityTag = getEntityController().getAllTags(null, null, null, token).getHeaders().getETag();
+
+        // Execution
+        ResponseEntity<Iterable<Tag>> responseEntity = getEntityController().getAllTags(null, null, entityTag, token);
+
+        // Assertions
+        assertNotNull(entityTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, responseEntity.getStatusCode());
+        assertNull(responseEntity.getBody());
+    }
+
+    @Test
+    public void testGetAllTagsModifiedAfterPost() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        getTagPersistent();
+        String entityTag = getEntityController().getAllTags(null, null, null, token).getHeaders().getETag();
+        Tag postedTag = getTagPersistent();
+
+        // Execution
+        ResponseEntity<Iterable<Tag>> responseEntity = getEntityController().getAllTags(null, null, entityTag, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertTrue(Iterables.contains(responseEntity.getBody(), postedTag));
+        assertNotEquals(entityTag, responseEntity.getHeaders().getETag());
+    }
+
+    @Test
+    public void testGetAllTagsSliceTagDiffersFromListingTag() {
+        // Test data
+        Token token = getTokenPersistent(getUserPersistent(Role.USER));
+        getTagPersistent();
+        String entityTag = getEntityController().getAllTags(null, null, null, token).getHeaders().getETag();
+
+        // Execution
+        ResponseEntity<Iterable<Tag>> responseEntity = getEntityController().getAllTags(1, null, entityTag, token);
+
+        // Assertions
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    }
+
+    //#endregion
+
     @Override
     protected Tag getTestEntityTransient() {
         return getTagTransient();
@@ -8,6 +8,7 @@ import meet_eat.data.entity.user.User;
 import org.junit.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -89,7 +90,7 @@ public class TokenControllerTest extends EntityControllerTest<TokenController, T
         LoginCredential loginCredential = new LoginCredential(user.getEmail(), Password.createHashedPassword(PASSWORD_VALID_VALUE));
 
         // Execution
-        ResponseEntity<Token> responseEntity = getEntityController().login(loginCredential);
+        ResponseEntity<Token> responseEntity = getEntityController().login(loginCredential, new MockHttpServletRequest());
 
         // Assertions
         assertEquals(HttpStatus.CREATED, responseEntity.getStatusCode());
@@ -102,7 +103,7 @@ public class TokenControllerTest extends EntityControllerTest<TokenController, T
         LoginCredential loginCredential = new LoginCredential(user.getEmail(), Password.createHashedPassword("WrongCredentials123!?"));
 
         // Execution
-        ResponseEntity<Token> responseEntity = getEntityController().login(loginCredential);
+        ResponseEntity<Token> responseEntity = getEntityController().login(loginCredential, new MockHttpServletRequest());
 
         // Assertions
         assertEquals(HttpStatus.FORBIDDEN, responseEntity.getStatusCode());
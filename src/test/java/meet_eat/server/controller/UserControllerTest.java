@@ -7,6 +7,7 @@ import meet_eat.data.entity.user.User;
 import org.junit.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -22,7 +23,7 @@ public class UserControllerTest extends EntityControllerTest<UserController, Use
         Token token = getTokenPersistent(getUserPersistent(Role.USER));
 
         // Execution
-        ResponseEntity<User> responseEntity = getEntityController().getUser(user.getIdentifier(), token);
+        ResponseEntity<User> responseEntity = getEntityController().getUser(user.getIdentifier(), null, token);
 
         // Assertions
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -127,7 +128,7 @@ public class UserControllerTest extends EntityControllerTest<UserController, Use
 
         // Execution
         user = getEntityController().getEntityService().post(user);
-        ResponseEntity<Void> responseEntity = getEntityController().postPasswordReset(user.getEmail().toString());
+        ResponseEntity<Void> responseEntity = getEntityController().postPasswordReset(user.getEmail().toString(), new MockHttpServletRequest());
 
         // Assertions
         assertEquals(HttpStatus.ACCEPTED, responseEntity.getStatusCode());
@@ -139,7 +140,7 @@ public class UserControllerTest extends EntityControllerTest<UserController, Use
         Email email = new Email("noreply.meet.eat@gmail.com");
 
         // Execution
-        ResponseEntity<Void> responseEntity = getEntityController().postPasswordReset(email.toString());
+        ResponseEntity<Void> responseEntity = getEntityController().postPasswordReset(email.toString(), new MockHttpServletRequest());
 
         // Assertions
         assertEquals(HttpStatus.ACCEPTED, responseEntity.getStatusCode());
@@ -151,7 +152,7 @@ public class UserControllerTest extends EntityControllerTest<UserController, Use
         String illegalEmail = "noreply.meet.eat@";
 
         // Execution
-        ResponseEntity<Void> responseEntity = getEntityController().postPasswordReset(illegalEmail);
+        ResponseEntity<Void> responseEntity = getEntityController().postPasswordReset(illegalEmail, new MockHttpServletRequest());
 
         // Assertions
         assertEquals(HttpStatus.ACCEPTED, responseEntity.getStatusCode());
@@ -0,0 +1,77 @@
+package meet_eat.server.repository;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class ContinuationTokenTest {
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorNullIdentifier() {
+        // Execution
+        new ContinuationToken(null, "SortKey");
+    }
+
+    @Test
+    public void testConstructor() {
+        // Execution
+        ContinuationToken continuationToken = new ContinuationToken("Identifier", "SortKey");
+
+        // Assertions
+        assertNotNull(continuationToken);
+        assertEquals("Identifier", continuationToken.getIdentifier());
+        assertEquals("SortKey", continuationToken.getSortKey().orElseThrow());
+    }
+
+    @Test
+    public void testEncodeDecode() {
+        // Test data
+        ContinuationToken continuationToken = new ContinuationToken("Identifier", "2020-07-30T12:32");
+
+        // Execution
+        ContinuationToken decodedToken = ContinuationToken.decode(continuationToken.encode());
+
+        // Assertions
+        assertEquals(continuationToken, decodedToken);
+    }
+
+    @Test
+    public void testEncodeDecodeWithoutSortKey() {
+        // Test data
+        ContinuationToken continuationToken = new ContinuationToken("Identifier");
+
+        // Execution
+        ContinuationToken decodedToken = ContinuationToken.decode(continuationToken.encode());
+
+        // Assertions
+        assertEquals(continuationToken, decodedToken);
+        assertFalse(decodedToken.getSortKey().isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeMalformed() {
+        // Execution
+        ContinuationToken.decode("#malformed#");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeTooManySegments() {
+        // Execution
+        ContinuationToken.decode("a.b.c");
+    }
+
+    @Test
+    public void testEncodeIsUrlSafe() {
+        // Test data
+        ContinuationToken continuationToken = new ContinuationToken("?/+=", "&?=");
+
+        // Execution
+        String encodedToken = continuationToken.encode();
+
+        // Assertions
+        assertTrue(encodedToken.matches("[A-Za-z0-9_.-]+"));
+    }
+}
@@ -0,0 +1,60 @@
+package meet_eat.server.repository;
+
+import meet_eat.data.predicate.OfferPredicate;
+import meet_eat.data.predicate.numeric.DoubleOperation;
+import meet_eat.data.predicate.numeric.PricePredicate;
+import org.bson.Document;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OfferPredicateTranslatorTest {
+
+    @Test(expected = NullPointerException.class)
+    public void testTranslateNull() {
+        // Execution
+        new OfferPredicateTranslator().translate((OfferPredicate) null);
+    }
+
+    @Test
+    public void testTranslateEmpty() {
+        // Execution
+        Criteria criteria = new OfferPredicateTranslator().translate(Collections.emptyList());
+
+        // Assertions
+        assertTrue(criteria.getCriteriaObject().isEmpty());
+    }
+
+    @Test
+    public void testTranslatePricePredicate() {
+        // Test data
+        OfferPredicate predicate = new PricePredicate(DoubleOperation.LESS, 12d);
+
+        // Execution
+        Optional<Criteria> optionalCriteria = new OfferPredicateTranslator().translate(predicate);
+
+        // Assertions
+        assertTrue(optionalCriteria.isPresent());
+        Document expectedDocument = new Document(OfferPredicateTranslator.FIELD_PRICE, new Document("$lt", 12d));
+        assertEquals(expectedDocument, optionalCriteria.get().getCriteriaObject());
+    }
+
+    @Test
+    public void testGetResidualPredicatesPricePredicate() {
+        // Test data
+        OfferPredicate predicate = new PricePredicate(DoubleOperation.LESS, 12d);
+
+        // Execution
+        List<OfferPredicate> residualPredicates = new OfferPredicateTranslator()
+                .getResidualPredicates(Collections.singletonList(predicate));
+
+        // Assertions
+        assertTrue(residualPredicates.isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+package meet_eat.server.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AttemptLimiterTest {
+
+    private static final int CAPACITY = 3;
+    private static final double REFILL_PER_MINUTE = 1d;
+
+    @Test
+    public void testTryAcquireWithinCapacity() {
+        // Test data
+        AttemptLimiter attemptLimiter = createAttemptLimiter();
+
+        // Assertions
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, "test@example.com", "127.0.0.1"));
+        }
+    }
+
+    @Test
+    public void testTryAcquireExceedingCapacity() {
+        // Test data
+        AttemptLimiter attemptLimiter = createAttemptLimiter();
+
+        // Execution
+        for (int i = 0; i < CAPACITY; i++) {
+            attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, "test@example.com", "127.0.0.1");
+        }
+
+        // Assertions
+        assertFalse(attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, "test@example.com", "127.0.0.1"));
+        assertFalse(attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, "other@example.com", "127.0.0.1"));
+        assertFalse(attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, "test@example.com", "127.0.0.2"));
+        assertTrue(attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, "other@example.com", "127.0.0.2"));
+    }
+
+    @Test
+    public void testTryAcquireRejectedNotConsumed() {
+        // Test data
+        AttemptLimiter attemptLimiter = createAttemptLimiter();
+
+        // Execution
+        for (int i = 0; i < CAPACITY; i++) {
+            attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, "test@example.com");
+        }
+        for (int i = 0; i < CAPACITY; i++) {
+            attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, "test@example.com", "127.0.0.1");
+        }
+
+        // Assertions
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, "127.0.0.1"));
+        }
+    }
+
+    @Test
+    public void testTryAcquireScopesSeparated() {
+        // Test data
+        AttemptLimiter attemptLimiter = createAttemptLimiter();
+
+        // Execution
+        for (int i = 0; i < CAPACITY; i++) {
+            attemptLimiter.tryAcquire(AttemptLimiter.Scope.LOGIN, "test@example.com");
+        }
+
+        // Assertions
+        assertTrue(attemptLimiter.tryAcquire(AttemptLimiter.Scope.PASSWORD_RESET, "test@example.com"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorIllegalCapacity() {
+        // Execution
+        new AttemptLimiter(null, new SimpleMeterRegistry(), false, 10L, 0, REFILL_PER_MINUTE, CAPACITY,
+                REFILL_PER_MINUTE);
+    }
+
+    private AttemptLimiter createAttemptLimiter() {
+        return new AttemptLimiter(null, new SimpleMeterRegistry(), false, 10L, CAPACITY, REFILL_PER_MINUTE, CAPACITY,
+                REFILL_PER_MINUTE);
+    }
+}
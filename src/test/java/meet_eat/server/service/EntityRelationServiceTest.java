@@ -4,8 +4,12 @@ import com.google.common.collect.Iterables;
 import meet_eat.data.entity.Entity;
 import meet_eat.data.entity.relation.EntityRelation;
 import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -14,6 +18,9 @@ import static org.junit.Assert.assertTrue;
 
 public abstract class EntityRelationServiceTest<V extends EntityRelationService<K, T, S, U, ?>, K extends EntityRelation<T, S, U>, T extends Entity<?>, S extends Entity<?>, U extends Serializable> extends EntityServiceTest<V, K, U> {
 
+    @Autowired
+    private MongoOperations mongoOperations;
+
     //#region @Test getBySource
 
     @Test(expected = NullPointerException.class)
@@ -226,6 +233,161 @@ public abstract class EntityRelationServiceTest<V extends EntityRelationService<
         assertEquals(2, amount);
     }
 
+    @Test
+    public void testCountByTargetAfterDelete() {
+        // Test data
+        S target = getTargetEntity();
+        K relationFst = getRelationEntityPersistent(getSourceEntity(), target);
+        K relationSnd = getRelationEntityPersistent(getSourceEntity(), target);
+
+        // Execution
+        getEntityService().delete(relationFst);
+        getEntityService().delete(relationSnd.getIdentifier());
+        getEntityService().delete(relationFst);
+
+        // Assertions
+        assertEquals(0, getEntityService().countByTarget(target));
+    }
+
+    @Test
+    public void testCountByTargetAfterDeleteBySource() {
+        // Test data
+        T source = getSourceEntity();
+        S target = getTargetEntity();
+        K relation = getRelationEntityPersistent(source, target);
+        K foreignRelation = getRelationEntityPersistent(getSourceEntity(), target);
+
+        // Execution
+        getEntityService().deleteBySource(source);
+
+        // Assertions
+        assertEquals(1, getEntityService().countByTarget(target));
+    }
+
+    @Test
+    public void testCountByTargetAfterDeleteBySourceAndTarget() {
+        // Test data
+        T source = getSourceEntity();
+        S target = getTargetEntity();
+        K relation = getRelationEntityPersistent(source, target);
+        K foreignRelation = getRelationEntityPersistent(getSourceEntity(), target);
+
+        // Execution
+        getEntityService().deleteBySourceAndTarget(source, target);
+        getEntityService().deleteBySourceAndTarget(source, target);
+
+        // Assertions
+        assertEquals(1, getEntityService().countByTarget(target));
+    }
+
+    @Test
+    public void testCountByTargetAfterDeleteByTarget() {
+        // Test data
+        S target = getTargetEntity();
+        K relationFst = getRelationEntityPersistent(getSourceEntity(), target);
+        K relationSnd = getRelationEntityPersistent(getSourceEntity(), target);
+
+        // Execution
+        getEntityService().deleteByTarget(target);
+
+        // Assertions
+        assertEquals(0, getEntityService().countByTarget(target));
+    }
+
+    @Test
+    public void testCountByTargetAfterRepair() {
+        // Test data
+        S target = getTargetEntity();
+        K relationFst = getRelationEntityPersistent(getSourceEntity(), target);
+        K relationSnd = getRelationEntityPersistent(getSourceEntity(), target);
+        getEntityService().getRepository().delete(relationFst);
+
+        // Execution
+        getEntityService().repairTargetCounters();
+
+        // Assertions
+        assertEquals(1, getEntityService().countByTarget(target));
+    }
+
+    @Test
+    public void testCountByTargetWithoutCounter() {
+        // Test data
+        S target = getTargetEntity();
+        K relationFst = getRelationEntityPersistent(getSourceEntity(), target);
+        K relationSnd = getRelationEntityPersistent(getSourceEntity(), target);
+        mongoOperations.dropCollection(RelationCounterService.COLLECTION_NAME);
+
+        // Execution
+        long amount = getEntityService().countByTarget(target);
+
+        // Assertions
+        assertEquals(2, amount);
+    }
+
+    @Test
+    public void testCountByTargetAfterDeleteWithoutCounter() {
+        // Test data
+        S target = getTargetEntity();
+        K relationFst = getRelationEntityPersistent(getSourceEntity(), target);
+        K relationSnd = getRelationEntityPersistent(getSourceEntity(), target);
+        mongoOperations.dropCollection(RelationCounterService.COLLECTION_NAME);
+
+        // Execution
+        getEntityService().delete(relationFst.getIdentifier());
+        getEntityService().delete(relationFst.getIdentifier());
+
+        // Assertions
+        assertEquals(1, getEntityService().countByTarget(target));
+    }
+
+    //#endregion
+
+    //#region @Test countByTargets
+
+    @Test(expected = NullPointerException.class)
+    public void testCountByTargetsNull() {
+        // Execution
+        getEntityService().countByTargets(null);
+    }
+
+    @Test
+    public void testCountByTargets() {
+        // Test data
+        S targetFst = getTargetEntity();
+        S targetSnd = getTargetEntity();
+        S targetEmpty = getTargetEntity();
+        K relationFst = getRelationEntityPersistent(getSourceEntity(), targetFst);
+        K relationSnd = getRelationEntityPersistent(getSourceEntity(), targetFst);
+        K relationTrd = getRelationEntityPersistent(getSourceEntity(), targetSnd);
+
+        // Execution
+        Map<String, Long> counts = getEntityService().countByTargets(List.of(targetFst, targetSnd, targetEmpty));
+
+        // Assertions
+        assertEquals(3, counts.size());
+        assertEquals(Long.valueOf(2L), counts.get(targetFst.getIdentifier().toString()));
+        assertEquals(Long.valueOf(1L), counts.get(targetSnd.getIdentifier().toString()));
+        assertEquals(Long.valueOf(0L), counts.get(targetEmpty.getIdentifier().toString()));
+    }
+
+    @Test
+    public void testCountByTargetsWithoutCounter() {
+        // Test data
+        S targetFst = getTargetEntity();
+        S targetSnd = getTargetEntity();
+        K relationFst = getRelationEntityPersistent(getSourceEntity(), targetFst);
+        K relationSnd = getRelationEntityPersistent(getSourceEntity(), targetFst);
+        K relationTrd = getRelationEntityPersistent(getSourceEntity(), targetSnd);
+        mongoOperations.dropCollection(RelationCounterService.COLLECTION_NAME);
+
+        // Execution
+        Map<String, Long> counts = getEntityService().countByTargets(List.of(targetFst, targetSnd));
+
+        // Assertions
+        assertEquals(Long.valueOf(2L), counts.get(targetFst.getIdentifier().toString()));
+        assertEquals(Long.valueOf(1L), counts.get(targetSnd.getIdentifier().toString()));
+    }
+
     //#endregion
 
     //#region @Test deleteBySource
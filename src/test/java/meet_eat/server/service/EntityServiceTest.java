@@ -33,7 +33,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(SpringRunner.class)
-@SpringBootTest
+@SpringBootTest(properties = "meet-eat.offers.text-index.enabled=true")
 public abstract class EntityServiceTest<T extends EntityService<S, U, ?>, S extends Entity<U>, U extends Serializable> {
 
     protected static final String PASSWORD_VALID_VALUE = "AbcdefgTest1234!?";
@@ -49,6 +49,8 @@ public abstract class EntityServiceTest<T extends EntityService<S, U, ?>, S exte
     @Autowired
     private TagService tagService;
     @Autowired
+    private OfferQueryCache offerQueryCache;
+    @Autowired
     private T entityService;
 
     @Before
@@ -61,6 +63,7 @@ public abstract class EntityServiceTest<T extends EntityService<S, U, ?>, S exte
         userService.getRepository().deleteAll();
         offerService.getRepository().deleteAll();
         tagService.getRepository().deleteAll();
+        offerQueryCache.invalidateAll();
     }
 
     @Test(expected = NullPointerException.class)
@@ -0,0 +1,70 @@
+package meet_eat.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import meet_eat.data.entity.Tag;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+public class EntityVersionServiceTest {
+
+    private static final String IDENTIFIER = "TestIdentifier";
+
+    @Test
+    public void testGetEntityTagAfterIncrement() {
+        // Test data
+        EntityVersionService versionService = new EntityVersionService(new ObjectMapper(), true, 10L);
+        String entityTagBefore = versionService.getEntityTag(Tag.class, IDENTIFIER, List.of());
+
+        // Execution
+        versionService.increment(Tag.class, IDENTIFIER);
+
+        // Assertions
+        assertNotEquals(entityTagBefore, versionService.getEntityTag(Tag.class, IDENTIFIER, List.of()));
+    }
+
+    @Test
+    public void testGetEntityTagAfterEviction() {
+        // Test data
+        EntityVersionService versionService = new EntityVersionService(new ObjectMapper(), true, 10L);
+        String entityTagBefore = versionService.getEntityTag(Tag.class, IDENTIFIER, List.of());
+        versionService.increment(Tag.class, IDENTIFIER);
+
+        // Execution
+        for (int i = 0; i < 100; i++) {
+            versionService.increment(Tag.class, IDENTIFIER + i);
+        }
+
+        // Assertions
+        assertNotEquals(entityTagBefore, versionService.getEntityTag(Tag.class, IDENTIFIER, List.of()));
+    }
+
+    @Test
+    public void testGetEntityTagAfterRemove() {
+        // Test data
+        EntityVersionService versionService = new EntityVersionService(new ObjectMapper(), true, 10L);
+        String entityTagBefore = versionService.getEntityTag(Tag.class, IDENTIFIER, List.of());
+        versionService.increment(Tag.class, IDENTIFIER);
+        String entityTagWritten = versionService.getEntityTag(Tag.class, IDENTIFIER, List.of());
+
+        // Execution
+        versionService.remove(Tag.class, IDENTIFIER);
+
+        // Assertions
+        String entityTagRemoved = versionService.getEntityTag(Tag.class, IDENTIFIER, List.of());
+        assertNotEquals(entityTagBefore, entityTagRemoved);
+        assertNotEquals(entityTagWritten, entityTagRemoved);
+    }
+
+    @Test
+    public void testIsEnabledDisabled() {
+        // Test data
+        EntityVersionService versionService = new EntityVersionService(new ObjectMapper(), false, 10L);
+
+        // Assertions
+        assertFalse(versionService.isEnabled());
+    }
+}
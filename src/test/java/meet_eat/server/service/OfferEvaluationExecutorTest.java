@@ -0,0 +1,171 @@
+package meet_eat.server.service;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OfferEvaluationExecutorTest {
+
+    private static final int THRESHOLD = 100;
+    private static final int PARALLELISM = 2;
+    private static final int KEY_AMOUNT = 10;
+
+    private final List<OfferEvaluationExecutor> executors = new ArrayList<>();
+
+    @After
+    public void shutdownExecutors() {
+        executors.forEach(OfferEvaluationExecutor::shutdown);
+    }
+
+    //#region @Test constructor
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorNegativeThreshold() {
+        // Execution
+        new OfferEvaluationExecutor(true, -1, PARALLELISM);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorNegativeParallelism() {
+        // Execution
+        new OfferEvaluationExecutor(true, THRESHOLD, -1);
+    }
+
+    //#endregion
+
+    //#region @Test isParallel
+
+    @Test
+    public void testIsParallelThreshold() {
+        // Test data
+        OfferEvaluationExecutor executor = createExecutor(true);
+
+        // Assertions
+        assertFalse(executor.isParallel(THRESHOLD - 1));
+        assertTrue(executor.isParallel(THRESHOLD));
+        assertTrue(executor.isParallel(THRESHOLD + 1));
+    }
+
+    @Test
+    public void testIsParallelDisabled() {
+        // Test data
+        OfferEvaluationExecutor executor = createExecutor(false);
+
+        // Assertions
+        assertFalse(executor.isParallel(THRESHOLD - 1));
+        assertFalse(executor.isParallel(THRESHOLD));
+    }
+
+    //#endregion
+
+    //#region @Test filter
+
+    @Test(expected = NullPointerException.class)
+    public void testFilterNull() {
+        // Execution
+        createExecutor(true).filter(null, element -> true);
+    }
+
+    @Test
+    public void testFilterBelowThresholdPreservesOrder() {
+        testFilterPreservesOrder(createExecutor(true), THRESHOLD - 1);
+    }
+
+    @Test
+    public void testFilterAboveThresholdPreservesOrder() {
+        testFilterPreservesOrder(createExecutor(true), 10 * THRESHOLD);
+    }
+
+    @Test
+    public void testFilterSequentialPreservesOrder() {
+        testFilterPreservesOrder(createExecutor(false), 10 * THRESHOLD);
+    }
+
+    //#endregion
+
+    //#region @Test sort
+
+    @Test(expected = NullPointerException.class)
+    public void testSortNull() {
+        // Execution
+        createExecutor(true).sort(null, Comparator.naturalOrder());
+    }
+
+    @Test
+    public void testSortBelowThresholdIsStable() {
+        testSortIsStable(createExecutor(true), THRESHOLD - 1);
+    }
+
+    @Test
+    public void testSortAboveThresholdIsStable() {
+        testSortIsStable(createExecutor(true), 10 * THRESHOLD);
+    }
+
+    @Test
+    public void testSortSequentialIsStable() {
+        testSortIsStable(createExecutor(false), 10 * THRESHOLD);
+    }
+
+    @Test
+    public void testSortDoesNotModifyInput() {
+        // Test data
+        OfferEvaluationExecutor executor = createExecutor(true);
+        List<Integer> elements = createElements(10 * THRESHOLD);
+        List<Integer> originalElements = new ArrayList<>(elements);
+
+        // Execution
+        executor.sort(elements, Comparator.reverseOrder());
+
+        // Assertions
+        assertEquals(originalElements, elements);
+    }
+
+    //#endregion
+
+    private void testFilterPreservesOrder(OfferEvaluationExecutor executor, int size) {
+        // Test data
+        List<Integer> elements = createElements(size);
+
+        // Execution
+        List<Integer> filteredElements = executor.filter(elements, element -> element % 3 != 0);
+
+        // Assertions
+        assertEquals(elements.stream().filter(element -> element % 3 != 0).collect(Collectors.toList()),
+                filteredElements);
+    }
+
+    private void testSortIsStable(OfferEvaluationExecutor executor, int size) {
+        // Test data
+        List<Integer> elements = createElements(size);
+        Comparator<Integer> byKey = Comparator.comparingInt(element -> element % KEY_AMOUNT);
+
+        // Execution
+        List<Integer> sortedElements = executor.sort(elements, byKey);
+
+        // Assertions
+        assertEquals(size, sortedElements.size());
+        for (int i = 1; i < sortedElements.size(); i++) {
+            int comparison = byKey.compare(sortedElements.get(i - 1), sortedElements.get(i));
+            assertTrue(comparison < 0 || (comparison == 0 && sortedElements.get(i - 1) < sortedElements.get(i)));
+        }
+    }
+
+    private List<Integer> createElements(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private OfferEvaluationExecutor createExecutor(boolean parallel) {
+        OfferEvaluationExecutor executor = new OfferEvaluationExecutor(parallel, THRESHOLD, PARALLELISM);
+        executors.add(executor);
+        return executor;
+    }
+}
@@ -1,14 +1,50 @@
 package meet_eat.server.service;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import meet_eat.data.comparator.OfferComparableField;
+import meet_eat.data.comparator.OfferComparator;
 import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.Tag;
+import meet_eat.data.entity.relation.Bookmark;
 import meet_eat.data.entity.relation.Participation;
 import meet_eat.data.entity.relation.Subscription;
+import meet_eat.data.entity.relation.rating.Rating;
+import meet_eat.data.entity.relation.rating.RatingValue;
 import meet_eat.data.entity.user.User;
+import meet_eat.data.location.CityLocation;
+import meet_eat.data.location.Localizable;
+import meet_eat.data.location.SphericalLocation;
+import meet_eat.data.location.SphericalPosition;
+import meet_eat.data.predicate.OfferPredicate;
+import meet_eat.data.predicate.numeric.DoubleOperation;
+import meet_eat.data.predicate.numeric.PricePredicate;
+import meet_eat.server.MongoIndexConfiguration;
+import meet_eat.server.repository.ContinuationToken;
+import meet_eat.server.repository.OfferPredicateTranslator;
+import org.bson.Document;
+import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -17,10 +53,42 @@ import static org.junit.Assert.assertTrue;
 
 public class OfferServiceTest extends EntityServiceTest<OfferService, Offer, String> {
 
+    private static final int BUFFER_OVERFLOW_OFFERS = 300;
+
     @Autowired
     private SubscriptionService subscriptionService;
     @Autowired
     private ParticipationService participationService;
+    @Autowired
+    private OfferSpatialIndex spatialIndex;
+    @Autowired
+    private OfferTextIndex textIndex;
+    @Autowired
+    private OfferTagIndex tagIndex;
+    @Autowired
+    private TagService tagService;
+    @Autowired
+    private BookmarkService bookmarkService;
+    @Autowired
+    private OfferArchiveService archiveService;
+    @Autowired
+    private RatingService ratingService;
+    @Autowired
+    private OfferQueryCache queryCache;
+    @Autowired
+    private OfferEventService eventService;
+    @Autowired
+    private MongoOperations mongoOperations;
+    @Autowired
+    private MongoIndexConfiguration mongoIndexConfiguration;
+
+    @Before
+    public void prepareIndexes() {
+        // The repositories are cleared without notifying the in-memory indexes.
+        spatialIndex.rebuild();
+        textIndex.rebuild();
+        tagIndex.rebuild();
+    }
 
     //#region @Test getByCreatorId
 
@@ -52,6 +120,766 @@ public class OfferServiceTest extends EntityServiceTest<OfferService, Offer, Str
 
     //#endregion
 
+    //#region @Test getAll with predicates
+
+    @Test(expected = NullPointerException.class)
+    public void testGetAllPredicatesNull() {
+        // Execution
+        getEntityService().getAll((OfferPredicate[]) null);
+    }
+
+    @Test
+    public void testGetAllPredicatesEmpty() {
+        // Test data
+        Offer offerFst = getOfferPersistent(getBasicUserPersistent());
+        Offer offerSnd = getOfferPersistent(getBasicUserPersistent());
+
+        // Execution
+        Iterable<Offer> gotOffers = getEntityService().getAll(new OfferPredicate[0]);
+
+        // Assertions
+        assertEquals(2, Iterables.size(gotOffers));
+        assertTrue(Iterables.contains(gotOffers, offerFst));
+        assertTrue(Iterables.contains(gotOffers, offerSnd));
+    }
+
+    @Test
+    public void testGetAllPricePredicate() {
+        // Test data
+        Offer offer = getOfferPersistent(getBasicUserPersistent());
+        OfferPredicate matchingPredicate = new PricePredicate(DoubleOperation.LESS, offer.getPrice() + 1d);
+        OfferPredicate nonMatchingPredicate = new PricePredicate(DoubleOperation.LESS, offer.getPrice() - 1d);
+
+        // Execution
+        Iterable<Offer> matchingOffers = getEntityService().getAll(new OfferPredicate[]{matchingPredicate});
+        Iterable<Offer> nonMatchingOffers = getEntityService().getAll(new OfferPredicate[]{nonMatchingPredicate});
+
+        // Assertions
+        assertEquals(1, Iterables.size(matchingOffers));
+        assertTrue(Iterables.contains(matchingOffers, offer));
+        assertTrue(Iterables.isEmpty(nonMatchingOffers));
+    }
+
+    //#endregion
+
+    //#region @Test stream
+
+    @Test(expected = NullPointerException.class)
+    public void testStreamPredicatesNull() {
+        // Execution
+        getEntityService().stream(null, null, null);
+    }
+
+    @Test
+    public void testStreamPricePredicate() {
+        // Test data
+        Offer offerFst = getOfferPersistent(getBasicUserPersistent());
+        Offer offerSnd = getOfferPersistent(getBasicUserPersistent());
+        Offer offerExcluded = getEntityService().post(new Offer(getBasicUserPersistent(), new HashSet<>(),
+                "Expensive offer", "Truffles. Mhmmm.", offerFst.getPrice() + 10d, 5, offerFst.getDateTime(),
+                new CityLocation("Karlsruhe")));
+        OfferPredicate predicate = new PricePredicate(DoubleOperation.LESS, offerFst.getPrice() + 1d);
+
+        // Execution
+        List<Offer> streamedOffers = getEntityService().stream(null, new OfferPredicate[]{predicate}, null)
+                .collectList()
+                .block();
+
+        // Assertions
+        assertNotNull(streamedOffers);
+        assertEquals(2, streamedOffers.size());
+        assertTrue(streamedOffers.contains(offerFst));
+        assertTrue(streamedOffers.contains(offerSnd));
+        assertFalse(streamedOffers.contains(offerExcluded));
+    }
+
+    @Test
+    public void testStreamByCreator() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        Offer offerFst = getOfferPersistent(creator);
+        Offer offerSnd = getOfferPersistent(getBasicUserPersistent());
+
+        // Execution
+        List<Offer> streamedOffers = getEntityService().stream(Set.of(creator), new OfferPredicate[0], null)
+                .collectList()
+                .block();
+
+        // Assertions
+        assertNotNull(streamedOffers);
+        assertEquals(1, streamedOffers.size());
+        assertTrue(streamedOffers.contains(offerFst));
+        assertFalse(streamedOffers.contains(offerSnd));
+    }
+
+    @Test
+    public void testStreamSortedByDistance() {
+        // Test data
+        SphericalLocation reference = new SphericalLocation(new SphericalPosition(49.01, 8.40));
+        OfferComparator comparator = new OfferComparator(OfferComparableField.DISTANCE, reference);
+        List<Offer> offers = List.of(
+                getOfferPersistent(getBasicUserPersistent(), new SphericalLocation(new SphericalPosition(52.52, 13.40))),
+                getOfferPersistent(getBasicUserPersistent(), new SphericalLocation(new SphericalPosition(49.00, 8.41))),
+                getOfferPersistent(getBasicUserPersistent(), new SphericalLocation(new SphericalPosition(48.14, 11.58))),
+                getOfferPersistent(getBasicUserPersistent()));
+
+        // Execution
+        List<Offer> streamedOffers = getEntityService().stream(null, new OfferPredicate[0], comparator)
+                .collectList()
+                .block();
+
+        // Assertions
+        assertNotNull(streamedOffers);
+        assertEquals(offers.size(), streamedOffers.size());
+        assertTrue(streamedOffers.containsAll(offers));
+        for (int i = 1; i < streamedOffers.size(); i++) {
+            assertTrue(comparator.compare(streamedOffers.get(i - 1), streamedOffers.get(i)) <= 0);
+        }
+    }
+
+    //#endregion
+
+    //#region @Test sort
+
+    @Test(expected = NullPointerException.class)
+    public void testSortNullComparator() {
+        // Execution
+        getEntityService().sort(List.of(), null);
+    }
+
+    @Test
+    public void testSort() {
+        // Test data
+        OfferComparator comparator = new OfferComparator(OfferComparableField.PRICE, new SphericalLocation(new SphericalPosition(0, 0)));
+        List<Offer> offers = List.of(
+                getOfferPersistent(getBasicUserPersistent()),
+                getOfferPersistent(getBasicUserPersistent()),
+                getOfferPersistent(getBasicUserPersistent()));
+
+        // Execution
+        List<Offer> sortedOffers = getEntityService().sort(offers, comparator);
+
+        // Assertions
+        assertEquals(offers.size(), sortedOffers.size());
+        for (int i = 1; i < sortedOffers.size(); i++) {
+            assertTrue(comparator.compare(sortedOffers.get(i - 1), sortedOffers.get(i)) <= 0);
+        }
+    }
+
+    //#endregion
+
+    //#region @Test getAll slice sorted in memory
+
+    @Test
+    public void testGetAllSliceSortedByDistance() {
+        // Test data
+        SphericalLocation reference = new SphericalLocation(new SphericalPosition(49.01, 8.40));
+        OfferComparator comparator = new OfferComparator(OfferComparableField.DISTANCE, reference);
+        List<Offer> offers = List.of(
+                getOfferPersistent(getBasicUserPersistent(), new SphericalLocation(new SphericalPosition(52.52, 13.40))),
+                getOfferPersistent(getBasicUserPersistent(), new SphericalLocation(new SphericalPosition(49.00, 8.41))),
+                getOfferPersistent(getBasicUserPersistent(), new SphericalLocation(new SphericalPosition(48.14, 11.58))),
+                getOfferPersistent(getBasicUserPersistent(), new SphericalLocation(new SphericalPosition(50.94, 6.96))),
+                getOfferPersistent(getBasicUserPersistent()));
+
+        // Execution
+        Slice<Offer> sliceFst = getEntityService().getAll(null, new OfferPredicate[0], comparator, 2, null);
+        ContinuationToken continuation = getEntityService()
+                .getContinuationToken(Iterables.getLast(sliceFst.getContent()), comparator);
+        Slice<Offer> sliceSnd = getEntityService().getAll(null, new OfferPredicate[0], comparator, 5, continuation);
+
+        // Assertions
+        assertEquals(2, sliceFst.getNumberOfElements());
+        assertTrue(sliceFst.hasNext());
+        assertEquals(offers.get(1), sliceFst.getContent().get(0));
+        assertEquals(3, sliceSnd.getNumberOfElements());
+        assertFalse(sliceSnd.hasNext());
+        List<Offer> slicedOffers = new ArrayList<>(sliceFst.getContent());
+        slicedOffers.addAll(sliceSnd.getContent());
+        assertTrue(slicedOffers.containsAll(offers));
+        for (int i = 1; i < slicedOffers.size(); i++) {
+            assertTrue(comparator.compare(slicedOffers.get(i - 1), slicedOffers.get(i)) <= 0);
+        }
+    }
+
+    //#endregion
+
+    //#region @Test getListing and query cache
+
+    @Test
+    public void testGetListingCached() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        Offer offer = getOfferPersistent(creator);
+        OfferPredicate[] predicates = {new PricePredicate(DoubleOperation.LESS, 100d)};
+
+        // Execution
+        Optional<Iterable<Offer>> optionalOffers =
+                getEntityService().getListing(creator.getIdentifier(), null, predicates, null);
+        Optional<String> optionalKey = queryCache.createKey(creator.getIdentifier(), null, predicates, null);
+
+        // Assertions
+        assertTrue(optionalOffers.isPresent());
+        assertEquals(List.of(offer), Lists.newArrayList(optionalOffers.get()));
+        assertTrue(optionalKey.isPresent());
+        assertEquals(Optional.of(List.of(offer.getIdentifier())), queryCache.get(optionalKey.get()));
+        assertEquals(optionalOffers, getEntityService().getListing(creator.getIdentifier(), null, predicates, null));
+    }
+
+    @Test
+    public void testGetListingInvalidatedByPost() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        Offer offerFst = getOfferPersistent(creator);
+        getEntityService().getListing(creator.getIdentifier(), null, new OfferPredicate[0], null);
+
+        // Execution
+        Offer offerSnd = getOfferPersistent(creator);
+        Optional<Iterable<Offer>> optionalOffers =
+                getEntityService().getListing(creator.getIdentifier(), null, new OfferPredicate[0], null);
+
+        // Assertions
+        assertTrue(optionalOffers.isPresent());
+        assertEquals(2, Iterables.size(optionalOffers.get()));
+        assertTrue(Iterables.contains(optionalOffers.get(), offerFst));
+        assertTrue(Iterables.contains(optionalOffers.get(), offerSnd));
+    }
+
+    @Test
+    public void testGetListingNotInvalidatedByOtherCreator() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        getOfferPersistent(creator);
+        getEntityService().getListing(creator.getIdentifier(), null, new OfferPredicate[0], null);
+        String key = queryCache.createKey(creator.getIdentifier(), null, new OfferPredicate[0], null).orElseThrow();
+
+        // Execution
+        getOfferPersistent(getBasicUserPersistent());
+
+        // Assertions
+        assertTrue(queryCache.get(key).isPresent());
+    }
+
+    @Test
+    public void testCreateKeyIgnoresPredicateOrder() {
+        // Test data
+        OfferPredicate lessPredicate = new PricePredicate(DoubleOperation.LESS, 20d);
+        OfferPredicate greaterPredicate = new PricePredicate(DoubleOperation.GREATER, 5d);
+
+        // Execution
+        Optional<String> optionalKeyFst = queryCache.createKey(null, null,
+                new OfferPredicate[]{lessPredicate, greaterPredicate}, null);
+        Optional<String> optionalKeySnd = queryCache.createKey(null, null,
+                new OfferPredicate[]{greaterPredicate, lessPredicate}, null);
+
+        // Assertions
+        assertTrue(optionalKeyFst.isPresent());
+        assertEquals(optionalKeyFst, optionalKeySnd);
+    }
+
+    @Test
+    public void testGetListingUnknownCreator() {
+        // Execution
+        Optional<Iterable<Offer>> optionalOffers =
+                getEntityService().getListing("unknownIdentifier", null, new OfferPredicate[0], null);
+
+        // Assertions
+        assertTrue(optionalOffers.isEmpty());
+    }
+
+    //#endregion
+
+    //#region @Test offer events
+
+    @Test
+    public void testPostPublishesCreatedEvent() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        List<OfferEvent> events = new CopyOnWriteArrayList<>();
+        Disposable subscription = eventService
+                .subscribe(OfferEventService.createFilter(creator.getIdentifier(), null, 0d, null))
+                .subscribe(events::add);
+
+        // Execution
+        Offer offer = getOfferPersistent(creator);
+        getOfferPersistent(getBasicUserPersistent());
+        subscription.dispose();
+
+        // Assertions
+        assertEquals(1, events.size());
+        assertEquals(OfferEvent.Type.CREATED, events.get(0).getType());
+        assertEquals(offer.getIdentifier(), events.get(0).getOfferIdentifier());
+        assertEquals(offer, events.get(0).getOffer());
+    }
+
+    @Test
+    public void testDeletePublishesDeletedEvent() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        Offer offer = getOfferPersistent(creator);
+        List<OfferEvent> events = new CopyOnWriteArrayList<>();
+        Disposable subscription = eventService
+                .subscribe(OfferEventService.createFilter(creator.getIdentifier(), null, 0d, null))
+                .subscribe(events::add);
+
+        // Execution
+        getEntityService().delete(offer.getIdentifier());
+        subscription.dispose();
+
+        // Assertions
+        assertEquals(1, events.size());
+        assertEquals(OfferEvent.Type.DELETED, events.get(0).getType());
+        assertEquals(offer.getIdentifier(), events.get(0).getOfferIdentifier());
+    }
+
+    @Test
+    public void testParticipationPublishesParticipationAmountEvent() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        Offer offer = getOfferPersistent(creator);
+        List<OfferEvent> events = new CopyOnWriteArrayList<>();
+        Disposable subscription = eventService
+                .subscribe(OfferEventService.createFilter(creator.getIdentifier(), null, 0d, null))
+                .subscribe(events::add);
+
+        // Execution
+        participationService.post(new Participation(getBasicUserPersistent(), offer));
+        subscription.dispose();
+
+        // Assertions
+        assertEquals(1, events.size());
+        assertEquals(OfferEvent.Type.PARTICIPATION_AMOUNT, events.get(0).getType());
+        assertEquals(Integer.valueOf(1), events.get(0).getParticipationAmount());
+    }
+
+    @Test
+    public void testDeleteBySourceOrTargetPublishesParticipationAmountEvents() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        User participant = getBasicUserPersistent();
+        Offer offerFst = getOfferPersistent(creator);
+        Offer offerSnd = getOfferPersistent(creator);
+        participationService.post(new Participation(participant, offerFst));
+        participationService.post(new Participation(getBasicUserPersistent(), offerSnd));
+        List<OfferEvent> events = new CopyOnWriteArrayList<>();
+        Disposable subscription = eventService
+                .subscribe(OfferEventService.createFilter(creator.getIdentifier(), null, 0d, null))
+                .subscribe(events::add);
+
+        // Execution
+        participationService.deleteBySourceOrTarget(participant, offerSnd);
+        subscription.dispose();
+
+        // Assertions
+        assertEquals(2, events.size());
+        assertTrue(events.stream().allMatch(event -> event.getType() == OfferEvent.Type.PARTICIPATION_AMOUNT
+                && Integer.valueOf(0).equals(event.getParticipationAmount())));
+        assertEquals(Set.of(offerFst.getIdentifier(), offerSnd.getIdentifier()), events.stream()
+                .map(OfferEvent::getOfferIdentifier)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testEventFilterByRadius() {
+        // Test data
+        SphericalPosition karlsruhe = new SphericalPosition(49.01, 8.40);
+        Offer nearOffer = getActiveOfferPersistent(new SphericalPosition(49.00, 8.41));
+        Offer farOffer = getActiveOfferPersistent(new SphericalPosition(52.52, 13.40));
+
+        // Execution
+        Predicate<OfferEvent> filter = OfferEventService.createFilter(null, karlsruhe, 10d, null);
+
+        // Assertions
+        assertTrue(filter.test(OfferEvent.created(nearOffer)));
+        assertFalse(filter.test(OfferEvent.created(farOffer)));
+    }
+
+    @Test
+    public void testEventBufferDropsOldest() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        List<OfferEvent> events = new CopyOnWriteArrayList<>();
+        Flux<OfferEvent> eventFlux = eventService
+                .subscribe(OfferEventService.createFilter(creator.getIdentifier(), null, 0d, null));
+        BaseSubscriber<OfferEvent> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(org.reactivestreams.Subscription subscription) {
+                // Nothing is requested, so that all events are buffered.
+            }
+
+            @Override
+            protected void hookOnNext(OfferEvent event) {
+                events.add(event);
+            }
+        };
+        eventFlux.subscribe(subscriber);
+
+        // Execution
+        List<Offer> offers = new ArrayList<>();
+        for (int i = 0; i < BUFFER_OVERFLOW_OFFERS; i++) {
+            offers.add(getOfferPersistent(creator));
+        }
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.dispose();
+
+        // Assertions
+        assertFalse(events.isEmpty());
+        assertTrue(events.size() < BUFFER_OVERFLOW_OFFERS);
+        assertEquals(offers.get(offers.size() - 1).getIdentifier(), events.get(events.size() - 1).getOfferIdentifier());
+    }
+
+    //#endregion
+
+    //#region @Test search
+
+    @Test(expected = NullPointerException.class)
+    public void testSearchNullQuery() {
+        // Execution
+        getEntityService().search(null, new OfferPredicate[0], 10);
+    }
+
+    @Test
+    public void testSearchByPrefixRanked() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        Offer offerFst = getOfferPersistent(creator, "Lasagne", "Lasagne al forno with lasagne sheets.", 7.5);
+        Offer offerSnd = getOfferPersistent(creator, "Vegetarian dinner", "Spinach lasagne.", 5.0);
+        getOfferPersistent(creator, "Pizza", "Pizza margherita.", 6.0);
+
+        // Execution
+        List<Offer> offers = getEntityService().search("lasag", new OfferPredicate[0], 10);
+
+        // Assertions
+        assertEquals(List.of(offerFst, offerSnd), offers);
+    }
+
+    @Test
+    public void testSearchAllTermsRequired() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        Offer offer = getOfferPersistent(creator, "Pizza", "Pizza margherita.", 6.0);
+        getOfferPersistent(creator, "Pizza", "Pizza salami.", 6.0);
+
+        // Execution
+        List<Offer> offers = getEntityService().search("PIZZA Margh", new OfferPredicate[0], 10);
+
+        // Assertions
+        assertEquals(List.of(offer), offers);
+    }
+
+    @Test
+    public void testSearchWithPredicatesAndLimit() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        getOfferPersistent(creator, "Curry", "Red curry.", 12.0);
+        Offer offerFst = getOfferPersistent(creator, "Curry", "Green curry.", 4.0);
+        Offer offerSnd = getOfferPersistent(creator, "Curry", "Yellow curry.", 5.0);
+        OfferPredicate[] predicates = new OfferPredicate[]{new PricePredicate(DoubleOperation.LESS, 10d)};
+
+        // Execution
+        List<Offer> offers = getEntityService().search("curry", predicates, 1);
+
+        // Assertions
+        assertEquals(1, offers.size());
+        assertTrue(offers.contains(offerFst) || offers.contains(offerSnd));
+    }
+
+    @Test
+    public void testSearchAfterDelete() {
+        // Test data
+        Offer offer = getOfferPersistent(getBasicUserPersistent(), "Ramen", "Tonkotsu ramen.", 9.0);
+
+        // Execution
+        getEntityService().delete(offer.getIdentifier());
+
+        // Assertions
+        assertTrue(getEntityService().search("ramen", new OfferPredicate[0], 10).isEmpty());
+    }
+
+    //#endregion
+
+    //#region @Test tag index
+
+    @Test
+    public void testTagIndexMatchingAll() {
+        // Test data
+        Tag tagFst = getTagPersistent();
+        Tag tagSnd = getTagPersistent();
+        Offer offerFst = getOfferPersistent(getBasicUserPersistent(), Set.of(tagFst, tagSnd));
+        Offer offerSnd = getOfferPersistent(getBasicUserPersistent(), Set.of(tagFst));
+        getOfferPersistent(getBasicUserPersistent(), Set.of());
+
+        // Execution
+        Optional<List<String>> optionalAll = tagIndex.getMatchingAll(Set.of(tagFst, tagSnd));
+
+        // Assertions
+        assertTrue(optionalAll.isPresent());
+        assertEquals(List.of(offerFst.getIdentifier()), optionalAll.get());
+    }
+
+    @Test
+    public void testTagIndexNotAuthoritative() {
+        // Assertions
+        assertFalse(tagIndex.isAuthoritative());
+    }
+
+    @Test
+    public void testTagIndexAuthoritativeAfterRebuild() {
+        // Test data
+        OfferTagIndex singleNodeTagIndex = new OfferTagIndex(getEntityService().getRepository(),
+                new SimpleMeterRegistry(), true);
+        boolean isAuthoritativeBeforeRebuild = singleNodeTagIndex.isAuthoritative();
+
+        // Execution
+        singleNodeTagIndex.rebuild();
+
+        // Assertions
+        assertFalse(isAuthoritativeBeforeRebuild);
+        assertTrue(singleNodeTagIndex.isAuthoritative());
+    }
+
+    @Test
+    public void testTagIndexMatchingAllUnpersistedTag() {
+        // Execution
+        Optional<List<String>> optionalAll = tagIndex.getMatchingAll(Set.of(new Tag("Unpersisted")));
+
+        // Assertions
+        assertTrue(optionalAll.isEmpty());
+    }
+
+    @Test
+    public void testTagIndexAfterOfferDelete() {
+        // Test data
+        Tag tag = getTagPersistent();
+        Offer offerFst = getOfferPersistent(getBasicUserPersistent(), Set.of(tag));
+        Offer offerSnd = getOfferPersistent(getBasicUserPersistent(), Set.of(tag));
+
+        // Execution
+        getEntityService().delete(offerFst.getIdentifier());
+        Offer offerTrd = getOfferPersistent(getBasicUserPersistent(), Set.of(tag));
+
+        // Assertions
+        Optional<List<String>> optionalAll = tagIndex.getMatchingAll(Set.of(tag));
+        assertTrue(optionalAll.isPresent());
+        assertEquals(2, optionalAll.get().size());
+        assertTrue(optionalAll.get().containsAll(List.of(offerSnd.getIdentifier(), offerTrd.getIdentifier())));
+    }
+
+    @Test
+    public void testTagIndexAfterTagDelete() {
+        // Test data
+        Tag tag = getTagPersistent();
+        getOfferPersistent(getBasicUserPersistent(), Set.of(tag));
+
+        // Execution
+        tagService.delete(tag.getIdentifier());
+
+        // Assertions
+        Optional<List<String>> optionalAll = tagIndex.getMatchingAll(Set.of(tag));
+        assertTrue(optionalAll.isPresent());
+        assertTrue(optionalAll.get().isEmpty());
+    }
+
+    //#endregion
+
+    //#region @Test getUpcoming and archiveBefore
+
+    @Test
+    public void testGetUpcoming() {
+        // Test data
+        Offer pastOffer = getOfferPersistent(getBasicUserPersistent());
+        Offer upcomingOffer = getActiveOfferPersistent(new SphericalPosition(49.01, 8.40));
+
+        // Execution
+        Iterable<Offer> offers = getEntityService().getUpcoming(new OfferPredicate[0]);
+
+        // Assertions
+        assertTrue(Iterables.contains(offers, upcomingOffer));
+        assertFalse(Iterables.contains(offers, pastOffer));
+    }
+
+    @Test
+    public void testArchiveBefore() {
+        // Test data
+        User user = getBasicUserPersistent();
+        Offer pastOffer = getOfferPersistent(getBasicUserPersistent());
+        Offer upcomingOffer = getActiveOfferPersistent(new SphericalPosition(49.01, 8.40));
+        participationService.post(new Participation(user, pastOffer));
+        bookmarkService.post(new Bookmark(user, pastOffer));
+
+        // Execution
+        int archivedOffers = getEntityService().archiveBefore(LocalDateTime.now());
+
+        // Assertions
+        assertEquals(1, archivedOffers);
+        assertFalse(getEntityService().exists(pastOffer.getIdentifier()));
+        assertTrue(getEntityService().exists(upcomingOffer.getIdentifier()));
+        assertTrue(archiveService.get(pastOffer.getIdentifier()).isPresent());
+        assertEquals(1, Iterables.size(archiveService.getParticipations(pastOffer)));
+        assertEquals(0, Iterables.size(participationService.getByTarget(pastOffer)));
+        assertEquals(0, Iterables.size(bookmarkService.getByTarget(pastOffer)));
+    }
+
+    @Test
+    public void testDeleteByCreatorDeletesArchivedOffers() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        Offer pastOffer = getOfferPersistent(creator);
+        getEntityService().archiveBefore(LocalDateTime.now());
+
+        // Execution
+        getEntityService().deleteByCreator(creator);
+
+        // Assertions
+        assertTrue(archiveService.get(pastOffer.getIdentifier()).isEmpty());
+    }
+
+    @Test
+    public void testArchiveBeforeKeepsRatings() {
+        // Test data
+        User user = getBasicUserPersistent();
+        Offer pastOffer = getOfferPersistent(getBasicUserPersistent());
+        ratingService.post(Rating.createHostRating(user, pastOffer, RatingValue.POINTS_4));
+
+        // Execution
+        getEntityService().archiveBefore(LocalDateTime.now());
+
+        // Assertions
+        assertEquals(1, Iterables.size(ratingService.getBySource(user)));
+        assertEquals(pastOffer, getEntityService().getArchived(pastOffer.getIdentifier()).orElseThrow());
+    }
+
+    @Test
+    public void testDeleteByCreatorDeletesRatingsOfArchivedOffers() {
+        // Test data
+        User user = getBasicUserPersistent();
+        User creator = getBasicUserPersistent();
+        Offer pastOffer = getOfferPersistent(creator);
+        ratingService.post(Rating.createHostRating(user, pastOffer, RatingValue.POINTS_4));
+        getEntityService().archiveBefore(LocalDateTime.now());
+
+        // Execution
+        getEntityService().deleteByCreator(creator);
+
+        // Assertions
+        assertTrue(Iterables.isEmpty(ratingService.getBySource(user)));
+    }
+
+    @Test
+    public void testGetArchivedByCreatorId() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        Offer pastOffer = getOfferPersistent(creator);
+        getOfferPersistent(getBasicUserPersistent());
+        getEntityService().archiveBefore(LocalDateTime.now());
+
+        // Execution
+        Iterable<Offer> archivedOffers = getEntityService().getArchivedByCreatorId(creator.getIdentifier()).orElseThrow();
+
+        // Assertions
+        assertEquals(1, Iterables.size(archivedOffers));
+        assertTrue(Iterables.contains(archivedOffers, pastOffer));
+    }
+
+    //#endregion
+
+    //#region @Test spatial index
+
+    @Test
+    public void testGetIdentifiersWithinBoundingBox() {
+        // Test data
+        Offer offerInside = getActiveOfferPersistent(new SphericalPosition(49.01, 8.40));
+        Offer offerOutside = getActiveOfferPersistent(new SphericalPosition(52.52, 13.40));
+        Offer offerInactive = getOfferPersistent(getBasicUserPersistent(), new SphericalLocation(new SphericalPosition(49.01, 8.40)));
+
+        // Execution
+        List<String> identifiers = getEntityService().getIdentifiersWithinBoundingBox(48.5, 8d, 49.5, 9d);
+
+        // Assertions
+        assertTrue(identifiers.contains(offerInside.getIdentifier()));
+        assertFalse(identifiers.contains(offerOutside.getIdentifier()));
+        assertFalse(identifiers.contains(offerInactive.getIdentifier()));
+    }
+
+    @Test
+    public void testGetIdentifiersWithinBoundingBoxAntimeridian() {
+        // Test data
+        Offer offerWest = getActiveOfferPersistent(new SphericalPosition(-17.71, 178.07));
+        Offer offerEast = getActiveOfferPersistent(new SphericalPosition(-13.76, -172.10));
+        Offer offerOutside = getActiveOfferPersistent(new SphericalPosition(-17.71, 100d));
+
+        // Execution
+        List<String> identifiers = getEntityService().getIdentifiersWithinBoundingBox(-20d, 170d, -10d, -170d);
+
+        // Assertions
+        assertTrue(identifiers.contains(offerWest.getIdentifier()));
+        assertTrue(identifiers.contains(offerEast.getIdentifier()));
+        assertFalse(identifiers.contains(offerOutside.getIdentifier()));
+    }
+
+    @Test
+    public void testGetIdentifiersWithinRadius() {
+        // Test data
+        SphericalPosition center = new SphericalPosition(49.01, 8.40);
+        Offer offerNear = getActiveOfferPersistent(new SphericalPosition(49.00, 8.41));
+        Offer offerNearest = getActiveOfferPersistent(new SphericalPosition(49.01, 8.40));
+        Offer offerFar = getActiveOfferPersistent(new SphericalPosition(48.14, 11.58));
+
+        // Execution
+        List<String> identifiers = getEntityService().getIdentifiersWithinRadius(center, 10d);
+
+        // Assertions
+        assertEquals(List.of(offerNearest.getIdentifier(), offerNear.getIdentifier()), identifiers);
+        assertFalse(identifiers.contains(offerFar.getIdentifier()));
+    }
+
+    @Test
+    public void testGetNearestIdentifiers() {
+        // Test data
+        SphericalPosition center = new SphericalPosition(49.01, 8.40);
+        Offer offerFst = getActiveOfferPersistent(new SphericalPosition(49.02, 8.40));
+        Offer offerSnd = getActiveOfferPersistent(new SphericalPosition(48.14, 11.58));
+        Offer offerTrd = getActiveOfferPersistent(new SphericalPosition(52.52, 13.40));
+
+        // Execution
+        List<String> identifiers = getEntityService().getNearestIdentifiers(center, 2);
+
+        // Assertions
+        assertEquals(List.of(offerFst.getIdentifier(), offerSnd.getIdentifier()), identifiers);
+        assertFalse(identifiers.contains(offerTrd.getIdentifier()));
+    }
+
+    @Test
+    public void testGetIdentifiersWithinRadiusAfterDelete() {
+        // Test data
+        SphericalPosition center = new SphericalPosition(49.01, 8.40);
+        Offer offer = getActiveOfferPersistent(center);
+
+        // Execution
+        getEntityService().delete(offer.getIdentifier());
+
+        // Assertions
+        assertFalse(getEntityService().getIdentifiersWithinRadius(center, 1d).contains(offer.getIdentifier()));
+    }
+
+    @Test
+    public void testBackfillLegacyGeoPosition() {
+        // Test data
+        Offer offer = getActiveOfferPersistent(new SphericalPosition(49.01, 8.40));
+        Query query = Query.query(Criteria.where("_id").is(offer.getIdentifier()));
+        mongoOperations.updateFirst(query, new Update().unset(OfferPredicateTranslator.FIELD_GEO_POSITION), Offer.class);
+
+        // Execution
+        mongoIndexConfiguration.backfillLegacyDocuments();
+
+        // Assertions
+        Document document = mongoOperations.findOne(query, Document.class, mongoOperations.getCollectionName(Offer.class));
+        assertNotNull(document);
+        assertNotNull(document.get(OfferPredicateTranslator.FIELD_GEO_POSITION));
+    }
+
+    //#endregion
+
     //#region @Test deleteByCreator
 
     @Test(expected = NullPointerException.class)
@@ -160,6 +988,66 @@ public class OfferServiceTest extends EntityServiceTest<OfferService, Offer, Str
 
     //#endregion
 
+    //#region @Test getAll by creators
+
+    @Test(expected = NullPointerException.class)
+    public void testGetAllByCreatorsNull() {
+        // Execution
+        getEntityService().getAll(null, new OfferPredicate[0]);
+    }
+
+    @Test
+    public void testGetAllByCreatorsEmpty() {
+        // Test data
+        getOfferPersistent(getBasicUserPersistent());
+
+        // Execution
+        Iterable<Offer> offers = getEntityService().getAll(Set.of(), new OfferPredicate[0]);
+
+        // Assertions
+        assertEquals(0, Iterables.size(offers));
+    }
+
+    @Test
+    public void testGetAllByCreators() {
+        // Test data
+        User creatorFst = getBasicUserPersistent();
+        User creatorSnd = getBasicUserPersistent();
+        Offer offerFst = getOfferPersistent(creatorFst);
+        Offer offerSnd = getOfferPersistent(creatorSnd);
+        Offer offerForeign = getOfferPersistent(getBasicUserPersistent());
+
+        // Execution
+        Iterable<Offer> offers = getEntityService().getAll(Set.of(creatorFst, creatorSnd), new OfferPredicate[0]);
+
+        // Assertions
+        assertEquals(2, Iterables.size(offers));
+        assertTrue(Iterables.contains(offers, offerFst));
+        assertTrue(Iterables.contains(offers, offerSnd));
+        assertFalse(Iterables.contains(offers, offerForeign));
+    }
+
+    @Test
+    public void testGetAllByCreatorsPricePredicate() {
+        // Test data
+        User creator = getBasicUserPersistent();
+        Offer offerCheap = getOfferPersistent(creator, "Soup", "Tomato soup.", 3.0);
+        Offer offerExpensive = getOfferPersistent(creator, "Steak", "Rib eye.", 30.0);
+        Offer offerForeign = getOfferPersistent(getBasicUserPersistent(), "Soup", "Onion soup.", 3.0);
+        OfferPredicate predicate = new PricePredicate(DoubleOperation.LESS, 10d);
+
+        // Execution
+        Iterable<Offer> offers = getEntityService().getAll(Set.of(creator), new OfferPredicate[]{predicate});
+
+        // Assertions
+        assertEquals(1, Iterables.size(offers));
+        assertTrue(Iterables.contains(offers, offerCheap));
+        assertFalse(Iterables.contains(offers, offerExpensive));
+        assertFalse(Iterables.contains(offers, offerForeign));
+    }
+
+    //#endregion
+
     //#region @Test getBySubscriberIdentifier
 
     @Test(expected = NullPointerException.class)
@@ -244,4 +1132,29 @@ public class OfferServiceTest extends EntityServiceTest<OfferService, Offer, Str
     protected Offer createDistinctTestEntity() {
         return getOfferTransient(getBasicUserPersistent());
     }
+
+    private Offer getActiveOfferPersistent(SphericalPosition position) {
+        Offer transientOffer = getOfferTransient(getBasicUserPersistent());
+        transientOffer.setLocation(new SphericalLocation(position));
+        transientOffer.setDateTime(LocalDateTime.now().plusDays(1));
+        return getEntityService().post(transientOffer);
+    }
+
+    private Offer getOfferPersistent(User creator, Localizable location) {
+        Offer transientOffer = getOfferTransient(creator);
+        transientOffer.setLocation(location);
+        return getEntityService().post(transientOffer);
+    }
+
+    private Offer getOfferPersistent(User creator, String name, String description, double price) {
+        Offer transientOffer = new Offer(creator, new HashSet<>(), name, description, price, 5,
+                LocalDateTime.now().plusDays(1), new CityLocation("Karlsruhe"));
+        return getEntityService().post(transientOffer);
+    }
+
+    private Offer getOfferPersistent(User creator, Set<Tag> tags) {
+        Offer transientOffer = new Offer(creator, new HashSet<>(tags), "Tagged offer", "Spaghetti. Mhmmm.", 4.99, 5,
+                LocalDateTime.now().plusDays(1), new CityLocation("Karlsruhe"));
+        return getEntityService().post(transientOffer);
+    }
 }
@@ -0,0 +1,83 @@
+package meet_eat.server.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PasswordDerivationExecutorTest {
+
+    @Test
+    public void testExecute() {
+        // Test data
+        PasswordDerivationExecutor executor = new PasswordDerivationExecutor(new SimpleMeterRegistry(), 1, 1);
+
+        // Execution
+        String result = executor.execute(() -> "TestDerivation");
+
+        // Assertions
+        assertEquals("TestDerivation", result);
+        executor.shutdown();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testExecuteFailing() {
+        // Test data
+        PasswordDerivationExecutor executor = new PasswordDerivationExecutor(new SimpleMeterRegistry(), 1, 1);
+
+        // Execution
+        try {
+            executor.execute(() -> {
+                throw new IllegalStateException();
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testExecuteOverloaded() throws InterruptedException {
+        // Test data
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordDerivationExecutor executor = new PasswordDerivationExecutor(meterRegistry, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            awaitUninterruptibly(released);
+            return true;
+        }));
+        started.await();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> true));
+        while (meterRegistry.get("meet_eat.passwords.derivation.queued").gauge().value() < 1d) {
+            Thread.onSpinWait();
+        }
+
+        // Execution
+        boolean isRejected = false;
+        try {
+            executor.execute(() -> true);
+        } catch (PasswordDerivationRejectedException exception) {
+            isRejected = true;
+        }
+        released.countDown();
+
+        // Assertions
+        assertTrue(isRejected);
+        assertTrue(running.join());
+        assertTrue(queued.join());
+        executor.shutdown();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -7,7 +7,11 @@ import meet_eat.data.entity.relation.rating.RatingBasis;
 import meet_eat.data.entity.relation.rating.RatingValue;
 import meet_eat.data.entity.user.User;
 import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
@@ -19,6 +23,9 @@ public class RatingServiceTest extends EntityRelationServiceTest<RatingService,
     private static final int MIN_AMOUNT_RATINGS = 5;
     private static final double DEFAULT_NOT_ENOUGH_RATINGS = 0d;
 
+    @Autowired
+    private MongoOperations mongoOperations;
+
     //#region @Test deleteByOffer
 
     @Test(expected = NullPointerException.class)
@@ -207,6 +214,170 @@ public class RatingServiceTest extends EntityRelationServiceTest<RatingService,
         assertEquals(ratingAverage, optionalValue.orElseThrow(), 0.05);
     }
 
+    @Test
+    public void testGetRatingValueAfterDelete() {
+        // Test data
+        User user = getBasicUserPersistent();
+        Rating rating = getRelationEntityPersistent(getSourceEntity(), user);
+        for (int i = 0; i < MIN_AMOUNT_RATINGS; i++) {
+            getEntityService().post(Rating.createHostRating(getSourceEntity(), getOfferPersistent(user), RatingValue.POINTS_5));
+        }
+
+        // Execution
+        getEntityService().delete(rating);
+
+        // Assertions
+        assertEquals(RatingValue.POINTS_5.getIntegerValue(), getEntityService().getRatingValue(user, RatingBasis.HOST), 0.05);
+    }
+
+    @Test
+    public void testGetRatingValueAfterDeleteByOffer() {
+        // Test data
+        User user = getBasicUserPersistent();
+        Offer offer = getOfferPersistent(user);
+        for (int i = 0; i < MIN_AMOUNT_RATINGS; i++) {
+            getEntityService().post(Rating.createHostRating(getSourceEntity(), offer, RatingValue.POINTS_5));
+        }
+
+        // Execution
+        getEntityService().deleteByOffer(offer);
+
+        // Assertions
+        assertEquals(DEFAULT_NOT_ENOUGH_RATINGS, getEntityService().getRatingValue(user, RatingBasis.HOST), 0);
+    }
+
+    @Test
+    public void testGetRatingValueAfterDeleteBySourceOrTarget() {
+        // Test data
+        User user = getBasicUserPersistent();
+        User source = getSourceEntity();
+        getEntityService().post(Rating.createHostRating(source, getOfferPersistent(user), RatingValue.POINTS_1));
+        for (int i = 0; i < MIN_AMOUNT_RATINGS; i++) {
+            getEntityService().post(Rating.createHostRating(getSourceEntity(), getOfferPersistent(user), RatingValue.POINTS_5));
+        }
+
+        // Execution
+        getEntityService().deleteBySourceOrTarget(source, source);
+
+        // Assertions
+        assertEquals(RatingValue.POINTS_5.getIntegerValue(), getEntityService().getRatingValue(user, RatingBasis.HOST), 0.05);
+    }
+
+    @Test
+    public void testGetRatingValueAfterRepair() {
+        // Test data
+        User user = getBasicUserPersistent();
+        int ratingSum = 0;
+        for (int i = 0; i < MIN_AMOUNT_RATINGS; i++) {
+            ratingSum += getRelationEntityPersistent(getSourceEntity(), user).getValue().getIntegerValue();
+        }
+        double ratingAverage = (double) ratingSum / (double) MIN_AMOUNT_RATINGS;
+
+        // Execution
+        getEntityService().repairRatingAggregates();
+
+        // Assertions
+        assertEquals(ratingAverage, getEntityService().getRatingValue(user, RatingBasis.HOST), 0.05);
+    }
+
+    @Test
+    public void testGetRatingValueWithoutAggregate() {
+        // Test data
+        User user = getBasicUserPersistent();
+        int ratingSum = 0;
+        for (int i = 0; i < MIN_AMOUNT_RATINGS; i++) {
+            ratingSum += getRelationEntityPersistent(getSourceEntity(), user).getValue().getIntegerValue();
+        }
+        double ratingAverage = (double) ratingSum / (double) MIN_AMOUNT_RATINGS;
+        mongoOperations.dropCollection(RatingAggregateService.COLLECTION_NAME);
+
+        // Execution
+        double value = getEntityService().getRatingValue(user, RatingBasis.HOST);
+
+        // Assertions
+        assertEquals(ratingAverage, value, 0.05);
+    }
+
+    @Test
+    public void testGetRatingValueAfterPostWithoutAggregate() {
+        // Test data
+        User user = getBasicUserPersistent();
+        for (int i = 0; i < MIN_AMOUNT_RATINGS - 1; i++) {
+            getEntityService().post(Rating.createHostRating(getSourceEntity(), getOfferPersistent(user), RatingValue.POINTS_5));
+        }
+        mongoOperations.dropCollection(RatingAggregateService.COLLECTION_NAME);
+
+        // Execution
+        getEntityService().post(Rating.createHostRating(getSourceEntity(), getOfferPersistent(user), RatingValue.POINTS_5));
+
+        // Assertions
+        assertEquals(RatingValue.POINTS_5.getIntegerValue(), getEntityService().getRatingValue(user, RatingBasis.HOST), 0.05);
+    }
+
+    @Test
+    public void testGetRatingValueAfterPutWithoutAggregate() {
+        // Test data
+        User user = getBasicUserPersistent();
+        Rating rating = getEntityService().post(Rating.createHostRating(getSourceEntity(), getOfferPersistent(user), RatingValue.POINTS_5));
+        for (int i = 0; i < MIN_AMOUNT_RATINGS - 2; i++) {
+            getEntityService().post(Rating.createHostRating(getSourceEntity(), getOfferPersistent(user), RatingValue.POINTS_5));
+        }
+        mongoOperations.dropCollection(RatingAggregateService.COLLECTION_NAME);
+
+        // Execution
+        getEntityService().put(rating);
+
+        // Assertions
+        assertEquals(DEFAULT_NOT_ENOUGH_RATINGS, getEntityService().getRatingValue(user, RatingBasis.HOST), 0);
+    }
+
+    @Test
+    public void testGetRatingValueAfterDeleteBySourceAndTargetOfDeleted() {
+        // Test data
+        User user = getBasicUserPersistent();
+        User source = getSourceEntity();
+        Rating rating = getEntityService().post(Rating.createHostRating(source, getOfferPersistent(user), RatingValue.POINTS_5));
+        for (int i = 0; i < MIN_AMOUNT_RATINGS; i++) {
+            getEntityService().post(Rating.createHostRating(getSourceEntity(), getOfferPersistent(user), RatingValue.POINTS_5));
+        }
+        getEntityService().delete(rating);
+
+        // Execution
+        getEntityService().deleteBySourceAndTarget(source, user);
+
+        // Assertions
+        assertEquals(RatingValue.POINTS_5.getIntegerValue(), getEntityService().getRatingValue(user, RatingBasis.HOST), 0.05);
+    }
+
+    //#endregion
+
+    //#region @Test getRatingValues
+
+    @Test(expected = NullPointerException.class)
+    public void testGetRatingValuesNull() {
+        // Execution
+        getEntityService().getRatingValues(null, RatingBasis.HOST);
+    }
+
+    @Test
+    public void testGetRatingValues() {
+        // Test data
+        User user = getBasicUserPersistent();
+        User userNotEnoughRatings = getBasicUserPersistent();
+        for (int i = 0; i < MIN_AMOUNT_RATINGS; i++) {
+            getEntityService().post(Rating.createHostRating(getSourceEntity(), getOfferPersistent(user), RatingValue.POINTS_5));
+        }
+        getRelationEntityPersistent(getSourceEntity(), userNotEnoughRatings);
+
+        // Execution
+        Map<String, Double> values = getEntityService().getRatingValues(List.of(user, userNotEnoughRatings), RatingBasis.HOST);
+
+        // Assertions
+        assertEquals(2, values.size());
+        assertEquals(getEntityService().getRatingValue(user, RatingBasis.HOST), values.get(user.getIdentifier()), 0);
+        assertEquals(DEFAULT_NOT_ENOUGH_RATINGS, values.get(userNotEnoughRatings.getIdentifier()), 0);
+    }
+
     //#endregion
 
     @Override
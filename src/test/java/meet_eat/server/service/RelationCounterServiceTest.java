@@ -0,0 +1,136 @@
+package meet_eat.server.service;
+
+import meet_eat.data.entity.Tag;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class RelationCounterServiceTest {
+
+    private static final String COUNTER_NAME = "testCounter";
+    private static final String OTHER_COUNTER_NAME = "otherTestCounter";
+    private static final String REPAIR_RUN = "testRepairRun";
+
+    @Autowired
+    private RelationCounterService relationCounterService;
+    @Autowired
+    private TagService tagService;
+    @Autowired
+    private MongoOperations mongoOperations;
+
+    @Before
+    public void prepareTestEnvironment() {
+        mongoOperations.dropCollection(RelationCounterService.COLLECTION_NAME);
+        tagService.getRepository().deleteAll();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testGetNullTarget() {
+        // Execution
+        relationCounterService.get(COUNTER_NAME, null);
+    }
+
+    @Test
+    public void testGetNonExisting() {
+        // Test data
+        Tag tag = tagService.post(new Tag("CounterTag"));
+
+        // Assertions
+        assertEquals(0L, relationCounterService.get(COUNTER_NAME, tag));
+    }
+
+    @Test
+    public void testIncrement() {
+        // Test data
+        Tag tag = tagService.post(new Tag("CounterTag"));
+
+        // Execution
+        relationCounterService.increment(COUNTER_NAME, tag, 1L);
+        long value = relationCounterService.increment(COUNTER_NAME, tag, 2L);
+
+        // Assertions
+        assertEquals(3L, value);
+        assertEquals(3L, relationCounterService.get(COUNTER_NAME, tag));
+    }
+
+    @Test
+    public void testFindNonExisting() {
+        // Test data
+        Tag tag = tagService.post(new Tag("CounterTag"));
+
+        // Assertions
+        assertTrue(relationCounterService.find(COUNTER_NAME, tag).isEmpty());
+    }
+
+    @Test
+    public void testIncrementIfPresentNonExisting() {
+        // Test data
+        Tag tag = tagService.post(new Tag("CounterTag"));
+
+        // Execution
+        Optional<Long> optionalValue = relationCounterService.incrementIfPresent(COUNTER_NAME, tag, 1L);
+
+        // Assertions
+        assertTrue(optionalValue.isEmpty());
+        assertTrue(relationCounterService.find(COUNTER_NAME, tag).isEmpty());
+    }
+
+    @Test
+    public void testSeed() {
+        // Test data
+        Tag tag = tagService.post(new Tag("CounterTag"));
+
+        // Execution
+        long seededValue = relationCounterService.seed(COUNTER_NAME, tag, 4L);
+        long reseededValue = relationCounterService.seed(COUNTER_NAME, tag, 7L);
+        Optional<Long> optionalValue = relationCounterService.incrementIfPresent(COUNTER_NAME, tag, 1L);
+
+        // Assertions
+        assertEquals(4L, seededValue);
+        assertEquals(4L, reseededValue);
+        assertEquals(Optional.of(5L), optionalValue);
+    }
+
+    @Test
+    public void testReset() {
+        // Test data
+        Tag tag = tagService.post(new Tag("CounterTag"));
+        relationCounterService.increment(COUNTER_NAME, tag, 5L);
+
+        // Execution
+        relationCounterService.reset(COUNTER_NAME, tag);
+
+        // Assertions
+        assertEquals(0L, relationCounterService.get(COUNTER_NAME, tag));
+    }
+
+    @Test
+    public void testRepairAndRemoveUnrepaired() {
+        // Test data
+        Tag tagFst = tagService.post(new Tag("CounterTagFst"));
+        Tag tagSnd = tagService.post(new Tag("CounterTagSnd"));
+        relationCounterService.increment(COUNTER_NAME, tagFst, 5L);
+        relationCounterService.increment(COUNTER_NAME, tagSnd, 5L);
+        relationCounterService.increment(OTHER_COUNTER_NAME, tagSnd, 5L);
+
+        // Execution
+        relationCounterService.repair(COUNTER_NAME, tagFst, 2L, REPAIR_RUN);
+        relationCounterService.removeUnrepaired(COUNTER_NAME, REPAIR_RUN);
+
+        // Assertions
+        assertEquals(2L, relationCounterService.get(COUNTER_NAME, tagFst));
+        assertTrue(relationCounterService.find(COUNTER_NAME, tagSnd).isEmpty());
+        assertEquals(5L, relationCounterService.get(OTHER_COUNTER_NAME, tagSnd));
+    }
+}
@@ -0,0 +1,70 @@
+package meet_eat.server.service;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class TaskLockServiceTest {
+
+    private static final String TASK_NAME = "testTask";
+    private static final String OTHER_TASK_NAME = "otherTestTask";
+
+    @Autowired
+    private TaskLockService taskLockService;
+    @Autowired
+    private MongoOperations mongoOperations;
+
+    @Before
+    public void prepareTestEnvironment() {
+        mongoOperations.dropCollection(TaskLockService.COLLECTION_NAME);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testTryLockNullTaskName() {
+        // Execution
+        taskLockService.tryLock(null, Duration.ofMinutes(1L));
+    }
+
+    @Test
+    public void testTryLock() {
+        // Execution
+        boolean locked = taskLockService.tryLock(TASK_NAME, Duration.ofMinutes(1L));
+
+        // Assertions
+        assertTrue(locked);
+    }
+
+    @Test
+    public void testTryLockLocked() {
+        // Test data
+        TaskLockService otherTaskLockService = new TaskLockService(mongoOperations);
+        taskLockService.tryLock(TASK_NAME, Duration.ofMinutes(1L));
+
+        // Assertions
+        assertFalse(taskLockService.tryLock(TASK_NAME, Duration.ofMinutes(1L)));
+        assertFalse(otherTaskLockService.tryLock(TASK_NAME, Duration.ofMinutes(1L)));
+        assertTrue(otherTaskLockService.tryLock(OTHER_TASK_NAME, Duration.ofMinutes(1L)));
+    }
+
+    @Test
+    public void testTryLockExpired() throws InterruptedException {
+        // Test data
+        TaskLockService otherTaskLockService = new TaskLockService(mongoOperations);
+        taskLockService.tryLock(TASK_NAME, Duration.ofMillis(1L));
+        Thread.sleep(10L);
+
+        // Assertions
+        assertTrue(otherTaskLockService.tryLock(TASK_NAME, Duration.ofMinutes(1L)));
+    }
+}
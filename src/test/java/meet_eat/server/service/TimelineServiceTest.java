@@ -0,0 +1,224 @@
+package meet_eat.server.service;
+
+import com.google.common.collect.Iterables;
+import meet_eat.data.entity.Offer;
+import meet_eat.data.entity.relation.Subscription;
+import meet_eat.data.entity.user.Email;
+import meet_eat.data.entity.user.Password;
+import meet_eat.data.entity.user.Role;
+import meet_eat.data.entity.user.User;
+import meet_eat.data.location.CityLocation;
+import meet_eat.data.location.SphericalLocation;
+import meet_eat.data.location.SphericalPosition;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "meet-eat.timeline.enabled=true")
+public class TimelineServiceTest {
+
+    private static int userCount = 0;
+    private static int offerCount = 0;
+
+    @Autowired
+    private TimelineService timelineService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private OfferService offerService;
+    @Autowired
+    private SubscriptionService subscriptionService;
+    @Autowired
+    private MongoOperations mongoOperations;
+
+    @Before
+    public void prepareTestEnvironment() {
+        mongoOperations.dropCollection(TimelineService.COLLECTION_NAME);
+        subscriptionService.getRepository().deleteAll();
+        offerService.getRepository().deleteAll();
+        userService.getRepository().deleteAll();
+    }
+
+    //#region @Test append
+
+    @Test
+    public void testOfferPostAppendsToTimeline() {
+        // Test data
+        User subscriber = getUserPersistent();
+        User creator = getUserPersistent();
+        subscriptionService.post(new Subscription(subscriber, creator));
+
+        // Execution
+        Offer offerFst = getOfferPersistent(creator);
+        Offer offerSnd = getOfferPersistent(creator);
+
+        // Assertions
+        List<String> offerIdentifiers = timelineService.getOfferIdentifiers(subscriber);
+        assertEquals(List.of(offerFst.getIdentifier(), offerSnd.getIdentifier()), offerIdentifiers);
+        assertTrue(timelineService.getOfferIdentifiers(creator).isEmpty());
+    }
+
+    @Test
+    public void testOfferDeleteRemovesFromTimeline() {
+        // Test data
+        User subscriber = getUserPersistent();
+        User creator = getUserPersistent();
+        subscriptionService.post(new Subscription(subscriber, creator));
+        Offer offerFst = getOfferPersistent(creator);
+        Offer offerSnd = getOfferPersistent(creator);
+
+        // Execution
+        offerService.delete(offerFst.getIdentifier());
+
+        // Assertions
+        assertEquals(List.of(offerSnd.getIdentifier()), timelineService.getOfferIdentifiers(subscriber));
+    }
+
+    //#endregion
+
+    //#region @Test subscribe and unsubscribe
+
+    @Test
+    public void testSubscribeBackfillsTimeline() {
+        // Test data
+        User subscriber = getUserPersistent();
+        User creator = getUserPersistent();
+        Offer offer = getOfferPersistent(creator);
+
+        // Execution
+        Subscription subscription = subscriptionService.post(new Subscription(subscriber, creator));
+        subscriptionService.delete(subscription);
+        subscriptionService.post(new Subscription(subscriber, creator));
+
+        // Assertions
+        assertEquals(List.of(offer.getIdentifier()), timelineService.getOfferIdentifiers(subscriber));
+    }
+
+    @Test
+    public void testUnsubscribePrunesTimeline() {
+        // Test data
+        User subscriber = getUserPersistent();
+        User creatorFst = getUserPersistent();
+        User creatorSnd = getUserPersistent();
+        Subscription subscription = subscriptionService.post(new Subscription(subscriber, creatorFst));
+        subscriptionService.post(new Subscription(subscriber, creatorSnd));
+        getOfferPersistent(creatorFst);
+        Offer offer = getOfferPersistent(creatorSnd);
+
+        // Execution
+        subscriptionService.delete(subscription.getIdentifier());
+
+        // Assertions
+        assertEquals(List.of(offer.getIdentifier()), timelineService.getOfferIdentifiers(subscriber));
+    }
+
+    //#endregion
+
+    //#region @Test getBySubscriberIdentifier
+
+    @Test
+    public void testGetBySubscriberIdentifierFromTimeline() {
+        // Test data
+        User subscriber = getUserPersistent();
+        User creator = getUserPersistent();
+        getOfferPersistent(getUserPersistent());
+        subscriptionService.post(new Subscription(subscriber, creator));
+        Offer offer = getOfferPersistent(creator);
+
+        // Execution
+        Optional<Iterable<Offer>> optionalOffers = offerService.getBySubscriberIdentifier(subscriber.getIdentifier());
+
+        // Assertions
+        assertTrue(optionalOffers.isPresent());
+        assertEquals(1, Iterables.size(optionalOffers.get()));
+        assertTrue(Iterables.contains(optionalOffers.get(), offer));
+    }
+
+    @Test
+    public void testGetBySubscriberIdentifierWithoutTimeline() {
+        // Test data
+        User subscriber = getUserPersistent();
+        User creatorFst = getUserPersistent();
+        User creatorSnd = getUserPersistent();
+        subscriptionService.post(new Subscription(subscriber, creatorFst));
+        subscriptionService.post(new Subscription(subscriber, creatorSnd));
+        Offer offerFst = getOfferPersistent(creatorFst);
+        Offer offerSnd = getOfferPersistent(creatorSnd);
+        mongoOperations.dropCollection(TimelineService.COLLECTION_NAME);
+
+        // Execution
+        Optional<Iterable<Offer>> optionalOffers = offerService.getBySubscriberIdentifier(subscriber.getIdentifier());
+
+        // Assertions
+        assertTrue(optionalOffers.isPresent());
+        assertEquals(2, Iterables.size(optionalOffers.get()));
+        assertEquals(List.of(offerFst.getIdentifier(), offerSnd.getIdentifier()),
+                timelineService.getOfferIdentifiers(subscriber));
+    }
+
+    @Test
+    public void testSubscribeWithoutTimelineBackfillsAllSubscriptions() {
+        // Test data
+        User subscriber = getUserPersistent();
+        User creatorFst = getUserPersistent();
+        User creatorSnd = getUserPersistent();
+        subscriptionService.post(new Subscription(subscriber, creatorFst));
+        Offer offerFst = getOfferPersistent(creatorFst);
+        Offer offerSnd = getOfferPersistent(creatorSnd);
+        mongoOperations.dropCollection(TimelineService.COLLECTION_NAME);
+
+        // Execution
+        subscriptionService.post(new Subscription(subscriber, creatorSnd));
+
+        // Assertions
+        assertEquals(List.of(offerFst.getIdentifier(), offerSnd.getIdentifier()),
+                timelineService.getOfferIdentifiers(subscriber));
+    }
+
+    @Test
+    public void testGetBySubscriberIdentifierNonExistingUserEmpty() {
+        // Execution
+        Optional<Iterable<Offer>> optionalOffers = offerService.getBySubscriberIdentifier("ABCDEFG123!");
+
+        // Assertions
+        assertTrue(optionalOffers.isEmpty());
+    }
+
+    //#endregion
+
+    //#region Test environment utility
+
+    private User getUserPersistent() {
+        Email email = new Email("noreply.timeline" + userCount + ".meet.eat@example.com");
+        Password password = Password.createHashedPassword(EntityServiceTest.PASSWORD_VALID_VALUE);
+        User user = new User(email, password, LocalDate.EPOCH, "TimelineUser" + userCount, "12345" + userCount,
+                "Description" + userCount, true, new SphericalLocation(new SphericalPosition(0, 0)));
+        user.setRole(Role.USER);
+        userCount++;
+        return userService.post(user);
+    }
+
+    private Offer getOfferPersistent(User creator) {
+        LocalDateTime dateTime = LocalDateTime.of(2020, Month.JULY, 30, 12, 32);
+        Offer offer = new Offer(creator, new HashSet<>(), "Timeline offer " + offerCount++,
+                "Spaghetti. Mhmmm.", 4.99, 5, dateTime, new CityLocation("Karlsruhe"));
+        return offerService.post(offer);
+    }
+
+    //#endregion
+}
@@ -0,0 +1,183 @@
+package meet_eat.server.service;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class TokenRevocationServiceTest {
+
+    private static final String SIGNING_SECRET = "TestSigningSecret";
+    private static final long SIGNED_TOKEN_TTL_SECONDS = 60L;
+    private static final int EXPECTED_REVOCATIONS = 100;
+    private static final long SYNCHRONIZATION_OVERLAP_MILLIS = 10000L;
+    private static final String TOKEN_IDENTIFIER = "TestTokenIdentifier";
+    private static final String OTHER_TOKEN_IDENTIFIER = "TestOtherTokenIdentifier";
+    private static final String USER_IDENTIFIER = "TestUserIdentifier";
+    private static final String OTHER_USER_IDENTIFIER = "TestOtherUserIdentifier";
+
+    @Autowired
+    private MongoOperations mongoOperations;
+
+    @Before
+    public void prepareTestEnvironment() {
+        mongoOperations.dropCollection(TokenRevocationService.COLLECTION_NAME);
+    }
+
+    //#region @Test revokeToken
+
+    @Test(expected = NullPointerException.class)
+    public void testRevokeTokenNull() {
+        // Execution
+        createRevocationService(EXPECTED_REVOCATIONS).revokeToken(null, System.currentTimeMillis());
+    }
+
+    @Test
+    public void testRevokeToken() {
+        // Test data
+        TokenRevocationService revocationService = createRevocationService(EXPECTED_REVOCATIONS);
+        long now = System.currentTimeMillis();
+
+        // Execution
+        revocationService.revokeToken(TOKEN_IDENTIFIER, now + SIGNED_TOKEN_TTL_SECONDS * 1000L);
+
+        // Assertions
+        assertTrue(revocationService.isRevoked(TOKEN_IDENTIFIER, USER_IDENTIFIER, now));
+        assertFalse(revocationService.isRevoked(OTHER_TOKEN_IDENTIFIER, USER_IDENTIFIER, now));
+    }
+
+    @Test
+    public void testRevokeTokenSaturatedFilter() {
+        // Test data
+        TokenRevocationService revocationService = createRevocationService(1);
+        long now = System.currentTimeMillis();
+
+        // Execution
+        for (int i = 0; i < EXPECTED_REVOCATIONS; i++) {
+            revocationService.revokeToken(TOKEN_IDENTIFIER + i, now + SIGNED_TOKEN_TTL_SECONDS * 1000L);
+        }
+
+        // Assertions
+        for (int i = 0; i < EXPECTED_REVOCATIONS; i++) {
+            assertTrue(revocationService.isRevoked(TOKEN_IDENTIFIER + i, USER_IDENTIFIER, now));
+            assertFalse(revocationService.isRevoked(OTHER_TOKEN_IDENTIFIER + i, USER_IDENTIFIER, now));
+        }
+    }
+
+    //#endregion
+
+    //#region @Test revokeUser
+
+    @Test(expected = NullPointerException.class)
+    public void testRevokeUserNull() {
+        // Execution
+        createRevocationService(EXPECTED_REVOCATIONS).revokeUser(null, System.currentTimeMillis());
+    }
+
+    @Test
+    public void testRevokeUser() {
+        // Test data
+        TokenRevocationService revocationService = createRevocationService(EXPECTED_REVOCATIONS);
+        long now = System.currentTimeMillis();
+
+        // Execution
+        revocationService.revokeUser(USER_IDENTIFIER, now);
+
+        // Assertions
+        assertTrue(revocationService.isRevoked(TOKEN_IDENTIFIER, USER_IDENTIFIER, now - 1L));
+        assertTrue(revocationService.isRevoked(TOKEN_IDENTIFIER, USER_IDENTIFIER, now));
+        assertFalse(revocationService.isRevoked(TOKEN_IDENTIFIER, USER_IDENTIFIER, now + 1L));
+        assertFalse(revocationService.isRevoked(TOKEN_IDENTIFIER, OTHER_USER_IDENTIFIER, now - 1L));
+    }
+
+    //#endregion
+
+    //#region @Test synchronize
+
+    @Test
+    public void testSynchronizeRevokedToken() {
+        // Test data
+        TokenRevocationService revocationService = createRevocationService(EXPECTED_REVOCATIONS);
+        TokenRevocationService otherRevocationService = createRevocationService(EXPECTED_REVOCATIONS);
+        long now = System.currentTimeMillis();
+        revocationService.revokeToken(TOKEN_IDENTIFIER, now + SIGNED_TOKEN_TTL_SECONDS * 1000L);
+
+        // Execution
+        otherRevocationService.synchronize();
+
+        // Assertions
+        assertTrue(otherRevocationService.isRevoked(TOKEN_IDENTIFIER, USER_IDENTIFIER, now));
+        assertFalse(otherRevocationService.isRevoked(OTHER_TOKEN_IDENTIFIER, USER_IDENTIFIER, now));
+    }
+
+    @Test
+    public void testSynchronizeRevokedUser() {
+        // Test data
+        TokenRevocationService revocationService = createRevocationService(EXPECTED_REVOCATIONS);
+        TokenRevocationService otherRevocationService = createRevocationService(EXPECTED_REVOCATIONS);
+        long now = System.currentTimeMillis();
+        otherRevocationService.synchronize();
+        revocationService.revokeUser(USER_IDENTIFIER, now);
+
+        // Execution
+        otherRevocationService.synchronize();
+
+        // Assertions
+        assertTrue(otherRevocationService.isRevoked(TOKEN_IDENTIFIER, USER_IDENTIFIER, now));
+        assertFalse(otherRevocationService.isRevoked(TOKEN_IDENTIFIER, USER_IDENTIFIER, now + 1L));
+    }
+
+    @Test
+    public void testSynchronizeDisabled() {
+        // Test data
+        TokenRevocationService revocationService = createRevocationService(EXPECTED_REVOCATIONS);
+        TokenRevocationService disabledRevocationService = new TokenRevocationService(mongoOperations,
+                new TokenSigner(false, "", SIGNED_TOKEN_TTL_SECONDS), EXPECTED_REVOCATIONS,
+                SYNCHRONIZATION_OVERLAP_MILLIS);
+        long now = System.currentTimeMillis();
+        revocationService.revokeToken(TOKEN_IDENTIFIER, now + SIGNED_TOKEN_TTL_SECONDS * 1000L);
+
+        // Execution
+        disabledRevocationService.synchronize();
+
+        // Assertions
+        assertFalse(disabledRevocationService.isRevoked(TOKEN_IDENTIFIER, USER_IDENTIFIER, now));
+    }
+
+    @Test
+    public void testSynchronizeDiscardsExpired() {
+        // Test data
+        TokenRevocationService revocationService = createRevocationService(EXPECTED_REVOCATIONS);
+        long now = System.currentTimeMillis();
+        long expiredRevokedAt = now - SIGNED_TOKEN_TTL_SECONDS * 1000L - 1L;
+        revocationService.revokeToken(TOKEN_IDENTIFIER, now - 1L);
+        revocationService.revokeToken(OTHER_TOKEN_IDENTIFIER, now + SIGNED_TOKEN_TTL_SECONDS * 1000L);
+        revocationService.revokeUser(USER_IDENTIFIER, expiredRevokedAt);
+        revocationService.revokeUser(OTHER_USER_IDENTIFIER, now);
+
+        // Execution
+        revocationService.synchronize();
+
+        // Assertions
+        assertFalse(revocationService.isRevoked(TOKEN_IDENTIFIER, OTHER_USER_IDENTIFIER, now + 1L));
+        assertTrue(revocationService.isRevoked(OTHER_TOKEN_IDENTIFIER, OTHER_USER_IDENTIFIER, now + 1L));
+        assertFalse(revocationService.isRevoked(TOKEN_IDENTIFIER, USER_IDENTIFIER, expiredRevokedAt));
+        assertTrue(revocationService.isRevoked(TOKEN_IDENTIFIER, OTHER_USER_IDENTIFIER, now));
+    }
+
+    //#endregion
+
+    private TokenRevocationService createRevocationService(int expectedRevocations) {
+        return new TokenRevocationService(mongoOperations,
+                new TokenSigner(true, SIGNING_SECRET, SIGNED_TOKEN_TTL_SECONDS), expectedRevocations,
+                SYNCHRONIZATION_OVERLAP_MILLIS);
+    }
+}
@@ -1,21 +1,48 @@
 package meet_eat.server.service;
 
 import com.google.common.collect.Iterables;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import meet_eat.data.LoginCredential;
 import meet_eat.data.entity.Token;
 import meet_eat.data.entity.user.Email;
 import meet_eat.data.entity.user.Password;
 import meet_eat.data.entity.user.User;
+import meet_eat.server.MongoIndexConfiguration;
+import meet_eat.server.repository.TokenExpiryListener;
+import org.bson.Document;
 import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 public class TokenServiceTest extends EntityServiceTest<TokenService, Token, String> {
 
+    private static final String SIGNING_SECRET = "TestSigningSecret";
+    private static final long SIGNED_TOKEN_TTL_SECONDS = 60L;
+
     private static int tokenCount = 0;
 
+    @Autowired
+    private MongoOperations mongoOperations;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private TokenExpiryListener tokenExpiryListener;
+    @Autowired
+    private PasswordDerivationExecutor passwordDerivationExecutor;
+    @Autowired
+    private MongoIndexConfiguration mongoIndexConfiguration;
+
     //#region @Test createToken
 
     @Test
@@ -65,6 +92,46 @@ public class TokenServiceTest extends EntityServiceTest<TokenService, Token, Str
 
     //#endregion
 
+    //#region @Test login
+
+    @Test
+    public void testLogin() {
+        // Test data
+        User user = getBasicUserPersistent();
+        LoginCredential loginCredential = new LoginCredential(user.getEmail(),
+                Password.createHashedPassword(PASSWORD_VALID_VALUE));
+
+        // Execution
+        Optional<Token> optionalToken = getEntityService().login(loginCredential);
+
+        // Assertions
+        assertTrue(optionalToken.isPresent());
+        assertEquals(user.getIdentifier(), optionalToken.get().getUser().getIdentifier());
+        assertTrue(getEntityService().isValidToken(optionalToken.get()));
+    }
+
+    @Test
+    public void testLoginWrongPassword() {
+        // Test data
+        User user = getBasicUserPersistent();
+        LoginCredential loginCredential = new LoginCredential(user.getEmail(),
+                Password.createHashedPassword("Invalid!PASSWORD123"));
+
+        // Execution
+        Optional<Token> optionalToken = getEntityService().login(loginCredential);
+
+        // Assertions
+        assertFalse(optionalToken.isPresent());
+    }
+
+    @Test
+    public void testLoginNull() {
+        // Assertions
+        assertFalse(getEntityService().login(null).isPresent());
+    }
+
+    //#endregion
+
     //#region @Test isValidLoginCredential
 
     @Test
@@ -166,6 +233,49 @@ public class TokenServiceTest extends EntityServiceTest<TokenService, Token, Str
         assertFalse(getEntityService().isValidToken(modifiedToken));
     }
 
+    @Test
+    public void testIsValidTokenCachedAndDeleted() {
+        // Execution
+        Token token = getEntityService().post(createDistinctTestEntity());
+        boolean isValidBeforeDeletion = getEntityService().isValidToken(token);
+        getEntityService().delete(token.getIdentifier());
+
+        // Assertions
+        assertTrue(isValidBeforeDeletion);
+        assertFalse(getEntityService().isValidToken(token));
+    }
+
+    @Test
+    public void testIsValidTokenCachedAndDeletedByUser() {
+        // Test data
+        User user = getBasicUserPersistent();
+        Token tokenFst = getEntityService().post(new Token(user, "ABC"));
+        Token tokenSnd = getEntityService().post(new Token(user, "EFG"));
+
+        // Execution
+        boolean isValidFstBeforeDeletion = getEntityService().isValidToken(tokenFst);
+        boolean isValidSndBeforeDeletion = getEntityService().isValidToken(tokenSnd);
+        getEntityService().deleteByUser(user);
+
+        // Assertions
+        assertTrue(isValidFstBeforeDeletion);
+        assertTrue(isValidSndBeforeDeletion);
+        assertFalse(getEntityService().isValidToken(tokenFst));
+        assertFalse(getEntityService().isValidToken(tokenSnd));
+    }
+
+    @Test
+    public void testIsValidTokenCachedRepeatedly() {
+        // Execution
+        Token token = getEntityService().post(createDistinctTestEntity());
+        Token modifiedToken = new Token(token.getIdentifier(), token.getUser(), token.getValue() + "TestModify");
+
+        // Assertions
+        assertTrue(getEntityService().isValidToken(token));
+        assertTrue(getEntityService().isValidToken(token));
+        assertFalse(getEntityService().isValidToken(modifiedToken));
+    }
+
     //#endregion
 
     //#region @Test deleteByUser
@@ -220,6 +330,249 @@ public class TokenServiceTest extends EntityServiceTest<TokenService, Token, Str
 
     //#endregion
 
+    //#region @Test token expiry
+
+    @Test
+    public void testPostTokenExpiry() {
+        // Execution
+        Token token = getEntityService().post(createDistinctTestEntity());
+
+        // Assertions
+        assertNotNull(getExpiry(token));
+        assertTrue(getExpiry(token).after(new Date()));
+    }
+
+    @Test
+    public void testIsValidTokenExpired() {
+        // Test data
+        Token token = getEntityService().post(createDistinctTestEntity());
+
+        // Execution
+        setExpiry(token, new Date(System.currentTimeMillis() - 1000L));
+
+        // Assertions
+        assertFalse(getEntityService().isValidToken(token));
+    }
+
+    @Test
+    public void testIsValidTokenRenewed() {
+        // Test data
+        Token token = getEntityService().post(createDistinctTestEntity());
+        Date expiresAt = new Date(System.currentTimeMillis() + 1000L * 60L);
+        setExpiry(token, expiresAt);
+
+        // Execution
+        boolean isValid = getEntityService().isValidToken(token);
+
+        // Assertions
+        assertTrue(isValid);
+        assertTrue(getExpiry(token).after(expiresAt));
+    }
+
+    @Test
+    public void testIsValidTokenNotRenewedAboveThreshold() {
+        // Test data
+        Token token = getEntityService().post(createDistinctTestEntity());
+        Date expiresAt = getExpiry(token);
+
+        // Execution
+        boolean isValid = getEntityService().isValidToken(token);
+
+        // Assertions
+        assertTrue(isValid);
+        assertEquals(expiresAt, getExpiry(token));
+    }
+
+    @Test
+    public void testPurgeExpired() {
+        // Test data
+        Token expiredToken = getEntityService().post(createDistinctTestEntity());
+        Token liveToken = getEntityService().post(createDistinctTestEntity());
+        setExpiry(expiredToken, new Date(System.currentTimeMillis() - 1000L));
+
+        // Execution
+        long purgedCount = getEntityService().purgeExpired();
+
+        // Assertions
+        assertEquals(1L, purgedCount);
+        assertFalse(getEntityService().exists(expiredToken.getIdentifier()));
+        assertTrue(getEntityService().exists(liveToken.getIdentifier()));
+    }
+
+    @Test
+    public void testBackfillLegacyTokenExpiry() {
+        // Test data
+        Token token = getEntityService().post(createDistinctTestEntity());
+        mongoOperations.updateFirst(Query.query(Criteria.where("_id").is(token.getIdentifier())),
+                new Update().unset(TokenExpiryListener.FIELD_EXPIRES_AT), Token.class);
+        long now = System.currentTimeMillis();
+
+        // Execution
+        mongoIndexConfiguration.backfillLegacyDocuments();
+
+        // Assertions
+        Date expiresAt = getExpiry(token);
+        assertNotNull(expiresAt);
+        assertTrue(expiresAt.getTime() > now);
+    }
+
+    //#endregion
+
+    //#region @Test TokenSigner
+
+    @Test
+    public void testSignedTokenVerify() {
+        // Test data
+        TokenSigner tokenSigner = new TokenSigner(true, SIGNING_SECRET, SIGNED_TOKEN_TTL_SECONDS);
+        long issuedAt = System.currentTimeMillis();
+
+        // Execution
+        Token token = tokenSigner.sign("TestSignedToken", getBasicUserPersistent(), issuedAt);
+        Optional<TokenSigner.Claims> claims = tokenSigner.verify(token, issuedAt);
+
+        // Assertions
+        assertTrue(tokenSigner.isSigned(token));
+        assertTrue(claims.isPresent());
+        assertEquals(issuedAt, claims.get().getIssuedAt());
+        assertEquals(issuedAt + SIGNED_TOKEN_TTL_SECONDS * 1000L, claims.get().getExpiresAt());
+    }
+
+    @Test
+    public void testSignedTokenVerifyOtherNode() {
+        // Test data
+        TokenSigner tokenSigner = new TokenSigner(true, SIGNING_SECRET, SIGNED_TOKEN_TTL_SECONDS);
+        TokenSigner otherTokenSigner = new TokenSigner(true, SIGNING_SECRET, SIGNED_TOKEN_TTL_SECONDS);
+        long issuedAt = System.currentTimeMillis();
+
+        // Execution
+        Token token = tokenSigner.sign("TestSignedToken", getBasicUserPersistent(), issuedAt);
+
+        // Assertions
+        assertTrue(otherTokenSigner.verify(token, issuedAt).isPresent());
+    }
+
+    @Test
+    public void testSignedTokenVerifyModified() {
+        // Test data
+        TokenSigner tokenSigner = new TokenSigner(true, SIGNING_SECRET, SIGNED_TOKEN_TTL_SECONDS);
+        long issuedAt = System.currentTimeMillis();
+        Token token = tokenSigner.sign("TestSignedToken", getBasicUserPersistent(), issuedAt);
+
+        // Execution
+        Token modifiedUserToken = new Token(token.getIdentifier(), getBasicUserPersistent(), token.getValue());
+        Token modifiedIdentifierToken = new Token("TestOtherToken", token.getUser(), token.getValue());
+        Token modifiedValueToken = new Token(token.getIdentifier(), token.getUser(), token.getValue() + "A");
+
+        // Assertions
+        assertFalse(tokenSigner.verify(modifiedUserToken, issuedAt).isPresent());
+        assertFalse(tokenSigner.verify(modifiedIdentifierToken, issuedAt).isPresent());
+        assertFalse(tokenSigner.verify(modifiedValueToken, issuedAt).isPresent());
+    }
+
+    @Test
+    public void testSignedTokenVerifyExpired() {
+        // Test data
+        TokenSigner tokenSigner = new TokenSigner(true, SIGNING_SECRET, SIGNED_TOKEN_TTL_SECONDS);
+        long issuedAt = System.currentTimeMillis();
+
+        // Execution
+        Token token = tokenSigner.sign("TestSignedToken", getBasicUserPersistent(), issuedAt);
+
+        // Assertions
+        assertFalse(tokenSigner.verify(token, issuedAt + SIGNED_TOKEN_TTL_SECONDS * 1000L).isPresent());
+    }
+
+    @Test
+    public void testSignedTokenVerifyOtherSecret() {
+        // Test data
+        TokenSigner tokenSigner = new TokenSigner(true, SIGNING_SECRET, SIGNED_TOKEN_TTL_SECONDS);
+        TokenSigner otherTokenSigner = new TokenSigner(true, "TestOtherSigningSecret", SIGNED_TOKEN_TTL_SECONDS);
+        long issuedAt = System.currentTimeMillis();
+
+        // Execution
+        Token token = tokenSigner.sign("TestSignedToken", getBasicUserPersistent(), issuedAt);
+
+        // Assertions
+        assertFalse(otherTokenSigner.verify(token, issuedAt).isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSignedTokenEnabledWithoutSecret() {
+        // Execution
+        new TokenSigner(true, "", SIGNED_TOKEN_TTL_SECONDS);
+    }
+
+    @Test
+    public void testSignedTokenInvalidAfterDelete() {
+        // Test data
+        TokenSigner tokenSigner = new TokenSigner(true, SIGNING_SECRET, SIGNED_TOKEN_TTL_SECONDS);
+        TokenService tokenService = createSignedTokenService(tokenSigner);
+        Token token = tokenSigner.sign("TestSignedToken", getBasicUserPersistent(), System.currentTimeMillis());
+        assertTrue(tokenService.isValidToken(token));
+
+        // Execution
+        tokenService.delete(token);
+
+        // Assertions
+        assertFalse(tokenService.isValidToken(token));
+        assertFalse(tokenService.exists(token));
+    }
+
+    @Test
+    public void testSignedTokenInvalidAfterDeleteByUser() {
+        // Test data
+        TokenSigner tokenSigner = new TokenSigner(true, SIGNING_SECRET, SIGNED_TOKEN_TTL_SECONDS);
+        TokenService tokenService = createSignedTokenService(tokenSigner);
+        User user = getBasicUserPersistent();
+        Token token = tokenSigner.sign("TestSignedToken", user, System.currentTimeMillis());
+        Token otherUserToken = tokenSigner.sign("TestOtherSignedToken", getBasicUserPersistent(),
+                System.currentTimeMillis());
+        assertTrue(tokenService.isValidToken(token));
+
+        // Execution
+        tokenService.deleteByUser(user);
+
+        // Assertions
+        assertFalse(tokenService.isValidToken(token));
+        assertTrue(tokenService.isValidToken(otherUserToken));
+    }
+
+    @Test
+    public void testSignedTokenDisabled() {
+        // Test data
+        TokenSigner tokenSigner = new TokenSigner(false, SIGNING_SECRET, SIGNED_TOKEN_TTL_SECONDS);
+        long issuedAt = System.currentTimeMillis();
+
+        // Execution
+        Token token = tokenSigner.sign("TestSignedToken", getBasicUserPersistent(), issuedAt);
+
+        // Assertions
+        assertFalse(tokenSigner.verify(token, issuedAt).isPresent());
+        assertFalse(getEntityService().isValidToken(token));
+    }
+
+    //#endregion
+
+    private TokenService createSignedTokenService(TokenSigner tokenSigner) {
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(mongoOperations, tokenSigner,
+                100, 10000L);
+        return new TokenService(getEntityService().getRepository(), userService, tokenSigner, tokenRevocationService,
+                mongoOperations, tokenExpiryListener, passwordDerivationExecutor, new SimpleMeterRegistry(), 100L, 60L,
+                86400L);
+    }
+
+    private Date getExpiry(Token token) {
+        Document document = mongoOperations.findById(token.getIdentifier(), Document.class,
+                mongoOperations.getCollectionName(Token.class));
+        assertNotNull(document);
+        return document.getDate(TokenExpiryListener.FIELD_EXPIRES_AT);
+    }
+
+    private void setExpiry(Token token, Date expiresAt) {
+        mongoOperations.updateFirst(Query.query(Criteria.where("_id").is(token.getIdentifier())),
+                new Update().set(TokenExpiryListener.FIELD_EXPIRES_AT, expiresAt), Token.class);
+    }
+
     @Override
     protected Token createDistinctTestEntity() {
         User user = getBasicUserPersistent();